@@ -0,0 +1,70 @@
+// 담당자 배정 부하 테스트 (플랫폼 스레드 vs 가상 스레드 비교)
+//
+// - setup: 일괄 생성 API로 배정 대상 배송(PENDING)을 ITERATIONS건 생성
+// - 본 테스트: CONCURRENCY개의 VU가 배송을 하나씩 나눠 맡아 배정 요청 (요청마다 드라이버 서비스 스텁 호출 1회)
+// - 결과: 처리량(http_reqs/s)과 p99(http_req_duration)를 비교
+//
+// k6 run -e CONCURRENCY=1000 -e ITERATIONS=50000 loadtest/k6/assign-driver.js
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:4000';
+const CONCURRENCY = parseInt(__ENV.CONCURRENCY || '1000', 10);
+const ITERATIONS = parseInt(__ENV.ITERATIONS || '50000', 10);
+const CREATE_CHUNK = 5000;
+
+export const options = {
+    setupTimeout: '10m',
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        assign: {
+            executor: 'shared-iterations',
+            vus: CONCURRENCY,
+            iterations: ITERATIONS,
+            maxDuration: '30m',
+        },
+    },
+    thresholds: {
+        // 임계값은 실패 판정용이 아니라 요약에 p99를 표시하기 위한 기준선
+        'http_req_duration{name:assign}': ['p(99)>=0'],
+    },
+};
+
+export function setup() {
+    const runId = Date.now();
+    const expectedTime = new Date(Date.now() + 3600 * 1000).toISOString().slice(0, 19);
+    const ids = [];
+
+    for (let from = 0; from < ITERATIONS; from += CREATE_CHUNK) {
+        const deliveries = [];
+        for (let i = from; i < Math.min(from + CREATE_CHUNK, ITERATIONS); i++) {
+            deliveries.push({
+                orderId: `LT-${runId}-${i}`,
+                hubId: 'HUB-LOADTEST',
+                deliveryAddress: '서울시 강남구 테헤란로 1',
+                recipientName: '부하테스트',
+                recipientSlackId: 'loadtest',
+                expectedTime: expectedTime,
+            });
+        }
+
+        const res = http.post(`${BASE_URL}/v1/last-mile/internal/deliveries/bulk`,
+            JSON.stringify({ deliveries }),
+            { headers: { 'Content-Type': 'application/json' }, timeout: '120s' });
+        if (res.status !== 200) {
+            exec.test.abort(`배송 일괄 생성 실패 - status: ${res.status}`);
+        }
+        res.json('results').forEach((item) => ids.push(item.lastMileDeliveryId));
+    }
+
+    return { ids };
+}
+
+export default function (data) {
+    const id = data.ids[exec.scenario.iterationInTest];
+    const res = http.post(`${BASE_URL}/v1/last-mile/internal/deliveries/${id}/assign-driver`, null,
+        { tags: { name: 'assign' }, timeout: '60s' });
+
+    check(res, { 'assigned': (r) => r.status === 200 });
+}
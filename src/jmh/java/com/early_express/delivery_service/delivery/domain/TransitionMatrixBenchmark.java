@@ -0,0 +1,150 @@
+package com.early_express.delivery_service.delivery.domain;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태 전이 검증 비용 비교
+ * - matrix: FinalMileDeliveryTransitions.isAllowed (int[] 비트 행렬)
+ * - enumMap: EnumMap<from, EnumSet<to>> 조회 (대안 구현)
+ * - ifChain: 전이 행렬 도입 전 도메인 메서드별 if 조건 (현재 규칙으로 재구성한 비교용 복사본)
+ * - entityTransition: FinalMileDelivery.transitionTo 왕복 (PICKED_UP → ON_THE_WAY → 되돌림, 검증 + 시각 기록)
+ * - 요청 쌍은 고정 시드로 미리 섞어 두어 분기 예측이 한 패턴에 고정되지 않도록 함
+ * - 할당 없음 확인: -PjmhProfilers=gc 로 실행 후 gc.alloc.rate.norm ≈ 0 B/op
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=TransitionMatrixBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransitionMatrixBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    private final FinalMileDeliveryStatus[] from = new FinalMileDeliveryStatus[PAIRS];
+    private final FinalMileDeliveryStatus[] to = new FinalMileDeliveryStatus[PAIRS];
+    private final Map<FinalMileDeliveryStatus, Set<FinalMileDeliveryStatus>> enumMap =
+            new EnumMap<>(FinalMileDeliveryStatus.class);
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private FinalMileDelivery delivery;
+
+    @Setup
+    public void setUp() {
+        FinalMileDeliveryStatus[] statuses = FinalMileDeliveryStatus.values();
+        Random random = new Random(42L);
+        for (int i = 0; i < PAIRS; i++) {
+            from[i] = statuses[random.nextInt(statuses.length)];
+            to[i] = statuses[random.nextInt(statuses.length)];
+        }
+        for (FinalMileDeliveryStatus status : statuses) {
+            enumMap.put(status, EnumSet.noneOf(FinalMileDeliveryStatus.class));
+        }
+        for (FinalMileDeliveryStatus target : statuses) {
+            for (FinalMileDeliveryStatus source : FinalMileDeliveryTransitions.sourcesOf(target)) {
+                enumMap.get(source).add(target);
+            }
+        }
+
+        delivery = FinalMileDelivery.builder()
+                .orderId("ORD-BENCH")
+                .hubId("HUB-1")
+                .currentStatus(FinalMileDeliveryStatus.PICKED_UP)
+                .build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void matrix(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(FinalMileDeliveryTransitions.isAllowed(from[i], to[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void enumMap(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(enumMap.get(from[i]).contains(to[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void ifChain(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(ifChainAllowed(from[i], to[i]));
+        }
+    }
+
+    @Benchmark
+    public boolean entityTransition() {
+        boolean departed = delivery.transitionTo(FinalMileDeliveryStatus.ON_THE_WAY, now);
+        boolean repeated = delivery.transitionTo(FinalMileDeliveryStatus.ON_THE_WAY, now);  // 멱등 재요청
+        StatusReset.toPickedUp(delivery);
+        return departed & !repeated;
+    }
+
+    /**
+     * 행렬 도입 전 방식: 요청 상태별 분기 후 현재 상태 비교
+     */
+    private static boolean ifChainAllowed(FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        switch (to) {
+            case PENDING:
+                return from == FinalMileDeliveryStatus.ASSIGNING;
+            case ASSIGNING:
+                return from == FinalMileDeliveryStatus.PENDING;
+            case ASSIGNED:
+                return from == FinalMileDeliveryStatus.ASSIGNING;
+            case PICKED_UP:
+                return from == FinalMileDeliveryStatus.ASSIGNED;
+            case ON_THE_WAY:
+                return from == FinalMileDeliveryStatus.PICKED_UP;
+            case DELIVERED:
+                return from == FinalMileDeliveryStatus.ON_THE_WAY || from == FinalMileDeliveryStatus.PICKED_UP;
+            case FAILED:
+                return from == FinalMileDeliveryStatus.PENDING || from == FinalMileDeliveryStatus.ASSIGNED
+                        || from == FinalMileDeliveryStatus.PICKED_UP || from == FinalMileDeliveryStatus.ON_THE_WAY;
+            case CANCELED:
+                return from != FinalMileDeliveryStatus.DELIVERED && from != FinalMileDeliveryStatus.CANCELED;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 측정 루프 안에서 같은 엔티티를 다시 쓰기 위한 상태 복구 (ON_THE_WAY → PICKED_UP은 허용되지 않는 전이)
+     * - 리플렉션 비용이 측정에 섞이지 않도록 VarHandle 사용
+     */
+    private static final class StatusReset {
+
+        private static final VarHandle STATUS;
+
+        static {
+            try {
+                STATUS = MethodHandles
+                        .privateLookupIn(FinalMileDelivery.class, MethodHandles.lookup())
+                        .findVarHandle(FinalMileDelivery.class, "currentStatus", FinalMileDeliveryStatus.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        static void toPickedUp(FinalMileDelivery delivery) {
+            STATUS.set(delivery, FinalMileDeliveryStatus.PICKED_UP);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.early_express.delivery_service.delivery.infrastructure;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryTransitions;
+import com.early_express.delivery_service.global.common.utils.TimeOrderedIdGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배송 완료 처리 쓰기 처리량 비교 (엔티티 조회 + 변경 감지 vs 조건부 UPDATE ... RETURNING)
+ *
+ * - entity: findById → delivered() → 커밋 시 전체 컬럼 UPDATE (2회 왕복)
+ * - guarded: UPDATE ... WHERE current_status IN (DELIVERED로 전이 가능한 상태) RETURNING * (1회 왕복)
+ * - 반복(iteration)마다 모든 행을 ON_THE_WAY로 되돌리고 각 호출이 다음 행을 완료 처리
+ *   (한 반복의 호출 수가 rows를 넘으면 이미 완료된 행을 만나 실패하므로 rows를 충분히 크게)
+ * - 스레드 1개 기준 ops/s = 코어당 쓰기 처리량 (DB는 별도 호스트/코어에서 실행)
+ * - 기본은 H2 인메모리 (동작 확인용, RETURNING 대신 FINAL TABLE 구문), 실제 비교는 PostgreSQL로 실행
+ *
+ * 실행 (PostgreSQL):
+ * ./gradlew jmh -PjmhIncludes=StateTransitionBenchmark \
+ *   -Djmh.jdbc.url=jdbc:postgresql://localhost:5432/bench -Djmh.jdbc.user=postgres -Djmh.jdbc.password=postgres
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Threads(1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StateTransitionBenchmark {
+
+    private static final String SET_DELIVERED =
+            "UPDATE p_final_mile_delivery " +
+                    "SET current_status = 'DELIVERED', delivered_at = :now, updated_at = :now, version = version + 1 " +
+                    "WHERE final_mile_id = :finalMileId AND current_status IN (:from)";
+
+    private static final List<String> COMPLETABLE =
+            FinalMileDeliveryTransitions.sourceNamesOf(FinalMileDeliveryStatus.DELIVERED);
+
+    @Param({"200000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+    private String guardedSql;
+    private final List<UUID> ids = new ArrayList<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        guardedSql = url.startsWith("jdbc:h2:")
+                ? "SELECT * FROM FINAL TABLE (" + SET_DELIVERED + ")"
+                : SET_DELIVERED + " RETURNING *";
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(FinalMileDelivery.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("jmh.jdbc.user", "sa"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("jmh.jdbc.password", ""))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // 엔티티 리스너(Auditing, 변경 이벤트)는 Spring 빈 컨테이너 없이 생성할 수 없으므로 비활성화
+                .setProperty("hibernate.jpa_callbacks.enabled", "false")
+                .buildSessionFactory();
+
+        // 감사 필드(created_at)는 Spring Auditing 없이 채울 수 없으므로 JDBC로 직접 적재
+        sessionFactory.inTransaction(session -> session.doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO p_final_mile_delivery (final_mile_id, order_id, agent_id, agent_name, current_status, " +
+                            "hub_id, delivery_address, recipient_name, started_at, departed_at, expected_time, " +
+                            "created_at, is_deleted) VALUES (?, ?, ?, ?, 'ON_THE_WAY', ?, ?, ?, ?, ?, ?, ?, false)")) {
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < rows; i++) {
+                    UUID id = TimeOrderedIdGenerator.INSTANCE.generate();
+                    ids.add(id);
+                    insert.setObject(1, id);
+                    insert.setString(2, "ORD-" + i);
+                    insert.setString(3, "AGENT" + (i % 200));
+                    insert.setString(4, "agent");
+                    insert.setString(5, "HUB" + (i % 50));
+                    insert.setString(6, "서울시 강남구 테헤란로 " + i);
+                    insert.setString(7, "recipient");
+                    insert.setTimestamp(8, Timestamp.valueOf(now.minusHours(1)));
+                    insert.setTimestamp(9, Timestamp.valueOf(now.minusMinutes(30)));
+                    insert.setTimestamp(10, Timestamp.valueOf(now.plusHours(1)));
+                    insert.setTimestamp(11, Timestamp.valueOf(now));
+                    insert.addBatch();
+                    if (i % 1000 == 999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRows() {
+        sessionFactory.inTransaction(session -> session.doWork(connection -> {
+            try (PreparedStatement reset = connection.prepareStatement(
+                    "UPDATE p_final_mile_delivery SET current_status = 'ON_THE_WAY', delivered_at = NULL")) {
+                reset.executeUpdate();
+            }
+        }));
+        cursor.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public FinalMileDelivery entity() {
+        UUID id = nextId();
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+
+            FinalMileDelivery delivery = session.find(FinalMileDelivery.class, id);
+            delivery.delivered();
+
+            session.getTransaction().commit();
+            return delivery;
+        }
+    }
+
+    @Benchmark
+    public FinalMileDelivery guarded() {
+        UUID id = nextId();
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+
+            FinalMileDelivery delivery = session.createNativeQuery(guardedSql, FinalMileDelivery.class)
+                    .setParameter("finalMileId", id)
+                    .setParameterList("from", COMPLETABLE)
+                    .setParameter("now", LocalDateTime.now())
+                    .uniqueResult();
+
+            session.getTransaction().commit();
+            return delivery;
+        }
+    }
+
+    private UUID nextId() {
+        return ids.get(cursor.getAndIncrement() % rows);
+    }
+}
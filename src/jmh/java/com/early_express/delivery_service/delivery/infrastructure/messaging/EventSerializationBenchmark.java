@@ -0,0 +1,78 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.avro.LastMileEventAvroCodec;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.avro.LocalSchemaRegistry;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출발 이벤트 직렬화 비용/크기 비교 (JSON vs Avro)
+ * - json: 현재 Producer 경로 (Spring JsonSerializer, 타입 헤더 포함)
+ * - avro: LastMileEventAvroCodec ([0x00][스키마 ID][Avro binary])
+ * - 이벤트당 크기(bytes/event)는 측정 종료 시 출력 (JSON은 타입 헤더 크기를 따로 표시)
+ * - 브로커 처리량 비교는 KafkaProducerProfileBenchmark의 format 파라미터
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EventSerializationBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = "last-mile-departed";
+
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private final LastMileEventAvroCodec avroCodec = new LastMileEventAvroCodec(new LocalSchemaRegistry());
+    private LastMileDepartedEvent event;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        FinalMileDelivery delivery = FinalMileDelivery.builder()
+                .orderId("ORD-20250101-000123")
+                .hubId("HUB-SEOUL-GANGNAM")
+                .agentId("DRIVER-00042")
+                .agentName("홍길동")
+                .currentStatus(FinalMileDeliveryStatus.ON_THE_WAY)
+                .deliveryAddress("서울시 강남구 테헤란로 123")
+                .recipientName("김철수")
+                .startedAt(now)
+                .expectedTime(now.plusHours(2))
+                .build();
+        delivery.generateId();
+        event = LastMileDepartedEvent.from(delivery);
+    }
+
+    @TearDown(Level.Trial)
+    public void reportSize() {
+        RecordHeaders headers = new RecordHeaders();
+        int json = jsonSerializer.serialize(TOPIC, headers, event).length;
+        int headerBytes = 0;
+        for (Header header : headers) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+        System.out.printf("%nbytes/event - json: %d (+ type headers %d), avro: %d%n",
+                json, headerBytes, avroCodec.encode(event).length);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] avro() {
+        return avroCodec.encode(event);
+    }
+}
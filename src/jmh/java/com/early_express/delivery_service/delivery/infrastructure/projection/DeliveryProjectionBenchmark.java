@@ -0,0 +1,156 @@
+package com.early_express.delivery_service.delivery.infrastructure.projection;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.presentation.rest.dto.DeliveryResponseForPagination;
+import com.early_express.delivery_service.global.common.utils.TimeOrderedIdGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배송 목록 조회 비교 (엔티티 조회 후 DTO 변환 vs 생성자 표현식 프로젝션)
+ *
+ * - 두 경로 모두 읽기 전용 세션에서 rows 건을 한 번에 조회한 뒤 DeliveryResponseForPagination으로 변환
+ * - entity: 엔티티 생성 + 영속성 컨텍스트 등록(EntityEntry, 1차 캐시) 후 변환
+ * - projection: 필요한 컬럼만 조회해 record 생성, 영속성 컨텍스트 미등록
+ * - 할당량 비교는 gc 프로파일러의 gc.alloc.rate.norm (B/op) 기준
+ * - 기본은 H2 인메모리 (동작 확인용), 실제 비교는 PostgreSQL로 실행
+ *
+ * 실행 (PostgreSQL):
+ * ./gradlew jmh -PjmhIncludes=DeliveryProjectionBenchmark -PjmhProfilers=gc \
+ *   -Djmh.jdbc.url=jdbc:postgresql://localhost:5432/bench -Djmh.jdbc.user=postgres -Djmh.jdbc.password=postgres
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeliveryProjectionBenchmark {
+
+    private static final String ENTITY_QUERY =
+            "SELECT f FROM FinalMileDelivery f ORDER BY f.startedAt DESC NULLS LAST, f.finalMileId DESC";
+
+    private static final String PROJECTION_QUERY =
+            "SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection(" +
+                    "f.finalMileId, f.orderId, f.agentId, f.currentStatus, " +
+                    "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.startedAt) " +
+                    "FROM FinalMileDelivery f ORDER BY f.startedAt DESC NULLS LAST, f.finalMileId DESC";
+
+    @Param({"10000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(FinalMileDelivery.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("jmh.jdbc.user", "sa"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("jmh.jdbc.password", ""))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // 엔티티 리스너(Auditing, 변경 이벤트)는 Spring 빈 컨테이너 없이 생성할 수 없으므로 비활성화
+                .setProperty("hibernate.jpa_callbacks.enabled", "false")
+                .buildSessionFactory();
+
+        // 감사 필드(created_at)는 Spring Auditing 없이 채울 수 없으므로 JDBC로 직접 적재
+        sessionFactory.inTransaction(session -> session.doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO p_final_mile_delivery (final_mile_id, order_id, agent_id, agent_name, current_status, " +
+                            "hub_id, delivery_address, recipient_name, recipient_slack_id, started_at, expected_time, " +
+                            "created_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)")) {
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < rows; i++) {
+                    insert.setObject(1, TimeOrderedIdGenerator.INSTANCE.generate());
+                    insert.setString(2, "ORD-" + i);
+                    insert.setString(3, "AGENT" + (i % 200));
+                    insert.setString(4, "agent");
+                    insert.setString(5, "ASSIGNED");
+                    insert.setString(6, "HUB" + (i % 50));
+                    insert.setString(7, "서울시 강남구 테헤란로 " + i);
+                    insert.setString(8, "recipient");
+                    insert.setString(9, "slack-" + i);
+                    insert.setTimestamp(10, Timestamp.valueOf(now.minusMinutes(i)));
+                    insert.setTimestamp(11, Timestamp.valueOf(now.plusMinutes(i)));
+                    insert.setTimestamp(12, Timestamp.valueOf(now));
+                    insert.addBatch();
+                    if (i % 1000 == 999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<DeliveryResponseForPagination> entity() {
+        try (Session session = sessionFactory.openSession()) {
+            // @Transactional(readOnly = true)와 동일하게 스냅샷 없이 조회
+            session.setDefaultReadOnly(true);
+            session.beginTransaction();
+
+            List<FinalMileDelivery> deliveries = session.createQuery(ENTITY_QUERY, FinalMileDelivery.class)
+                    .setMaxResults(rows)
+                    .getResultList();
+
+            List<DeliveryResponseForPagination> result = new ArrayList<>(deliveries.size());
+            for (FinalMileDelivery delivery : deliveries) {
+                result.add(new DeliveryResponseForPagination(
+                        delivery.getFinalMileId(),
+                        delivery.getOrderId(),
+                        delivery.getAgentId(),
+                        delivery.getCurrentStatus(),
+                        delivery.getDeliveryAddress(),
+                        delivery.getRecipientName(),
+                        delivery.getRecipientSlackId()));
+            }
+
+            session.getTransaction().commit();
+            return result;
+        }
+    }
+
+    @Benchmark
+    public List<DeliveryResponseForPagination> projection() {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            session.beginTransaction();
+
+            List<DeliverySummaryProjection> deliveries = session.createQuery(PROJECTION_QUERY, DeliverySummaryProjection.class)
+                    .setMaxResults(rows)
+                    .getResultList();
+
+            List<DeliveryResponseForPagination> result = new ArrayList<>(deliveries.size());
+            for (DeliverySummaryProjection delivery : deliveries) {
+                result.add(new DeliveryResponseForPagination(
+                        delivery.finalMileId().toString(),
+                        delivery.orderId(),
+                        delivery.agentId(),
+                        delivery.currentStatus(),
+                        delivery.deliveryAddress(),
+                        delivery.recipientName(),
+                        delivery.recipientSlackId()));
+            }
+
+            session.getTransaction().commit();
+            return result;
+        }
+    }
+}
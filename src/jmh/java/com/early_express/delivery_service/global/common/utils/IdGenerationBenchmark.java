@@ -0,0 +1,47 @@
+package com.early_express.delivery_service.global.common.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 생성 비용 비교
+ * - randomV4: UUID.randomUUID() (SecureRandom, 기존 방식)
+ * - timeOrderedV7: TimeOrderedIdGenerator (AtomicLong CAS + ThreadLocalRandom)
+ * - *_contended: 8 스레드 동시 생성 (SecureRandom / CAS 경합 확인)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=IdGenerationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private final IdGenerator timeOrdered = TimeOrderedIdGenerator.INSTANCE;
+
+    @Benchmark
+    public UUID randomV4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return timeOrdered.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomV4_contended() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID timeOrderedV7_contended() {
+        return timeOrdered.generate();
+    }
+}
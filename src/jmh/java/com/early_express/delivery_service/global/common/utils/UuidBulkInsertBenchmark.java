@@ -0,0 +1,84 @@
+package com.early_express.delivery_service.global.common.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * uuid PK 테이블 일괄 INSERT 비교 (v4 랜덤 vs v7 시간 순)
+ *
+ * - 반복마다 batchSize 건을 JDBC 배치로 INSERT 후 커밋 (테이블은 반복 동안 계속 커짐)
+ * - 인덱스 크기가 커질수록 랜덤 키는 B-tree 전체에 흩어져 페이지 분할/캐시 미스가 늘어남
+ * - 기본은 H2 인메모리 (동작 확인용), 실제 비교는 PostgreSQL로 실행
+ *
+ * 실행 (PostgreSQL):
+ * ./gradlew jmh -PjmhIncludes=UuidBulkInsertBenchmark \
+ *   -Djmh.jdbc.url=jdbc:postgresql://localhost:5432/bench -Djmh.jdbc.user=postgres -Djmh.jdbc.password=postgres
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidBulkInsertBenchmark {
+
+    private static final String TABLE = "bench_uuid_insert";
+
+    @Param({"random", "time-ordered"})
+    public String strategy;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private IdGenerator generator;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        generator = "random".equals(strategy) ? UUID::randomUUID : TimeOrderedIdGenerator.INSTANCE;
+
+        connection = DriverManager.getConnection(
+                System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+                System.getProperty("jmh.jdbc.user", "sa"),
+                System.getProperty("jmh.jdbc.password", ""));
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id uuid PRIMARY KEY, payload varchar(64) NOT NULL)");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, payload) VALUES (?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            insert.setObject(1, generator.generate());
+            insert.setString(2, "delivery-" + i);
+            insert.addBatch();
+        }
+        int[] result = insert.executeBatch();
+        connection.commit();
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package com.early_express.delivery_service.global.config;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.avro.LastMileEventAvroCodec;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.avro.LocalSchemaRegistry;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka Producer 프로파일/직렬화 포맷별 이벤트 발행 처리량 (events/s)
+ * - 한 번의 호출 = 출발 이벤트 events건 전송 + flush (LastMileOutboxRelay가 배치를 보내고 결과를 기다리는 방식)
+ * - 신뢰성 설정(acks=all, 멱등성)은 KafkaConfig와 동일, 프로파일 설정만 다름
+ * - 기본은 임베디드 KRaft 브로커 1대 (같은 호스트라 네트워크 비용이 거의 없으므로 압축 이득은 과소평가됨)
+ *   실제 비교는 -Djmh.kafka.bootstrap-servers로 원격 브로커 지정
+ * - 결과 JSON의 ops/s가 곧 초당 이벤트 수 (@OperationsPerInvocation)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=KafkaProducerProfileBenchmark [-Djmh.kafka.bootstrap-servers=host:9092]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaProducerProfileBenchmark {
+
+    private static final String TOPIC = "last-mile-departed-bench";
+    private static final int PARTITIONS = 6;
+    private static final int EVENTS = 1000;
+
+    @Param({"DEFAULT", "THROUGHPUT", "THROUGHPUT_ZSTD"})
+    public String profile;
+
+    // 값 직렬화 (JSON: JsonSerializer, AVRO: LastMileEventAvroCodec)
+    @Param({"JSON", "AVRO"})
+    public String format;
+
+    private EmbeddedKafkaBroker broker;
+    private KafkaProducer<String, Object> producer;
+    private final LastMileDepartedEvent[] events = new LastMileDepartedEvent[EVENTS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String bootstrapServers = System.getProperty("jmh.kafka.bootstrap-servers");
+        if (bootstrapServers == null) {
+            broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+            broker.afterPropertiesSet();
+            bootstrapServers = broker.getBrokersAsString();
+        }
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.RETRIES_CONFIG, 3);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.putAll(KafkaProducerProfile.valueOf(profile).settings());
+        LastMileEventAvroCodec avroCodec = new LastMileEventAvroCodec(new LocalSchemaRegistry());
+        Serializer<Object> valueSerializer = "AVRO".equals(format)
+                ? (topic, event) -> avroCodec.encode(event)
+                : new JsonSerializer<>();
+        producer = new KafkaProducer<>(config, new StringSerializer(), valueSerializer);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < EVENTS; i++) {
+            FinalMileDelivery delivery = FinalMileDelivery.builder()
+                    .orderId("ORD-" + i)
+                    .hubId("HUB" + (i % 50))
+                    .agentId("AGENT" + (i % 200))
+                    .agentName("agent-" + (i % 200))
+                    .currentStatus(FinalMileDeliveryStatus.ON_THE_WAY)
+                    .deliveryAddress("서울시 강남구 테헤란로 " + i)
+                    .recipientName("recipient")
+                    .startedAt(now)
+                    .expectedTime(now.plusHours(2))
+                    .build();
+            delivery.generateId();
+            events[i] = LastMileDepartedEvent.from(delivery);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producer.close();
+        if (broker != null) {
+            broker.destroy();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void publish() {
+        for (LastMileDepartedEvent event : events) {
+            producer.send(new ProducerRecord<>(TOPIC, event.getOrderId(), event));
+        }
+        producer.flush();
+    }
+}
@@ -0,0 +1,141 @@
+package com.early_express.delivery_service.global.infrastructure.kafka;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.command.LastMileCommand;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.command.LastMileCommandType;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka 값 역직렬화 방식별 처리량 (records/s) / 레코드당 할당량
+ * - objectDefault: 이전 설정 (Object 기본 타입 → LinkedHashMap), 리스너가 받는 값 그대로
+ * - objectDefaultAndConvert: 위 값 + 리스너에서 DTO로 다시 변환 (convertValue), 이전 설정의 실제 비용
+ * - typedJsonDeserializer: spring-kafka JsonDeserializer에 타입 고정
+ * - typedReaderCache: 현재 설정 (ErrorHandlingDeserializer + TypedJsonDeserializer, JsonReaderCache)
+ * - 한 번의 호출 = poll 한 번 분량(RECORDS건) 변환, ops/s가 곧 초당 레코드 수 (@OperationsPerInvocation)
+ * - 레코드당 할당량은 -PjmhProfilers=gc 결과의 gc.alloc.rate.norm (B/op = bytes/record)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=KafkaDeserializationBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KafkaDeserializationBenchmark {
+
+    private static final String TOPIC = "delivery-service-commands";
+    private static final int RECORDS = 500;
+
+    @Param({"COMMAND", "DEPARTED_EVENT"})
+    public String payload;
+
+    private final byte[][] values = new byte[RECORDS][];
+    private final RecordHeaders headers = new RecordHeaders();
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    private Class<?> type;
+    private Deserializer<Object> objectDeserializer;
+    private Deserializer<?> typedJsonDeserializer;
+    private Deserializer<?> typedReaderCacheDeserializer;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        type = "COMMAND".equals(payload) ? LastMileCommand.class : LastMileDepartedEvent.class;
+
+        // 발행 쪽과 같은 JsonSerializer로 값 생성 (타입 헤더 없음)
+        JsonSerializer<Object> serializer = new JsonSerializer<>();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < RECORDS; i++) {
+            values[i] = serializer.serialize(TOPIC, "COMMAND".equals(payload) ? command(i, now) : departedEvent(i, now));
+        }
+
+        JsonDeserializer<Object> objectDefault = new JsonDeserializer<>();
+        objectDefault.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+                JsonDeserializer.VALUE_DEFAULT_TYPE, "java.lang.Object"), false);
+        objectDeserializer = objectDefault;
+
+        typedJsonDeserializer = new ErrorHandlingDeserializer<>(new JsonDeserializer(type, false));
+        typedReaderCacheDeserializer = new ErrorHandlingDeserializer<>(
+                new JsonReaderCache(JacksonUtils.enhancedObjectMapper()).deserializer(type));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void objectDefault(Blackhole blackhole) {
+        for (byte[] value : values) {
+            blackhole.consume(objectDeserializer.deserialize(TOPIC, headers, value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void objectDefaultAndConvert(Blackhole blackhole) {
+        for (byte[] value : values) {
+            Object tree = objectDeserializer.deserialize(TOPIC, headers, value);
+            blackhole.consume(objectMapper.convertValue(tree, type));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void typedJsonDeserializer(Blackhole blackhole) {
+        for (byte[] value : values) {
+            blackhole.consume(typedJsonDeserializer.deserialize(TOPIC, headers, value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void typedReaderCache(Blackhole blackhole) {
+        for (byte[] value : values) {
+            blackhole.consume(typedReaderCacheDeserializer.deserialize(TOPIC, headers, value));
+        }
+    }
+
+    private static LastMileCommand command(int i, LocalDateTime now) {
+        return LastMileCommand.builder()
+                .commandId("CMD-" + i)
+                .type(LastMileCommandType.CREATE)
+                .orderId("ORD-20250101-" + i)
+                .hubId("HUB" + (i % 50))
+                .deliveryAddress("서울시 강남구 테헤란로 " + i)
+                .recipientName("김철수")
+                .recipientSlackId("U0" + i)
+                .expectedTime(now.plusHours(2))
+                .build();
+    }
+
+    private static LastMileDepartedEvent departedEvent(int i, LocalDateTime now) {
+        FinalMileDelivery delivery = FinalMileDelivery.builder()
+                .orderId("ORD-20250101-" + i)
+                .hubId("HUB" + (i % 50))
+                .agentId("DRIVER-" + (i % 200))
+                .agentName("홍길동")
+                .currentStatus(FinalMileDeliveryStatus.ON_THE_WAY)
+                .deliveryAddress("서울시 강남구 테헤란로 " + i)
+                .recipientName("김철수")
+                .startedAt(now)
+                .expectedTime(now.plusHours(2))
+                .build();
+        delivery.generateId();
+        return LastMileDepartedEvent.from(delivery);
+    }
+}
@@ -0,0 +1,52 @@
+package com.early_express.delivery_service.delivery.application.scheduler;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배정 예약 정리 스케줄러
+ * - 배정 도중 인스턴스 종료 등으로 ASSIGNING 상태에 남은 배송을 PENDING으로 복구
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssignmentReservationSweeper {
+
+    private final FinalMileDeliveryRepository finalMileDeliveryRepository;
+    private final DeliveryMetrics deliveryMetrics;
+
+    /**
+     * 예약 유지 최대 시간 (드라이버 서비스 타임아웃 + 재시도보다 길어야 함)
+     */
+    @Value("${delivery.assignment.reservation-timeout-seconds:300}")
+    private long reservationTimeoutSeconds;
+
+    @Scheduled(fixedDelayString = "${delivery.assignment.sweep-interval-ms:60000}")
+    @Transactional
+    public void releaseStaleReservations() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int released = finalMileDeliveryRepository.releaseStaleReservations(
+                FinalMileDeliveryStatus.ASSIGNING,
+                FinalMileDeliveryStatus.PENDING,
+                now.minusSeconds(reservationTimeoutSeconds),
+                now
+        );
+
+        if (released > 0) {
+            // 허브별 건수는 조회하지 않으므로 hub=NONE으로 집계
+            deliveryMetrics.recordTransitions((String) null,
+                    FinalMileDeliveryStatus.ASSIGNING, FinalMileDeliveryStatus.PENDING, released);
+            log.warn("만료된 배정 예약 복구 - count: {}", released);
+        }
+    }
+}
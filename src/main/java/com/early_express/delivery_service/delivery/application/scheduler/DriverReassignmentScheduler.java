@@ -0,0 +1,83 @@
+package com.early_express.delivery_service.delivery.application.scheduler;
+
+import com.early_express.delivery_service.delivery.application.service.DriverReassignmentQueue;
+import com.early_express.delivery_service.delivery.application.service.HubAssignmentDispatcher;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.client.resilience.ResilientLastMileDriverClient;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재배정 스케줄러
+ * - 드라이버 서비스 차단으로 PENDING에 남은 배송을 서킷이 닫힌(또는 반열림) 뒤 다시 배정
+ * - HubAssignmentDispatcher로 요청 (같은 허브 배정은 허브 워커 하나가 순차 처리, 쌓인 요청은 일괄 배정)
+ * - 일시적인 실패(5xx, 예상하지 못한 예외)는 대기열에 재등록, 배송이 없거나 이미 배정/취소된 경우는 제외
+ *   (서킷 재차단은 배정 서비스가 재등록, 대기열은 Set이라 겹쳐도 한 번만 남음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverReassignmentScheduler {
+
+    private final DriverReassignmentQueue driverReassignmentQueue;
+    private final HubAssignmentDispatcher hubAssignmentDispatcher;
+    private final ResilientLastMileDriverClient driverClient;
+
+    @Value("${delivery.assignment.bulk-max-size:2000}")
+    private int bulkMaxSize;
+
+    @Scheduled(fixedDelayString = "${delivery.assignment.reassign-interval-ms:10000}")
+    public void reassign() {
+        if (driverReassignmentQueue.isEmpty() || !driverClient.isAvailable()) {
+            return;
+        }
+
+        List<String> finalMileIds = driverReassignmentQueue.drain(bulkMaxSize);
+        Map<String, CompletableFuture<LastMileAssignDriverResponse>> results;
+        try {
+            results = hubAssignmentDispatcher.submitAll(finalMileIds);
+        } catch (RuntimeException e) {
+            // 허브 조회 실패 등 → 꺼낸 배송 전체를 다음 주기로
+            driverReassignmentQueue.addAll(finalMileIds);
+            log.warn("재배정 요청 실패, 대기열 재등록 - 건수: {}, error: {}", finalMileIds.size(), e.getMessage());
+            return;
+        }
+
+        // 워커 처리 결과를 기다리지 않고 완료 시 집계 (실패 건은 그때 재등록)
+        AtomicInteger assigned = new AtomicInteger();
+        AtomicInteger requeued = new AtomicInteger();
+        results.forEach((finalMileId, result) -> result.whenComplete((response, error) -> {
+            if (error == null) {
+                assigned.incrementAndGet();
+            } else if (isRetryable(error)) {
+                driverReassignmentQueue.addAll(List.of(finalMileId));
+                requeued.incrementAndGet();
+            }
+        }));
+        CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> log.info("재배정 완료 - total: {}, assigned: {}, requeued: {}, dropped: {}",
+                        results.size(), assigned.get(), requeued.get(),
+                        results.size() - assigned.get() - requeued.get()));
+    }
+
+    /**
+     * 다시 시도할 실패인지 (DeliveryException은 5xx만, 그 외 예외는 모두)
+     */
+    static boolean isRetryable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof DeliveryException de) {
+            return de.getErrorCode().getStatus() >= 500;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.early_express.delivery_service.delivery.application.scheduler;
+
+import com.early_express.delivery_service.delivery.application.service.TodayDeliveryView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 당일 배송 뷰 관리 스케줄러
+ * - 정합성 검사: 다른 인스턴스의 변경이나 누락된 이벤트를 DB 기준으로 반영
+ * - 날짜 변경: 지난 날짜 뷰 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "delivery.today-view.enabled", havingValue = "true", matchIfMissing = true)
+public class TodayDeliveryViewScheduler {
+
+    private final TodayDeliveryView todayDeliveryView;
+
+    @Scheduled(fixedDelayString = "${delivery.today-view.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        todayDeliveryView.reconcile(LocalDate.now());
+    }
+
+    @Scheduled(cron = "${delivery.today-view.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        int evicted = todayDeliveryView.evictBefore(LocalDate.now());
+        log.info("당일 배송 뷰 날짜 변경 - evicted: {}", evicted);
+    }
+}
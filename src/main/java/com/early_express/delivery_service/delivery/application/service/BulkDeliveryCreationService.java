@@ -0,0 +1,139 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkCreateRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileCreateRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkCreateResponse;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 최종 배송 일괄 생성 서비스 (Order Service 대량 주문 유입)
+ *
+ * - 기존 주문 중복 체크를 주문 ID IN 조회로 처리 (건별 findByOrderId 제거)
+ * - 저장은 flush-size 단위로 persist → flush → clear
+ *   (hibernate.jdbc.batch_size / order_inserts 설정에 따라 INSERT를 묶어서 전송)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkDeliveryCreationService {
+
+    // PostgreSQL 바인드 파라미터 수 제한을 넘지 않도록 IN 조회를 나눔
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final FinalMileDeliveryRepository finalMileDeliveryRepository;
+    private final EntityManager entityManager;
+    private final DeliveryMetrics deliveryMetrics;
+
+    @Value("${delivery.bulk-create.flush-size:500}")
+    private int flushSize;
+
+    /**
+     * 최종 배송 일괄 생성
+     * - 이미 생성된 주문과 요청 내 중복 주문은 DUPLICATE로 반환 (재요청 시 멱등)
+     *
+     * @param request 생성 요청 목록
+     * @return 주문별 생성 결과 (요청 순서)
+     */
+    @Transactional
+    public LastMileBulkCreateResponse createDeliveries(LastMileBulkCreateRequest request) {
+        List<LastMileCreateRequest> deliveries = request.getDeliveries();
+        log.info("최종 배송 일괄 생성 요청 - 건수: {}", deliveries.size());
+
+        // 1. 기존 주문 일괄 조회 (orderId → finalMileId)
+        Map<String, String> existing = findExistingDeliveryIds(deliveries);
+
+        // 2. 신규 배송 생성 (요청 내 중복은 처음 나온 주문만 생성)
+        Map<String, FinalMileDelivery> created = new LinkedHashMap<>();
+        for (LastMileCreateRequest item : deliveries) {
+            if (existing.containsKey(item.getOrderId()) || created.containsKey(item.getOrderId())) {
+                continue;
+            }
+            created.put(item.getOrderId(), FinalMileDelivery.create(
+                    item.getOrderId(),
+                    item.getHubId(),
+                    item.getDeliveryAddress(),
+                    item.getRecipientName(),
+                    item.getRecipientSlackId(),
+                    item.getExpectedTime()
+            ));
+        }
+
+        // 3. flush-size 단위 저장 (영속성 컨텍스트가 커지지 않도록 매번 clear)
+        persistInChunks(new ArrayList<>(created.values()));
+        deliveryMetrics.recordTransitions(
+                created.values().stream().map(FinalMileDelivery::getHubId).toList(), null, FinalMileDeliveryStatus.PENDING);
+
+        // 4. 주문별 결과 (요청 순서)
+        Set<String> reported = new HashSet<>();
+        List<LastMileBulkCreateResponse.Item> results = new ArrayList<>(deliveries.size());
+        for (LastMileCreateRequest item : deliveries) {
+            String orderId = item.getOrderId();
+            FinalMileDelivery delivery = created.get(orderId);
+
+            if (delivery != null && reported.add(orderId)) {
+                results.add(LastMileBulkCreateResponse.Item.created(delivery));
+            } else {
+                results.add(LastMileBulkCreateResponse.Item.duplicate(
+                        orderId, delivery != null ? delivery.getFinalMileId() : existing.get(orderId)));
+            }
+        }
+
+        LastMileBulkCreateResponse response = LastMileBulkCreateResponse.of(results);
+
+        log.info("최종 배송 일괄 생성 완료 - total: {}, created: {}, duplicate: {}",
+                response.getTotalCount(), response.getCreatedCount(), response.getDuplicateCount());
+
+        return response;
+    }
+
+    private Map<String, String> findExistingDeliveryIds(List<LastMileCreateRequest> deliveries) {
+        List<String> orderIds = deliveries.stream()
+                .map(LastMileCreateRequest::getOrderId)
+                .distinct()
+                .toList();
+
+        Map<String, String> existing = new HashMap<>();
+        for (int from = 0; from < orderIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = orderIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, orderIds.size()));
+            finalMileDeliveryRepository.findAllByOrderIdIn(chunk)
+                    .forEach(delivery -> existing.put(delivery.getOrderId(), delivery.getFinalMileId()));
+        }
+
+        // 조회한 엔티티는 더 이상 필요 없으므로 영속성 컨텍스트에서 제거
+        entityManager.clear();
+        return existing;
+    }
+
+    private void persistInChunks(List<FinalMileDelivery> deliveries) {
+        for (int from = 0; from < deliveries.size(); from += flushSize) {
+            List<FinalMileDelivery> chunk = deliveries.subList(from, Math.min(from + flushSize, deliveries.size()));
+            finalMileDeliveryRepository.saveAll(chunk);
+            try {
+                // Repository flush → 예외 변환 적용 (createDelivery의 saveAndFlush와 같은 예외 타입)
+                finalMileDeliveryRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                // 동시 요청이 같은 주문을 먼저 생성한 경우 (UNIQUE 부분 인덱스 위반) → 전체 롤백, 재요청 시 DUPLICATE 처리
+                throw new DeliveryException(
+                        DeliveryErrorCode.DELIVERY_ALREADY_EXISTS,
+                        "일괄 생성 중 이미 생성된 주문이 포함되어 있습니다.",
+                        e
+                );
+            }
+            entityManager.clear();
+        }
+    }
+}
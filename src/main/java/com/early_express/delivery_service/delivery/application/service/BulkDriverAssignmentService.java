@@ -0,0 +1,389 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.cache.DeliveryDetailCacheInvalidator;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverReactiveClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverBulkAssignRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverBulkAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.client.notification.DriverNotificationQueue;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventPublisher;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkAssignRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkAssignResponse;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 담당자 일괄 배정 서비스 (허브 오전 웨이브)
+ *
+ * 단건 배정(FinalMileDeliveryService.assignDriver)과 같은 3단계 구조를 배송 묶음 단위로 처리
+ * 1. 예약: 한 트랜잭션에서 대상 배송을 잠금 조회(SKIP LOCKED) 후 PENDING → ASSIGNING 일괄 UPDATE
+ * 2. 원격 호출: 트랜잭션 밖에서 드라이버 서비스 일괄 배정 1회 호출
+ * 3. 확정: 한 트랜잭션에서 배정/출발 처리 (JDBC 배치 UPDATE) 및 출발 이벤트 일괄 저장
+ * - 배정 실패 건은 예약 해제, 확정 불가 건은 드라이버 배정 취소 (건별 결과로 반환)
+ * - 드라이버 서비스 호출이 차단되면 전체를 PENDING으로 두고 재배정 대기열에 등록
+ * - 보상 취소는 LastMileDriverReactiveClient로 동시 전송 (건수만큼 순차 호출하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkDriverAssignmentService {
+
+    private final FinalMileDeliveryRepository finalMileDeliveryRepository;
+    private final LastMileDriverClient lastMileDriverClient;
+    private final LastMileDriverReactiveClient lastMileDriverReactiveClient;
+    private final DriverNotificationQueue driverNotificationQueue;
+    private final DriverReassignmentQueue driverReassignmentQueue;
+    private final LastMileEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final DeliveryMetrics deliveryMetrics;
+    private final DeliveryDetailCacheInvalidator deliveryDetailCacheInvalidator;
+
+    @Value("${delivery.assignment.bulk-max-size:2000}")
+    private int bulkMaxSize;
+
+    /**
+     * 담당자 일괄 배정
+     *
+     * @param request 허브 ID 또는 배송 ID 목록
+     * @return 배송 건별 배정 결과
+     */
+    public LastMileBulkAssignResponse assignDrivers(LastMileBulkAssignRequest request) {
+        // 요청 DTO 검증(@Size)은 기본 상한 기준이므로 설정한 상한으로 다시 확인
+        if (request.hasFinalMileIds() && request.getFinalMileIds().size() > bulkMaxSize) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.BULK_SIZE_EXCEEDED,
+                    "요청: " + request.getFinalMileIds().size() + "건, 최대: " + bulkMaxSize + "건"
+            );
+        }
+
+        String hubId = request.hasFinalMileIds() ? null : request.getHubId();
+        log.info("담당자 일괄 배정 요청 - hubId: {}, 지정 건수: {}",
+                hubId, request.hasFinalMileIds() ? request.getFinalMileIds().size() : 0);
+
+        // 결과는 요청 순서(배송 ID 지정) 또는 예정 시간 순서(허브 지정)를 유지
+        Map<String, LastMileAssignDriverResponse> results = new LinkedHashMap<>();
+
+        // 1. 배정 예약 (PENDING → ASSIGNING)
+        List<FinalMileDelivery> reserved = recordAssignPhase("reserve",
+                () -> transactionTemplate.execute(status -> reserve(request, results)));
+
+        if (reserved.isEmpty()) {
+            log.info("담당자 일괄 배정 대상 없음 - hubId: {}", hubId);
+            return LastMileBulkAssignResponse.of(hubId, new ArrayList<>(results.values()));
+        }
+
+        // 2. 드라이버 서비스 일괄 배정 요청 (커넥션 미점유)
+        List<String> reservedIds = reserved.stream().map(FinalMileDelivery::getFinalMileId).toList();
+        Map<String, String> hubIds = new HashMap<>();
+        reserved.forEach(delivery -> hubIds.put(delivery.getFinalMileId(), delivery.getHubId()));
+        Map<String, DriverBulkAssignResponse.Item> driverResults;
+        try {
+            driverResults = recordAssignPhase("remote", () -> requestDriverAssignments(reserved));
+        } catch (RuntimeException e) {
+            releaseReservations(reservedIds, hubIds);
+            // 서킷 오픈/벌크헤드 초과로 호출하지 못한 경우 서킷이 닫히면 다시 배정
+            if (e instanceof DeliveryException de && de.getErrorCode() == DeliveryErrorCode.EXTERNAL_SERVICE_REJECTED) {
+                driverReassignmentQueue.addAll(reservedIds);
+            }
+            throw e;
+        }
+
+        Map<String, DriverAssignResponse> assigned = new LinkedHashMap<>();
+        List<String> rejectedIds = new ArrayList<>();
+        for (String finalMileId : reservedIds) {
+            DriverBulkAssignResponse.Item item = driverResults.get(finalMileId);
+            if (item != null && item.isSuccess()) {
+                assigned.put(finalMileId, item.toAssignResponse());
+            } else {
+                rejectedIds.add(finalMileId);
+                results.put(finalMileId, LastMileAssignDriverResponse.failure(finalMileId,
+                        item != null && item.getMessage() != null ? item.getMessage() : "드라이버 배정 결과가 없습니다."));
+            }
+        }
+        if (!rejectedIds.isEmpty()) {
+            releaseReservations(rejectedIds, hubIds);
+        }
+
+        // 3. 배정 확정 (ASSIGNING → ASSIGNED → PICKED_UP → ON_THE_WAY)
+        if (!assigned.isEmpty()) {
+            List<String> unconfirmedIds;
+            try {
+                unconfirmedIds = recordAssignPhase("commit",
+                        () -> transactionTemplate.execute(status -> confirm(assigned, results)));
+            } catch (RuntimeException e) {
+                log.error("담당자 일괄 배정 확정 실패, 보상 처리 - 건수: {}, error: {}", assigned.size(), e.getMessage());
+                unconfirmedIds = new ArrayList<>(assigned.keySet());
+                for (String finalMileId : unconfirmedIds) {
+                    results.put(finalMileId,
+                            LastMileAssignDriverResponse.failure(finalMileId, "배정 확정에 실패했습니다: " + e.getMessage()));
+                }
+            }
+            compensate(unconfirmedIds, assigned, hubIds);
+        }
+
+        LastMileBulkAssignResponse response = LastMileBulkAssignResponse.of(hubId, new ArrayList<>(results.values()));
+
+        log.info("담당자 일괄 배정 완료 - hubId: {}, total: {}, assigned: {}, failed: {}",
+                hubId, response.getTotalCount(), response.getAssignedCount(), response.getFailedCount());
+
+        return response;
+    }
+
+    /**
+     * 배정 1단계: 대상 잠금 조회 및 일괄 예약
+     * - 다른 요청이 잠근 배송은 건너뛰므로 같은 허브에 대한 동시 요청이 서로 다른 배송을 나눠 가짐
+     */
+    private List<FinalMileDelivery> reserve(LastMileBulkAssignRequest request,
+                                            Map<String, LastMileAssignDriverResponse> results) {
+        List<FinalMileDelivery> targets;
+        if (request.hasFinalMileIds()) {
+            // 요청 순서대로 결과 자리를 잡음
+            // - 배송 ID는 표준 UUID 문자열(소문자)로 바꿔 중복 제거 → 대상 조회 결과(getFinalMileId)와 같은 키
+            // - UUID 형식이 아닌 ID는 조회 없이 실패로 기록
+            Set<String> requestedIds = new LinkedHashSet<>();
+            for (String finalMileId : request.getFinalMileIds()) {
+                Optional<String> normalized = UuidUtils.parse(finalMileId).map(UUID::toString);
+                if (normalized.isPresent()) {
+                    requestedIds.add(normalized.get());
+                    results.put(normalized.get(), null);
+                } else {
+                    results.put(finalMileId, LastMileAssignDriverResponse.failure(finalMileId,
+                            "배송 ID 형식이 올바르지 않습니다."));
+                }
+            }
+            targets = requestedIds.isEmpty() ? List.of()
+                    : finalMileDeliveryRepository.findByIdsForAssignment(toIds(requestedIds), FinalMileDeliveryStatus.PENDING);
+
+            // 대상에서 빠진 건은 실패로 기록
+            Set<String> targetIds = new HashSet<>();
+            targets.forEach(delivery -> targetIds.add(delivery.getFinalMileId()));
+            for (String finalMileId : requestedIds) {
+                if (!targetIds.contains(finalMileId)) {
+                    results.put(finalMileId, LastMileAssignDriverResponse.failure(finalMileId,
+                            "배정 대기(PENDING) 상태가 아니거나 다른 요청에서 처리 중인 배송입니다."));
+                }
+            }
+        } else {
+            targets = finalMileDeliveryRepository.findByHubForAssignment(
+                    request.getHubId(), FinalMileDeliveryStatus.PENDING, Limit.of(bulkMaxSize));
+            targets.forEach(delivery -> results.put(delivery.getFinalMileId(), null));
+        }
+
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
+        List<UUID> targetIds = targets.stream().map(FinalMileDelivery::getId).toList();
+        int updated = finalMileDeliveryRepository.updateStatusIfCurrentIn(
+                targetIds,
+                FinalMileDeliveryStatus.PENDING,
+                FinalMileDeliveryStatus.ASSIGNING,
+                LocalDateTime.now()
+        );
+
+        // 행 잠금을 잡은 상태이므로 조회 건수와 같아야 함
+        if (updated != targetIds.size()) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.DRIVER_ASSIGN_IN_PROGRESS,
+                    "일괄 예약 건수 불일치 - 대상: " + targetIds.size() + ", 예약: " + updated
+            );
+        }
+
+        // JPQL UPDATE는 엔티티 변경 이벤트가 없으므로 직접 캐시 무효화
+        deliveryDetailCacheInvalidator.evictAfterCommit(
+                targets.stream().map(FinalMileDelivery::getFinalMileId).toList());
+        deliveryMetrics.recordTransitions(targets.stream().map(FinalMileDelivery::getHubId).toList(),
+                FinalMileDeliveryStatus.PENDING, FinalMileDeliveryStatus.ASSIGNING);
+
+        return targets;
+    }
+
+    /**
+     * 배정 2단계: 드라이버 서비스 일괄 호출
+     *
+     * @return 배송 ID별 배정 결과
+     */
+    private Map<String, DriverBulkAssignResponse.Item> requestDriverAssignments(List<FinalMileDelivery> reserved) {
+        List<DriverAssignRequest> assignments = reserved.stream()
+                .map(delivery -> DriverAssignRequest.of(delivery.getHubId(), delivery.getFinalMileId()))
+                .toList();
+
+        try {
+            DriverBulkAssignResponse response =
+                    lastMileDriverClient.assignDrivers(DriverBulkAssignRequest.of(assignments));
+
+            Map<String, DriverBulkAssignResponse.Item> byDeliveryId = new HashMap<>();
+            if (response != null && response.getResults() != null) {
+                response.getResults().forEach(item -> byDeliveryId.put(item.getDeliveryId(), item));
+            }
+            log.info("드라이버 일괄 배정 응답 - 요청: {}, 응답: {}", assignments.size(), byDeliveryId.size());
+            return byDeliveryId;
+        } catch (DeliveryException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("드라이버 일괄 배정 실패 - 건수: {}, error: {}", assignments.size(), e.getMessage());
+            throw new DeliveryException(
+                    DeliveryErrorCode.DRIVER_ASSIGN_FAILED,
+                    "드라이버 일괄 배정 중 오류 발생: " + e.getMessage(),
+                    e
+            );
+        }
+    }
+
+    /**
+     * 배정 3단계: 일괄 확정 및 출발 처리
+     * - 변경 감지로 모인 UPDATE와 outbox INSERT는 커밋 시 JDBC 배치로 전송
+     *
+     * @return 원격 호출 동안 상태가 바뀌어 확정하지 못한 배송 ID 목록
+     */
+    private List<String> confirm(Map<String, DriverAssignResponse> assigned,
+                                 Map<String, LastMileAssignDriverResponse> results) {
+        Map<String, FinalMileDelivery> deliveries = new HashMap<>();
+        finalMileDeliveryRepository.findAllById(toIds(assigned.keySet()))
+                .forEach(delivery -> deliveries.put(delivery.getFinalMileId(), delivery));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<FinalMileDelivery> confirmed = new ArrayList<>(assigned.size());
+        List<String> unconfirmedIds = new ArrayList<>();
+
+        for (Map.Entry<String, DriverAssignResponse> entry : assigned.entrySet()) {
+            String finalMileId = entry.getKey();
+            DriverAssignResponse driverResponse = entry.getValue();
+            FinalMileDelivery delivery = deliveries.get(finalMileId);
+
+            // 원격 호출 동안 취소 등으로 상태가 바뀐 경우
+            if (delivery == null || !delivery.getCurrentStatus().canConfirmAssignment()) {
+                unconfirmedIds.add(finalMileId);
+                results.put(finalMileId, LastMileAssignDriverResponse.failure(finalMileId,
+                        "배정 확정 불가 상태입니다. 현재 상태: "
+                                + (delivery != null ? delivery.getCurrentStatus() : "NOT_FOUND")));
+                continue;
+            }
+
+            delivery.assignAgent(driverResponse.getDriverId(), driverResponse.getDriverName());
+            delivery.transitionTo(FinalMileDeliveryStatus.PICKED_UP, now);
+            delivery.transitionTo(FinalMileDeliveryStatus.ON_THE_WAY, now);
+
+            confirmed.add(delivery);
+            results.put(finalMileId, LastMileAssignDriverResponse.from(delivery, driverResponse));
+        }
+
+        if (!confirmed.isEmpty()) {
+            eventPublisher.publishDepartedEvents(confirmed);
+            List<String> confirmedHubIds = confirmed.stream().map(FinalMileDelivery::getHubId).toList();
+            deliveryMetrics.recordTransitions(confirmedHubIds,
+                    FinalMileDeliveryStatus.ASSIGNING, FinalMileDeliveryStatus.ASSIGNED);
+            deliveryMetrics.recordTransitions(confirmedHubIds,
+                    FinalMileDeliveryStatus.ASSIGNED, FinalMileDeliveryStatus.PICKED_UP);
+            deliveryMetrics.recordTransitions(confirmedHubIds,
+                    FinalMileDeliveryStatus.PICKED_UP, FinalMileDeliveryStatus.ON_THE_WAY);
+        }
+
+        return unconfirmedIds;
+    }
+
+    /**
+     * 확정하지 못한 건 보상
+     * - 드라이버 서비스의 배정을 취소하고 남아 있는 예약 해제
+     * - 취소 실패 건은 통지 큐에 등록하여 재시도 (드라이버가 배정 상태로 남지 않도록)
+     */
+    private void compensate(List<String> unconfirmedIds, Map<String, DriverAssignResponse> assigned,
+                            Map<String, String> hubIds) {
+        if (unconfirmedIds.isEmpty()) {
+            return;
+        }
+
+        // 건별 실패는 나머지 취소를 막지 않음 (호출별 타임아웃이 있으므로 대기 시간은 상한이 있음)
+        Map<String, String> failedDriverIds = new ConcurrentHashMap<>();
+        lastMileDriverReactiveClient.fanOut(unconfirmedIds, finalMileId -> {
+                    String driverId = assigned.get(finalMileId).getDriverId();
+                    return lastMileDriverReactiveClient.cancelDelivery(driverId)
+                            .onErrorResume(e -> {
+                                log.warn("드라이버 배정 보상 취소 실패, 재시도 등록 - finalMileId: {}, driverId: {}, error: {}",
+                                        finalMileId, driverId, e.getMessage());
+                                failedDriverIds.put(finalMileId, driverId);
+                                return Mono.empty();
+                            });
+                })
+                .then()
+                .block();
+
+        if (!failedDriverIds.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> failedDriverIds.forEach(
+                        (finalMileId, driverId) -> driverNotificationQueue.enqueueCancellation(driverId, finalMileId)));
+            } catch (Exception e) {
+                log.error("드라이버 취소 통지 일괄 등록 실패 - 건수: {}, error: {}", failedDriverIds.size(), e.getMessage());
+            }
+        }
+        releaseReservations(unconfirmedIds, hubIds);
+    }
+
+    /**
+     * 배정 예약 일괄 해제 (ASSIGNING → PENDING)
+     * - 전이 메트릭은 전부 해제된 경우 허브별로, 일부가 이미 다른 상태(취소 등)면 해제 건수만 hub=NONE으로 집계
+     */
+    private void releaseReservations(List<String> finalMileIds, Map<String, String> hubIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int released = finalMileDeliveryRepository.updateStatusIfCurrentIn(
+                        toIds(finalMileIds),
+                        FinalMileDeliveryStatus.ASSIGNING,
+                        FinalMileDeliveryStatus.PENDING,
+                        LocalDateTime.now()
+                );
+                deliveryDetailCacheInvalidator.evictAfterCommit(finalMileIds);
+                if (released == finalMileIds.size()) {
+                    deliveryMetrics.recordTransitions(finalMileIds.stream().map(hubIds::get).toList(),
+                            FinalMileDeliveryStatus.ASSIGNING, FinalMileDeliveryStatus.PENDING);
+                } else {
+                    deliveryMetrics.recordTransitions((String) null,
+                            FinalMileDeliveryStatus.ASSIGNING, FinalMileDeliveryStatus.PENDING, released);
+                }
+            });
+        } catch (Exception e) {
+            // 남은 예약은 AssignmentReservationSweeper가 정리
+            log.error("배정 예약 일괄 해제 실패 - 건수: {}, error: {}", finalMileIds.size(), e.getMessage());
+        }
+    }
+
+    private List<UUID> toIds(Collection<String> finalMileIds) {
+        return finalMileIds.stream().map(UUID::fromString).toList();
+    }
+
+    private <T> T recordAssignPhase(String phase, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return action.get();
+        } finally {
+            sample.stop(Timer.builder("delivery.assign.phase")
+                    .description("담당자 배정 단계별 소요 시간")
+                    .tag("phase", phase)
+                    .tag("mode", "bulk")
+                    .register(meterRegistry));
+        }
+    }
+}
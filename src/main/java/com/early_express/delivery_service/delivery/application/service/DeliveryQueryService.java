@@ -2,12 +2,19 @@ package com.early_express.delivery_service.delivery.application.service;
 
 import com.early_express.delivery_service.delivery.application.service.dto.AgentDeliveryGroupDto;
 import com.early_express.delivery_service.delivery.application.service.dto.TodayDeliveryGroupResponse;
-import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
 import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection;
+import com.early_express.delivery_service.delivery.infrastructure.projection.TodayDeliveryProjection;
 import com.early_express.delivery_service.delivery.presentation.rest.dto.DeliveryResponseForPagination;
+import com.early_express.delivery_service.global.common.dto.PageInfo.SortInfo;
+import com.early_express.delivery_service.global.common.utils.CursorUtils;
 import com.early_express.delivery_service.global.common.utils.PageUtils;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
 import com.early_express.delivery_service.global.presentation.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,28 +23,41 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service // Spring Bean으로 등록
 @RequiredArgsConstructor
 public class DeliveryQueryService {
 
+    private static final List<SortInfo> KEYSET_SORT = List.of(
+            SortInfo.of("startedAt", SortInfo.Direction.DESC),
+            SortInfo.of("finalMileId", SortInfo.Direction.DESC)
+    );
+
     private final FinalMileDeliveryRepository finalMileDeliveryRepository;
+    private final TodayDeliveryView todayDeliveryView;
+    private final DeliveryMetrics deliveryMetrics;
+
+    @Value("${delivery.today-view.enabled:true}")
+    private boolean todayViewEnabled;
 
     /**
-     * FinalMileDelivery 엔티티를 FinalMileDeliveryDetailResponse DTO로 변환하는 매퍼 함수
+     * 배송 목록 프로젝션을 DeliveryResponseForPagination DTO로 변환하는 매퍼 함수
      */
-    private DeliveryResponseForPagination mapToDto(FinalMileDelivery delivery) {
+    private DeliveryResponseForPagination mapToDto(DeliverySummaryProjection delivery) {
         return new DeliveryResponseForPagination(
-                delivery.getFinalMileId(),
-                delivery.getOrderId(),
-                delivery.getAgentId(),
-                delivery.getCurrentStatus(),
-                delivery.getDeliveryAddress(),
-                delivery.getRecipientName(),
-                delivery.getRecipientSlackId()
+                delivery.finalMileId().toString(),
+                delivery.orderId(),
+                delivery.agentId(),
+                delivery.currentStatus(),
+                delivery.deliveryAddress(),
+                delivery.recipientName(),
+                delivery.recipientSlackId()
         );
     }
 
@@ -49,30 +69,100 @@ public class DeliveryQueryService {
     @Transactional(readOnly = true)
     public PageResponse<DeliveryResponseForPagination> getPaginatedDeliveries(Pageable pageable) {
 
-        // 1. Repository 호출
-        Page<FinalMileDelivery> deliveryPage = finalMileDeliveryRepository.findAll(pageable);
+        // 1. Repository 호출 (엔티티 대신 프로젝션 조회)
+        Page<DeliverySummaryProjection> deliveryPage = finalMileDeliveryRepository.findSummaries(pageable);
 
-        // 2. PageUtils를 사용하여 Page<Entity>를 PageResponse<Pagination DTO>로 변환
+        // 2. PageUtils를 사용하여 Page<Projection>을 PageResponse<Pagination DTO>로 변환
         return PageUtils.toPageResponse(
                 deliveryPage,
                 this::mapToDto
         );
     }
 
+    /**
+     * 커서(키셋) 기반 배송 목록 조회
+     * - 정렬 고정: startedAt 내림차순(없으면 마지막), 같은 시간은 finalMileId 내림차순
+     * - OFFSET / count(*) 없이 마지막 행 다음부터 size + 1건만 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 전체 건수 없이 nextCursor를 포함한 PageResponse
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<DeliveryResponseForPagination> getDeliveriesByCursor(String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+
+        List<DeliverySummaryProjection> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = finalMileDeliveryRepository.findFirstKeysetPage(limit);
+        } else {
+            String[] keys = CursorUtils.decode(cursor, 2);
+            UUID finalMileId = UuidUtils.parse(keys[1])
+                    .orElseThrow(() -> new CursorUtils.InvalidCursorException(cursor));
+
+            if (keys[0] == null) {
+                rows = finalMileDeliveryRepository.findKeysetPageAfterUnstarted(finalMileId, limit);
+            } else {
+                // startedAt 있는 행 → 모자라면 startedAt 없는 행 (각각 인덱스 범위 조회, NULLS LAST 순서와 같음)
+                rows = new ArrayList<>(finalMileDeliveryRepository.findKeysetPageAfter(
+                        parseStartedAt(keys[0], cursor), finalMileId, limit));
+                if (rows.size() < limit.max()) {
+                    rows.addAll(finalMileDeliveryRepository.findFirstUnstartedKeysetPage(
+                            Limit.of(limit.max() - rows.size())));
+                }
+            }
+        }
+
+        return PageUtils.toCursorPageResponse(
+                rows,
+                size,
+                cursor == null || cursor.isBlank(),
+                delivery -> CursorUtils.encode(
+                        delivery.startedAt() != null ? delivery.startedAt().toString() : null,
+                        delivery.finalMileId().toString()),
+                this::mapToDto,
+                KEYSET_SORT
+        );
+    }
+
+    private LocalDateTime parseStartedAt(String value, String cursor) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new CursorUtils.InvalidCursorException(cursor);
+        }
+    }
+
     /**
      * 당일 배송 목록을 담당자(agentId)별로 그룹화하여 반환
+     * - 기본은 인메모리 뷰(TodayDeliveryView)에서 조회 (DB 조회/그룹화 없음)
+     * - delivery.today-view.enabled=false 이면 매번 DB에서 조회 후 그룹화
      * @param hubId 허브 ID (null이면 전체 허브 대상)
      * @return 담당자별 그룹화된 배송 목록
      */
-    @Transactional(readOnly = true)
     public TodayDeliveryGroupResponse getTodayDeliveriesGroupedByAgent(String hubId) {
+        return deliveryMetrics.timed("todayGroupedByAgent", () -> groupTodayDeliveries(hubId));
+    }
 
+    private TodayDeliveryGroupResponse groupTodayDeliveries(String hubId) {
         LocalDate today = LocalDate.now();
+
+        if (todayViewEnabled) {
+            List<AgentDeliveryGroupDto> agentGroups = todayDeliveryView.getAgentGroups(today, hubId);
+
+            return TodayDeliveryGroupResponse.builder()
+                    .targetDate(today)
+                    .totalAgents(agentGroups.size())
+                    .totalDeliveries(agentGroups.stream().mapToInt(AgentDeliveryGroupDto::getTotalCount).sum())
+                    .agentGroups(agentGroups)
+                    .build();
+        }
+
         LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime endOfDay = today.atTime(LocalTime.MAX);
 
         // 1. 당일 배송 목록 조회
-        List<FinalMileDelivery> deliveries;
+        List<TodayDeliveryProjection> deliveries;
         if (hubId != null && !hubId.isBlank()) {
             deliveries = finalMileDeliveryRepository.findTodayAssignedDeliveriesByHub(hubId, startOfDay, endOfDay);
         } else {
@@ -80,20 +170,20 @@ public class DeliveryQueryService {
         }
 
         // 2. agentId별 그룹화
-        Map<String, List<FinalMileDelivery>> groupedByAgent = deliveries.stream()
-                .collect(Collectors.groupingBy(FinalMileDelivery::getAgentId));
+        Map<String, List<TodayDeliveryProjection>> groupedByAgent = deliveries.stream()
+                .collect(Collectors.groupingBy(TodayDeliveryProjection::agentId));
 
         // 3. DTO 변환
         List<AgentDeliveryGroupDto> agentGroups = groupedByAgent.entrySet().stream()
                 .map(entry -> {
                     String agentId = entry.getKey();
-                    List<FinalMileDelivery> agentDeliveries = entry.getValue();
+                    List<TodayDeliveryProjection> agentDeliveries = entry.getValue();
 
                     // 첫 번째 배송에서 담당자 이름 추출 (동일 담당자이므로)
-                    String agentName = agentDeliveries.isEmpty() ? null : agentDeliveries.get(0).getAgentName();
+                    String agentName = agentDeliveries.isEmpty() ? null : agentDeliveries.get(0).agentName();
 
                     List<AgentDeliveryGroupDto.DeliveryItemDto> items = agentDeliveries.stream()
-                            .map(this::mapToDeliveryItem)
+                            .map(AgentDeliveryGroupDto.DeliveryItemDto::from)
                             .collect(Collectors.toList());
 
                     return AgentDeliveryGroupDto.builder()
@@ -113,21 +203,4 @@ public class DeliveryQueryService {
                 .agentGroups(agentGroups)
                 .build();
     }
-
-    /**
-     * FinalMileDelivery → DeliveryItemDto 변환
-     */
-    private AgentDeliveryGroupDto.DeliveryItemDto mapToDeliveryItem(FinalMileDelivery delivery) {
-        return AgentDeliveryGroupDto.DeliveryItemDto.builder()
-                .finalMileId(delivery.getFinalMileId())
-                .orderId(delivery.getOrderId())
-                .deliveryAddress(delivery.getDeliveryAddress())
-                .recipientName(delivery.getRecipientName())
-                .recipientSlackId(delivery.getRecipientSlackId())
-                .currentStatus(delivery.getCurrentStatus().name())
-                .expectedTime(delivery.getExpectedTime() != null
-                        ? delivery.getExpectedTime().toString()
-                        : null)
-                .build();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재배정 대기열 (인메모리)
+ * - 드라이버 서비스 호출이 차단(서킷 오픈, 벌크헤드 초과)되어 PENDING으로 되돌린 배송 ID 보관
+ * - DriverReassignmentScheduler가 서킷이 닫히면 일괄 배정으로 다시 시도
+ * - 인스턴스 재시작 시 유실되어도 배송은 PENDING이므로 다음 허브 웨이브에서 배정됨
+ */
+@Slf4j
+@Component
+public class DriverReassignmentQueue {
+
+    private final Set<String> finalMileIds = ConcurrentHashMap.newKeySet();
+    private final int capacity;
+
+    public DriverReassignmentQueue(
+            MeterRegistry meterRegistry,
+            @Value("${delivery.assignment.reassign-queue-capacity:10000}") int capacity
+    ) {
+        this.capacity = capacity;
+        Gauge.builder("delivery.assignment.reassign_queue.size", finalMileIds, Set::size)
+                .description("드라이버 서비스 차단으로 재배정을 기다리는 배송 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재배정 대상 등록 (용량 초과분은 허브 웨이브에 맡김)
+     */
+    public void addAll(Collection<String> ids) {
+        for (String id : ids) {
+            if (finalMileIds.size() >= capacity) {
+                log.warn("재배정 대기열 용량 초과, 등록 생략 - 남은 건수: {}", ids.size());
+                return;
+            }
+            finalMileIds.add(id);
+        }
+    }
+
+    /**
+     * 최대 max건 꺼내기
+     */
+    public List<String> drain(int max) {
+        List<String> drained = new ArrayList<>(Math.min(max, finalMileIds.size()));
+        Iterator<String> iterator = finalMileIds.iterator();
+        while (iterator.hasNext() && drained.size() < max) {
+            String id = iterator.next();
+            if (finalMileIds.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        return finalMileIds.isEmpty();
+    }
+}
@@ -2,14 +2,19 @@ package com.early_express.delivery_service.delivery.application.service;
 
 import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
 import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryTransitions;
 import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
 import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
 import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryTransitionUpdater;
+import com.early_express.delivery_service.delivery.infrastructure.cache.DeliveryDetailCacheInvalidator;
 import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
 import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignRequest;
 import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignResponse;
-import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverCompleteRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.notification.DriverNotificationQueue;
 import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventPublisher;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.infrastructure.projection.DeliveryDetailProjection;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileCreateRequest;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileCreateResponse;
@@ -18,32 +23,91 @@ import com.early_express.delivery_service.delivery.presentation.rest.dto.Deliver
 import com.early_express.delivery_service.delivery.presentation.rest.dto.FinalMileDeliveryDetailResponse;
 import com.early_express.delivery_service.delivery.presentation.rest.dto.FinalMileDeliveryRequest;
 import com.early_express.delivery_service.global.common.utils.PageUtils;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
+import com.early_express.delivery_service.global.config.CacheConfig;
 import com.early_express.delivery_service.global.presentation.dto.PageResponse;
 import com.early_express.delivery_service.global.presentation.exception.DeliveryNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FinalMileDeliveryService {
 
+    // 상태 변경 API로 요청할 수 있는 상태 (PENDING/ASSIGNING/ASSIGNED는 배정 흐름 전용)
+    private static final Set<FinalMileDeliveryStatus> STATUS_UPDATE_TARGETS = EnumSet.of(
+            FinalMileDeliveryStatus.PICKED_UP,
+            FinalMileDeliveryStatus.ON_THE_WAY,
+            FinalMileDeliveryStatus.DELIVERED,
+            FinalMileDeliveryStatus.FAILED,
+            FinalMileDeliveryStatus.CANCELED
+    );
+
     private final FinalMileDeliveryRepository finalMileDeliveryRepository;
 
+    // 출발/완료/취소 조건부 UPDATE (PostgreSQL RETURNING, 적용되지 않으면 엔티티 경로로 처리)
+    private final FinalMileDeliveryTransitionUpdater transitionUpdater;
+
     // [추가] Last Mile Driver Service 클라이언트
     private final LastMileDriverClient lastMileDriverClient;
 
+    // 완료/취소 통지 작업 큐 (커밋 후 DriverNotificationDispatcher가 재시도하며 전송)
+    private final DriverNotificationQueue driverNotificationQueue;
+
+    // 드라이버 서비스 차단 시 PENDING으로 되돌린 배송의 재배정 대기열
+    private final DriverReassignmentQueue driverReassignmentQueue;
+
     // [추가] 이벤트 발행기
     private final LastMileEventPublisher eventPublisher;
 
+    // [추가] 담당자 배정 단계별 트랜잭션 경계
+    private final TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    // 전이 카운터, 주요 처리 시간 (delivery.lifecycle.transition, delivery.operation)
+    private final DeliveryMetrics deliveryMetrics;
+
+    private final DeliveryDetailCacheInvalidator deliveryDetailCacheInvalidator;
+
+    // 전이 후처리 (이벤트, 드라이버 통지), 시각 기록 등 도메인 후처리는 FinalMileDelivery.transitionTo
+    private final Map<FinalMileDeliveryStatus, Consumer<FinalMileDelivery>> transitionHooks = createTransitionHooks();
+
+    @Value("${delivery.state-transition.conflict-max-attempts:3}")
+    private int conflictMaxAttempts;
+
+    @Value("${delivery.state-transition.conflict-backoff-ms:20}")
+    private long conflictBackoffMs;
+
     // ==================== 기존 External API (배송 담당자 직접 호출) ====================
 
     /**
@@ -81,75 +145,65 @@ public class FinalMileDeliveryService {
 //
 //    }
 
+    /**
+     * 배송 상세 조회
+     * - 결과는 deliveryDetail 캐시에 보관, 변경 시 DeliveryDetailCacheInvalidator가 커밋 이후 제거
+     * - 캐시 키는 UUID 표준 문자열, UUID가 아닌 ID는 캐시하지 않음
+     */
+    @Cacheable(cacheNames = CacheConfig.DELIVERY_DETAIL,
+            key = "T(com.early_express.delivery_service.delivery.infrastructure.cache.DeliveryDetailCacheInvalidator).cacheKeyOf(#finalMileId)",
+            condition = "T(com.early_express.delivery_service.global.common.utils.UuidUtils).isValid(#finalMileId)")
     public FinalMileDeliveryDetailResponse getDeliveryDetail(String finalMileId) {
-        FinalMileDelivery delivery = finalMileDeliveryRepository.findById(finalMileId)
+        // 엔티티 대신 상세 프로젝션 조회 (영속성 컨텍스트 미등록)
+        DeliveryDetailProjection delivery = UuidUtils.parse(finalMileId)
+                .flatMap(finalMileDeliveryRepository::findDetailById)
                 .orElseThrow(() -> new DeliveryNotFoundException("FinalMileId: " + finalMileId + " 배송 정보를 찾을 수 없습니다."));
 
         return new FinalMileDeliveryDetailResponse(
-                delivery.getFinalMileId(),
-                delivery.getOrderId(),
-                delivery.getAgentId(),
-                delivery.getCurrentStatus(),
-                delivery.getDeliveryAddress(),
-                delivery.getRecipientName(),
-                delivery.getRecipientSlackId(),
-                delivery.getStartedAt(),
-                delivery.getExpectedTime(),
-                delivery.getDeliveredAt()
+                delivery.finalMileId().toString(),
+                delivery.orderId(),
+                delivery.agentId(),
+                delivery.currentStatus(),
+                delivery.deliveryAddress(),
+                delivery.recipientName(),
+                delivery.recipientSlackId(),
+                delivery.startedAt(),
+                delivery.expectedTime(),
+                delivery.deliveredAt()
         );
     }
 
     /**
      * 배송 상태를 변경합니다.
-     * 엔티티의 도메인 메소드 (예: delivered(), onDelivery())를 호출하여 비즈니스 규칙을 적용합니다.
+     * 전이 가능 여부는 FinalMileDeliveryTransitions 행렬, 전이 후처리는 transitionHooks로 적용합니다.
+     * - 다른 요청과 버전 충돌 시 최신 상태로 다시 적용 (retryOnConflict)
      * * @param finalMileId 상태를 변경할 배송 건 ID
      * @param req 변경할 새로운 상태 정보
      */
-    @Transactional
     public void updateDeliveryStatus(String finalMileId, DeliveryStatusUpdateRequest req) {
+        deliveryMetrics.timedRun("updateDeliveryStatus",
+                () -> retryOnConflict(finalMileId, "updateStatus", () -> applyStatusUpdate(finalMileId, req)));
+    }
+
+    private void applyStatusUpdate(String finalMileId, DeliveryStatusUpdateRequest req) {
+        FinalMileDeliveryStatus newStatus = req.newStatus();
+        if (!STATUS_UPDATE_TARGETS.contains(newStatus)) {
+            throw new IllegalStateException("지원하지 않는 상태 변경 요청입니다: " + newStatus);
+        }
+
+        // 0. 출발/완료/취소는 조건부 UPDATE 한 번으로 처리 (적용되지 않으면 아래 엔티티 경로에서 검증/오류 처리)
+        if (applyFastTransition(finalMileId, newStatus)) {
+            return;
+        }
 
         // 1. 엔티티 조회 (영속성 컨텍스트에 로드)
-        FinalMileDelivery delivery = finalMileDeliveryRepository.findById(finalMileId)
+        FinalMileDelivery delivery = findDelivery(finalMileId)
                 .orElseThrow(() -> new DeliveryNotFoundException(
                         "FinalMileId: " + finalMileId + " 에 해당하는 배송 정보를 찾을 수 없습니다.")
                 );
 
-        // 2. 요청된 상태에 따라 해당 도메인 메소드 호출
-        FinalMileDeliveryStatus newStatus = req.newStatus();
-
-        switch (newStatus) {
-            case ON_THE_WAY:
-                // ON_THE_WAY은 픽업 이후에만 가능하므로 엔티티 내부에서 검증됩니다.
-                delivery.onDelivery();
-                break;
-            case DELIVERED:
-                // 배송 완료 처리. delivered() 메소드가 deliveredAt을 현재 시간으로 설정합니다.
-                delivery.delivered();
-
-                // [추가] 드라이버에게 완료 통지
-                notifyDriverCompletion(delivery);
-
-                // [추가] LastMileCompletedEvent 발행
-                eventPublisher.publishCompletedEvent(delivery);
-                break;
-            case FAILED:
-                // 배송 실패 처리 (수령인 부재 등)
-                delivery.deliveryFailed();
-                break;
-            case CANCELED:
-                // 배송 취소 처리
-                delivery.deliveryCancelled();
-                break;
-            case PICKED_UP:
-                // 이미 PICKED_UP 상태로 등록되었으므로,
-                // 재차 이 상태로 변경하려면 별도의 비즈니스 로직이 필요하거나, 무시합니다.
-                if (delivery.getCurrentStatus() != FinalMileDeliveryStatus.PICKED_UP) {
-                    delivery.pickedUp(LocalDateTime.now());
-                }
-                break;
-            default:
-                throw new IllegalStateException("지원하지 않는 상태 변경 요청입니다: " + newStatus);
-        }
+        // 2. 전이 + 후처리 (PICKED_UP/ON_THE_WAY 재요청은 변경 없음)
+        transition(delivery, newStatus, LocalDateTime.now());
 
         // 3. 트랜잭션 종료 시, Dirty Checking(변경 감지)에 의해 DB에 자동으로 반영됩니다.
     }
@@ -160,7 +214,7 @@ public class FinalMileDeliveryService {
     @Transactional
     public void softDeleteDelivery(String finalMileId, String deletedBy) {
 
-        FinalMileDelivery delivery = finalMileDeliveryRepository.findById(finalMileId)
+        FinalMileDelivery delivery = findDelivery(finalMileId)
                 .orElseThrow(() -> new DeliveryNotFoundException("FinalMileId: " + finalMileId + " 배송 정보를 찾을 수 없습니다."));
 
         // 💡 1. 엔티티의 Soft Delete 도메인 메소드 호출
@@ -175,11 +229,16 @@ public class FinalMileDeliveryService {
      * [추가] 최종 배송 생성 (Order Service에서 호출)
      * - 담당자 미배정 상태 (PENDING)
      *
+     * - 처리 시간은 트랜잭션 밖에서 측정 (커밋 시간과 커밋 시 실패까지 outcome에 반영)
+     *
      * @param request 생성 요청 정보
      * @return 생성된 배송 정보
      */
-    @Transactional
     public LastMileCreateResponse createDelivery(LastMileCreateRequest request) {
+        return deliveryMetrics.timed("createDelivery", () -> transactionTemplate.execute(status -> create(request)));
+    }
+
+    private LastMileCreateResponse create(LastMileCreateRequest request) {
         log.info("최종 배송 생성 요청 - orderId: {}, hubId: {}",
                 request.getOrderId(), request.getHubId());
 
@@ -201,8 +260,19 @@ public class FinalMileDeliveryService {
                 request.getExpectedTime()
         );
 
-        FinalMileDelivery savedDelivery = finalMileDeliveryRepository.save(delivery);
+        // 동시 요청으로 중복 체크를 통과한 경우 UNIQUE 부분 인덱스(uk_final_mile_order_id_active)가 차단
+        FinalMileDelivery savedDelivery;
+        try {
+            savedDelivery = finalMileDeliveryRepository.saveAndFlush(delivery);
+        } catch (DataIntegrityViolationException e) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.DELIVERY_ALREADY_EXISTS,
+                    "주문 ID: " + request.getOrderId(),
+                    e
+            );
+        }
 
+        deliveryMetrics.recordTransition(savedDelivery.getHubId(), null, savedDelivery.getCurrentStatus());
         log.info("최종 배송 생성 완료 - finalMileId: {}, orderId: {}, status: {}",
                 savedDelivery.getFinalMileId(), savedDelivery.getOrderId(), savedDelivery.getCurrentStatus());
 
@@ -212,18 +282,173 @@ public class FinalMileDeliveryService {
     /**
      * [추가] 배송 담당자 배정 (Track Service에서 호출)
      * - Last Mile Driver Service에 드라이버 배정 요청
-     * - PENDING → ASSIGNED → PICKED_UP → ON_THE_WAY 자동 진행
+     * - PENDING → ASSIGNING → ASSIGNED → PICKED_UP → ON_THE_WAY 자동 진행
      * - LastMileDepartedEvent 발행
      *
+     * 드라이버 서비스 호출 동안 DB 커넥션을 점유하지 않도록 3단계로 나누어 처리
+     * 1. 예약: 짧은 트랜잭션에서 PENDING → ASSIGNING (조건부 UPDATE로 중복 배정 차단)
+     * 2. 원격 호출: 트랜잭션 밖에서 드라이버 배정 요청
+     * 3. 확정: 짧은 트랜잭션에서 배정/출발 처리 및 이벤트 저장
+     * - 2단계 실패 시 예약 해제, 3단계 실패 시 드라이버 배정 취소 + 예약 해제 (보상)
+     * - 드라이버 서비스 호출이 차단되면 PENDING으로 두고 재배정 대기열에 등록
+     *
      * @param finalMileId 배송 ID
      * @return 배정 결과
      */
-    @Transactional
     public LastMileAssignDriverResponse assignDriver(String finalMileId) {
+        return deliveryMetrics.timed("assignDriver", () -> assign(finalMileId));
+    }
+
+    private LastMileAssignDriverResponse assign(String finalMileId) {
         log.info("배송 담당자 배정 요청 - finalMileId: {}", finalMileId);
 
-        // 배송 조회
-        FinalMileDelivery delivery = finalMileDeliveryRepository.findById(finalMileId)
+        // 1. 배정 예약 (PENDING → ASSIGNING)
+        String hubId = recordAssignPhase("reserve",
+                () -> transactionTemplate.execute(status -> reserveForAssignment(finalMileId)));
+
+        // 2. Last Mile Driver Service에 드라이버 배정 요청 (커넥션 미점유)
+        DriverAssignResponse driverResponse;
+        try {
+            driverResponse = recordAssignPhase("remote", () -> requestDriverAssignment(hubId, finalMileId));
+        } catch (RuntimeException e) {
+            releaseReservation(hubId, finalMileId);
+            // 서킷 오픈/벌크헤드 초과로 호출하지 못한 경우 서킷이 닫히면 다시 배정
+            if (e instanceof DeliveryException de && de.getErrorCode() == DeliveryErrorCode.EXTERNAL_SERVICE_REJECTED) {
+                driverReassignmentQueue.addAll(List.of(finalMileId));
+            }
+            throw e;
+        }
+
+        // 3. 배정 확정 (ASSIGNING → ASSIGNED → PICKED_UP → ON_THE_WAY)
+        try {
+            return recordAssignPhase("commit",
+                    () -> transactionTemplate.execute(status -> confirmAssignment(finalMileId, driverResponse)));
+        } catch (RuntimeException e) {
+            log.error("배송 담당자 배정 확정 실패, 보상 처리 - finalMileId: {}, driverId: {}, error: {}",
+                    finalMileId, driverResponse.getDriverId(), e.getMessage());
+            compensateDriverAssignment(hubId, finalMileId, driverResponse);
+            // 확정 도중 취소 등이 먼저 커밋됨 → 배정은 되돌리고 409 응답 (재시도하지 않음)
+            if (isVersionConflict(e)) {
+                countConflict("assignDriver", "rejected");
+                throw new DeliveryException(DeliveryErrorCode.CONCURRENT_MODIFICATION, "배송 ID: " + finalMileId, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * [추가] 배송 취소 (Order/Track Service에서 호출)
+     * - 다른 요청과 버전 충돌 시 최신 상태로 다시 적용 (retryOnConflict)
+     *
+     * @param finalMileId 배송 ID
+     */
+    public void cancelDelivery(String finalMileId) {
+        log.info("배송 취소 요청 - finalMileId: {}", finalMileId);
+
+        deliveryMetrics.timedRun("cancelDelivery",
+                () -> retryOnConflict(finalMileId, "cancel", () -> applyCancellation(finalMileId)));
+
+        log.info("배송 취소 완료 - finalMileId: {}", finalMileId);
+    }
+
+    private void applyCancellation(String finalMileId) {
+        // 취소 가능 상태면 조건부 UPDATE 한 번으로 처리
+        if (applyFastTransition(finalMileId, FinalMileDeliveryStatus.CANCELED)) {
+            return;
+        }
+
+        FinalMileDelivery delivery = findDelivery(finalMileId)
+                .orElseThrow(() -> new DeliveryException(
+                        DeliveryErrorCode.DELIVERY_NOT_FOUND,
+                        "배송 ID: " + finalMileId
+                ));
+
+        // 이미 완료된 배송은 취소 불가
+        if (delivery.getCurrentStatus() == FinalMileDeliveryStatus.DELIVERED) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.DELIVERY_ALREADY_COMPLETED,
+                    "배송 ID: " + finalMileId
+            );
+        }
+
+        // 이미 취소된 배송
+        if (delivery.getCurrentStatus() == FinalMileDeliveryStatus.CANCELED) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.DELIVERY_ALREADY_CANCELED,
+                    "배송 ID: " + finalMileId
+            );
+        }
+
+        // 배송 취소 + 드라이버 취소 통지 (transitionHooks)
+        transition(delivery, FinalMileDeliveryStatus.CANCELED, LocalDateTime.now());
+        finalMileDeliveryRepository.save(delivery);
+    }
+
+    /**
+     * 배송 일괄 취소 (Kafka 취소 커맨드 배치, LastMileCommandService)
+     * - 호출한 쪽 트랜잭션에 참여: 배송 ID / 주문 ID IN 조회 + 변경 감지 UPDATE (커밋 시 JDBC 배치로 전송)
+     * - 이미 취소된 배송, 취소할 수 없는 상태(완료 등), 없는 배송은 건너뜀 (커맨드 재전송에도 멱등)
+     * - 드라이버 취소 통지는 단건 취소와 같은 transitionHooks
+     * - 버전 충돌은 트랜잭션 전체 롤백 (커맨드 배치 재시도로 처리)
+     *
+     * @param finalMileIds 배송 ID 목록
+     * @param orderIds     주문 ID 목록 (배송 ID를 모르는 Order Service 취소)
+     * @return 취소된 건수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int cancelDeliveries(Collection<String> finalMileIds, Collection<String> orderIds) {
+        Map<UUID, FinalMileDelivery> targets = new LinkedHashMap<>();
+        List<UUID> ids = finalMileIds.stream()
+                .map(UuidUtils::parse)
+                .flatMap(Optional::stream)
+                .toList();
+        if (!ids.isEmpty()) {
+            finalMileDeliveryRepository.findAllById(ids).forEach(delivery -> targets.put(delivery.getId(), delivery));
+        }
+        if (!orderIds.isEmpty()) {
+            finalMileDeliveryRepository.findAllByOrderIdIn(orderIds).forEach(delivery -> targets.put(delivery.getId(), delivery));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int canceled = 0;
+        for (FinalMileDelivery delivery : targets.values()) {
+            if (!FinalMileDeliveryTransitions.isAllowed(delivery.getCurrentStatus(), FinalMileDeliveryStatus.CANCELED)) {
+                log.debug("일괄 취소 제외 - finalMileId: {}, status: {}", delivery.getFinalMileId(), delivery.getCurrentStatus());
+                continue;
+            }
+            transition(delivery, FinalMileDeliveryStatus.CANCELED, now);
+            canceled++;
+        }
+
+        log.info("배송 일괄 취소 - 요청: {}, 조회: {}, 취소: {}",
+                finalMileIds.size() + orderIds.size(), targets.size(), canceled);
+        return canceled;
+    }
+
+    /**
+     * [추가] orderId로 배송 조회
+     *
+     * @param orderId 주문 ID
+     * @return 배송 정보
+     */
+    @Transactional(readOnly = true)
+    public FinalMileDelivery findByOrderId(String orderId) {
+        return finalMileDeliveryRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new DeliveryException(
+                        DeliveryErrorCode.DELIVERY_NOT_FOUND,
+                        "주문 ID: " + orderId
+                ));
+    }
+
+    // ==================== [추가] Private Helper Methods ====================
+
+    /**
+     * 배정 1단계: 배정 예약
+     *
+     * @return 배송의 허브 ID
+     */
+    private String reserveForAssignment(String finalMileId) {
+        FinalMileDelivery delivery = findDelivery(finalMileId)
                 .orElseThrow(() -> new DeliveryException(
                         DeliveryErrorCode.DELIVERY_NOT_FOUND,
                         "배송 ID: " + finalMileId
@@ -237,14 +462,53 @@ public class FinalMileDeliveryService {
             );
         }
 
-        // Last Mile Driver Service에 드라이버 배정 요청
-        DriverAssignResponse driverResponse;
+        if (delivery.getCurrentStatus() == FinalMileDeliveryStatus.ASSIGNING) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.DRIVER_ASSIGN_IN_PROGRESS,
+                    "배송 ID: " + finalMileId
+            );
+        }
+
+        if (!delivery.getCurrentStatus().canAssignDriver()) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.INVALID_STATUS_TRANSITION,
+                    "배송 ID: " + finalMileId + ", 현재 상태: " + delivery.getCurrentStatus()
+            );
+        }
+
+        int reserved = finalMileDeliveryRepository.updateStatusIfCurrent(
+                delivery.getId(),
+                FinalMileDeliveryStatus.PENDING,
+                FinalMileDeliveryStatus.ASSIGNING,
+                LocalDateTime.now()
+        );
+        if (reserved == 0) {
+            // 조회 이후 다른 요청이 먼저 예약함
+            throw new DeliveryException(
+                    DeliveryErrorCode.DRIVER_ASSIGN_IN_PROGRESS,
+                    "배송 ID: " + finalMileId
+            );
+        }
+
+        // JPQL UPDATE는 엔티티 변경 이벤트가 없으므로 직접 캐시 무효화
+        deliveryDetailCacheInvalidator.evictAfterCommit(List.of(delivery.getFinalMileId()));
+        deliveryMetrics.recordTransition(delivery.getHubId(),
+                FinalMileDeliveryStatus.PENDING, FinalMileDeliveryStatus.ASSIGNING);
+
+        return delivery.getHubId();
+    }
+
+    /**
+     * 배정 2단계: 드라이버 서비스 호출
+     */
+    private DriverAssignResponse requestDriverAssignment(String hubId, String finalMileId) {
         try {
-            driverResponse = lastMileDriverClient.assignDriver(
-                    DriverAssignRequest.of(delivery.getHubId(), finalMileId)
+            DriverAssignResponse driverResponse = lastMileDriverClient.assignDriver(
+                    DriverAssignRequest.of(hubId, finalMileId)
             );
             log.info("드라이버 배정 성공 - driverId: {}, driverName: {}",
                     driverResponse.getDriverId(), driverResponse.getDriverName());
+            return driverResponse;
         } catch (DeliveryException e) {
             throw e;  // 이미 DeliveryException이면 그대로 전파
         } catch (Exception e) {
@@ -255,22 +519,39 @@ public class FinalMileDeliveryService {
                     e
             );
         }
+    }
 
-        // 담당자 배정 (PENDING → ASSIGNED)
-        delivery.assignAgent(driverResponse.getDriverId(), driverResponse.getDriverName());
+    /**
+     * 배정 3단계: 배정 확정 및 출발 처리
+     */
+    private LastMileAssignDriverResponse confirmAssignment(String finalMileId, DriverAssignResponse driverResponse) {
+        FinalMileDelivery delivery = findDelivery(finalMileId)
+                .orElseThrow(() -> new DeliveryException(
+                        DeliveryErrorCode.DELIVERY_NOT_FOUND,
+                        "배송 ID: " + finalMileId
+                ));
+
+        // 원격 호출 동안 취소 등으로 상태가 바뀐 경우
+        if (!delivery.getCurrentStatus().canConfirmAssignment()) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.INVALID_STATUS_TRANSITION,
+                    "배송 ID: " + finalMileId + ", 현재 상태: " + delivery.getCurrentStatus()
+            );
+        }
 
-        // 픽업 처리 (ASSIGNED → PICKED_UP)
-        delivery.pickedUp(LocalDateTime.now());
+        // 담당자 배정 (ASSIGNING → ASSIGNED)
+        FinalMileDeliveryStatus reserved = delivery.getCurrentStatus();
+        delivery.assignAgent(driverResponse.getDriverId(), driverResponse.getDriverName());
+        deliveryMetrics.recordTransition(delivery.getHubId(), reserved, delivery.getCurrentStatus());
 
-        // 출발 처리 (PICKED_UP → ON_THE_WAY)
-        delivery.onDelivery();
+        // 픽업 → 출발 처리 (ASSIGNED → PICKED_UP → ON_THE_WAY, 출발 시 LastMileDepartedEvent 발행)
+        LocalDateTime now = LocalDateTime.now();
+        transition(delivery, FinalMileDeliveryStatus.PICKED_UP, now);
+        transition(delivery, FinalMileDeliveryStatus.ON_THE_WAY, now);
 
         // 저장
         finalMileDeliveryRepository.save(delivery);
 
-        // LastMileDepartedEvent 발행
-        eventPublisher.publishDepartedEvent(delivery);
-
         log.info("배송 담당자 배정 및 출발 완료 - finalMileId: {}, driverId: {}, status: {}",
                 finalMileId, driverResponse.getDriverId(), delivery.getCurrentStatus());
 
@@ -278,90 +559,232 @@ public class FinalMileDeliveryService {
     }
 
     /**
-     * [추가] 배송 취소 (Order/Track Service에서 호출)
-     *
-     * @param finalMileId 배송 ID
+     * 배정 예약 해제 (ASSIGNING → PENDING)
      */
-    @Transactional
-    public void cancelDelivery(String finalMileId) {
-        log.info("배송 취소 요청 - finalMileId: {}", finalMileId);
+    private void releaseReservation(String hubId, String finalMileId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UUID id = UUID.fromString(finalMileId);
+                int released = finalMileDeliveryRepository.updateStatusIfCurrent(
+                        id,
+                        FinalMileDeliveryStatus.ASSIGNING,
+                        FinalMileDeliveryStatus.PENDING,
+                        LocalDateTime.now()
+                );
+                // 캐시 키는 표준 UUID 문자열 (요청 경로의 대소문자와 무관)
+                deliveryDetailCacheInvalidator.evictAfterCommit(List.of(id.toString()));
+                deliveryMetrics.recordTransitions(hubId,
+                        FinalMileDeliveryStatus.ASSIGNING, FinalMileDeliveryStatus.PENDING, released);
+            });
+        } catch (Exception e) {
+            // 남은 예약은 AssignmentReservationSweeper가 정리
+            log.error("배정 예약 해제 실패 - finalMileId: {}, error: {}", finalMileId, e.getMessage());
+        }
+    }
 
-        FinalMileDelivery delivery = finalMileDeliveryRepository.findById(finalMileId)
-                .orElseThrow(() -> new DeliveryException(
-                        DeliveryErrorCode.DELIVERY_NOT_FOUND,
-                        "배송 ID: " + finalMileId
-                ));
+    /**
+     * 배정 확정 실패 보상
+     * - 드라이버 서비스의 배정을 취소하고 예약 해제
+     */
+    private void compensateDriverAssignment(String hubId, String finalMileId, DriverAssignResponse driverResponse) {
+        try {
+            lastMileDriverClient.cancelDelivery(driverResponse.getDriverId());
+            log.info("드라이버 배정 보상 취소 성공 - finalMileId: {}, driverId: {}",
+                    finalMileId, driverResponse.getDriverId());
+        } catch (Exception e) {
+            log.warn("드라이버 배정 보상 취소 실패, 재시도 등록 - finalMileId: {}, driverId: {}, error: {}",
+                    finalMileId, driverResponse.getDriverId(), e.getMessage());
+            enqueueCancellationRetry(driverResponse.getDriverId(), finalMileId);
+        }
+        releaseReservation(hubId, finalMileId);
+    }
 
-        // 이미 완료된 배송은 취소 불가
-        if (delivery.getCurrentStatus() == FinalMileDeliveryStatus.DELIVERED) {
-            throw new DeliveryException(
-                    DeliveryErrorCode.DELIVERY_ALREADY_COMPLETED,
-                    "배송 ID: " + finalMileId
-            );
+    /**
+     * 보상 취소 실패 건을 통지 큐에 등록 (등록까지 실패하면 로그만 남김)
+     */
+    private void enqueueCancellationRetry(String driverId, String finalMileId) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> driverNotificationQueue.enqueueCancellation(driverId, finalMileId));
+        } catch (Exception e) {
+            log.error("드라이버 취소 통지 등록 실패 - finalMileId: {}, driverId: {}, error: {}",
+                    finalMileId, driverId, e.getMessage());
         }
+    }
 
-        // 이미 취소된 배송
-        if (delivery.getCurrentStatus() == FinalMileDeliveryStatus.CANCELED) {
-            throw new DeliveryException(
-                    DeliveryErrorCode.DELIVERY_ALREADY_CANCELED,
-                    "배송 ID: " + finalMileId
-            );
+    /**
+     * 출발/완료/취소 조건부 UPDATE
+     * - RETURNING으로 받은 배송으로 엔티티 경로와 같은 전이 후처리 실행
+     *
+     * @return 적용 여부 (false면 엔티티 경로로 처리)
+     */
+    private boolean applyFastTransition(String finalMileId, FinalMileDeliveryStatus newStatus) {
+        Optional<FinalMileDelivery> updated = switch (newStatus) {
+            case ON_THE_WAY -> transitionUpdater.depart(finalMileId);
+            case DELIVERED -> transitionUpdater.complete(finalMileId);
+            case CANCELED -> transitionUpdater.cancel(finalMileId);
+            default -> Optional.empty();
+        };
+        if (updated.isEmpty()) {
+            return false;
         }
+        deliveryMetrics.recordFastTransition(updated.get().getHubId(), newStatus);
+        runTransitionHook(newStatus, updated.get());
+        return true;
+    }
 
-        // 드라이버에게 취소 통지 (배정된 경우에만)
-        if (delivery.hasAgent()) {
+    /**
+     * 엔티티 전이 + 후처리 (멱등 재요청이면 후처리 없음)
+     */
+    private void transition(FinalMileDelivery delivery, FinalMileDeliveryStatus to, LocalDateTime now) {
+        FinalMileDeliveryStatus from = delivery.getCurrentStatus();
+        if (delivery.transitionTo(to, now)) {
+            deliveryMetrics.recordTransition(delivery.getHubId(), from, to);
+            runTransitionHook(to, delivery);
+        }
+    }
+
+    private void runTransitionHook(FinalMileDeliveryStatus to, FinalMileDelivery delivery) {
+        Consumer<FinalMileDelivery> hook = transitionHooks.get(to);
+        if (hook != null) {
+            hook.accept(delivery);
+        }
+    }
+
+    /**
+     * 상태별 전이 후처리 (진입 상태 기준, 생성 시 한 번만 만들어 재사용)
+     * - ON_THE_WAY: LastMileDepartedEvent 발행
+     * - DELIVERED: 드라이버 완료 통지 + LastMileCompletedEvent 발행
+     * - CANCELED: 드라이버 취소 통지 (배정된 경우에만, 커밋 후 DriverNotificationDispatcher가 전송)
+     * - 일괄 배정(BulkDriverAssignmentService)은 출발 이벤트를 묶어서 발행하므로 사용하지 않음
+     */
+    private Map<FinalMileDeliveryStatus, Consumer<FinalMileDelivery>> createTransitionHooks() {
+        Map<FinalMileDeliveryStatus, Consumer<FinalMileDelivery>> hooks = new EnumMap<>(FinalMileDeliveryStatus.class);
+        // 필드 초기화 시점에는 생성자 주입 전이므로 메서드 참조(eventPublisher::...) 대신 람다로 호출 시점에 참조
+        hooks.put(FinalMileDeliveryStatus.ON_THE_WAY, delivery -> eventPublisher.publishDepartedEvent(delivery));
+        hooks.put(FinalMileDeliveryStatus.DELIVERED, delivery -> {
+            notifyDriverCompletion(delivery);
+            eventPublisher.publishCompletedEvent(delivery);
+        });
+        hooks.put(FinalMileDeliveryStatus.CANCELED, delivery -> {
+            if (delivery.hasAgent()) {
+                driverNotificationQueue.enqueueCancellation(delivery.getAgentId(), delivery.getFinalMileId());
+            }
+        });
+        return hooks;
+    }
+
+    /**
+     * 문자열 배송 ID(API 경로 변수 등)로 조회, UUID 형식이 아니면 empty
+     */
+    private Optional<FinalMileDelivery> findDelivery(String finalMileId) {
+        return UuidUtils.parse(finalMileId).flatMap(finalMileDeliveryRepository::findById);
+    }
+
+    /**
+     * 상태 변경 낙관적 잠금 충돌 처리
+     * - 매 시도마다 새 트랜잭션에서 최신 상태를 다시 읽고 같은 전이를 적용
+     * - 최신 상태에서도 허용되는 전이(예: 출발 처리와 겹친 실패 처리)는 그대로 성공
+     * - 먼저 커밋된 변경 때문에 더 이상 허용되지 않는 전이(예: 완료와 겹친 취소)는 409로 거절
+     * - conflict-max-attempts 안에 충돌이 계속되면 409
+     * - 호출한 쪽에 이미 트랜잭션이 있으면 그 트랜잭션에 참여하므로 재시도가 의미 없음 (컨트롤러에서 직접 호출)
+     */
+    private void retryOnConflict(String finalMileId, String operation, Runnable transition) {
+        for (int attempt = 1; ; attempt++) {
             try {
-                lastMileDriverClient.cancelDelivery(delivery.getAgentId());
-                log.info("드라이버 취소 통지 성공 - driverId: {}", delivery.getAgentId());
-            } catch (Exception e) {
-                log.warn("드라이버 취소 통지 실패 - driverId: {}, error: {}",
-                        delivery.getAgentId(), e.getMessage());
-                // 취소 통지 실패해도 배송 취소는 진행
+                transactionTemplate.executeWithoutResult(status -> transition.run());
+                if (attempt > 1) {
+                    countConflict(operation, "retried");
+                }
+                return;
+            } catch (RuntimeException e) {
+                if (isVersionConflict(e)) {
+                    if (attempt >= conflictMaxAttempts) {
+                        countConflict(operation, "exhausted");
+                        throw new DeliveryException(DeliveryErrorCode.CONCURRENT_MODIFICATION,
+                                "배송 ID: " + finalMileId + ", 시도: " + attempt, e);
+                    }
+                    log.debug("배송 상태 변경 충돌, 재시도 - finalMileId: {}, operation: {}, attempt: {}",
+                            finalMileId, operation, attempt);
+                    pauseBeforeRetry();
+                    continue;
+                }
+                // 충돌 후 다시 읽은 상태에서 전이가 거절됨 → 다른 요청의 변경과 양립할 수 없음
+                if (attempt > 1 && isTransitionRejected(e)) {
+                    countConflict(operation, "rejected");
+                    throw new DeliveryException(DeliveryErrorCode.CONCURRENT_MODIFICATION,
+                            "배송 ID: " + finalMileId + ", " + e.getMessage(), e);
+                }
+                throw e;
             }
         }
+    }
 
-        // 배송 취소
-        delivery.deliveryCancelled();
-        finalMileDeliveryRepository.save(delivery);
+    private static boolean isVersionConflict(Throwable e) {
+        // 커밋 시점 flush 실패는 트랜잭션 예외로 감싸져 올 수 있으므로 원인까지 확인
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException || cause instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        log.info("배송 취소 완료 - finalMileId: {}", finalMileId);
+    private static boolean isTransitionRejected(RuntimeException e) {
+        if (e instanceof IllegalStateException) {
+            return true;  // 엔티티 도메인 메서드의 상태 검증 실패
+        }
+        return e instanceof DeliveryException de
+                && (de.getErrorCode() == DeliveryErrorCode.INVALID_STATUS_TRANSITION
+                || de.getErrorCode() == DeliveryErrorCode.DELIVERY_ALREADY_COMPLETED
+                || de.getErrorCode() == DeliveryErrorCode.DELIVERY_ALREADY_CANCELED);
+    }
+
+    private void pauseBeforeRetry() {
+        if (conflictBackoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(conflictBackoffMs + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void countConflict(String operation, String outcome) {
+        meterRegistry.counter("delivery.state_transition.conflict",
+                "operation", operation, "outcome", outcome).increment();
     }
 
     /**
-     * [추가] orderId로 배송 조회
-     *
-     * @param orderId 주문 ID
-     * @return 배송 정보
+     * 배정 단계별 소요 시간 기록
+     * - reserve/commit: 트랜잭션(커넥션 점유) 시간
+     * - remote: 커넥션 없이 드라이버 서비스를 기다린 시간
      */
-    @Transactional(readOnly = true)
-    public FinalMileDelivery findByOrderId(String orderId) {
-        return finalMileDeliveryRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new DeliveryException(
-                        DeliveryErrorCode.DELIVERY_NOT_FOUND,
-                        "주문 ID: " + orderId
-                ));
+    private <T> T recordAssignPhase(String phase, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return action.get();
+        } finally {
+            sample.stop(Timer.builder("delivery.assign.phase")
+                    .description("담당자 배정 단계별 소요 시간")
+                    .tag("phase", phase)
+                    .tag("mode", "single")
+                    .register(meterRegistry));
+        }
     }
 
-    // ==================== [추가] Private Helper Methods ====================
-
     /**
      * [추가] 드라이버에게 완료 통지
+     * - 배송 완료와 같은 트랜잭션에서 통지 작업만 등록 (드라이버 서비스 응답을 기다리지 않음)
      */
     private void notifyDriverCompletion(FinalMileDelivery delivery) {
         if (delivery.hasAgent()) {
-            try {
-                Long deliveryTimeMin = calculateDeliveryTimeMin(delivery);
-                lastMileDriverClient.completeDelivery(
-                        delivery.getAgentId(),
-                        DriverCompleteRequest.of(deliveryTimeMin)
-                );
-                log.info("드라이버 완료 통지 성공 - driverId: {}, deliveryTimeMin: {}",
-                        delivery.getAgentId(), deliveryTimeMin);
-            } catch (Exception e) {
-                log.warn("드라이버 완료 통지 실패 - driverId: {}, error: {}",
-                        delivery.getAgentId(), e.getMessage());
-                // 통지 실패해도 배송 완료 처리는 진행
-            }
+            driverNotificationQueue.enqueueCompletion(
+                    delivery.getAgentId(),
+                    delivery.getFinalMileId(),
+                    calculateDeliveryTimeMin(delivery)
+            );
         }
     }
 
@@ -0,0 +1,367 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkAssignRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkAssignResponse;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 허브별 담당자 배정 디스패처 (단일 작성자)
+ *
+ * 드라이버 서비스는 허브마다 "우선순위가 가장 낮은 드라이버"를 고르므로 같은 허브 배정은 본질적으로 순차 작업
+ * - 허브 ID로 워커를 정하고, 워커 하나가 자기 큐만 처리 → 같은 허브 배정은 동시에 실행되지 않고 다른 허브끼리는 병렬
+ * - 워커는 쌓인 요청을 최대 batch-size건 꺼내 배송 지정분은 일괄 배정 한 번으로 처리 (한 건이면 단건 경로)
+ * - 워커 번호 = Kafka 기본 파티셔너와 같은 해시(murmur2)로 구한 커맨드 토픽 파티션 % 워커 수
+ *   → ASSIGN 커맨드를 허브 ID 키로 발행하면 한 허브는 클러스터에서 한 컨슈머(파티션 소유 노드)의 한 워커만 처리
+ * - REST 단건 배정은 어느 노드로든 들어올 수 있으므로 노드 간 경합은 기존 조건부 UPDATE/SKIP LOCKED로 막음
+ * - delivery.assignment.dispatch.enabled=false면 호출한 스레드에서 바로 처리 (이전 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubAssignmentDispatcher {
+
+    private final FinalMileDeliveryService finalMileDeliveryService;
+    private final BulkDriverAssignmentService bulkDriverAssignmentService;
+    private final FinalMileDeliveryRepository finalMileDeliveryRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${delivery.assignment.dispatch.enabled:true}")
+    private boolean enabled;
+
+    // 워커 수 (기본: 커맨드 토픽 파티션 수, 파티션 하나 = 워커 하나)
+    @Value("${delivery.assignment.dispatch.workers:${delivery.kafka.commands.partitions:3}}")
+    private int workerCount;
+
+    @Value("${delivery.kafka.commands.partitions:3}")
+    private int commandPartitions;
+
+    @Value("${delivery.assignment.dispatch.batch-size:200}")
+    private int batchSize;
+
+    @Value("${delivery.assignment.dispatch.queue-capacity:5000}")
+    private int queueCapacity;
+
+    @Value("${delivery.assignment.dispatch.wait-timeout-ms:15000}")
+    private long waitTimeoutMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final List<Worker> workers = new ArrayList<>();
+    private volatile boolean running;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        this.batchSizeSummary = DistributionSummary.builder("delivery.assignment.dispatch.batch")
+                .description("워커가 한 번에 꺼내 처리한 배정 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("delivery.assignment.dispatch.queue.size", workers,
+                        list -> list.stream().mapToInt(worker -> worker.queue.size()).sum())
+                .description("배정 워커 큐에서 대기 중인 요청 수")
+                .register(meterRegistry);
+
+        // 워커는 DB/드라이버 서비스 호출로 블로킹하므로 가상 스레드 모드에서는 가상 스레드로 실행
+        Thread.Builder threadBuilder = virtualThreads
+                ? Thread.ofVirtual().name("hub-dispatch-", 0)
+                : Thread.ofPlatform().daemon(true).name("hub-dispatch-", 0);
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Worker worker = new Worker(new LinkedBlockingQueue<>(queueCapacity));
+            workers.add(worker);
+            worker.thread = threadBuilder.start(worker);
+        }
+        log.info("허브 배정 디스패처 시작 - workers: {}, commandPartitions: {}, batchSize: {}",
+                workerCount, commandPartitions, batchSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        for (Worker worker : workers) {
+            worker.thread.interrupt();
+        }
+    }
+
+    /**
+     * 단건 배정 (REST, 결과를 기다림)
+     * - 배정 실패는 예외로 전달 (단건 경로와 같음, 일괄 처리된 경우 DRIVER_ASSIGN_FAILED)
+     * - 대기 시간 초과 시 409 (배정은 워커에서 계속 진행됨)
+     */
+    public LastMileAssignDriverResponse assignDriver(String finalMileId) {
+        return awaitAssignment(finalMileId, submitAssignment(finalMileId));
+    }
+
+    /**
+     * 단건 배정 요청 (결과를 기다리지 않음)
+     * - Idempotency-Key 요청은 IdempotencyStore.executeAsync가 이 작업이 끝날 때 응답을 저장
+     *   (대기 시간 초과로 409를 먼저 응답해도 같은 키 재요청은 다시 배정하지 않고 결과를 받음)
+     */
+    public CompletableFuture<LastMileAssignDriverResponse> submitAssignment(String finalMileId) {
+        if (!enabled) {
+            return runNow(() -> finalMileDeliveryService.assignDriver(finalMileId));
+        }
+        return submitAll(List.of(finalMileId)).get(finalMileId);
+    }
+
+    /**
+     * 단건 배정 결과 대기 (wait-timeout-ms 초과 시 409)
+     */
+    public LastMileAssignDriverResponse awaitAssignment(String finalMileId,
+                                                        CompletableFuture<LastMileAssignDriverResponse> result) {
+        try {
+            return result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new DeliveryException(DeliveryErrorCode.DRIVER_ASSIGN_IN_PROGRESS,
+                    "배송 ID: " + finalMileId + ", 배정 대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeliveryException(DeliveryErrorCode.DRIVER_ASSIGN_FAILED, "배송 ID: " + finalMileId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new DeliveryException(DeliveryErrorCode.DRIVER_ASSIGN_FAILED, "배송 ID: " + finalMileId, e.getCause());
+        }
+    }
+
+    /**
+     * 배송 지정 배정 요청 (허브 ID는 한 번의 IN 조회로 확인)
+     * - 대소문자만 다른 같은 배송 ID는 한 번만 요청하고 결과 공유
+     *
+     * @return 호출한 쪽 배송 ID별 결과 (없는 배송은 DELIVERY_NOT_FOUND로 실패)
+     */
+    public Map<String, CompletableFuture<LastMileAssignDriverResponse>> submitAll(Collection<String> finalMileIds) {
+        Map<UUID, String> hubIds = new HashMap<>();
+        List<UUID> ids = finalMileIds.stream()
+                .map(UuidUtils::parse)
+                .flatMap(Optional::stream)
+                .toList();
+        if (!ids.isEmpty()) {
+            finalMileDeliveryRepository.findAllById(ids)
+                    .forEach(delivery -> hubIds.put(delivery.getId(), delivery.getHubId()));
+        }
+
+        Map<String, CompletableFuture<LastMileAssignDriverResponse>> submitted = new HashMap<>();
+        Map<String, CompletableFuture<LastMileAssignDriverResponse>> results = new LinkedHashMap<>();
+        for (String finalMileId : finalMileIds) {
+            Optional<UUID> id = UuidUtils.parse(finalMileId);
+            String hubId = id.map(hubIds::get).orElse(null);
+            if (hubId == null) {
+                results.put(finalMileId, CompletableFuture.failedFuture(
+                        new DeliveryException(DeliveryErrorCode.DELIVERY_NOT_FOUND, "배송 ID: " + finalMileId)));
+                continue;
+            }
+            results.put(finalMileId, submitted.computeIfAbsent(id.get().toString(), normalized -> submit(hubId, normalized)));
+        }
+        return results;
+    }
+
+    /**
+     * 배송 지정 배정 요청 (허브 ID를 이미 아는 경우)
+     * - 배송 ID는 표준 UUID 문자열(소문자)로 바꿔 처리 → 일괄 배정 결과(getLastMileDeliveryId)와 같은 키
+     */
+    public CompletableFuture<LastMileAssignDriverResponse> submit(String hubId, String finalMileId) {
+        if (!enabled) {
+            return runNow(() -> finalMileDeliveryService.assignDriver(finalMileId));
+        }
+        DeliveryJob job = new DeliveryJob(normalize(finalMileId), new CompletableFuture<>());
+        enqueue(hubId, job, job.result());
+        return job.result();
+    }
+
+    /**
+     * 허브 PENDING 배송 전체 배정 요청 (웨이브)
+     */
+    public CompletableFuture<LastMileBulkAssignResponse> submitHub(String hubId) {
+        if (!enabled) {
+            return runNow(() -> bulkDriverAssignmentService.assignDrivers(
+                    LastMileBulkAssignRequest.builder().hubId(hubId).build()));
+        }
+        HubJob job = new HubJob(hubId, new CompletableFuture<>());
+        enqueue(hubId, job, job.result());
+        return job.result();
+    }
+
+    /**
+     * 허브 → 커맨드 토픽 파티션 (Kafka 기본 파티셔너의 키 해시와 같음)
+     */
+    static int partitionOf(String hubId, int partitions) {
+        return Utils.toPositive(Utils.murmur2(hubId.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    /**
+     * 표준 UUID 문자열 (UUID 형식이 아니면 그대로, 배정 단계에서 DELIVERY_NOT_FOUND)
+     */
+    static String normalize(String finalMileId) {
+        return UuidUtils.parse(finalMileId).map(UUID::toString).orElse(finalMileId);
+    }
+
+    int workerOf(String hubId) {
+        return partitionOf(hubId, commandPartitions) % workerCount;
+    }
+
+    private void enqueue(String hubId, Job job, CompletableFuture<?> result) {
+        if (!running || !workers.get(workerOf(hubId)).queue.offer(job)) {
+            result.completeExceptionally(new DeliveryException(DeliveryErrorCode.DRIVER_ASSIGN_BUSY, "허브 ID: " + hubId));
+        }
+    }
+
+    private static <T> CompletableFuture<T> runNow(Supplier<T> task) {
+        try {
+            return CompletableFuture.completedFuture(task.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private sealed interface Job permits DeliveryJob, HubJob {
+    }
+
+    private record DeliveryJob(String finalMileId, CompletableFuture<LastMileAssignDriverResponse> result) implements Job {
+    }
+
+    private record HubJob(String hubId, CompletableFuture<LastMileBulkAssignResponse> result) implements Job {
+    }
+
+    private final class Worker implements Runnable {
+
+        private final BlockingQueue<Job> queue;
+        private Thread thread;
+
+        private Worker(BlockingQueue<Job> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            List<Job> batch = new ArrayList<>(batchSize);
+            while (running) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                queue.drainTo(batch, batchSize - 1);
+                batchSizeSummary.record(batch.size());
+                try {
+                    process(batch);
+                } catch (RuntimeException e) {
+                    log.error("배정 워커 처리 오류 - 건수: {}, error: {}", batch.size(), e.getMessage(), e);
+                    batch.forEach(job -> fail(job, e));
+                }
+                batch.clear();
+            }
+
+            // 종료 시 남은 요청은 실패 처리 (배송은 PENDING으로 남아 다음 웨이브/재요청에서 배정)
+            queue.drainTo(batch);
+            DeliveryException stopped = new DeliveryException(DeliveryErrorCode.DRIVER_ASSIGN_BUSY, "배정 워커 종료");
+            batch.forEach(job -> fail(job, stopped));
+        }
+    }
+
+    /**
+     * 워커 한 번의 처리
+     * 1. 배송 지정분: 한 건이면 단건 배정, 여러 건이면 일괄 배정 한 번 (같은 배송 중복 요청은 결과 공유)
+     * 2. 허브 웨이브: 허브마다 한 번 (같은 허브 중복 요청은 결과 공유)
+     */
+    private void process(List<Job> batch) {
+        Map<String, List<CompletableFuture<LastMileAssignDriverResponse>>> deliveries = new LinkedHashMap<>();
+        Map<String, List<CompletableFuture<LastMileBulkAssignResponse>>> hubs = new LinkedHashMap<>();
+        for (Job job : batch) {
+            switch (job) {
+                case DeliveryJob delivery -> deliveries
+                        .computeIfAbsent(delivery.finalMileId(), id -> new ArrayList<>()).add(delivery.result());
+                case HubJob hub -> hubs
+                        .computeIfAbsent(hub.hubId(), id -> new ArrayList<>()).add(hub.result());
+            }
+        }
+
+        if (deliveries.size() == 1) {
+            Map.Entry<String, List<CompletableFuture<LastMileAssignDriverResponse>>> only =
+                    deliveries.entrySet().iterator().next();
+            complete(only.getValue(), () -> finalMileDeliveryService.assignDriver(only.getKey()));
+        } else if (!deliveries.isEmpty()) {
+            assignInBulk(deliveries);
+        }
+
+        hubs.forEach((hubId, results) -> complete(results, () -> bulkDriverAssignmentService.assignDrivers(
+                LastMileBulkAssignRequest.builder().hubId(hubId).build())));
+    }
+
+    private void assignInBulk(Map<String, List<CompletableFuture<LastMileAssignDriverResponse>>> deliveries) {
+        LastMileBulkAssignResponse response;
+        try {
+            response = bulkDriverAssignmentService.assignDrivers(
+                    LastMileBulkAssignRequest.builder().finalMileIds(new ArrayList<>(deliveries.keySet())).build());
+        } catch (RuntimeException e) {
+            deliveries.values().forEach(results -> results.forEach(result -> result.completeExceptionally(e)));
+            return;
+        }
+
+        Map<String, LastMileAssignDriverResponse> byId = new HashMap<>();
+        response.getResults().forEach(item -> byId.put(normalize(item.getLastMileDeliveryId()), item));
+        deliveries.forEach((finalMileId, results) -> {
+            LastMileAssignDriverResponse item = byId.get(finalMileId);
+            for (CompletableFuture<LastMileAssignDriverResponse> result : results) {
+                if (item != null && item.isSuccess()) {
+                    result.complete(item);
+                } else {
+                    result.completeExceptionally(new DeliveryException(DeliveryErrorCode.DRIVER_ASSIGN_FAILED,
+                            "배송 ID: " + finalMileId + ", " + (item != null ? item.getMessage() : "배정 결과가 없습니다.")));
+                }
+            }
+        });
+    }
+
+    private static <T> void complete(List<CompletableFuture<T>> results, Supplier<T> task) {
+        try {
+            T value = task.get();
+            results.forEach(result -> result.complete(value));
+        } catch (RuntimeException e) {
+            results.forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private static void fail(Job job, RuntimeException e) {
+        switch (job) {
+            case DeliveryJob delivery -> delivery.result().completeExceptionally(e);
+            case HubJob hub -> hub.result().completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.command.LastMileCommand;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.command.LastMileCommandType;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkCreateRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileCreateRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Kafka 커맨드 배치 처리 (LastMileCommandListener, poll 한 번 = 호출 한 번)
+ *
+ * 1. 생성/취소: 한 트랜잭션에서 일괄 처리 (INSERT/UPDATE는 hibernate.jdbc.batch_size 단위 JDBC 배치)
+ * 2. 배정: 커밋 후 허브별 배정 워커(HubAssignmentDispatcher)에 넘기고 결과를 기다림
+ *    (드라이버 서비스 원격 호출이 있으므로 트랜잭션 밖, 같은 허브 배정은 워커에서 순차 처리)
+ * - 배치 안의 순서는 생성 → 취소 → 배정 (같은 배송의 배정과 취소가 함께 오면 취소가 우선)
+ * - 모든 단계가 멱등이므로 실패 시 배치 전체를 다시 처리해도 됨 (이미 생성된 주문은 DUPLICATE, 이미 취소된 배송은 건너뜀,
+ *   배정은 PENDING 배송만 대상)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LastMileCommandService {
+
+    private final BulkDeliveryCreationService bulkDeliveryCreationService;
+    private final HubAssignmentDispatcher hubAssignmentDispatcher;
+    private final FinalMileDeliveryService finalMileDeliveryService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 커맨드 배치 처리 (검증된 커맨드만 전달)
+     *
+     * @param commands poll 한 번에 받은 커맨드 (수신 순서)
+     */
+    public void process(List<LastMileCommand> commands) {
+        List<LastMileCreateRequest> creates = new ArrayList<>();
+        List<String> cancelIds = new ArrayList<>();
+        List<String> cancelOrderIds = new ArrayList<>();
+        Set<String> assignIds = new LinkedHashSet<>();
+        Set<String> assignHubIds = new LinkedHashSet<>();
+        Map<LastMileCommandType, Integer> counts = new EnumMap<>(LastMileCommandType.class);
+
+        for (LastMileCommand command : commands) {
+            counts.merge(command.getType(), 1, Integer::sum);
+            switch (command.getType()) {
+                case CREATE -> creates.add(command.toCreateRequest());
+                case CANCEL -> {
+                    if (command.getFinalMileId() != null) {
+                        cancelIds.add(command.getFinalMileId());
+                    } else {
+                        cancelOrderIds.add(command.getOrderId());
+                    }
+                }
+                case ASSIGN -> {
+                    if (command.getFinalMileId() != null) {
+                        assignIds.add(command.getFinalMileId());
+                    } else {
+                        assignHubIds.add(command.getHubId());
+                    }
+                }
+            }
+        }
+
+        // 1. 생성 + 취소 (한 트랜잭션, 실패 시 전체 롤백 후 리스너가 배치 재시도)
+        if (!creates.isEmpty() || !cancelIds.isEmpty() || !cancelOrderIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!creates.isEmpty()) {
+                    bulkDeliveryCreationService.createDeliveries(
+                            LastMileBulkCreateRequest.builder().deliveries(creates).build());
+                }
+                if (!cancelIds.isEmpty() || !cancelOrderIds.isEmpty()) {
+                    finalMileDeliveryService.cancelDeliveries(cancelIds, cancelOrderIds);
+                }
+            });
+        }
+
+        // 2. 배정 (허브별 워커에 모두 넘긴 뒤 한꺼번에 대기, 커밋 전 완료해야 재수신 시 중복 배정 요청이 줄어듦)
+        List<CompletableFuture<?>> assignments = new ArrayList<>();
+        if (!assignIds.isEmpty()) {
+            assignments.addAll(hubAssignmentDispatcher.submitAll(assignIds).values());
+        }
+        for (String hubId : assignHubIds) {
+            assignments.add(hubAssignmentDispatcher.submitHub(hubId));
+        }
+        assignments.forEach(this::awaitAssignment);
+
+        counts.forEach((type, count) -> meterRegistry.counter("delivery.command.processed",
+                "type", type.name()).increment(count));
+        log.info("커맨드 배치 처리 완료 - 건수: {}, 종류별: {}", commands.size(), counts);
+    }
+
+    /**
+     * 배정 결과 대기
+     * - 배정 실패(대상 아님, 드라이버 없음, 드라이버 서비스 차단 등)는 배송이 PENDING으로 남아 재배정/다음 웨이브에서
+     *   처리되므로 커맨드는 처리된 것으로 봄
+     * - 워커 큐가 가득 찬 경우(DRIVER_ASSIGN_BUSY)와 그 외 예외(DB 오류 등)는 배치 재시도 (backoff 동안 큐가 비워짐)
+     */
+    private void awaitAssignment(CompletableFuture<?> assignment) {
+        try {
+            assignment.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DeliveryException de && de.getErrorCode() != DeliveryErrorCode.DRIVER_ASSIGN_BUSY) {
+                log.warn("커맨드 배정 실패 - code: {}, error: {}", de.getErrorCode(), de.getMessage());
+                return;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.application.service.dto.AgentDeliveryGroupDto;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryChangedEvent;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.projection.TodayDeliveryProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 당일 배송 담당자별 그룹 뷰 (인메모리)
+ *
+ * - 날짜별로 DB에서 한 번 적재한 뒤, 커밋된 FinalMileDeliveryChangedEvent로 증분 갱신
+ * - 허브별 담당자 그룹(AgentDeliveryGroupDto)을 미리 만들어 두므로 조회 비용은 담당자 수에 비례
+ * - 다른 인스턴스에서 커밋된 변경은 이벤트가 오지 않으므로 주기적 정합성 검사(reconcile)로 반영
+ * - 지난 날짜 뷰는 TodayDeliveryViewScheduler가 제거
+ *
+ * 동시성
+ * - 적재/갱신/재구성은 날짜별 뷰 단위로 직렬화 (적재 중 커밋된 변경은 적재가 끝난 뒤 반영)
+ * - 조회는 잠금 없이 담당자 그룹 스냅샷을 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayDeliveryView {
+
+    private static final Comparator<TodayDeliveryProjection> DELIVERY_ORDER =
+            Comparator.comparing(TodayDeliveryProjection::expectedTime)
+                    .thenComparing(TodayDeliveryProjection::finalMileId);
+
+    private final FinalMileDeliveryRepository finalMileDeliveryRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<LocalDate, DayView> days = new ConcurrentHashMap<>();
+
+    /**
+     * 담당자별 배송 그룹 조회 (처음 조회한 날짜는 DB에서 적재)
+     *
+     * @param date  대상 날짜
+     * @param hubId 허브 ID (null이면 전체 허브)
+     * @return 담당자 ID 순 그룹 목록
+     */
+    public List<AgentDeliveryGroupDto> getAgentGroups(LocalDate date, String hubId) {
+        DayView day = days.computeIfAbsent(date, DayView::new);
+        day.ensureLoaded();
+
+        return hubId == null || hubId.isBlank() ? day.allAgentGroups() : day.agentGroups(hubId);
+    }
+
+    /**
+     * 배송 변경 반영 (트랜잭션 커밋 이후)
+     * - 아직 적재되지 않은 날짜는 무시 (적재 시 DB에서 읽음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeliveryChanged(FinalMileDeliveryChangedEvent event) {
+        if (event.expectedTime() == null) {
+            return;
+        }
+
+        DayView day = days.get(event.expectedTime().toLocalDate());
+        if (day != null) {
+            day.apply(event);
+        }
+    }
+
+    /**
+     * 정합성 검사
+     * - 적재된 날짜 뷰를 DB 조회 결과와 비교하고 다르면 DB 기준으로 재구성
+     *
+     * @param date 대상 날짜
+     * @return 재구성 여부
+     */
+    public boolean reconcile(LocalDate date) {
+        DayView day = days.get(date);
+        return day != null && day.reconcile();
+    }
+
+    /**
+     * 지정 날짜 이전 뷰 제거 (날짜 변경)
+     *
+     * @param date 기준 날짜 (이 날짜는 유지)
+     * @return 제거한 뷰 수
+     */
+    public int evictBefore(LocalDate date) {
+        int before = days.size();
+        days.keySet().removeIf(day -> day.isBefore(date));
+        return before - days.size();
+    }
+
+    private List<TodayDeliveryProjection> load(LocalDate date) {
+        return finalMileDeliveryRepository.findTodayAssignedDeliveries(date.atStartOfDay(), date.atTime(LocalTime.MAX));
+    }
+
+    /**
+     * 당일 배송 조회 조건과 동일 (ASSIGNED, 담당자 배정, 미삭제)
+     */
+    private static boolean isVisible(FinalMileDeliveryChangedEvent event) {
+        return event.currentStatus() == FinalMileDeliveryStatus.ASSIGNED
+                && event.agentId() != null
+                && !event.deleted();
+    }
+
+    private static TodayDeliveryProjection toProjection(FinalMileDeliveryChangedEvent event) {
+        return new TodayDeliveryProjection(
+                event.finalMileId(),
+                event.orderId(),
+                event.hubId(),
+                event.agentId(),
+                event.agentName(),
+                event.currentStatus(),
+                event.deliveryAddress(),
+                event.recipientName(),
+                event.recipientSlackId(),
+                // DB(timestamp) 정밀도에 맞춰야 정합성 검사에서 같은 값으로 비교됨
+                event.expectedTime().truncatedTo(ChronoUnit.MICROS)
+        );
+    }
+
+    /**
+     * 날짜별 뷰
+     */
+    private final class DayView {
+
+        private final LocalDate date;
+
+        // 갱신은 lock 안에서만 (DB 조회를 포함하므로 synchronized 대신 ReentrantLock: 가상 스레드 pinning 방지)
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<UUID, TodayDeliveryProjection> entries = new HashMap<>();
+        private volatile Map<String, HubView> hubs = new ConcurrentHashMap<>();
+        private volatile boolean loaded;
+
+        private DayView(LocalDate date) {
+            this.date = date;
+        }
+
+        void ensureLoaded() {
+            if (loaded) {
+                return;
+            }
+            lock.lock();
+            try {
+                if (!loaded) {
+                    replaceAll(load(date));
+                    loaded = true;
+                    log.info("당일 배송 뷰 적재 - date: {}, deliveries: {}", date, entries.size());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void apply(FinalMileDeliveryChangedEvent event) {
+            lock.lock();
+            try {
+                if (!loaded) {
+                    return;
+                }
+
+                TodayDeliveryProjection previous = entries.remove(event.finalMileId());
+                if (previous != null) {
+                    hubs.get(previous.hubId()).remove(previous);
+                }
+
+                if (isVisible(event)) {
+                    TodayDeliveryProjection delivery = toProjection(event);
+                    entries.put(delivery.finalMileId(), delivery);
+                    hub(delivery.hubId()).add(delivery);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean reconcile() {
+            lock.lock();
+            try {
+                if (!loaded) {
+                    return false;
+                }
+
+                List<TodayDeliveryProjection> fresh = load(date);
+                Map<UUID, TodayDeliveryProjection> expected = new HashMap<>();
+                fresh.forEach(delivery -> expected.put(delivery.finalMileId(), delivery));
+
+                if (expected.equals(entries)) {
+                    return false;
+                }
+
+                log.warn("당일 배송 뷰 불일치, 재구성 - date: {}, view: {}, db: {}", date, entries.size(), expected.size());
+                meterRegistry.counter("delivery.today_view.rebuild").increment();
+                replaceAll(fresh);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<AgentDeliveryGroupDto> agentGroups(String hubId) {
+            HubView hub = hubs.get(hubId);
+            return hub == null ? List.of() : List.copyOf(hub.groups.values());
+        }
+
+        /**
+         * 전체 허브 조회 (여러 허브에 걸친 담당자는 하나의 그룹으로 합침)
+         */
+        List<AgentDeliveryGroupDto> allAgentGroups() {
+            Map<String, AgentDeliveryGroupDto> merged = new TreeMap<>();
+            for (HubView hub : hubs.values()) {
+                hub.groups.forEach((agentId, group) -> merged.merge(agentId, group, DayView::merge));
+            }
+            return new ArrayList<>(merged.values());
+        }
+
+        private void replaceAll(List<TodayDeliveryProjection> deliveries) {
+            Map<String, HubView> rebuilt = new ConcurrentHashMap<>();
+            entries.clear();
+            for (TodayDeliveryProjection delivery : deliveries) {
+                entries.put(delivery.finalMileId(), delivery);
+                rebuilt.computeIfAbsent(delivery.hubId(), hubId -> new HubView()).add(delivery);
+            }
+            hubs = rebuilt;
+        }
+
+        private HubView hub(String hubId) {
+            return hubs.computeIfAbsent(hubId, id -> new HubView());
+        }
+
+        private static AgentDeliveryGroupDto merge(AgentDeliveryGroupDto left, AgentDeliveryGroupDto right) {
+            List<AgentDeliveryGroupDto.DeliveryItemDto> items = new ArrayList<>(left.getDeliveries());
+            items.addAll(right.getDeliveries());
+            return AgentDeliveryGroupDto.builder()
+                    .agentId(left.getAgentId())
+                    .agentName(left.getAgentName())
+                    .totalCount(items.size())
+                    .deliveries(items)
+                    .build();
+        }
+    }
+
+    /**
+     * 허브별 담당자 그룹
+     * - buckets: 갱신용 (DayView 잠금 안에서만 접근)
+     * - groups: 조회용 스냅샷 (담당자 단위로 교체)
+     */
+    private static final class HubView {
+
+        private final Map<String, Map<UUID, TodayDeliveryProjection>> buckets = new HashMap<>();
+        private final ConcurrentSkipListMap<String, AgentDeliveryGroupDto> groups = new ConcurrentSkipListMap<>();
+
+        void add(TodayDeliveryProjection delivery) {
+            buckets.computeIfAbsent(delivery.agentId(), agentId -> new HashMap<>())
+                    .put(delivery.finalMileId(), delivery);
+            refresh(delivery.agentId());
+        }
+
+        void remove(TodayDeliveryProjection delivery) {
+            Map<UUID, TodayDeliveryProjection> bucket = buckets.get(delivery.agentId());
+            if (bucket == null) {
+                return;
+            }
+
+            bucket.remove(delivery.finalMileId());
+            if (bucket.isEmpty()) {
+                buckets.remove(delivery.agentId());
+                groups.remove(delivery.agentId());
+            } else {
+                refresh(delivery.agentId());
+            }
+        }
+
+        private void refresh(String agentId) {
+            List<TodayDeliveryProjection> deliveries = new ArrayList<>(buckets.get(agentId).values());
+            deliveries.sort(DELIVERY_ORDER);
+
+            List<AgentDeliveryGroupDto.DeliveryItemDto> items = deliveries.stream()
+                    .map(AgentDeliveryGroupDto.DeliveryItemDto::from)
+                    .toList();
+
+            groups.put(agentId, AgentDeliveryGroupDto.builder()
+                    .agentId(agentId)
+                    .agentName(deliveries.get(0).agentName())
+                    .totalCount(items.size())
+                    .deliveries(items)
+                    .build());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.early_express.delivery_service.delivery.application.service.dto;
 
+import com.early_express.delivery_service.delivery.infrastructure.projection.TodayDeliveryProjection;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -27,5 +28,19 @@ public class AgentDeliveryGroupDto {
         private final String recipientSlackId;
         private final String currentStatus;
         private final String expectedTime;
+
+        public static DeliveryItemDto from(TodayDeliveryProjection delivery) {
+            return DeliveryItemDto.builder()
+                    .finalMileId(delivery.finalMileId().toString())
+                    .orderId(delivery.orderId())
+                    .deliveryAddress(delivery.deliveryAddress())
+                    .recipientName(delivery.recipientName())
+                    .recipientSlackId(delivery.recipientSlackId())
+                    .currentStatus(delivery.currentStatus().name())
+                    .expectedTime(delivery.expectedTime() != null
+                            ? delivery.expectedTime().toString()
+                            : null)
+                    .build();
+        }
     }
 }
@@ -1,22 +1,43 @@
 package com.early_express.delivery_service.delivery.domain;
 
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryChangeListener;
 import com.early_express.delivery_service.global.common.utils.UuidUtils;
 import com.early_express.delivery_service.global.infrastructure.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 
 @Entity
-@Table(name = "p_final_mile_delivery")
+@Table(
+        name = "p_final_mile_delivery",
+        indexes = {
+                // 허브별 당일 배송 / 허브 배정 대기 조회 (hubId + currentStatus + expectedTime 범위)
+                @Index(name = "idx_final_mile_hub_status_expected", columnList = "hub_id, current_status, expected_time"),
+                // 전체 허브 당일 배송 조회 (currentStatus + expectedTime 범위)
+                @Index(name = "idx_final_mile_status_expected", columnList = "current_status, expected_time"),
+                // 담당자별 당일 배송 조회 (agentId + currentStatus + expectedTime 범위)
+                @Index(name = "idx_final_mile_agent_status_expected", columnList = "agent_id, current_status, expected_time"),
+                // 주문 ID 조회 (미삭제 건 UNIQUE 부분 인덱스와 커서 페이지네이션 인덱스는 schema-postgresql.sql)
+                @Index(name = "idx_final_mile_order_id", columnList = "order_id")
+        }
+)
+@EntityListeners(FinalMileDeliveryChangeListener.class)
 @Getter
 @Access(AccessType.FIELD)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FinalMileDelivery extends BaseEntity {
 
+    /**
+     * 배송 ID
+     * - 시간 순 UUID(v7), DB에는 native uuid 컬럼으로 저장
+     * - 외부(API, 이벤트)에는 문자열로 노출 (getFinalMileId)
+     */
     @Id
-    private String finalMileId;
+    private UUID finalMileId;
 
     @Column(nullable = false)
     private String orderId;
@@ -61,6 +82,16 @@ public class FinalMileDelivery extends BaseEntity {
      */
     private LocalDateTime departedAt;
 
+    /**
+     * 낙관적 잠금 버전
+     * - 같은 배송을 동시에 변경하면 나중에 커밋하는 쪽이 실패 (변경 감지로 서로 덮어쓰지 않도록)
+     * - JPQL 일괄 UPDATE(updateStatusIfCurrent 등)도 직접 1 증가
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // ==================== Builder ====================
 
     @Builder
@@ -84,70 +115,87 @@ public class FinalMileDelivery extends BaseEntity {
     public void generateId() {
         // DB에 저장되기 직전에 ID가 null인지 확인하고 생성
         if (this.finalMileId == null) {
-            this.finalMileId = UuidUtils.generate();
+            this.finalMileId = UuidUtils.generateUuid();
         }
     }
 
-    // ==================== 기존 비즈니스 메서드 ====================
+    /**
+     * 배송 ID (UUID 타입, Repository 조회용)
+     */
+    public UUID getId() {
+        return finalMileId;
+    }
 
-    //Agent가 배송 상품 전달받음
-    public void pickedUp(LocalDateTime startedAt) {
+    /**
+     * 배송 ID (문자열, API 응답/이벤트용)
+     */
+    public String getFinalMileId() {
+        return finalMileId != null ? finalMileId.toString() : null;
+    }
+
+    // ==================== 기존 비즈니스 메서드 ====================
 
-        if(this.currentStatus == FinalMileDeliveryStatus.DELIVERED ||
-                this.currentStatus == FinalMileDeliveryStatus.CANCELED) {
-            throw new IllegalStateException("이미 완료/취소된 배송입니다.");
+    /**
+     * 상태 전이 (모든 상태 변경의 단일 진입점)
+     * - 허용 여부는 FinalMileDeliveryTransitions 행렬로 판단, 진입 시각 기록은 onEnter
+     * - PICKED_UP/ON_THE_WAY 재요청은 변경 없이 false 반환 (멱등)
+     *
+     * @param to 요청 상태
+     * @param now 전이 시각
+     * @return 상태가 실제로 바뀌었으면 true
+     * @throws IllegalStateException 허용되지 않는 전이
+     */
+    public boolean transitionTo(FinalMileDeliveryStatus to, LocalDateTime now) {
+        if (!FinalMileDeliveryTransitions.check(this.currentStatus, to)) {
+            return false;
         }
 
-        this.currentStatus = FinalMileDeliveryStatus.PICKED_UP;
+        this.currentStatus = to;
+        onEnter(to, now);
+        return true;
+    }
 
-        if (this.startedAt == null) {
-            this.startedAt = startedAt;
+    private void onEnter(FinalMileDeliveryStatus to, LocalDateTime now) {
+        switch (to) {
+            case PICKED_UP -> {
+                if (this.startedAt == null) {
+                    this.startedAt = now;
+                }
+            }
+            case ON_THE_WAY -> {
+                if (this.departedAt == null) {
+                    this.departedAt = now;
+                }
+            }
+            case DELIVERED, FAILED -> this.deliveredAt = now;
+            default -> {
+            }
         }
+    }
 
+    //Agent가 배송 상품 전달받음
+    public void pickedUp(LocalDateTime startedAt) {
+        transitionTo(FinalMileDeliveryStatus.PICKED_UP, startedAt);
     }
 
     //배송 중
     public void onDelivery() {
-        if(this.currentStatus != FinalMileDeliveryStatus.PICKED_UP &&
-                this.currentStatus != FinalMileDeliveryStatus.ON_THE_WAY) {
-            throw new IllegalStateException("픽업되지 않은 상품은 배송 중 상태로 변경할 수 없습니다.");
-        }
-
-        this.currentStatus = FinalMileDeliveryStatus.ON_THE_WAY;
-
-        // [추가] 출발 시간 기록
-        if (this.departedAt == null) {
-            this.departedAt = LocalDateTime.now();
-        }
+        transitionTo(FinalMileDeliveryStatus.ON_THE_WAY, LocalDateTime.now());
     }
 
     //배송 완료
     public void delivered() {
-        if (this.currentStatus != FinalMileDeliveryStatus.ON_THE_WAY &&
-                this.currentStatus != FinalMileDeliveryStatus.PICKED_UP) {
-            throw new IllegalStateException("현재 상태(" + this.currentStatus + ")에서는 배송 완료 처리할 수 없습니다.");
-        }
-
-        this.currentStatus = FinalMileDeliveryStatus.DELIVERED;
-        this.deliveredAt = LocalDateTime.now();
+        transitionTo(FinalMileDeliveryStatus.DELIVERED, LocalDateTime.now());
     }
 
     //배송 실패 (수령인 부재, 주소 오류 등)
     public void deliveryFailed() {
-        // 완료된 배송은 실패 처리 불가
-        if (this.currentStatus == FinalMileDeliveryStatus.DELIVERED) {
-            throw new IllegalStateException("이미 완료된 배송을 실패 처리할 수 없습니다.");
-        }
-        this.currentStatus = FinalMileDeliveryStatus.FAILED;
-        this.deliveredAt = LocalDateTime.now();
+        transitionTo(FinalMileDeliveryStatus.FAILED, LocalDateTime.now());
     }
 
     // 배송 취소 (영구적인 중단 및 반품/폐기 처리)
     public void deliveryCancelled() {
-        if (this.currentStatus == FinalMileDeliveryStatus.DELIVERED) {
-            throw new IllegalStateException("이미 완료된 배송은 취소할 수 없습니다. 반품 절차를 사용하세요.");
-        }
-        this.currentStatus = FinalMileDeliveryStatus.CANCELED;
+        transitionTo(FinalMileDeliveryStatus.CANCELED, LocalDateTime.now());
     }
 
     public void markForSoftDeletion(String deletedBy) {
@@ -201,20 +249,18 @@ public class FinalMileDelivery extends BaseEntity {
 
     /**
      * [추가] 담당자 배정 (Track Service에서 호출)
-     * PENDING → ASSIGNED
+     * ASSIGNING → ASSIGNED
+     * - PENDING → ASSIGNING 예약은 FinalMileDeliveryRepository.updateStatusIfCurrent로 처리
      *
      * @param agentId 담당자 ID
      * @param agentName 담당자 이름
      */
     public void assignAgent(String agentId, String agentName) {
-        if (!this.currentStatus.canAssignDriver()) {
-            throw new IllegalStateException(
-                    "담당자 배정은 PENDING 상태에서만 가능합니다. 현재 상태: " + this.currentStatus);
-        }
+        FinalMileDeliveryTransitions.check(this.currentStatus, FinalMileDeliveryStatus.ASSIGNED);
 
         this.agentId = agentId;
         this.agentName = agentName;
-        this.currentStatus = FinalMileDeliveryStatus.ASSIGNED;
+        transitionTo(FinalMileDeliveryStatus.ASSIGNED, LocalDateTime.now());
     }
 
     // ==================== [추가] 신규 조회 메서드 ====================
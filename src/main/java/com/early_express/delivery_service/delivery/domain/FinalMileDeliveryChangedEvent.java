@@ -0,0 +1,40 @@
+package com.early_express.delivery_service.delivery.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 최종 배송 변경 이벤트 (서비스 내부용, Kafka로 발행하지 않음)
+ * - 생성/상태 전이/Soft Delete 등 FinalMileDelivery가 저장될 때마다 발행
+ * - 변경 후 상태 전체를 담으므로 수신 측은 순서와 무관하게 같은 결과로 덮어쓸 수 있음
+ */
+public record FinalMileDeliveryChangedEvent(
+        UUID finalMileId,
+        String orderId,
+        String hubId,
+        String agentId,
+        String agentName,
+        FinalMileDeliveryStatus currentStatus,
+        String deliveryAddress,
+        String recipientName,
+        String recipientSlackId,
+        LocalDateTime expectedTime,
+        boolean deleted
+) {
+
+    public static FinalMileDeliveryChangedEvent from(FinalMileDelivery delivery) {
+        return new FinalMileDeliveryChangedEvent(
+                delivery.getId(),
+                delivery.getOrderId(),
+                delivery.getHubId(),
+                delivery.getAgentId(),
+                delivery.getAgentName(),
+                delivery.getCurrentStatus(),
+                delivery.getDeliveryAddress(),
+                delivery.getRecipientName(),
+                delivery.getRecipientSlackId(),
+                delivery.getExpectedTime(),
+                delivery.isDeleted()
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.early_express.delivery_service.delivery.domain;
 
 /**
  * 최종 배송 상태
+ * - can* 전이 가능 여부는 FinalMileDeliveryTransitions 행렬 조회
  */
 public enum FinalMileDeliveryStatus {
 
@@ -13,6 +14,13 @@ public enum FinalMileDeliveryStatus {
      */
     PENDING("대기 중"),
 
+    /**
+     * 담당자 배정 진행 중
+     * - 드라이버 서비스 호출 동안 다른 배정 요청을 막기 위한 예약 상태
+     * - 배정 확정 시 ASSIGNED, 실패 시 PENDING으로 복구
+     */
+    ASSIGNING("담당자 배정 중"),
+
     /**
      * 담당자 배정됨
      * - Track Service에서 드라이버 배정 요청 시
@@ -62,35 +70,42 @@ public enum FinalMileDeliveryStatus {
      * 담당자 배정 가능 여부
      */
     public boolean canAssignDriver() {
-        return this == PENDING;
+        return FinalMileDeliveryTransitions.isAllowed(this, ASSIGNING);
+    }
+
+    /**
+     * 배정 확정 가능 여부 (예약된 상태)
+     */
+    public boolean canConfirmAssignment() {
+        return FinalMileDeliveryTransitions.isAllowed(this, ASSIGNED);
     }
 
     /**
      * 픽업 가능 여부
      */
     public boolean canPickUp() {
-        return this == ASSIGNED;
+        return FinalMileDeliveryTransitions.isAllowed(this, PICKED_UP);
     }
 
     /**
      * 출발 가능 여부
      */
     public boolean canDepart() {
-        return this == PICKED_UP;
+        return FinalMileDeliveryTransitions.isAllowed(this, ON_THE_WAY);
     }
 
     /**
      * 완료 가능 여부
      */
     public boolean canComplete() {
-        return this == ON_THE_WAY || this == PICKED_UP;
+        return FinalMileDeliveryTransitions.isAllowed(this, DELIVERED);
     }
 
     /**
      * 취소 가능 여부
      */
     public boolean canCancel() {
-        return this != DELIVERED && this != CANCELED;
+        return FinalMileDeliveryTransitions.isAllowed(this, CANCELED);
     }
 
     /**
@@ -99,4 +114,4 @@ public enum FinalMileDeliveryStatus {
     public boolean isTerminal() {
         return this == DELIVERED || this == FAILED || this == CANCELED;
     }
-}
\ No newline at end of file
+}
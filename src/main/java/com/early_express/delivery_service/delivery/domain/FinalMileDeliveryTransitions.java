@@ -0,0 +1,147 @@
+package com.early_express.delivery_service.delivery.domain;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus.*;
+
+/**
+ * 최종 배송 상태 전이 규칙 (전이 가능 여부의 단일 기준)
+ *
+ * - (현재 상태, 요청 상태) 허용 여부를 클래스 로딩 시 비트 행렬로 계산, 조회는 배열 인덱스 + 비트 연산만 수행 (할당 없음)
+ * - 엔티티 전이(FinalMileDelivery.transitionTo), FinalMileDeliveryStatus.can*, 조건부 UPDATE의 허용 상태 목록이 모두 이 표를 사용
+ * - 같은 상태로의 재요청: PICKED_UP/ON_THE_WAY는 변경 없이 성공(멱등), 나머지는 전이 불가
+ * - 거절 메시지도 (현재, 요청) 쌍별로 미리 만들어 둠
+ *
+ * <pre>
+ * PENDING    → ASSIGNING, FAILED, CANCELED
+ * ASSIGNING  → PENDING(예약 해제), ASSIGNED, CANCELED
+ * ASSIGNED   → PICKED_UP, FAILED, CANCELED
+ * PICKED_UP  → ON_THE_WAY, DELIVERED, FAILED, CANCELED
+ * ON_THE_WAY → DELIVERED, FAILED, CANCELED
+ * FAILED     → CANCELED (반품/폐기)
+ * DELIVERED, CANCELED → 없음
+ * </pre>
+ */
+public final class FinalMileDeliveryTransitions {
+
+    private static final FinalMileDeliveryStatus[] STATUSES = FinalMileDeliveryStatus.values();
+
+    /**
+     * ALLOWED[from.ordinal()]의 to.ordinal() 번째 비트 = 전이 가능
+     */
+    private static final int[] ALLOWED = new int[STATUSES.length];
+
+    /**
+     * 같은 상태 재요청을 변경 없이 허용하는 상태
+     */
+    private static final int REPEATABLE = bit(PICKED_UP) | bit(ON_THE_WAY);
+
+    private static final String[][] REJECTIONS = new String[STATUSES.length][STATUSES.length];
+
+    private static final List<Set<FinalMileDeliveryStatus>> SOURCES;
+    private static final List<List<String>> SOURCE_NAMES;
+
+    static {
+        allow(PENDING, ASSIGNING, FAILED, CANCELED);
+        allow(ASSIGNING, PENDING, ASSIGNED, CANCELED);
+        allow(ASSIGNED, PICKED_UP, FAILED, CANCELED);
+        allow(PICKED_UP, ON_THE_WAY, DELIVERED, FAILED, CANCELED);
+        allow(ON_THE_WAY, DELIVERED, FAILED, CANCELED);
+        allow(FAILED, CANCELED);
+
+        Set<FinalMileDeliveryStatus>[] sources = new Set[STATUSES.length];
+        List<String>[] sourceNames = new List[STATUSES.length];
+        for (FinalMileDeliveryStatus to : STATUSES) {
+            EnumSet<FinalMileDeliveryStatus> from = EnumSet.noneOf(FinalMileDeliveryStatus.class);
+            for (FinalMileDeliveryStatus candidate : STATUSES) {
+                if (isAllowed(candidate, to)) {
+                    from.add(candidate);
+                }
+                REJECTIONS[candidate.ordinal()][to.ordinal()] = rejection(candidate, to);
+            }
+            sources[to.ordinal()] = Collections.unmodifiableSet(from);
+            sourceNames[to.ordinal()] = from.stream().map(Enum::name).toList();
+        }
+        SOURCES = List.of(sources);
+        SOURCE_NAMES = List.of(sourceNames);
+    }
+
+    private FinalMileDeliveryTransitions() {
+    }
+
+    /**
+     * 전이 가능 여부 (같은 상태 재요청은 false, isNoOp 참고)
+     */
+    public static boolean isAllowed(FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        return (ALLOWED[from.ordinal()] & bit(to)) != 0;
+    }
+
+    /**
+     * 변경 없이 성공으로 처리하는 재요청 여부 (이미 PICKED_UP/ON_THE_WAY인 배송에 같은 상태 요청)
+     */
+    public static boolean isNoOp(FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        return from == to && (REPEATABLE & bit(to)) != 0;
+    }
+
+    /**
+     * 전이 검증
+     *
+     * @return 실제 변경이 필요하면 true, 멱등 재요청이면 false
+     * @throws IllegalStateException 전이 불가
+     */
+    public static boolean check(FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        if (isAllowed(from, to)) {
+            return true;
+        }
+        if (isNoOp(from, to)) {
+            return false;
+        }
+        throw new IllegalStateException(REJECTIONS[from.ordinal()][to.ordinal()]);
+    }
+
+    /**
+     * 요청 상태로 전이할 수 있는 현재 상태 목록
+     */
+    public static Set<FinalMileDeliveryStatus> sourcesOf(FinalMileDeliveryStatus to) {
+        return SOURCES.get(to.ordinal());
+    }
+
+    /**
+     * 요청 상태로 전이할 수 있는 현재 상태 이름 목록 (조건부 UPDATE의 current_status IN (...) 파라미터)
+     */
+    public static List<String> sourceNamesOf(FinalMileDeliveryStatus to) {
+        return SOURCE_NAMES.get(to.ordinal());
+    }
+
+    private static void allow(FinalMileDeliveryStatus from, FinalMileDeliveryStatus... targets) {
+        for (FinalMileDeliveryStatus to : targets) {
+            ALLOWED[from.ordinal()] |= bit(to);
+        }
+    }
+
+    private static int bit(FinalMileDeliveryStatus status) {
+        return 1 << status.ordinal();
+    }
+
+    private static String rejection(FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        return switch (to) {
+            case PENDING -> "배정 대기 상태로 되돌릴 수 없습니다. 현재 상태: " + from;
+            case ASSIGNING -> "담당자 배정은 PENDING 상태에서만 가능합니다. 현재 상태: " + from;
+            case ASSIGNED -> "담당자 배정은 ASSIGNING 상태에서만 가능합니다. 현재 상태: " + from;
+            case PICKED_UP -> from == DELIVERED || from == CANCELED || from == FAILED
+                    ? "이미 완료/취소된 배송입니다. 현재 상태: " + from
+                    : "담당자가 배정되지 않은 배송은 픽업할 수 없습니다. 현재 상태: " + from;
+            case ON_THE_WAY -> "픽업되지 않은 상품은 배송 중 상태로 변경할 수 없습니다. 현재 상태: " + from;
+            case DELIVERED -> "현재 상태(" + from + ")에서는 배송 완료 처리할 수 없습니다.";
+            case FAILED -> from == DELIVERED
+                    ? "이미 완료된 배송을 실패 처리할 수 없습니다."
+                    : "현재 상태(" + from + ")에서는 배송 실패 처리할 수 없습니다.";
+            case CANCELED -> from == DELIVERED
+                    ? "이미 완료된 배송은 취소할 수 없습니다. 반품 절차를 사용하세요."
+                    : "이미 취소된 배송입니다.";
+        };
+    }
+}
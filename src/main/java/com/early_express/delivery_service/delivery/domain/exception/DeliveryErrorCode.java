@@ -25,18 +25,26 @@ public enum DeliveryErrorCode implements ErrorCode {
     DRIVER_ALREADY_ASSIGNED("DELIVERY_110", "이미 담당자가 배정되어 있습니다.", 400),
     DRIVER_ASSIGN_FAILED("DELIVERY_111", "담당자 배정에 실패했습니다.", 400),
     NO_AVAILABLE_DRIVER("DELIVERY_112", "배정 가능한 담당자가 없습니다.", 400),
+    DRIVER_ASSIGN_IN_PROGRESS("DELIVERY_113", "담당자 배정이 진행 중입니다.", 409),
+    DRIVER_ASSIGN_BUSY("DELIVERY_114", "배정 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 503),
 
     // === 데이터 검증 관련 (400) ===
     INVALID_ORDER_ID("DELIVERY_200", "유효하지 않은 주문 ID입니다.", 400),
     INVALID_HUB_ID("DELIVERY_201", "유효하지 않은 허브 ID입니다.", 400),
     INVALID_ADDRESS("DELIVERY_202", "유효하지 않은 주소입니다.", 400),
+    BULK_SIZE_EXCEEDED("DELIVERY_203", "한 번에 처리할 수 있는 건수를 초과했습니다.", 400),
 
     // === 중복 관련 (409) ===
     DELIVERY_ALREADY_EXISTS("DELIVERY_300", "이미 해당 주문의 배송 정보가 존재합니다.", 409),
+    CONCURRENT_MODIFICATION("DELIVERY_301", "다른 요청이 먼저 배송 상태를 변경했습니다. 다시 조회 후 요청해주세요.", 409),
 
     // === 외부 서비스 연결 (5xx) ===
     EXTERNAL_SERVICE_ERROR("DELIVERY_501", "외부 서비스 오류가 발생했습니다.", 500),
-    EXTERNAL_SERVICE_UNAVAILABLE("DELIVERY_502", "외부 서비스를 사용할 수 없습니다.", 503);
+    EXTERNAL_SERVICE_UNAVAILABLE("DELIVERY_502", "외부 서비스를 사용할 수 없습니다.", 503),
+    EXTERNAL_SERVICE_REJECTED("DELIVERY_504", "외부 서비스 호출이 일시적으로 차단되었습니다.", 503),
+
+    // === 이벤트 발행 (5xx) ===
+    EVENT_PUBLISH_FAILED("DELIVERY_503", "배송 이벤트 저장에 실패했습니다.", 500);
 
     private final String code;
     private final String message;
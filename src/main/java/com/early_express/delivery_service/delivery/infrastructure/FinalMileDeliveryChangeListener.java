@@ -0,0 +1,29 @@
+package com.early_express.delivery_service.delivery.infrastructure;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * FinalMileDelivery JPA 엔티티 리스너
+ * - INSERT/UPDATE 직후 FinalMileDeliveryChangedEvent 발행
+ * - 서비스마다 이벤트 발행을 추가하지 않아도 모든 상태 전이(배정, 픽업, 출발, 완료, 취소)가 전달됨
+ * - JPQL 일괄 UPDATE(updateStatusIfCurrent 등)는 엔티티를 거치지 않으므로 발행되지 않음
+ * - Spring Boot가 Hibernate BeanContainer로 등록한 SpringBeanContainer를 통해 생성자 주입
+ */
+@Component
+@RequiredArgsConstructor
+public class FinalMileDeliveryChangeListener {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(FinalMileDelivery delivery) {
+        applicationEventPublisher.publishEvent(FinalMileDeliveryChangedEvent.from(delivery));
+    }
+}
@@ -3,26 +3,42 @@ package com.early_express.delivery_service.delivery.infrastructure;
 import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
 import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
 import feign.Param;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import com.early_express.delivery_service.delivery.infrastructure.projection.DeliveryDetailProjection;
+import com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection;
+import com.early_express.delivery_service.delivery.infrastructure.projection.TodayDeliveryProjection;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface FinalMileDeliveryRepository extends JpaRepository<FinalMileDelivery, String>, QuerydslPredicateExecutor<FinalMileDelivery> {
+public interface FinalMileDeliveryRepository extends JpaRepository<FinalMileDelivery, UUID>, QuerydslPredicateExecutor<FinalMileDelivery> {
 
     // 1. 배송 ID로 단일 배송건 조회 (PK 기반이 아닌 필드 기반 조회)
     // PK는 JpaRepository가 기본 제공하므로, 필요에 따라 FK나 다른 필드 기반 조회를 추가합니다.
-    Optional<FinalMileDelivery> findByFinalMileId(String finalMileId);
+    Optional<FinalMileDelivery> findByFinalMileId(UUID finalMileId);
 
     // 2. 주문 ID로 해당 배송건 조회
     // FinalMileDelivery는 Order와 1:1 관계일 가능성이 높으므로 Optional<T>로 받습니다.
     Optional<FinalMileDelivery> findByOrderId(String orderId);
 
+    // 2-1. 여러 주문 ID로 기존 배송건 일괄 조회 (일괄 생성 시 중복 체크)
+    List<FinalMileDelivery> findAllByOrderIdIn(Collection<String> orderIds);
+
     // 3. 담당자(Agent) ID와 상태로 목록 조회
     // 담당자가 현재 배송 중인 목록이나 완료 목록을 조회할 때 사용됩니다.
     List<FinalMileDelivery> findByAgentIdAndCurrentStatus(String agentId, FinalMileDeliveryStatus currentStatus);
@@ -33,8 +49,12 @@ public interface FinalMileDeliveryRepository extends JpaRepository<FinalMileDeli
     /**
      * 특정 허브의 당일 배송 목록 조회 (ASSIGNED 상태, 담당자 배정됨)
      * - expectedTime이 오늘 날짜인 배송건만 조회
+     * - 엔티티 대신 프로젝션으로 필요한 컬럼만 조회
      */
-    @Query("SELECT f FROM FinalMileDelivery f " +
+    @Query("SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.TodayDeliveryProjection(" +
+            "f.finalMileId, f.orderId, f.hubId, f.agentId, f.agentName, f.currentStatus, " +
+            "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.expectedTime) " +
+            "FROM FinalMileDelivery f " +
             "WHERE f.hubId = :hubId " +
             "AND f.currentStatus = 'ASSIGNED' " +
             "AND f.agentId IS NOT NULL " +
@@ -42,7 +62,7 @@ public interface FinalMileDeliveryRepository extends JpaRepository<FinalMileDeli
             "AND f.expectedTime < :endOfDay " +
             "AND f.isDeleted = false " +
             "ORDER BY f.agentId, f.expectedTime")
-    List<FinalMileDelivery> findTodayAssignedDeliveriesByHub(
+    List<TodayDeliveryProjection> findTodayAssignedDeliveriesByHub(
             @Param("hubId") String hubId,
             @Param("startOfDay") LocalDateTime startOfDay,
             @Param("endOfDay") LocalDateTime endOfDay);
@@ -50,14 +70,17 @@ public interface FinalMileDeliveryRepository extends JpaRepository<FinalMileDeli
     /**
      * 당일 배송 목록 전체 조회 (모든 허브, ASSIGNED 상태)
      */
-    @Query("SELECT f FROM FinalMileDelivery f " +
+    @Query("SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.TodayDeliveryProjection(" +
+            "f.finalMileId, f.orderId, f.hubId, f.agentId, f.agentName, f.currentStatus, " +
+            "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.expectedTime) " +
+            "FROM FinalMileDelivery f " +
             "WHERE f.currentStatus = 'ASSIGNED' " +
             "AND f.agentId IS NOT NULL " +
             "AND f.expectedTime >= :startOfDay " +
             "AND f.expectedTime < :endOfDay " +
             "AND f.isDeleted = false " +
             "ORDER BY f.agentId, f.expectedTime")
-    List<FinalMileDelivery> findTodayAssignedDeliveries(
+    List<TodayDeliveryProjection> findTodayAssignedDeliveries(
             @Param("startOfDay") LocalDateTime startOfDay,
             @Param("endOfDay") LocalDateTime endOfDay);
 
@@ -75,4 +98,203 @@ public interface FinalMileDeliveryRepository extends JpaRepository<FinalMileDeli
             @Param("agentId") String agentId,
             @Param("startOfDay") LocalDateTime startOfDay,
             @Param("endOfDay") LocalDateTime endOfDay);
+
+    /**
+     * 현재 상태가 일치할 때만 상태 변경 (원자적 조건부 UPDATE)
+     * - 배정 예약(PENDING → ASSIGNING) 및 복구(ASSIGNING → PENDING)에 사용
+     * - 버전을 함께 올려 먼저 조회해 둔 엔티티의 변경 감지 UPDATE가 충돌하도록 함
+     *
+     * @return 변경된 행 수 (0이면 다른 요청이 먼저 상태를 바꾼 것)
+     */
+    @Modifying
+    @Query("UPDATE FinalMileDelivery f " +
+            "SET f.currentStatus = :to, f.updatedAt = :now, f.version = f.version + 1 " +
+            "WHERE f.finalMileId = :finalMileId " +
+            "AND f.currentStatus = :from")
+    int updateStatusIfCurrent(
+            @Param("finalMileId") UUID finalMileId,
+            @Param("from") FinalMileDeliveryStatus from,
+            @Param("to") FinalMileDeliveryStatus to,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 오래된 배정 예약 해제 (ASSIGNING → PENDING)
+     * - 배정 도중 인스턴스가 종료되어 남은 예약 정리용
+     */
+    @Modifying
+    @Query("UPDATE FinalMileDelivery f " +
+            "SET f.currentStatus = :pending, f.updatedAt = :now, f.version = f.version + 1 " +
+            "WHERE f.currentStatus = :assigning " +
+            "AND f.updatedAt < :threshold")
+    int releaseStaleReservations(
+            @Param("assigning") FinalMileDeliveryStatus assigning,
+            @Param("pending") FinalMileDeliveryStatus pending,
+            @Param("threshold") LocalDateTime threshold,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 허브의 배정 대기 배송 잠금 조회 (일괄 배정용)
+     * - lock.timeout = -2 → FOR UPDATE SKIP LOCKED (다른 요청이 처리 중인 건은 건너뜀)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT f FROM FinalMileDelivery f " +
+            "WHERE f.hubId = :hubId " +
+            "AND f.currentStatus = :status " +
+            "AND f.isDeleted = false " +
+            "ORDER BY f.expectedTime")
+    List<FinalMileDelivery> findByHubForAssignment(
+            @Param("hubId") String hubId,
+            @Param("status") FinalMileDeliveryStatus status,
+            Limit limit);
+
+    /**
+     * 지정한 배송 중 배정 대기 건 잠금 조회 (일괄 배정용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT f FROM FinalMileDelivery f " +
+            "WHERE f.finalMileId IN :finalMileIds " +
+            "AND f.currentStatus = :status " +
+            "AND f.isDeleted = false")
+    List<FinalMileDelivery> findByIdsForAssignment(
+            @Param("finalMileIds") Collection<UUID> finalMileIds,
+            @Param("status") FinalMileDeliveryStatus status);
+
+    /**
+     * 여러 배송의 조건부 상태 변경 (일괄 예약/복구용)
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE FinalMileDelivery f " +
+            "SET f.currentStatus = :to, f.updatedAt = :now, f.version = f.version + 1 " +
+            "WHERE f.finalMileId IN :finalMileIds " +
+            "AND f.currentStatus = :from")
+    int updateStatusIfCurrentIn(
+            @Param("finalMileIds") Collection<UUID> finalMileIds,
+            @Param("from") FinalMileDeliveryStatus from,
+            @Param("to") FinalMileDeliveryStatus to,
+            @Param("now") LocalDateTime now);
+
+    // ==================== 조건부 상태 전이 (PostgreSQL 전용) ====================
+    // 현재 상태가 허용 목록에 있을 때만 UPDATE하고 변경된 행 전체를 RETURNING으로 받음 (조회 + 변경 감지 UPDATE 대신 1회 왕복)
+    // 엔티티 리스너가 실행되지 않으므로 변경 이벤트는 FinalMileDeliveryTransitionUpdater가 직접 발행
+
+    /**
+     * 출발 처리 (→ ON_THE_WAY, 최초 출발 시간 기록)
+     *
+     * @return 변경된 배송 (허용되지 않는 상태이거나 없으면 empty)
+     */
+    @Query(value = "UPDATE p_final_mile_delivery " +
+            "SET current_status = 'ON_THE_WAY', departed_at = COALESCE(departed_at, :now), " +
+            "updated_at = :now, version = version + 1 " +
+            "WHERE final_mile_id = :finalMileId AND current_status IN (:from) " +
+            "RETURNING *", nativeQuery = true)
+    Optional<FinalMileDelivery> departIfCurrentIn(
+            @Param("finalMileId") UUID finalMileId,
+            @Param("from") Collection<String> from,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 배송 완료 (→ DELIVERED, 완료 시간 기록)
+     */
+    @Query(value = "UPDATE p_final_mile_delivery " +
+            "SET current_status = 'DELIVERED', delivered_at = :now, " +
+            "updated_at = :now, version = version + 1 " +
+            "WHERE final_mile_id = :finalMileId AND current_status IN (:from) " +
+            "RETURNING *", nativeQuery = true)
+    Optional<FinalMileDelivery> completeIfCurrentIn(
+            @Param("finalMileId") UUID finalMileId,
+            @Param("from") Collection<String> from,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 배송 취소 (→ CANCELED)
+     */
+    @Query(value = "UPDATE p_final_mile_delivery " +
+            "SET current_status = 'CANCELED', " +
+            "updated_at = :now, version = version + 1 " +
+            "WHERE final_mile_id = :finalMileId AND current_status IN (:from) " +
+            "RETURNING *", nativeQuery = true)
+    Optional<FinalMileDelivery> cancelIfCurrentIn(
+            @Param("finalMileId") UUID finalMileId,
+            @Param("from") Collection<String> from,
+            @Param("now") LocalDateTime now);
+
+    // ==================== 조회 전용 프로젝션 ====================
+
+    /**
+     * 배송 목록 오프셋 페이지 조회 (정렬은 Pageable 기준)
+     */
+    @Query(value = "SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection(" +
+            "f.finalMileId, f.orderId, f.agentId, f.currentStatus, " +
+            "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.startedAt) " +
+            "FROM FinalMileDelivery f",
+            countQuery = "SELECT count(f) FROM FinalMileDelivery f")
+    Page<DeliverySummaryProjection> findSummaries(Pageable pageable);
+
+    /**
+     * 배송 상세 조회
+     */
+    @Query("SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.DeliveryDetailProjection(" +
+            "f.finalMileId, f.orderId, f.agentId, f.currentStatus, f.deliveryAddress, " +
+            "f.recipientName, f.recipientSlackId, f.startedAt, f.expectedTime, f.deliveredAt) " +
+            "FROM FinalMileDelivery f " +
+            "WHERE f.finalMileId = :finalMileId")
+    Optional<DeliveryDetailProjection> findDetailById(@Param("finalMileId") UUID finalMileId);
+
+    // ==================== 커서(키셋) 페이지네이션 ====================
+    // 정렬: startedAt DESC NULLS LAST, finalMileId DESC (OFFSET / count 없이 인덱스 범위 조회)
+
+    /**
+     * 첫 페이지
+     */
+    @Query("SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection(" +
+            "f.finalMileId, f.orderId, f.agentId, f.currentStatus, " +
+            "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.startedAt) " +
+            "FROM FinalMileDelivery f " +
+            "ORDER BY f.startedAt DESC NULLS LAST, f.finalMileId DESC")
+    List<DeliverySummaryProjection> findFirstKeysetPage(Limit limit);
+
+    /**
+     * 다음 페이지 (마지막 행의 startedAt이 있는 경우, startedAt이 있는 행만)
+     * - 행 값 비교 (startedAt, finalMileId) < (?, ?) 한 조건으로 정렬 인덱스 범위 조회
+     *   (OR로 나누면 인덱스 범위 조건으로 쓰지 못해 깊은 페이지에서 필터 + 정렬로 떨어짐)
+     * - 결과가 모자라면 startedAt 없는 행은 findFirstUnstartedKeysetPage로 이어서 조회
+     */
+    @Query("SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection(" +
+            "f.finalMileId, f.orderId, f.agentId, f.currentStatus, " +
+            "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.startedAt) " +
+            "FROM FinalMileDelivery f " +
+            "WHERE (f.startedAt, f.finalMileId) < (:startedAt, :finalMileId) " +
+            "ORDER BY f.startedAt DESC NULLS LAST, f.finalMileId DESC")
+    List<DeliverySummaryProjection> findKeysetPageAfter(
+            @Param("startedAt") LocalDateTime startedAt,
+            @Param("finalMileId") UUID finalMileId,
+            Limit limit);
+
+    /**
+     * startedAt 없는 행의 첫 페이지 (startedAt 있는 행을 다 읽은 뒤 이어서 조회)
+     */
+    @Query("SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection(" +
+            "f.finalMileId, f.orderId, f.agentId, f.currentStatus, " +
+            "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.startedAt) " +
+            "FROM FinalMileDelivery f " +
+            "WHERE f.startedAt IS NULL " +
+            "ORDER BY f.finalMileId DESC")
+    List<DeliverySummaryProjection> findFirstUnstartedKeysetPage(Limit limit);
+
+    /**
+     * 다음 페이지 (마지막 행의 startedAt이 없는 경우 → startedAt 없는 행만 남음)
+     */
+    @Query("SELECT new com.early_express.delivery_service.delivery.infrastructure.projection.DeliverySummaryProjection(" +
+            "f.finalMileId, f.orderId, f.agentId, f.currentStatus, " +
+            "f.deliveryAddress, f.recipientName, f.recipientSlackId, f.startedAt) " +
+            "FROM FinalMileDelivery f " +
+            "WHERE f.startedAt IS NULL AND f.finalMileId < :finalMileId " +
+            "ORDER BY f.finalMileId DESC")
+    List<DeliverySummaryProjection> findKeysetPageAfterUnstarted(
+            @Param("finalMileId") UUID finalMileId,
+            Limit limit);
 }
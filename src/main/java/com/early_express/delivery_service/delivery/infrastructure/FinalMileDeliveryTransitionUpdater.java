@@ -0,0 +1,103 @@
+package com.early_express.delivery_service.delivery.infrastructure;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryChangedEvent;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryTransitions;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 자주 쓰는 상태 전이의 단일 UPDATE 처리 (출발, 완료, 취소)
+ *
+ * - 허용 상태 목록은 FinalMileDeliveryTransitions 행렬에서 가져와 엔티티 전이(transitionTo)와 같은 조건 유지
+ * - UPDATE ... WHERE current_status IN (...) RETURNING * 한 번으로 검증 + 변경 + 결과 조회 (findById + 전체 컬럼 UPDATE 대신)
+ * - 결과 엔티티로 Kafka 이벤트/드라이버 통지를 그대로 만들 수 있고, 엔티티 리스너 대신 변경 이벤트를 직접 발행
+ * - empty 반환 시(비활성화, 허용되지 않는 상태, 없는 배송) 호출한 쪽이 기존 엔티티 경로로 처리하여
+ *   같은 오류 메시지/멱등 처리(이미 ON_THE_WAY 등)를 유지
+ * - RETURNING은 PostgreSQL 전용이므로 기본값은 비활성화 (PostgreSQL 환경에서 STATE_TRANSITION_FAST_PATH=true)
+ * - 결과 행을 받아야 하므로 @Modifying(executeUpdate)을 쓸 수 없어 영속성 컨텍스트는 직접 정리
+ *   (실행 전 flush, 같은 배송의 관리 엔티티는 분리 → RETURNING 결과로 새로 적재되어 이전 상태가 남지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class FinalMileDeliveryTransitionUpdater {
+
+    private static final List<String> DEPARTABLE =
+            FinalMileDeliveryTransitions.sourceNamesOf(FinalMileDeliveryStatus.ON_THE_WAY);
+    private static final List<String> COMPLETABLE =
+            FinalMileDeliveryTransitions.sourceNamesOf(FinalMileDeliveryStatus.DELIVERED);
+    private static final List<String> CANCELABLE =
+            FinalMileDeliveryTransitions.sourceNamesOf(FinalMileDeliveryStatus.CANCELED);
+
+    private final FinalMileDeliveryRepository finalMileDeliveryRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+
+    @Value("${delivery.state-transition.fast-path-enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 출발 처리 (PICKED_UP → ON_THE_WAY)
+     */
+    public Optional<FinalMileDelivery> depart(String finalMileId) {
+        return apply(FinalMileDeliveryStatus.ON_THE_WAY, finalMileId,
+                id -> finalMileDeliveryRepository.departIfCurrentIn(id, DEPARTABLE, LocalDateTime.now()));
+    }
+
+    /**
+     * 배송 완료 (PICKED_UP/ON_THE_WAY → DELIVERED)
+     */
+    public Optional<FinalMileDelivery> complete(String finalMileId) {
+        return apply(FinalMileDeliveryStatus.DELIVERED, finalMileId,
+                id -> finalMileDeliveryRepository.completeIfCurrentIn(id, COMPLETABLE, LocalDateTime.now()));
+    }
+
+    /**
+     * 배송 취소 (완료/취소 외 → CANCELED)
+     */
+    public Optional<FinalMileDelivery> cancel(String finalMileId) {
+        return apply(FinalMileDeliveryStatus.CANCELED, finalMileId,
+                id -> finalMileDeliveryRepository.cancelIfCurrentIn(id, CANCELABLE, LocalDateTime.now()));
+    }
+
+    private Optional<FinalMileDelivery> apply(FinalMileDeliveryStatus to, String finalMileId,
+                                              Function<UUID, Optional<FinalMileDelivery>> update) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Optional<FinalMileDelivery> updated = UuidUtils.parse(finalMileId).flatMap(id -> {
+            detachManaged(id);
+            return update.apply(id);
+        });
+        updated.ifPresent(delivery ->
+                applicationEventPublisher.publishEvent(FinalMileDeliveryChangedEvent.from(delivery)));
+
+        meterRegistry.counter("delivery.state_transition.path",
+                "to", to.name(), "path", updated.isPresent() ? "fast" : "fallback").increment();
+        return updated;
+    }
+
+    /**
+     * @Modifying(flushAutomatically, clearAutomatically)에 해당하는 처리 (해당 배송 한 건만 분리)
+     * - 먼저 flush하여 대기 중인 변경을 반영한 뒤 분리하므로 다른 변경은 잃지 않음
+     * - 관리 중인 엔티티가 남아 있으면 RETURNING 결과 대신 그 인스턴스(이전 상태)가 반환됨
+     */
+    private void detachManaged(UUID finalMileId) {
+        entityManager.flush();
+        entityManager.detach(entityManager.getReference(FinalMileDelivery.class, finalMileId));
+    }
+}
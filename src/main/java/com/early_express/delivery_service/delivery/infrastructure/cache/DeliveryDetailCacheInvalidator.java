@@ -0,0 +1,124 @@
+package com.early_express.delivery_service.delivery.infrastructure.cache;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryChangedEvent;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
+import com.early_express.delivery_service.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 배송 상세 캐시 무효화
+ *
+ * - 로컬: 트랜잭션 커밋 이후 캐시 항목 제거 (커밋 전 제거 시 다른 요청이 이전 값을 다시 캐시할 수 있음)
+ * - 인스턴스 간: 제거한 ID를 Kafka 토픽으로 전파, 모든 인스턴스가 인스턴스별 그룹 ID로 구독하여 로컬 캐시 제거
+ * - 엔티티 변경은 FinalMileDeliveryChangedEvent로 자동 처리,
+ *   JPQL UPDATE(배정 예약/해제 등)처럼 엔티티를 거치지 않는 변경은 evictAfterCommit 직접 호출
+ * - 캐시 키는 UUID로 파싱한 표준 문자열 (getDeliveryDetail의 @Cacheable key와 같음),
+ *   전달받은 ID의 표기(대소문자 등)와 무관하게 제거, UUID가 아닌 ID는 캐시되지 않으므로 제거/전파하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryDetailCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${spring.kafka.topic.delivery-cache-invalidation:delivery-cache-invalidation}")
+    private String invalidationTopic;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeliveryChanged(FinalMileDeliveryChangedEvent event) {
+        evictAndBroadcast(List.of(event.finalMileId().toString()));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 캐시 제거 (트랜잭션이 없으면 즉시 제거)
+     *
+     * @param finalMileIds 배송 ID 목록
+     */
+    public void evictAfterCommit(Collection<String> finalMileIds) {
+        List<String> ids = finalMileIds.stream()
+                .map(DeliveryDetailCacheInvalidator::cacheKeyOf)
+                .filter(Objects::nonNull)
+                .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndBroadcast(ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAndBroadcast(ids);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 (재전파하지 않음)
+     * - 인스턴스마다 고유 그룹 ID로 구독 (모든 인스턴스가 같은 메시지를 받음)
+     * - 그룹 ID는 Eureka 인스턴스 ID로 고정 (재시작마다 새 그룹이 생겨 브로커에 쌓이지 않도록)
+     *   인스턴스 ID가 겹치면 한 인스턴스만 메시지를 받으므로 인스턴스마다 EUREKA_INSTANCE_HOSTNAME 지정 필요 (Eureka 등록과 같은 조건)
+     * - 처음 구독하는 인스턴스는 과거 메시지를 읽지 않음 (latest),
+     *   재시작 시 밀린 메시지를 읽어도 비어 있는 캐시를 제거할 뿐이라 무해
+     */
+    @KafkaListener(
+            topics = "${spring.kafka.topic.delivery-cache-invalidation:delivery-cache-invalidation}",
+            groupId = "${spring.application.name}-cache-${eureka.instance.instance-id:local}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onInvalidation(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) {
+        evictLocal(record.key());
+        acknowledgment.acknowledge();
+    }
+
+    private void evictAndBroadcast(List<String> finalMileIds) {
+        for (String finalMileId : finalMileIds) {
+            evictLocal(finalMileId);
+            kafkaTemplate.send(invalidationTopic, finalMileId, finalMileId)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            // 전파 실패 시 다른 인스턴스는 TTL 만료까지 이전 값을 응답할 수 있음
+                            log.warn("배송 상세 캐시 무효화 전파 실패 - finalMileId: {}, error: {}",
+                                    finalMileId, ex.getMessage());
+                        }
+                    });
+        }
+    }
+
+    private void evictLocal(String finalMileId) {
+        Cache cache = cacheManager.getCache(CacheConfig.DELIVERY_DETAIL);
+        if (cache != null && finalMileId != null) {
+            cache.evict(cacheKeyOf(finalMileId));
+        }
+    }
+
+    /**
+     * 배송 상세 캐시 키 (UUID 표준 문자열, UUID가 아니면 null)
+     */
+    public static String cacheKeyOf(String finalMileId) {
+        return UuidUtils.parse(finalMileId).map(UUID::toString).orElse(null);
+    }
+}
@@ -2,6 +2,8 @@ package com.early_express.delivery_service.delivery.infrastructure.client;
 
 import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignRequest;
 import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverBulkAssignRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverBulkAssignResponse;
 import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverCompleteRequest;
 import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverOperationResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -13,11 +15,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 /**
  * Last Mile Driver Service Feign Client
  * Delivery Service → Last Mile Driver Service
+ *
+ * - 서비스 코드에는 ResilientLastMileDriverClient(@Primary)가 주입됨
+ *   (Feign 프록시는 primary = false, lastMileDriverFeignClient 한정자로만 주입)
  */
 @FeignClient(
         name = "last-mile-driver-service",
 //        url = "${client.last-mile-driver-service.url}",
-        configuration = LastMileDriverClientConfig.class
+        configuration = LastMileDriverClientConfig.class,
+        qualifiers = "lastMileDriverFeignClient",
+        primary = false
 )
 public interface LastMileDriverClient {
 
@@ -31,6 +38,16 @@ public interface LastMileDriverClient {
     @PostMapping("/v1/last-mile-driver/internal/drivers/assign")
     DriverAssignResponse assignDriver(@RequestBody DriverAssignRequest request);
 
+    /**
+     * 드라이버 일괄 배정 (허브 웨이브 단위)
+     * - 요청 순서대로 허브별 드라이버를 배정하고 배송 건별 결과 반환
+     *
+     * @param request 배정 요청 목록 (hubId, deliveryId)
+     * @return 배송 건별 배정 결과
+     */
+    @PostMapping("/v1/last-mile-driver/internal/drivers/assign/bulk")
+    DriverBulkAssignResponse assignDrivers(@RequestBody DriverBulkAssignRequest request);
+
     /**
      * 배송 완료 통지
      * - 드라이버 상태를 AVAILABLE로 변경하고 통계 업데이트
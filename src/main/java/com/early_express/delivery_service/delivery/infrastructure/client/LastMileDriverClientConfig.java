@@ -1,22 +1,39 @@
 package com.early_express.delivery_service.delivery.infrastructure.client;
 
 import com.early_express.delivery_service.global.config.FeignConfig;
+import feign.Retryer;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 
 /**
  * Last Mile Driver Client 설정
  * - 글로벌 FeignConfig 상속 (timeout, retry, logging 등)
- * - ErrorDecoder만 커스텀
+ * - ErrorDecoder(오류 응답 메트릭 포함), Retryer 커스텀
  */
+@RequiredArgsConstructor
 public class LastMileDriverClientConfig extends FeignConfig {
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * Last Mile Driver 전용 에러 디코더
      */
     @Bean
     @Override
     public ErrorDecoder errorDecoder() {
-        return new LastMileDriverErrorDecoder();
+        return new LastMileDriverErrorDecoder(meterRegistry);
+    }
+
+    /**
+     * Feign 자체 재시도 비활성화
+     * - 배정 POST까지 매번 재시도되어 장애 시 드라이버 서비스 부하가 배로 늘어나므로,
+     *   재시도는 ResilientLastMileDriverClient가 멱등 호출에 한해 재시도 예산 안에서만 수행
+     */
+    @Bean
+    @Override
+    public Retryer retryer() {
+        return Retryer.NEVER_RETRY;
     }
 }
\ No newline at end of file
@@ -4,20 +4,52 @@ import com.early_express.delivery_service.delivery.domain.exception.DeliveryErro
 import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
 import feign.Response;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Last Mile Driver Client 에러 디코더
+ * - 상태 코드 → DeliveryException 변환은 LastMileDriverReactiveClient와 공유
+ * - 오류 응답 분포: delivery.driver_client.errors (method, status, code)
  */
 @Slf4j
+@RequiredArgsConstructor
 public class LastMileDriverErrorDecoder implements ErrorDecoder {
 
+    private final MeterRegistry meterRegistry;
+
     @Override
     public Exception decode(String methodKey, Response response) {
         log.error("LastMileDriverClient 에러 - method: {}, status: {}, reason: {}",
                 methodKey, response.status(), response.reason());
 
-        return switch (response.status()) {
+        return decode(methodNameOf(methodKey), response.status());
+    }
+
+    /**
+     * 오류 응답 변환 + 집계 (Feign, WebClient 공통)
+     *
+     * @param method 호출 메서드 이름 (assignDriver 등)
+     * @param status HTTP 상태 코드
+     */
+    public DeliveryException decode(String method, int status) {
+        DeliveryException exception = toException(status);
+        meterRegistry.counter("delivery.driver_client.errors",
+                "method", method,
+                "status", String.valueOf(status),
+                "code", exception.getErrorCode().name()).increment();
+        return exception;
+    }
+
+    /**
+     * 드라이버 서비스 오류 응답 상태 코드를 도메인 예외로 변환
+     *
+     * @param status HTTP 상태 코드
+     * @return 상태 코드에 대응하는 DeliveryException
+     */
+    public static DeliveryException toException(int status) {
+        return switch (status) {
             case 404 -> new DeliveryException(
                     DeliveryErrorCode.DRIVER_NOT_FOUND,
                     "배송 담당자를 찾을 수 없습니다."
@@ -32,8 +64,17 @@ public class LastMileDriverErrorDecoder implements ErrorDecoder {
             );
             default -> new DeliveryException(
                     DeliveryErrorCode.EXTERNAL_SERVICE_ERROR,
-                    "배송 담당자 서비스 오류가 발생했습니다. status: " + response.status()
+                    "배송 담당자 서비스 오류가 발생했습니다. status: " + status
             );
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Feign configKey(LastMileDriverClient#assignDriver(DriverAssignRequest))에서 메서드 이름만 추출
+     */
+    static String methodNameOf(String methodKey) {
+        int start = methodKey.indexOf('#');
+        int end = methodKey.indexOf('(');
+        return start >= 0 && end > start ? methodKey.substring(start + 1, end) : methodKey;
+    }
+}
@@ -0,0 +1,192 @@
+package com.early_express.delivery_service.delivery.infrastructure.client;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverCompleteRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverOperationResponse;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.global.infrastructure.routing.HubAffinityLoadBalancer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Last Mile Driver Service 논블로킹 클라이언트 (WebClient)
+ * Delivery Service → Last Mile Driver Service
+ *
+ * - LastMileDriverClient(Feign)와 같은 엔드포인트, 같은 오류 변환(LastMileDriverErrorDecoder)
+ * - 호출 동안 스레드를 점유하지 않으므로 일괄 보상 취소/완료 통지처럼 수백 건을 동시에 보낼 때 사용
+ * - 전용 커넥션 풀: 최대 연결 수를 넘는 요청은 대기열(pending-acquire)에서 기다리고, 대기열이 가득 차면 즉시 실패
+ * - 호출별 타임아웃: 응답 지연 시 EXTERNAL_SERVICE_UNAVAILABLE
+ * - fanOut: 동시 호출 수를 max-concurrency로 제한 (다음 요청은 앞선 응답이 도착해야 구독)
+ */
+@Slf4j
+@Component
+public class LastMileDriverReactiveClient {
+
+    private static final String BASE_URL = "http://last-mile-driver-service";
+    private static final String DRIVERS_PATH = "/v1/last-mile-driver/internal/drivers";
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Duration callTimeout;
+    private final int maxConcurrency;
+    private final MeterRegistry meterRegistry;
+    private final LastMileDriverErrorDecoder errorDecoder;
+
+    public LastMileDriverReactiveClient(
+            @LoadBalanced WebClient.Builder loadBalancedWebClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${delivery.driver-client.max-connections:500}") int maxConnections,
+            @Value("${delivery.driver-client.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${delivery.driver-client.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${delivery.driver-client.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${delivery.driver-client.call-timeout-ms:5000}") long callTimeoutMs,
+            @Value("${delivery.driver-client.max-concurrency:200}") int maxConcurrency
+    ) {
+        this.connectionProvider = ConnectionProvider.builder("last-mile-driver")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(callTimeoutMs));
+
+        // 공유 빌더를 복제해 로드밸런서/로깅 필터는 유지하고 커넥터만 교체
+        this.webClient = loadBalancedWebClientBuilder.clone()
+                .baseUrl(BASE_URL)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.callTimeout = Duration.ofMillis(callTimeoutMs);
+        this.maxConcurrency = maxConcurrency;
+        this.meterRegistry = meterRegistry;
+        this.errorDecoder = new LastMileDriverErrorDecoder(meterRegistry);
+    }
+
+    /**
+     * 드라이버 자동 배정 (허브별, 드라이버 서비스가 허브 링을 게시하면 허브 소유 인스턴스로 라우팅)
+     *
+     * @param request 배정 요청 (hubId, deliveryId)
+     * @return 배정된 드라이버 정보
+     */
+    public Mono<DriverAssignResponse> assignDriver(DriverAssignRequest request) {
+        return call("assignDriver", webClient.post()
+                .uri(DRIVERS_PATH + "/assign")
+                .header(HubAffinityLoadBalancer.HUB_ID_HEADER, request.getHubId())
+                .bodyValue(request), DriverAssignResponse.class);
+    }
+
+    /**
+     * 배송 완료 통지
+     *
+     * @param driverId 드라이버 ID
+     * @param request 완료 정보 (배송 소요 시간 등)
+     * @return 처리 결과
+     */
+    public Mono<DriverOperationResponse> completeDelivery(String driverId, DriverCompleteRequest request) {
+        return call("completeDelivery", webClient.put()
+                .uri(DRIVERS_PATH + "/{driverId}/complete", driverId)
+                .bodyValue(request), DriverOperationResponse.class);
+    }
+
+    /**
+     * 배송 취소 통지
+     *
+     * @param driverId 드라이버 ID
+     * @return 처리 결과
+     */
+    public Mono<DriverOperationResponse> cancelDelivery(String driverId) {
+        return call("cancelDelivery", webClient.put()
+                .uri(DRIVERS_PATH + "/{driverId}/cancel", driverId), DriverOperationResponse.class);
+    }
+
+    /**
+     * 여러 건 동시 호출 (동시 호출 수 제한)
+     * - 한 건의 실패가 나머지를 취소하지 않도록 call 쪽에서 onErrorResume으로 처리할 것
+     *
+     * @param items 호출 대상
+     * @param call  대상별 호출
+     * @return 응답 순서대로의 결과 (요청 순서와 다를 수 있음)
+     */
+    public <T, R> Flux<R> fanOut(Collection<T> items, Function<T, Mono<R>> call) {
+        return Flux.fromIterable(items).flatMap(call, maxConcurrency);
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * 호출 시간 기록: delivery.driver_client.requests (client=webclient, 구독 시점부터 응답/오류까지)
+     */
+    private <T> Mono<T> call(String operation, WebClient.RequestHeadersSpec<?> request, Class<T> responseType) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return request.retrieve()
+                    .onStatus(HttpStatusCode::isError, response -> {
+                        log.error("LastMileDriverReactiveClient 에러 - method: {}, status: {}",
+                                operation, response.statusCode().value());
+                        return Mono.error(errorDecoder.decode(operation, response.statusCode().value()));
+                    })
+                    .bodyToMono(responseType)
+                    .timeout(callTimeout)
+                    .onErrorMap(e -> !(e instanceof DeliveryException), e -> toDeliveryException(operation, e))
+                    .doOnSuccess(response -> record(sample, operation, "success"))
+                    .doOnError(e -> record(sample, operation, DeliveryMetrics.outcomeOf(e)));
+        });
+    }
+
+    private void record(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(meterRegistry.timer("delivery.driver_client.requests",
+                "client", "webclient", "method", operation, "outcome", outcome));
+    }
+
+    private DeliveryException toDeliveryException(String operation, Throwable e) {
+        if (e instanceof TimeoutException) {
+            return new DeliveryException(
+                    DeliveryErrorCode.EXTERNAL_SERVICE_UNAVAILABLE,
+                    "배송 담당자 서비스 응답 시간이 초과되었습니다. method: " + operation,
+                    e
+            );
+        }
+        if (e instanceof WebClientRequestException) {
+            // 연결 실패, 커넥션 풀 대기열 초과 등 요청 전송 전 실패
+            return new DeliveryException(
+                    DeliveryErrorCode.EXTERNAL_SERVICE_UNAVAILABLE,
+                    "배송 담당자 서비스를 사용할 수 없습니다. method: " + operation,
+                    e
+            );
+        }
+        return new DeliveryException(
+                DeliveryErrorCode.EXTERNAL_SERVICE_ERROR,
+                "배송 담당자 서비스 오류가 발생했습니다. method: " + operation,
+                e
+        );
+    }
+}
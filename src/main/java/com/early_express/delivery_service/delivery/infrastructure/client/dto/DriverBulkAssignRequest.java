@@ -0,0 +1,27 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 드라이버 일괄 배정 요청
+ * Delivery Service → Last Mile Driver Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverBulkAssignRequest {
+
+    private List<DriverAssignRequest> assignments;
+
+    public static DriverBulkAssignRequest of(List<DriverAssignRequest> assignments) {
+        return DriverBulkAssignRequest.builder()
+                .assignments(assignments)
+                .build();
+    }
+}
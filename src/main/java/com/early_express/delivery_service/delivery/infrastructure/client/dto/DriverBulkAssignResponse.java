@@ -0,0 +1,55 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드라이버 일괄 배정 응답
+ * Last Mile Driver Service → Delivery Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverBulkAssignResponse {
+
+    private List<Item> results;
+
+    /**
+     * 배송 건별 배정 결과
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String deliveryId;
+        private boolean success;
+        private String message;
+        private String driverId;
+        private String userId;
+        private String hubId;
+        private String driverName;
+        private String status;
+        private LocalDateTime assignedAt;
+
+        /**
+         * 단건 배정 응답 형태로 변환
+         */
+        public DriverAssignResponse toAssignResponse() {
+            return DriverAssignResponse.builder()
+                    .driverId(driverId)
+                    .userId(userId)
+                    .hubId(hubId)
+                    .driverName(driverName)
+                    .status(status)
+                    .assignedAt(assignedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.notification;
+
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverReactiveClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverCompleteRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 드라이버 통지 Dispatcher
+ * - p_driver_notification_task의 전송 시간이 된 작업을 배치 단위로 드라이버 서비스에 전송
+ *
+ * 처리 순서 (원격 호출 동안 DB 커넥션 미점유)
+ * 1. 임대: 짧은 트랜잭션에서 SKIP LOCKED 조회 후 next_attempt_at을 임대 만료 시간으로 연기
+ * 2. 전송: 트랜잭션 밖에서 LastMileDriverReactiveClient로 동시 전송
+ *    - 드라이버별로 묶어 같은 드라이버의 통지는 등록 순서대로 하나씩 전송
+ *    - 같은 드라이버/종류/배송의 중복 작업은 한 번만 전송
+ * 3. 정리: 성공 작업 삭제, 실패 작업은 지수 백오프로 재시도 예약 (최대 시도 횟수 초과 시 FAILED)
+ * - 전송 도중 인스턴스가 종료되면 임대 만료 후 다시 전송 (드라이버 서비스의 완료/취소 처리는 멱등이어야 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverNotificationDispatcher {
+
+    private final DriverNotificationRepository driverNotificationRepository;
+    private final LastMileDriverReactiveClient lastMileDriverReactiveClient;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${delivery.driver-notification.batch-size:200}")
+    private int batchSize;
+
+    @Value("${delivery.driver-notification.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${delivery.driver-notification.max-attempts:12}")
+    private int maxAttempts;
+
+    @Value("${delivery.driver-notification.backoff.initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${delivery.driver-notification.backoff.max-ms:300000}")
+    private long backoffMaxMs;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private Counter sentCounter;
+    private Counter retryCounter;
+
+    @PostConstruct
+    void init() {
+        this.sentCounter = Counter.builder("delivery.driver_notification.sent")
+                .description("드라이버 서비스에 전송된 통지 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("delivery.driver_notification.retried")
+                .description("전송 실패로 재시도 예약된 통지 수")
+                .register(meterRegistry);
+
+        Gauge.builder("delivery.driver_notification.pending", pendingCount, AtomicLong::get)
+                .description("전송 대기 중인 드라이버 통지 수 (큐 깊이)")
+                .register(meterRegistry);
+        Gauge.builder("delivery.driver_notification.failed", failedCount, AtomicLong::get)
+                .description("최대 재시도 횟수를 넘겨 중단된 드라이버 통지 수")
+                .register(meterRegistry);
+        TimeGauge.builder("delivery.driver_notification.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("가장 오래된 전송 대기 통지의 경과 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Dispatcher 주기 실행
+     * - 가득 찬 배치가 나오는 동안 계속 전송 (백로그 빠르게 해소)
+     */
+    @Scheduled(fixedDelayString = "${delivery.driver-notification.poll-interval-ms:500}")
+    public void dispatch() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+
+        refreshBacklog();
+    }
+
+    int dispatchBatch() {
+        List<DriverNotificationTask> tasks = transactionTemplate.execute(status -> lease());
+        if (tasks == null || tasks.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, String> failures = send(tasks);
+
+        transactionTemplate.executeWithoutResult(status -> complete(tasks, failures));
+
+        sentCounter.increment(tasks.size() - failures.size());
+        retryCounter.increment(failures.size());
+        log.debug("드라이버 통지 배치 전송 - total: {}, failed: {}", tasks.size(), failures.size());
+        return tasks.size();
+    }
+
+    /**
+     * 1단계: 전송 대상 임대
+     */
+    private List<DriverNotificationTask> lease() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DriverNotificationTask> tasks = driverNotificationRepository.findDueForDispatch(
+                DriverNotificationStatus.PENDING, now, Limit.of(batchSize));
+
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        tasks.forEach(task -> task.lease(leaseUntil));
+        return tasks;
+    }
+
+    /**
+     * 2단계: 드라이버별 순차, 드라이버 간 동시 전송
+     *
+     * @return 실패한 작업 ID → 실패 사유
+     */
+    private Map<UUID, String> send(List<DriverNotificationTask> tasks) {
+        Map<String, Map<String, List<DriverNotificationTask>>> byDriver = new LinkedHashMap<>();
+        for (DriverNotificationTask task : tasks) {
+            byDriver.computeIfAbsent(task.getDriverId(), driverId -> new LinkedHashMap<>())
+                    .computeIfAbsent(task.getType() + ":" + task.getFinalMileId(), key -> new ArrayList<>())
+                    .add(task);
+        }
+
+        Map<UUID, String> failures = new HashMap<>();
+        lastMileDriverReactiveClient.fanOut(byDriver.values(), notifications ->
+                        Flux.fromIterable(notifications.values())
+                                .concatMap(this::sendCollapsed)
+                                .collectList())
+                .doOnNext(results -> results.forEach(result -> result.ifPresent(failures::putAll)))
+                .then()
+                .block();
+        return failures;
+    }
+
+    /**
+     * 중복 작업 묶음을 한 번 전송하고 결과를 묶음 전체에 적용
+     */
+    private Mono<Optional<Map<UUID, String>>> sendCollapsed(List<DriverNotificationTask> duplicates) {
+        DriverNotificationTask task = duplicates.get(0);
+        Mono<?> call = switch (task.getType()) {
+            case COMPLETE -> lastMileDriverReactiveClient.completeDelivery(
+                    task.getDriverId(), DriverCompleteRequest.of(task.getDeliveryTimeMin()));
+            case CANCEL -> lastMileDriverReactiveClient.cancelDelivery(task.getDriverId());
+        };
+
+        return call
+                .then(Mono.just(Optional.<Map<UUID, String>>empty()))
+                .onErrorResume(e -> {
+                    log.warn("드라이버 통지 실패 - driverId: {}, type: {}, finalMileId: {}, attempt: {}, error: {}",
+                            task.getDriverId(), task.getType(), task.getFinalMileId(),
+                            task.getAttemptCount() + 1, e.getMessage());
+                    Map<UUID, String> failed = new HashMap<>();
+                    duplicates.forEach(duplicate -> failed.put(duplicate.getTaskId(), e.getMessage()));
+                    return Mono.just(Optional.of(failed));
+                });
+    }
+
+    /**
+     * 3단계: 성공 작업 삭제, 실패 작업 재시도 예약
+     */
+    private void complete(List<DriverNotificationTask> tasks, Map<UUID, String> failures) {
+        List<UUID> sentIds = tasks.stream()
+                .map(DriverNotificationTask::getTaskId)
+                .filter(taskId -> !failures.containsKey(taskId))
+                .toList();
+        if (!sentIds.isEmpty()) {
+            driverNotificationRepository.deleteAllByIdInBatch(sentIds);
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+        for (DriverNotificationTask task : driverNotificationRepository.findAllById(failures.keySet())) {
+            task.recordFailedAttempt(failures.get(task.getTaskId()), maxAttempts, backoff(task.getAttemptCount() + 1));
+            if (task.getStatus() == DriverNotificationStatus.FAILED) {
+                log.error("드라이버 통지 재시도 중단 - taskId: {}, driverId: {}, type: {}, finalMileId: {}",
+                        task.getTaskId(), task.getDriverId(), task.getType(), task.getFinalMileId());
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프 (initial × 2^(attempt-1), 최대 max)
+     * - 절반은 고정, 절반은 무작위 (드라이버 서비스 복구 직후 재시도가 한꺼번에 몰리지 않도록)
+     */
+    Duration backoff(int attempt) {
+        long exponential = backoffInitialMs << Math.min(attempt - 1, 30);
+        long capped = Math.min(exponential > 0 ? exponential : backoffMaxMs, backoffMaxMs);
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private void refreshBacklog() {
+        try {
+            pendingCount.set(driverNotificationRepository.countByStatus(DriverNotificationStatus.PENDING));
+            failedCount.set(driverNotificationRepository.countByStatus(DriverNotificationStatus.FAILED));
+            lagMillis.set(driverNotificationRepository.findOldestCreatedAt(DriverNotificationStatus.PENDING)
+                    .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("드라이버 통지 백로그 조회 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 드라이버 서비스 통지 작업 등록
+ * - 호출한 트랜잭션에 참여하여 배송 상태 변경과 함께 커밋 (롤백되면 통지하지 않음)
+ * - 같은 드라이버/종류/배송의 대기 작업이 있으면 등록하지 않음
+ *   (같은 배송의 중복 등록은 배송 행 잠금으로 직렬화되므로 조회 후 등록으로 충분)
+ * - 실제 전송은 DriverNotificationDispatcher
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverNotificationQueue {
+
+    private final DriverNotificationRepository driverNotificationRepository;
+
+    /**
+     * 배송 완료 통지 등록
+     *
+     * @param driverId 드라이버 ID
+     * @param finalMileId 배송 ID
+     * @param deliveryTimeMin 배송 소요 시간 (분)
+     */
+    public void enqueueCompletion(String driverId, String finalMileId, Long deliveryTimeMin) {
+        enqueue(DriverNotificationTask.builder()
+                .driverId(driverId)
+                .type(DriverNotificationType.COMPLETE)
+                .finalMileId(finalMileId)
+                .deliveryTimeMin(deliveryTimeMin)
+                .build());
+    }
+
+    /**
+     * 배송 취소 통지 등록
+     *
+     * @param driverId 드라이버 ID
+     * @param finalMileId 배송 ID
+     */
+    public void enqueueCancellation(String driverId, String finalMileId) {
+        enqueue(DriverNotificationTask.builder()
+                .driverId(driverId)
+                .type(DriverNotificationType.CANCEL)
+                .finalMileId(finalMileId)
+                .build());
+    }
+
+    private void enqueue(DriverNotificationTask task) {
+        if (driverNotificationRepository.existsByDriverIdAndTypeAndFinalMileIdAndStatus(
+                task.getDriverId(), task.getType(), task.getFinalMileId(), DriverNotificationStatus.PENDING)) {
+            log.debug("드라이버 통지 중복 등록 생략 - driverId: {}, type: {}, finalMileId: {}",
+                    task.getDriverId(), task.getType(), task.getFinalMileId());
+            return;
+        }
+
+        driverNotificationRepository.save(task);
+        log.info("드라이버 통지 등록 - driverId: {}, type: {}, finalMileId: {}",
+                task.getDriverId(), task.getType(), task.getFinalMileId());
+    }
+}
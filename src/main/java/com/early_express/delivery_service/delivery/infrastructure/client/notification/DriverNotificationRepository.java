@@ -0,0 +1,48 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.notification;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DriverNotificationRepository extends JpaRepository<DriverNotificationTask, UUID> {
+
+    /**
+     * 전송 시간이 된 작업을 오래된 순으로 잠금 조회
+     * - lock.timeout = -2 → FOR UPDATE SKIP LOCKED (여러 인스턴스가 서로 다른 작업을 가져감)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM DriverNotificationTask t " +
+            "WHERE t.status = :status AND t.nextAttemptAt <= :now " +
+            "ORDER BY t.nextAttemptAt")
+    List<DriverNotificationTask> findDueForDispatch(
+            @Param("status") DriverNotificationStatus status,
+            @Param("now") LocalDateTime now,
+            Limit limit);
+
+    /**
+     * 같은 드라이버/종류/배송에 대한 대기 작업 존재 여부 (중복 등록 방지)
+     */
+    boolean existsByDriverIdAndTypeAndFinalMileIdAndStatus(
+            String driverId, DriverNotificationType type, String finalMileId, DriverNotificationStatus status);
+
+    long countByStatus(DriverNotificationStatus status);
+
+    /**
+     * 가장 오래된 작업의 생성 시간 (통지 지연 측정용)
+     */
+    @Query("SELECT MIN(t.createdAt) FROM DriverNotificationTask t WHERE t.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAt(@Param("status") DriverNotificationStatus status);
+}
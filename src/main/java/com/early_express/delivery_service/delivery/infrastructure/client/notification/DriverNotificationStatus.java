@@ -0,0 +1,17 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.notification;
+
+/**
+ * 드라이버 통지 작업 상태
+ */
+public enum DriverNotificationStatus {
+
+    /**
+     * 전송 대기 (next_attempt_at 이후 Dispatcher가 가져갈 대상)
+     */
+    PENDING,
+
+    /**
+     * 최대 재시도 횟수 초과 (수동 확인 필요)
+     */
+    FAILED
+}
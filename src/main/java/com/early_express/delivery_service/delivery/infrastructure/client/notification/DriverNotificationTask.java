@@ -0,0 +1,120 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.notification;
+
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 드라이버 서비스 통지 작업 (DB 작업 큐)
+ * - 배송 상태 변경과 같은 트랜잭션에서 저장
+ * - DriverNotificationDispatcher가 전송 후 삭제, 실패 시 지수 백오프로 next_attempt_at 연기
+ */
+@Entity
+@Table(
+        name = "p_driver_notification_task",
+        indexes = {
+                @Index(name = "idx_driver_notification_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_driver_notification_dedupe", columnList = "driver_id, type, final_mile_id")
+        }
+)
+@Getter
+@Access(AccessType.FIELD)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DriverNotificationTask {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    private UUID taskId;
+
+    @Column(name = "driver_id", nullable = false, length = 36)
+    private String driverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private DriverNotificationType type;
+
+    /**
+     * 통지 대상 배송 ID
+     */
+    @Column(name = "final_mile_id", nullable = false, length = 36)
+    private String finalMileId;
+
+    /**
+     * 배송 소요 시간 (분, 완료 통지만)
+     */
+    private Long deliveryTimeMin;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private DriverNotificationStatus status;
+
+    private int attemptCount;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 다음 전송 가능 시간 (전송 중에는 임대 만료 시간)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime lastAttemptAt;
+
+    @Builder
+    private DriverNotificationTask(String driverId, DriverNotificationType type, String finalMileId,
+                                   Long deliveryTimeMin) {
+        this.taskId = UuidUtils.generateUuid();
+        this.driverId = driverId;
+        this.type = type;
+        this.finalMileId = finalMileId;
+        this.deliveryTimeMin = deliveryTimeMin;
+        this.status = DriverNotificationStatus.PENDING;
+        this.attemptCount = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 전송 임대
+     * - 임대 기간 동안 다른 Dispatcher가 가져가지 않음, 인스턴스가 종료되면 만료 후 다시 전송
+     *
+     * @param until 임대 만료 시간
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    /**
+     * 전송 실패 기록
+     * - 최대 시도 횟수에 도달하면 FAILED로 전환, 아니면 backoff 이후 재시도
+     *
+     * @param error 실패 사유
+     * @param maxAttempts 최대 시도 횟수
+     * @param backoff 다음 시도까지 대기 시간
+     */
+    public void recordFailedAttempt(String error, int maxAttempts, Duration backoff) {
+        this.attemptCount++;
+        this.lastAttemptAt = LocalDateTime.now();
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = DriverNotificationStatus.FAILED;
+        } else {
+            this.nextAttemptAt = this.lastAttemptAt.plus(backoff);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.notification;
+
+/**
+ * 드라이버 서비스 통지 종류
+ */
+public enum DriverNotificationType {
+
+    /**
+     * 배송 완료 통지 (드라이버 AVAILABLE 전환 + 통계 반영)
+     */
+    COMPLETE,
+
+    /**
+     * 배송 취소 통지 (드라이버 배정 해제 + AVAILABLE 전환)
+     */
+    CANCEL
+}
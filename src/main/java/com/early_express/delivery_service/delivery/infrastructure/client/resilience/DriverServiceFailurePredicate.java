@@ -0,0 +1,23 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.resilience;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+
+import java.util.function.Predicate;
+
+/**
+ * 서킷 브레이커 실패 판정 (resilience4j.circuitbreaker.instances.lastMileDriver.record-failure-predicate)
+ * - 드라이버 서비스 자체의 장애(연결 실패, 타임아웃, 5xx)만 실패로 기록
+ * - 404/400 등 업무 오류(담당자 없음, 배정 불가)는 서비스가 정상 응답한 것이므로 제외
+ */
+public class DriverServiceFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof DeliveryException e) {
+            return e.getErrorCode() == DeliveryErrorCode.EXTERNAL_SERVICE_ERROR
+                    || e.getErrorCode() == DeliveryErrorCode.EXTERNAL_SERVICE_UNAVAILABLE;
+        }
+        return true;
+    }
+}
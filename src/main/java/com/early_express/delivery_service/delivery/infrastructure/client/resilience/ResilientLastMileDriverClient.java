@@ -0,0 +1,185 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.resilience;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverBulkAssignRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverBulkAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverCompleteRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverOperationResponse;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 장애 격리 Last Mile Driver Client (Feign 클라이언트 데코레이터)
+ * - LastMileDriverClient 주입 시 이 빈이 우선 (@Primary), Feign 프록시는 lastMileDriverFeignClient로만 주입
+ *
+ * 호출 순서: 재시도(예산) → 벌크헤드 → 서킷 브레이커 → Feign
+ * - 벌크헤드: 동시 호출 수 제한, 가득 차면 대기하지 않고 즉시 거절 (요청 스레드가 쌓이지 않도록)
+ * - 서킷 브레이커: 드라이버 서비스 장애(DriverServiceFailurePredicate)가 일정 비율을 넘으면 호출 차단
+ * - 재시도: 멱등 호출(완료/취소 PUT)만, 연결 실패/타임아웃/503일 때 RetryBudget 안에서만
+ *   (배정 POST는 응답을 못 받았을 뿐 배정됐을 수 있으므로 재시도하지 않음)
+ * - 차단/거절 시 EXTERNAL_SERVICE_REJECTED로 즉시 실패 → 호출한 쪽에서 배송을 PENDING으로 두고 재배정 대기열에 등록
+ * - 서킷 상태/호출 결과/벌크헤드 여유 메트릭은 resilience4j-micrometer가 인스턴스 이름(lastMileDriver)으로 등록
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientLastMileDriverClient implements LastMileDriverClient {
+
+    public static final String INSTANCE = "lastMileDriver";
+
+    private final LastMileDriverClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RetryBudget retryBudget;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long retryWaitMs;
+
+    public ResilientLastMileDriverClient(
+            @Qualifier("lastMileDriverFeignClient") LastMileDriverClient delegate,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${delivery.driver-client.retry.max-attempts:2}") int maxAttempts,
+            @Value("${delivery.driver-client.retry.wait-ms:100}") long retryWaitMs,
+            @Value("${delivery.driver-client.retry.budget.max-tokens:10}") double budgetMaxTokens,
+            @Value("${delivery.driver-client.retry.budget.deposit-per-call:0.1}") double budgetDepositPerCall
+    ) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.retryBudget = new RetryBudget(budgetMaxTokens, budgetDepositPerCall);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryWaitMs = retryWaitMs;
+
+        Gauge.builder("delivery.driver_client.retry_budget", retryBudget, RetryBudget::availableTokens)
+                .description("드라이버 서비스 호출 재시도 예산 잔여 토큰")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public DriverAssignResponse assignDriver(DriverAssignRequest request) {
+        return call("assignDriver", false, () -> delegate.assignDriver(request));
+    }
+
+    @Override
+    public DriverBulkAssignResponse assignDrivers(DriverBulkAssignRequest request) {
+        return call("assignDrivers", false, () -> delegate.assignDrivers(request));
+    }
+
+    @Override
+    public DriverOperationResponse completeDelivery(String driverId, DriverCompleteRequest request) {
+        return call("completeDelivery", true, () -> delegate.completeDelivery(driverId, request));
+    }
+
+    @Override
+    public DriverOperationResponse cancelDelivery(String driverId) {
+        return call("cancelDelivery", true, () -> delegate.cancelDelivery(driverId));
+    }
+
+    /**
+     * 서킷이 열려 있지 않아 호출을 시도할 수 있는지 (재배정 스케줄러용)
+     */
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * 호출 시간 기록: delivery.driver_client.requests (method, outcome, 재시도/차단 포함 호출한 쪽이 기다린 시간)
+     */
+    private <T> T call(String method, boolean idempotent, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return callWithRetry(method, idempotent, action);
+        } catch (RuntimeException e) {
+            outcome = DeliveryMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("delivery.driver_client.requests",
+                    "client", "feign", "method", method, "outcome", outcome));
+        }
+    }
+
+    private <T> T callWithRetry(String method, boolean idempotent, Supplier<T> action) {
+        Supplier<T> guarded = Bulkhead.decorateSupplier(bulkhead,
+                CircuitBreaker.decorateSupplier(circuitBreaker, action));
+
+        retryBudget.onCall();
+        int attempt = 1;
+        while (true) {
+            try {
+                return guarded.get();
+            } catch (CallNotPermittedException e) {
+                throw rejected(method, "circuit_open", e);
+            } catch (BulkheadFullException e) {
+                throw rejected(method, "bulkhead_full", e);
+            } catch (RuntimeException e) {
+                if (!idempotent || attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                if (!retryBudget.tryAcquireRetry()) {
+                    countRetry(method, "budget_exhausted");
+                    throw e;
+                }
+
+                countRetry(method, "retried");
+                log.warn("드라이버 서비스 재시도 - method: {}, attempt: {}, error: {}", method, attempt, e.getMessage());
+                attempt++;
+                pause(e);
+            }
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof RetryableException
+                || (e instanceof DeliveryException de
+                && de.getErrorCode() == DeliveryErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+    }
+
+    private DeliveryException rejected(String method, String reason, RuntimeException cause) {
+        meterRegistry.counter("delivery.driver_client.rejected", "method", method, "reason", reason).increment();
+        log.warn("드라이버 서비스 호출 차단 - method: {}, reason: {}, circuit: {}",
+                method, reason, circuitBreaker.getState());
+        return new DeliveryException(
+                DeliveryErrorCode.EXTERNAL_SERVICE_REJECTED,
+                "배송 담당자 서비스 호출이 일시적으로 차단되었습니다. reason: " + reason,
+                cause
+        );
+    }
+
+    private void countRetry(String method, String outcome) {
+        meterRegistry.counter("delivery.driver_client.retry", "method", method, "outcome", outcome).increment();
+    }
+
+    private void pause(RuntimeException failure) {
+        try {
+            Thread.sleep(retryWaitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+}
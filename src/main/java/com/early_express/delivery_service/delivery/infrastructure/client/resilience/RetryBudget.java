@@ -0,0 +1,60 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ * - 첫 시도마다 depositPerCall만큼 적립, 재시도마다 1개 차감
+ * - 예산이 없으면 재시도하지 않음 → 장애 시 재시도 비율이 정상 호출의 depositPerCall 이하로 제한
+ *   (호출마다 N회 재시도하면 장애 중인 서비스에 부하가 N배로 늘어남)
+ * - 토큰은 1/1000 단위 정수로 관리 (lock 없이 CAS)
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long capacity;
+    private final long deposit;
+    private final AtomicLong balance;
+
+    /**
+     * @param maxTokens 최대 적립 토큰 수 (순간적으로 허용할 재시도 수)
+     * @param depositPerCall 첫 시도마다 적립할 토큰 (0.1 → 호출 10건당 재시도 1건)
+     */
+    public RetryBudget(double maxTokens, double depositPerCall) {
+        this.capacity = Math.round(maxTokens * SCALE);
+        this.deposit = Math.round(depositPerCall * SCALE);
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * 첫 시도 기록 (토큰 적립)
+     */
+    public void onCall() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    /**
+     * 재시도 토큰 차감
+     *
+     * @return 예산이 있어 재시도해도 되면 true
+     */
+    public boolean tryAcquireRetry() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 남은 재시도 토큰 수
+     */
+    public double availableTokens() {
+        return (double) balance.get() / SCALE;
+    }
+}
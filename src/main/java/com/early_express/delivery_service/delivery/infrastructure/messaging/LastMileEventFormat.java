@@ -0,0 +1,21 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging;
+
+/**
+ * Last Mile 이벤트 발행 포맷 (Avro 전환 단계)
+ * - JSON: 기존 토픽에 JSON만 발행 (전환 전)
+ * - DUAL: 기존 토픽에 JSON + Avro 토픽(토픽명 + avro-topic-suffix)에 Avro 동시 발행 (컨슈머 전환 기간)
+ * - AVRO: Avro 토픽에만 발행 (모든 컨슈머 전환 후)
+ */
+public enum LastMileEventFormat {
+    JSON,
+    DUAL,
+    AVRO;
+
+    public boolean writesJson() {
+        return this != AVRO;
+    }
+
+    public boolean writesAvro() {
+        return this != JSON;
+    }
+}
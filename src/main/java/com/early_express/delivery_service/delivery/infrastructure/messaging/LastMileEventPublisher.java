@@ -1,24 +1,40 @@
 package com.early_express.delivery_service.delivery.infrastructure.messaging;
 
 import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
 import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileCompletedEvent;
 import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.outbox.LastMileOutboxEvent;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.outbox.LastMileOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Last Mile 이벤트 발행자
  * Delivery Service → Track Service
+ *
+ * - Kafka로 직접 전송하지 않고 배송 변경과 같은 트랜잭션에서 outbox에 저장
+ * - 실제 전송은 LastMileOutboxRelay가 담당
+ * - 건별 로그는 DEBUG (피크 시 초당 수천 건, 일괄 저장만 INFO)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LastMileEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final LastMileOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${spring.kafka.topic.last-mile-departed:last-mile-departed}")
     private String departedTopic;
@@ -26,49 +42,73 @@ public class LastMileEventPublisher {
     @Value("${spring.kafka.topic.last-mile-completed:last-mile-completed}")
     private String completedTopic;
 
+    // 토픽별 메시지 키 (파티션 기준)
+    @Value("${delivery.kafka.partition-key.last-mile-departed:ORDER_ID}")
+    private LastMileMessageKey departedKey;
+
+    @Value("${delivery.kafka.partition-key.last-mile-completed:ORDER_ID}")
+    private LastMileMessageKey completedKey;
+
     /**
      * 최종 배송 출발 이벤트 발행
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishDepartedEvent(FinalMileDelivery delivery) {
         LastMileDepartedEvent event = LastMileDepartedEvent.from(delivery);
 
-        log.info("LastMileDepartedEvent 발행 - topic: {}, orderId: {}, finalMileId: {}",
+        outboxRepository.save(toOutbox(departedTopic, departedKey, delivery, event.getEventId(), event.getEventType(), event));
+
+        log.debug("LastMileDepartedEvent outbox 저장 - topic: {}, orderId: {}, finalMileId: {}",
                 departedTopic, event.getOrderId(), event.getLastMileDeliveryId());
+    }
 
-        kafkaTemplate.send(departedTopic, delivery.getOrderId(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("LastMileDepartedEvent 발행 실패 - orderId: {}, error: {}",
-                                event.getOrderId(), ex.getMessage(), ex);
-                    } else {
-                        log.info("LastMileDepartedEvent 발행 성공 - orderId: {}, partition: {}, offset: {}",
-                                event.getOrderId(),
-                                result.getRecordMetadata().partition(),
-                                result.getRecordMetadata().offset());
-                    }
-                });
+    /**
+     * 최종 배송 출발 이벤트 일괄 발행 (일괄 배정용)
+     * - outbox 레코드를 한 번에 저장하여 JDBC 배치 INSERT로 처리
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishDepartedEvents(List<FinalMileDelivery> deliveries) {
+        List<LastMileOutboxEvent> outboxes = new ArrayList<>(deliveries.size());
+        for (FinalMileDelivery delivery : deliveries) {
+            LastMileDepartedEvent event = LastMileDepartedEvent.from(delivery);
+            outboxes.add(toOutbox(departedTopic, departedKey, delivery, event.getEventId(), event.getEventType(), event));
+        }
+
+        outboxRepository.saveAll(outboxes);
+
+        log.info("LastMileDepartedEvent outbox 일괄 저장 - topic: {}, count: {}", departedTopic, outboxes.size());
     }
 
     /**
      * 최종 배송 완료 이벤트 발행
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishCompletedEvent(FinalMileDelivery delivery) {
         LastMileCompletedEvent event = LastMileCompletedEvent.from(delivery);
 
-        log.info("LastMileCompletedEvent 발행 - topic: {}, orderId: {}, finalMileId: {}",
+        outboxRepository.save(toOutbox(completedTopic, completedKey, delivery, event.getEventId(), event.getEventType(), event));
+
+        log.debug("LastMileCompletedEvent outbox 저장 - topic: {}, orderId: {}, finalMileId: {}",
                 completedTopic, event.getOrderId(), event.getLastMileDeliveryId());
+    }
 
-        kafkaTemplate.send(completedTopic, delivery.getOrderId(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("LastMileCompletedEvent 발행 실패 - orderId: {}, error: {}",
-                                event.getOrderId(), ex.getMessage(), ex);
-                    } else {
-                        log.info("LastMileCompletedEvent 발행 성공 - orderId: {}, partition: {}, offset: {}",
-                                event.getOrderId(),
-                                result.getRecordMetadata().partition(),
-                                result.getRecordMetadata().offset());
-                    }
-                });
+    private LastMileOutboxEvent toOutbox(String topic, LastMileMessageKey messageKey, FinalMileDelivery delivery,
+                                         String eventId, String eventType, Object event) {
+        try {
+            return LastMileOutboxEvent.builder()
+                    .outboxId(UUID.fromString(eventId))
+                    .topic(topic)
+                    .messageKey(messageKey.keyOf(delivery))
+                    .eventType(eventType)
+                    .aggregateId(delivery.getFinalMileId())
+                    .payload(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new DeliveryException(
+                    DeliveryErrorCode.EVENT_PUBLISH_FAILED,
+                    eventType + " 직렬화 실패 - finalMileId: " + delivery.getFinalMileId(),
+                    e
+            );
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+
+import java.util.function.Function;
+
+/**
+ * Last Mile 이벤트 메시지 키 (토픽별 파티션 기준)
+ * - Producer 기본 파티셔너가 키 해시로 파티션을 고르므로 키가 곧 순서 보장 단위
+ * - ORDER_ID: 주문 단위 순서 보장, 파티션에 고르게 분산 (기본)
+ * - HUB_ID: 허브 단위로 한 파티션에 모음 (허브별로 소비하는 컨슈머용, 한 허브의 이벤트도 주문 순서는 유지)
+ */
+public enum LastMileMessageKey {
+
+    ORDER_ID(FinalMileDelivery::getOrderId),
+    HUB_ID(FinalMileDelivery::getHubId);
+
+    private final Function<FinalMileDelivery, String> extractor;
+
+    LastMileMessageKey(Function<FinalMileDelivery, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public String keyOf(FinalMileDelivery delivery) {
+        return extractor.apply(delivery);
+    }
+}
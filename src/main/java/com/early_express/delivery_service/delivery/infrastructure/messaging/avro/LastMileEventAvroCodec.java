@@ -0,0 +1,189 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.avro;
+
+import com.early_express.delivery_service.delivery.infrastructure.messaging.avro.LocalSchemaRegistry.RegisteredSchema;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileCompletedEvent;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Last Mile 이벤트 Avro 바이너리 변환
+ *
+ * 와이어 포맷: [0x00][스키마 ID 4바이트 big-endian][Avro binary] (Confluent 레지스트리 포맷과 동일)
+ * - UUID(eventId, lastMileDeliveryId)는 16바이트 fixed, 시각은 local-timestamp-millis(long)
+ * - eventType은 스키마(subject)로 구분되므로 싣지 않음 (읽을 때 채움)
+ * - 읽을 때는 메시지의 스키마 ID(쓰기 스키마) → 최신 스키마(읽기 스키마)로 변환하므로 이전 버전 메시지도 처리
+ */
+@Component
+public class LastMileEventAvroCodec {
+
+    static final byte MAGIC_BYTE = 0;
+    private static final int HEADER_SIZE = 5;
+
+    private final LocalSchemaRegistry registry;
+    private final RegisteredSchema departed;
+    private final RegisteredSchema completed;
+    private final GenericDatumWriter<GenericRecord> departedWriter;
+    private final GenericDatumWriter<GenericRecord> completedWriter;
+    private final Schema uuidSchema;
+
+    public LastMileEventAvroCodec(LocalSchemaRegistry registry) {
+        this.registry = registry;
+        this.departed = registry.latest(LocalSchemaRegistry.DEPARTED_SUBJECT);
+        this.completed = registry.latest(LocalSchemaRegistry.COMPLETED_SUBJECT);
+        this.departedWriter = new GenericDatumWriter<>(departed.schema());
+        this.completedWriter = new GenericDatumWriter<>(completed.schema());
+        this.uuidSchema = departed.schema().getField("eventId").schema();
+    }
+
+    /**
+     * 이벤트 → 바이너리 (출발/완료 이벤트만 지원)
+     */
+    public byte[] encode(Object event) {
+        if (event instanceof LastMileDepartedEvent departedEvent) {
+            return encodeDeparted(departedEvent);
+        }
+        if (event instanceof LastMileCompletedEvent completedEvent) {
+            return encodeCompleted(completedEvent);
+        }
+        throw new IllegalArgumentException("Avro 변환을 지원하지 않는 이벤트: " + event.getClass().getSimpleName());
+    }
+
+    public byte[] encodeDeparted(LastMileDepartedEvent event) {
+        GenericRecord record = new GenericData.Record(departed.schema());
+        record.put("eventId", fixed(event.getEventId()));
+        record.put("eventTime", millis(event.getEventTime()));
+        record.put("orderId", event.getOrderId());
+        record.put("lastMileDeliveryId", fixed(event.getLastMileDeliveryId()));
+        record.put("hubId", event.getHubId());
+        record.put("driverId", event.getDriverId());
+        record.put("driverName", event.getDriverName());
+        record.put("departedAt", millis(event.getDepartedAt()));
+        return write(departed, departedWriter, record);
+    }
+
+    public byte[] encodeCompleted(LastMileCompletedEvent event) {
+        GenericRecord record = new GenericData.Record(completed.schema());
+        record.put("eventId", fixed(event.getEventId()));
+        record.put("eventTime", millis(event.getEventTime()));
+        record.put("orderId", event.getOrderId());
+        record.put("lastMileDeliveryId", fixed(event.getLastMileDeliveryId()));
+        record.put("hubId", event.getHubId());
+        record.put("driverId", event.getDriverId());
+        record.put("driverName", event.getDriverName());
+        record.put("recipientName", event.getRecipientName());
+        record.put("completedAt", millis(event.getCompletedAt()));
+        return write(completed, completedWriter, record);
+    }
+
+    public LastMileDepartedEvent decodeDeparted(byte[] bytes) {
+        GenericRecord record = read(bytes, departed);
+        return LastMileDepartedEvent.builder()
+                .eventId(uuidString(record.get("eventId")))
+                .eventType("LastMileDepartedEvent")
+                .eventTime(dateTime(record.get("eventTime")))
+                .orderId(string(record.get("orderId")))
+                .lastMileDeliveryId(uuidString(record.get("lastMileDeliveryId")))
+                .hubId(string(record.get("hubId")))
+                .driverId(string(record.get("driverId")))
+                .driverName(string(record.get("driverName")))
+                .departedAt(dateTime(record.get("departedAt")))
+                .build();
+    }
+
+    public LastMileCompletedEvent decodeCompleted(byte[] bytes) {
+        GenericRecord record = read(bytes, completed);
+        return LastMileCompletedEvent.builder()
+                .eventId(uuidString(record.get("eventId")))
+                .eventType("LastMileCompletedEvent")
+                .eventTime(dateTime(record.get("eventTime")))
+                .orderId(string(record.get("orderId")))
+                .lastMileDeliveryId(uuidString(record.get("lastMileDeliveryId")))
+                .hubId(string(record.get("hubId")))
+                .driverId(string(record.get("driverId")))
+                .driverName(string(record.get("driverName")))
+                .recipientName(string(record.get("recipientName")))
+                .completedAt(dateTime(record.get("completedAt")))
+                .build();
+    }
+
+    private static byte[] write(RegisteredSchema schema, GenericDatumWriter<GenericRecord> writer, GenericRecord record) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.write(MAGIC_BYTE);
+        out.writeBytes(ByteBuffer.allocate(4).putInt(schema.id()).array());
+        try {
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(record, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Avro 직렬화 실패 - subject: " + schema.subject(), e);
+        }
+        return out.toByteArray();
+    }
+
+    private GenericRecord read(byte[] bytes, RegisteredSchema reader) {
+        if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC_BYTE) {
+            throw new IllegalArgumentException("Avro 메시지 형식이 아닙니다.");
+        }
+        RegisteredSchema writer = registry.byId(ByteBuffer.wrap(bytes, 1, 4).getInt());
+        if (!writer.subject().equals(reader.subject())) {
+            throw new IllegalArgumentException("다른 이벤트의 메시지입니다 - subject: " + writer.subject());
+        }
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, null);
+            return new GenericDatumReader<GenericRecord>(writer.schema(), reader.schema()).read(null, decoder);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Avro 역직렬화 실패 - subject: " + reader.subject(), e);
+        }
+    }
+
+    private GenericFixed fixed(String value) {
+        if (value == null) {
+            return null;
+        }
+        UUID uuid = UUID.fromString(value);
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        return new GenericData.Fixed(uuidSchema, bytes);
+    }
+
+    private static String uuidString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(((GenericFixed) value).bytes());
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    private static Long millis(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : null;
+    }
+
+    private static LocalDateTime dateTime(Object value) {
+        return value != null ? LocalDateTime.ofInstant(Instant.ofEpochMilli((Long) value), ZoneOffset.UTC) : null;
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
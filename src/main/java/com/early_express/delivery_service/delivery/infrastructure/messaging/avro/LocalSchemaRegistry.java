@@ -0,0 +1,90 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Last Mile 이벤트 스키마 저장소 (스키마 레지스트리 대용)
+ * - 스키마 파일은 src/main/resources/avro, ID/버전은 아래 등록 순서로 고정 (한 번 배포한 ID는 바꾸지 않음)
+ * - 메시지에는 스키마 ID만 싣고(LastMileEventAvroCodec), 읽는 쪽은 ID로 쓰기 스키마를 찾아 최신 스키마로 변환
+ * - 같은 subject의 새 버전은 이전 버전으로 쓴 메시지를 읽을 수 있어야 등록됨 (BACKWARD 호환)
+ * - 외부 레지스트리 도입 시 subject/ID를 그대로 옮겨 등록하면 와이어 포맷 변경 없이 교체 가능
+ */
+@Component
+public class LocalSchemaRegistry {
+
+    public static final String DEPARTED_SUBJECT = "last-mile-departed-value";
+    public static final String COMPLETED_SUBJECT = "last-mile-completed-value";
+
+    private final Map<Integer, RegisteredSchema> schemasById = new HashMap<>();
+    private final Map<String, RegisteredSchema> latestBySubject = new HashMap<>();
+
+    public LocalSchemaRegistry() {
+        register(1, DEPARTED_SUBJECT, 1, "avro/last-mile-departed-v1.avsc");
+        register(2, COMPLETED_SUBJECT, 1, "avro/last-mile-completed-v1.avsc");
+    }
+
+    /**
+     * subject의 최신 스키마 (쓰기/읽기 기준)
+     */
+    public RegisteredSchema latest(String subject) {
+        RegisteredSchema schema = latestBySubject.get(subject);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 subject: " + subject);
+        }
+        return schema;
+    }
+
+    /**
+     * 메시지에 기록된 스키마 ID로 쓰기 스키마 조회
+     */
+    public RegisteredSchema byId(int id) {
+        RegisteredSchema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 스키마 ID: " + id);
+        }
+        return schema;
+    }
+
+    private void register(int id, String subject, int version, String resource) {
+        Schema schema = load(resource);
+
+        RegisteredSchema previous = latestBySubject.get(subject);
+        if (previous != null) {
+            SchemaCompatibility.SchemaPairCompatibility compatibility =
+                    SchemaCompatibility.checkReaderWriterCompatibility(schema, previous.schema());
+            if (compatibility.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+                throw new IllegalStateException("이전 버전과 호환되지 않는 스키마 - subject: " + subject
+                        + ", version: " + version + ", " + compatibility.getDescription());
+            }
+        }
+
+        RegisteredSchema registered = new RegisteredSchema(id, subject, version, schema);
+        schemasById.put(id, registered);
+        latestBySubject.put(subject, registered);
+    }
+
+    private static Schema load(String resource) {
+        try (InputStream in = LocalSchemaRegistry.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("스키마 파일을 찾을 수 없습니다: " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스키마 파일 읽기 실패: " + resource, e);
+        }
+    }
+
+    /**
+     * 등록된 스키마
+     */
+    public record RegisteredSchema(int id, String subject, int version, Schema schema) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.command;
+
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileCreateRequest;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last Mile 커맨드 (수신용)
+ * Order/Track Service → Delivery Service (<app>-commands 토픽)
+ *
+ * - CREATE: orderId, hubId, deliveryAddress, recipientName 필수 (내부 API 생성 요청과 같은 항목)
+ * - ASSIGN: finalMileId(해당 배송) 또는 hubId(허브 PENDING 배송 전체)
+ * - CANCEL: finalMileId 또는 orderId
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastMileCommand {
+
+    private String commandId;
+    private LastMileCommandType type;
+
+    private String finalMileId;
+    private String orderId;
+    private String hubId;
+    private String deliveryAddress;
+    private String recipientName;
+    private String recipientSlackId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime expectedTime;
+
+    /**
+     * 필수 항목 검증 (재시도해도 성공할 수 없으므로 리스너는 DLT로 보냄)
+     *
+     * @throws IllegalArgumentException 종류별 필수 항목 누락
+     */
+    public void validate() {
+        if (type == null) {
+            throw new IllegalArgumentException("커맨드 종류가 없습니다 - commandId: " + commandId);
+        }
+        boolean valid = switch (type) {
+            case CREATE -> hasText(orderId) && hasText(hubId) && hasText(deliveryAddress) && hasText(recipientName);
+            case ASSIGN -> hasText(finalMileId) || hasText(hubId);
+            case CANCEL -> hasText(finalMileId) || hasText(orderId);
+        };
+        if (!valid) {
+            throw new IllegalArgumentException("필수 항목이 누락된 커맨드 - type: " + type + ", commandId: " + commandId);
+        }
+    }
+
+    /**
+     * CREATE 커맨드 → 생성 요청 변환 (BulkDeliveryCreationService)
+     */
+    public LastMileCreateRequest toCreateRequest() {
+        return LastMileCreateRequest.builder()
+                .orderId(orderId)
+                .hubId(hubId)
+                .deliveryAddress(deliveryAddress)
+                .recipientName(recipientName)
+                .recipientSlackId(recipientSlackId)
+                .expectedTime(expectedTime)
+                .build();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,73 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.command;
+
+import com.early_express.delivery_service.delivery.application.service.LastMileCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성/배정/취소 커맨드 배치 수신 (<app>-commands 토픽)
+ *
+ * - poll 한 번에 받은 레코드를 LastMileCommandService에서 한 번에 처리 (생성/취소는 한 트랜잭션)
+ * - 리스너가 정상 반환하면 배치 단위로 오프셋 커밋 (AckMode.BATCH)
+ * - 역직렬화 실패(ErrorHandlingDeserializer가 null 값으로 전달)·필수 항목 누락 레코드는 앞부분만 처리한 뒤
+ *   BatchListenerFailedException으로 위치를 알림 → 앞부분은 커밋, 해당 레코드는 재시도 없이 DLT, 나머지는 다시 수신
+ * - 처리 중 예외(DB 오류 등)는 배치 전체를 backoff 간격으로 재시도하고, 재시도 소진 시 배치 레코드를 DLT로 보냄
+ * - 컨테이너/에러 핸들러 설정은 KafkaConsumerConfig.commandBatchListenerFactory
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastMileCommandListener {
+
+    private final LastMileCommandService commandService;
+
+    @KafkaListener(
+            id = "last-mile-command-listener",
+            topics = "${spring.application.name}-commands",
+            containerFactory = "commandBatchListenerFactory",
+            autoStartup = "${delivery.kafka.commands.enabled:true}"
+    )
+    public void onCommands(List<ConsumerRecord<String, LastMileCommand>> records) {
+        List<LastMileCommand> commands = new ArrayList<>(records.size());
+        int failedIndex = -1;
+        IllegalArgumentException failure = null;
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, LastMileCommand> record = records.get(i);
+            try {
+                commands.add(validated(record));
+            } catch (IllegalArgumentException e) {
+                failedIndex = i;
+                failure = e;
+                break;
+            }
+        }
+
+        if (!commands.isEmpty()) {
+            commandService.process(commands);
+        }
+
+        if (failure != null) {
+            ConsumerRecord<String, LastMileCommand> failed = records.get(failedIndex);
+            log.warn("처리할 수 없는 커맨드, DLT로 이동 - partition: {}, offset: {}, error: {}",
+                    failed.partition(), failed.offset(), failure.getMessage());
+            throw new BatchListenerFailedException(failure.getMessage(), failure, failedIndex);
+        }
+    }
+
+    private static LastMileCommand validated(ConsumerRecord<String, LastMileCommand> record) {
+        LastMileCommand command = record.value();
+        if (command == null) {
+            throw new IllegalArgumentException("커맨드를 읽을 수 없습니다 - key: " + record.key());
+        }
+        command.validate();
+        return command;
+    }
+}
@@ -0,0 +1,22 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.command;
+
+/**
+ * Last Mile 커맨드 종류 (<app>-commands 토픽)
+ */
+public enum LastMileCommandType {
+
+    /**
+     * 최종 배송 생성 (Order Service)
+     */
+    CREATE,
+
+    /**
+     * 담당자 배정 (Track Service, 배송 ID 또는 허브 단위)
+     */
+    ASSIGN,
+
+    /**
+     * 배송 취소 (Order/Track Service, 배송 ID 또는 주문 ID)
+     */
+    CANCEL
+}
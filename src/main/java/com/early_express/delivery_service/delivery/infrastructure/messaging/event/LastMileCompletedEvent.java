@@ -1,6 +1,7 @@
 package com.early_express.delivery_service.delivery.infrastructure.messaging.event;
 
 import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * 최종 배송 완료 이벤트 (발행용)
@@ -41,7 +41,7 @@ public class LastMileCompletedEvent {
      */
     public static LastMileCompletedEvent from(FinalMileDelivery delivery) {
         return LastMileCompletedEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(UuidUtils.generate())
                 .eventType("LastMileCompletedEvent")
                 .eventTime(LocalDateTime.now())
                 .orderId(delivery.getOrderId())
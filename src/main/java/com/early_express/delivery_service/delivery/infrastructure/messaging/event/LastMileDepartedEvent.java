@@ -1,6 +1,7 @@
 package com.early_express.delivery_service.delivery.infrastructure.messaging.event;
 
 import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * 최종 배송 출발 이벤트 (발행용)
@@ -40,7 +40,7 @@ public class LastMileDepartedEvent {
      */
     public static LastMileDepartedEvent from(FinalMileDelivery delivery) {
         return LastMileDepartedEvent.builder()
-                .eventId(UUID.randomUUID().toString())
+                .eventId(UuidUtils.generate())
                 .eventType("LastMileDepartedEvent")
                 .eventTime(LocalDateTime.now())
                 .orderId(delivery.getOrderId())
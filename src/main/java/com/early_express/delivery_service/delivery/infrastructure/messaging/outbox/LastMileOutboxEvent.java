@@ -0,0 +1,161 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.outbox;
+
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventFormat;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Last Mile 이벤트 Outbox
+ * - 배송 상태 변경과 같은 트랜잭션에서 저장
+ * - LastMileOutboxRelay가 Kafka로 발행 후 삭제, 실패 시 지수 백오프로 next_attempt_at 연기
+ * - DDL은 schema-postgresql.sql
+ */
+@Entity
+@Table(
+        name = "p_last_mile_outbox",
+        indexes = {
+                @Index(name = "idx_last_mile_outbox_status_created", columnList = "status, created_at"),
+                @Index(name = "idx_last_mile_outbox_aggregate_created", columnList = "aggregate_id, created_at")
+        }
+)
+@Getter
+@Access(AccessType.FIELD)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LastMileOutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /**
+     * 이벤트 ID (eventId와 동일, 시간 순 UUID → native uuid 컬럼)
+     */
+    @Id
+    private UUID outboxId;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    /**
+     * Kafka 메시지 키 (파티션 결정)
+     */
+    @Column(length = 100)
+    private String messageKey;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    /**
+     * 이벤트 대상 배송 ID
+     */
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+
+    /**
+     * 직렬화된 이벤트 (JSON, 길이 제한 없음)
+     */
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private LastMileOutboxStatus status;
+
+    private int attemptCount;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 다음 발행 가능 시간 (발행 중에는 임대 만료 시간)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime lastAttemptAt;
+
+    /**
+     * 발행된 포맷 (DUAL에서 한쪽만 성공한 경우 재시도 때 그 포맷은 다시 보내지 않음)
+     */
+    @Column(nullable = false)
+    private boolean jsonPublished;
+
+    @Column(nullable = false)
+    private boolean avroPublished;
+
+    @Builder
+    private LastMileOutboxEvent(UUID outboxId, String topic, String messageKey, String eventType,
+                                String aggregateId, String payload) {
+        this.outboxId = outboxId;
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.status = LastMileOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    /**
+     * 발행 임대
+     * - 임대 기간 동안 다른 Relay 워커가 가져가지 않음, 인스턴스가 종료되면 만료 후 다시 발행
+     *
+     * @param until 임대 만료 시간
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    /**
+     * 임대 반납 (시도하지 않은 레코드, 시도 횟수는 그대로)
+     * - 같은 배송의 앞선 이벤트가 실패해 전송하지 않은 경우 → 앞선 이벤트가 발행된 뒤 다시 대상이 됨
+     */
+    public void release() {
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 포맷별 발행 성공 기록 (나머지 포맷 발행 실패로 레코드가 남는 경우)
+     *
+     * @param format 발행된 포맷 (JSON 또는 AVRO)
+     */
+    public void markPublished(LastMileEventFormat format) {
+        if (format == LastMileEventFormat.JSON) {
+            this.jsonPublished = true;
+        } else if (format == LastMileEventFormat.AVRO) {
+            this.avroPublished = true;
+        }
+    }
+
+    /**
+     * 발행 실패 기록
+     * - 최대 시도 횟수에 도달하면 FAILED로 전환하여 Relay 대상에서 제외
+     *
+     * @param error 실패 사유
+     * @param maxAttempts 최대 시도 횟수
+     * @param backoff 다음 시도까지 대기 시간
+     */
+    public void recordFailedAttempt(String error, int maxAttempts, Duration backoff) {
+        this.attemptCount++;
+        this.lastAttemptAt = LocalDateTime.now();
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = LastMileOutboxStatus.FAILED;
+        } else {
+            this.nextAttemptAt = this.lastAttemptAt.plus(backoff);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.outbox;
+
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventFormat;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.avro.LastMileEventAvroCodec;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileCompletedEvent;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Last Mile Outbox Relay
+ * - p_last_mile_outbox에 쌓인 이벤트를 배치 단위로 Kafka에 발행
+ * - 발행 성공 레코드는 삭제, 실패 레코드는 지수 백오프로 재시도 예약 (브로커 장애 동안 시도 횟수를 빠르게 소진하지 않음)
+ * - 워커 수(parallelism)만큼 SKIP LOCKED로 서로 다른 배치를 동시에 처리
+ * - 같은 배송(aggregateId)의 이벤트는 적재 순서대로 발행 (앞선 이벤트가 발행되기 전에는 뒤 이벤트를 보내지 않음)
+ *   - 예외: 앞선 이벤트가 FAILED로 중단되면 뒤 이벤트는 발행 재개, 임대 트랜잭션끼리 겹치는 짧은 구간
+ * - 발행 포맷은 delivery.kafka.event-format (LastMileEventFormat), DUAL이면 두 토픽 모두 성공해야 발행 완료
+ *   - 한쪽만 성공하면 성공한 포맷을 outbox 레코드에 기록하고 재시도 때는 나머지 포맷만 발행
+ *   - 전송 대기 시간(send-timeout-ms)이 지난 뒤 늦게 성공한 포맷은 기록되지 않아 다시 발행될 수 있음
+ *     (at-least-once, 컨슈머는 eventId로 중복 제거)
+ * - 전송 시간은 토픽/결과별 (delivery.outbox.relay.send), 적재부터 브로커 응답까지는 delivery.outbox.relay.end_to_end
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastMileOutboxRelay {
+
+    private static final Map<String, Class<?>> EVENT_TYPES = Map.of(
+            "LastMileDepartedEvent", LastMileDepartedEvent.class,
+            "LastMileCompletedEvent", LastMileCompletedEvent.class
+    );
+
+    private final LastMileOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> binaryKafkaTemplate;
+    private final LastMileEventAvroCodec avroCodec;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${delivery.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${delivery.outbox.relay.parallelism:1}")
+    private int parallelism;
+
+    @Value("${delivery.outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${delivery.outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${delivery.outbox.relay.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${delivery.outbox.relay.backoff.initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${delivery.outbox.relay.backoff.max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${delivery.kafka.event-format:JSON}")
+    private LastMileEventFormat eventFormat;
+
+    @Value("${delivery.kafka.avro-topic-suffix:.avro}")
+    private String avroTopicSuffix;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private ExecutorService drainExecutor;
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void init() {
+        // 워커는 Kafka 전송 결과를 기다리며 블로킹하므로 가상 스레드 모드에서는 가상 스레드로 실행
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("outbox-relay-", 1).factory()
+                : new ThreadFactory() {
+                    private final AtomicLong sequence = new AtomicLong();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "outbox-relay-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                };
+        this.drainExecutor = Executors.newFixedThreadPool(parallelism, threadFactory);
+
+        this.publishedCounter = Counter.builder("delivery.outbox.relay.published")
+                .description("Kafka로 발행된 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("delivery.outbox.relay.failed")
+                .description("발행에 실패한 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("delivery.outbox.relay.batch")
+                .description("outbox 배치 1회 처리 시간 (조회 + 발행 + 정리)")
+                .register(meterRegistry);
+
+        Gauge.builder("delivery.outbox.pending", pendingCount, AtomicLong::get)
+                .description("발행 대기 중인 outbox 이벤트 수")
+                .register(meterRegistry);
+        TimeGauge.builder("delivery.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("가장 오래된 발행 대기 이벤트의 경과 시간")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainExecutor.shutdown();
+    }
+
+    /**
+     * Relay 주기 실행
+     * - linger-ms 간격으로 깨어나 outbox가 빌 때까지 배치 발행
+     */
+    @Scheduled(fixedDelayString = "${delivery.outbox.relay.linger-ms:100}")
+    public void relay() {
+        List<Future<?>> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            workers.add(drainExecutor.submit(this::drain));
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Outbox Relay 워커 오류 - error: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        refreshBacklog();
+    }
+
+    /**
+     * 배치 전체가 발행되는 동안 계속 발행 (백로그 빠르게 해소, 실패가 섞이면 다음 주기로)
+     */
+    private void drain() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * 배치 1회 처리 (전송 동안 DB 트랜잭션/행 잠금 미점유)
+     * 1. 임대: 짧은 트랜잭션에서 SKIP LOCKED 조회 후 next_attempt_at을 임대 만료 시간으로 연기
+     * 2. 전송: 트랜잭션 밖에서 전송, 같은 배송의 이벤트는 앞선 이벤트의 브로커 응답 후 전송
+     *    (앞선 이벤트가 실패하면 뒤 이벤트는 전송하지 않고 임대만 반납)
+     * 3. 정리: 발행 레코드 삭제, 실패 레코드는 지수 백오프로 재시도 예약 (최대 시도 횟수 초과 시 FAILED)
+     *
+     * @return 발행 완료 건수 (실패/미전송 건은 세지 않으므로 브로커 장애 중에는 drain 반복이 멈춤)
+     */
+    int relayBatch() {
+        List<LastMileOutboxEvent> batch = transactionTemplate.execute(status -> lease());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SendResult result = sendInOrder(batch);
+        transactionTemplate.executeWithoutResult(status -> complete(result));
+
+        publishedCounter.increment(result.publishedIds().size());
+        failedCounter.increment(result.failures().size());
+        sample.stop(batchTimer);
+
+        log.debug("Outbox 배치 발행 - total: {}, published: {}, failed: {}, deferred: {}",
+                batch.size(), result.publishedIds().size(), result.failures().size(), result.deferredIds().size());
+        return result.publishedIds().size();
+    }
+
+    /**
+     * 1단계: 발행 대상 임대
+     */
+    private List<LastMileOutboxEvent> lease() {
+        LocalDateTime now = LocalDateTime.now();
+        List<LastMileOutboxEvent> batch =
+                outboxRepository.findDueForRelay(LastMileOutboxStatus.PENDING, now, Limit.of(batchSize));
+
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        batch.forEach(outbox -> outbox.lease(leaseUntil));
+        return batch;
+    }
+
+    /**
+     * 2단계: 배송별 순차, 배송 간 동시 전송 (Producer가 linger/batch 설정에 따라 묶어서 전송)
+     */
+    private SendResult sendInOrder(List<LastMileOutboxEvent> batch) {
+        Set<UUID> attempted = ConcurrentHashMap.newKeySet();
+        Map<UUID, Set<LastMileEventFormat>> publishedFormats = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<Void>> lastByAggregate = new HashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+        for (LastMileOutboxEvent outbox : batch) {
+            CompletableFuture<Void> previous = lastByAggregate.get(outbox.getAggregateId());
+            Supplier<CompletableFuture<Void>> sendOne = () -> {
+                attempted.add(outbox.getOutboxId());
+                return send(outbox, publishedFormats);
+            };
+            // 앞선 이벤트가 실패/취소되면 thenCompose가 실행되지 않아 전송하지 않음
+            CompletableFuture<Void> sent = previous == null
+                    ? sendOne.get()
+                    : previous.thenCompose(ignored -> sendOne.get());
+            lastByAggregate.put(outbox.getAggregateId(), sent);
+            futures.add(sent);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<UUID> publishedIds = new ArrayList<>(batch.size());
+        List<UUID> deferredIds = new ArrayList<>();
+        Map<UUID, String> failures = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            UUID outboxId = batch.get(i).getOutboxId();
+            CompletableFuture<Void> future = futures.get(i);
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(outboxId);
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                // 대기 시간 초과 시 아직 시작하지 않은 뒤 이벤트 전송도 막음
+                future.cancel(false);
+                if (attempted.contains(outboxId)) {
+                    Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                    failures.put(outboxId, cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+                } else {
+                    deferredIds.add(outboxId);
+                }
+            }
+        }
+        return new SendResult(publishedIds, failures, deferredIds, publishedFormats);
+    }
+
+    /**
+     * 3단계: 발행 레코드 삭제, 실패 레코드 재시도 예약(DUAL에서 성공한 포맷 기록), 미전송 레코드 임대 반납
+     */
+    private void complete(SendResult result) {
+        if (!result.publishedIds().isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(result.publishedIds());
+        }
+
+        List<UUID> unpublishedIds = new ArrayList<>(result.failures().keySet());
+        unpublishedIds.addAll(result.deferredIds());
+        if (unpublishedIds.isEmpty()) {
+            return;
+        }
+        for (LastMileOutboxEvent outbox : outboxRepository.findAllById(unpublishedIds)) {
+            String error = result.failures().get(outbox.getOutboxId());
+            if (error == null) {
+                outbox.release();
+                continue;
+            }
+            result.publishedFormats().getOrDefault(outbox.getOutboxId(), Set.of()).forEach(outbox::markPublished);
+            outbox.recordFailedAttempt(error, maxAttempts, backoff(outbox.getAttemptCount() + 1));
+            if (outbox.getStatus() == LastMileOutboxStatus.FAILED) {
+                log.error("Outbox 이벤트 발행 중단 - outboxId: {}, eventType: {}, aggregateId: {}, attempt: {}, error: {}",
+                        outbox.getOutboxId(), outbox.getEventType(), outbox.getAggregateId(),
+                        outbox.getAttemptCount(), error);
+            } else {
+                log.warn("Outbox 이벤트 발행 실패 - outboxId: {}, eventType: {}, attempt: {}, nextAttemptAt: {}, error: {}",
+                        outbox.getOutboxId(), outbox.getEventType(), outbox.getAttemptCount(),
+                        outbox.getNextAttemptAt(), error);
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프 (initial × 2^(attempt-1), 최대 max)
+     * - 절반은 고정, 절반은 무작위 (브로커 복구 직후 재시도가 한꺼번에 몰리지 않도록)
+     */
+    Duration backoff(int attempt) {
+        long exponential = backoffInitialMs << Math.min(attempt - 1, 30);
+        long capped = Math.min(exponential > 0 ? exponential : backoffMaxMs, backoffMaxMs);
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    /**
+     * 설정된 포맷 중 아직 발행되지 않은 포맷만 전송, 포맷별 성공은 publishedFormats에 기록
+     */
+    private CompletableFuture<Void> send(LastMileOutboxEvent outbox,
+                                         Map<UUID, Set<LastMileEventFormat>> publishedFormats) {
+        try {
+            Class<?> eventClass = EVENT_TYPES.get(outbox.getEventType());
+            if (eventClass == null) {
+                return CompletableFuture.failedFuture(
+                        new IllegalStateException("알 수 없는 이벤트 타입: " + outbox.getEventType()));
+            }
+            Object event = objectMapper.readValue(outbox.getPayload(), eventClass);
+            long startedAt = System.nanoTime();
+
+            List<CompletableFuture<?>> sends = new ArrayList<>(2);
+            if (eventFormat.writesJson() && !outbox.isJsonPublished()) {
+                sends.add(remember(sendJson(outbox, event), outbox, LastMileEventFormat.JSON, publishedFormats));
+            }
+            if (eventFormat.writesAvro() && !outbox.isAvroPublished()) {
+                sends.add(remember(sendAvro(outbox, event), outbox, LastMileEventFormat.AVRO, publishedFormats));
+            }
+            CompletableFuture<Void> sent = CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new));
+            return sent.whenComplete((result, error) -> recordSend(outbox, startedAt, error));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static CompletableFuture<?> remember(CompletableFuture<?> sent, LastMileOutboxEvent outbox,
+                                                LastMileEventFormat format,
+                                                Map<UUID, Set<LastMileEventFormat>> publishedFormats) {
+        return sent.thenRun(() -> publishedFormats
+                .computeIfAbsent(outbox.getOutboxId(), id -> ConcurrentHashMap.newKeySet())
+                .add(format));
+    }
+
+    private CompletableFuture<?> sendJson(LastMileOutboxEvent outbox, Object event) {
+        return kafkaTemplate.send(outbox.getTopic(), outbox.getMessageKey(), event);
+    }
+
+    private CompletableFuture<?> sendAvro(LastMileOutboxEvent outbox, Object event) {
+        return binaryKafkaTemplate.send(outbox.getTopic() + avroTopicSuffix, outbox.getMessageKey(), avroCodec.encode(event));
+    }
+
+    /**
+     * 전송 결과 기록
+     * - send: 전송 요청부터 브로커 응답까지 (linger 대기 포함)
+     * - end_to_end: outbox 적재(createdAt)부터 브로커 응답까지, 발행 성공 건만 (relay 주기 대기, 재시도 포함)
+     */
+    private void recordSend(LastMileOutboxEvent outbox, long startedAt, Throwable error) {
+        String outcome = error == null ? "success" : "failure";
+        Timer.builder("delivery.outbox.relay.send")
+                .description("이벤트 1건 전송 요청부터 브로커 응답까지 시간 (linger 대기 포함)")
+                .tags("topic", outbox.getTopic(), "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (error == null && outbox.getCreatedAt() != null) {
+            Timer.builder("delivery.outbox.relay.end_to_end")
+                    .description("outbox 적재부터 브로커 응답까지 시간")
+                    .tags("topic", outbox.getTopic())
+                    .register(meterRegistry)
+                    .record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+        }
+    }
+
+    private void refreshBacklog() {
+        try {
+            pendingCount.set(outboxRepository.countByStatus(LastMileOutboxStatus.PENDING));
+            lagMillis.set(outboxRepository.findOldestCreatedAt(LastMileOutboxStatus.PENDING)
+                    .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("Outbox 백로그 조회 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private record SendResult(List<UUID> publishedIds, Map<UUID, String> failures, List<UUID> deferredIds,
+                              Map<UUID, Set<LastMileEventFormat>> publishedFormats) {
+    }
+}
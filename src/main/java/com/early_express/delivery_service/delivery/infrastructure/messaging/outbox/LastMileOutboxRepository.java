@@ -0,0 +1,47 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LastMileOutboxRepository extends JpaRepository<LastMileOutboxEvent, UUID> {
+
+    /**
+     * 발행 시간이 된 레코드를 오래된 순으로 잠금 조회
+     * - lock.timeout = -2 → FOR UPDATE SKIP LOCKED
+     * - 여러 Relay 워커/인스턴스가 서로 다른 배치를 가져가도록 보장
+     * - 같은 배송의 앞선 레코드가 재시도 대기 중이거나 다른 워커에 임대된 동안에는 뒤 레코드를 가져가지 않음 (배송별 발행 순서)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM LastMileOutboxEvent o " +
+            "WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+            "AND NOT EXISTS (SELECT 1 FROM LastMileOutboxEvent p " +
+            "WHERE p.aggregateId = o.aggregateId AND p.status = :status " +
+            "AND p.createdAt < o.createdAt AND p.nextAttemptAt > :now) " +
+            "ORDER BY o.createdAt")
+    List<LastMileOutboxEvent> findDueForRelay(
+            @Param("status") LastMileOutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Limit limit);
+
+    long countByStatus(LastMileOutboxStatus status);
+
+    /**
+     * 가장 오래된 레코드의 생성 시간 (Relay 지연 측정용)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM LastMileOutboxEvent o WHERE o.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAt(@Param("status") LastMileOutboxStatus status);
+}
@@ -0,0 +1,17 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.outbox;
+
+/**
+ * Outbox 레코드 상태
+ */
+public enum LastMileOutboxStatus {
+
+    /**
+     * 발행 대기 (Relay가 가져갈 대상)
+     */
+    PENDING,
+
+    /**
+     * 최대 재시도 횟수 초과 (수동 확인 필요)
+     */
+    FAILED
+}
@@ -0,0 +1,144 @@
+package com.early_express.delivery_service.delivery.infrastructure.monitoring;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryTransitions;
+import com.early_express.delivery_service.global.presentation.exception.GlobalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 배송 수명주기 메트릭
+ *
+ * - delivery.lifecycle.transition (from, to, hub): 상태 전이 수
+ *   - 트랜잭션 안에서 기록하면 커밋 후 집계 (롤백, 충돌 재시도로 버려진 전이는 세지 않음)
+ *   - from=NONE: 생성, from=UNKNOWN: 조건부 UPDATE(출발/완료/취소)로 이전 상태를 읽지 않았고 가능한 이전 상태가 여럿인 경우
+ *   - hub 태그는 처음 본 허브부터 hub-tag-limit개까지만 그대로 쓰고 이후는 OTHER (시계열 수 상한)
+ * - delivery.operation (operation, outcome): 주요 처리 시간
+ *   - outcome: success, 실패 시 에러 코드 이름 (ErrorCode가 없는 예외는 예외 클래스 이름)
+ *   - 백분위 히스토그램은 application.yaml management.metrics.distribution.percentiles-histogram
+ */
+@Component
+@RequiredArgsConstructor
+public class DeliveryMetrics {
+
+    static final String OTHER_HUB = "OTHER";
+    private static final String NONE = "NONE";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> taggedHubs = ConcurrentHashMap.newKeySet();
+
+    @Value("${delivery.metrics.hub-tag-limit:100}")
+    private int hubTagLimit;
+
+    /**
+     * 상태 전이 1건 (from이 null이면 생성)
+     */
+    public void recordTransition(String hubId, FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        recordTransitions(hubId, from, to, 1);
+    }
+
+    /**
+     * 같은 허브/전이 여러 건 (일괄 생성/예약/해제)
+     */
+    public void recordTransitions(String hubId, FinalMileDeliveryStatus from, FinalMileDeliveryStatus to, int count) {
+        count(hubId, from != null ? from.name() : NONE, to, count);
+    }
+
+    /**
+     * 배송별 허브 목록으로 같은 전이 여러 건 (일괄 배정/생성, 허브별로 묶어 집계)
+     */
+    public void recordTransitions(Collection<String> hubIds, FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        Map<String, Integer> counts = new HashMap<>();
+        hubIds.forEach(hubId -> counts.merge(hubId, 1, Integer::sum));
+        counts.forEach((hubId, count) -> recordTransitions(hubId, from, to, count));
+    }
+
+    /**
+     * 조건부 UPDATE 경로의 전이 (가능한 이전 상태가 하나뿐이면 그 상태로 기록)
+     */
+    public void recordFastTransition(String hubId, FinalMileDeliveryStatus to) {
+        Set<FinalMileDeliveryStatus> sources = FinalMileDeliveryTransitions.sourcesOf(to);
+        count(hubId, sources.size() == 1 ? sources.iterator().next().name() : UNKNOWN, to, 1);
+    }
+
+    /**
+     * 처리 시간 기록 (예외는 그대로 전파)
+     */
+    public <T> T timed(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("delivery.operation", "operation", operation, "outcome", outcome));
+        }
+    }
+
+    public void timedRun(String operation, Runnable action) {
+        timed(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 메트릭 outcome 태그 값 (에러 코드 이름 또는 예외 클래스 이름, 값의 종류가 코드로 한정됨)
+     */
+    public static String outcomeOf(Throwable e) {
+        if (e instanceof GlobalException ge && ge.getErrorCode() instanceof Enum<?> code) {
+            return code.name();
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    String hubTag(String hubId) {
+        if (hubId == null || hubId.isBlank()) {
+            return NONE;
+        }
+        if (taggedHubs.contains(hubId)) {
+            return hubId;
+        }
+        // 동시에 처음 본 허브가 여럿이면 상한을 조금 넘을 수 있음 (정확한 상한보다 잠금 없는 조회를 우선)
+        if (taggedHubs.size() < hubTagLimit) {
+            taggedHubs.add(hubId);
+            return hubId;
+        }
+        return OTHER_HUB;
+    }
+
+    private void count(String hubId, String from, FinalMileDeliveryStatus to, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter counter = meterRegistry.counter("delivery.lifecycle.transition",
+                "from", from, "to", to.name(), "hub", hubTag(hubId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.increment(count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.increment(count);
+            }
+        });
+    }
+}
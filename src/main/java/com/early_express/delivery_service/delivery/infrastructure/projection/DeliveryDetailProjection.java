@@ -0,0 +1,23 @@
+package com.early_express.delivery_service.delivery.infrastructure.projection;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배송 상세 조회용 프로젝션
+ */
+public record DeliveryDetailProjection(
+        UUID finalMileId,
+        String orderId,
+        String agentId,
+        FinalMileDeliveryStatus currentStatus,
+        String deliveryAddress,
+        String recipientName,
+        String recipientSlackId,
+        LocalDateTime startedAt,
+        LocalDateTime expectedTime,
+        LocalDateTime deliveredAt
+) {
+}
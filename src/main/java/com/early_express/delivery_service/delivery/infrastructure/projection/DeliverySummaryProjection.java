@@ -0,0 +1,23 @@
+package com.early_express.delivery_service.delivery.infrastructure.projection;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 배송 목록(페이지네이션) 조회용 프로젝션
+ * - 엔티티를 로딩하지 않고 필요한 컬럼만 조회 (영속성 컨텍스트 미등록)
+ * - startedAt은 커서 페이지네이션의 다음 커서 생성에 사용
+ */
+public record DeliverySummaryProjection(
+        UUID finalMileId,
+        String orderId,
+        String agentId,
+        FinalMileDeliveryStatus currentStatus,
+        String deliveryAddress,
+        String recipientName,
+        String recipientSlackId,
+        LocalDateTime startedAt
+) {
+}
@@ -0,0 +1,23 @@
+package com.early_express.delivery_service.delivery.infrastructure.projection;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 당일 배송 담당자별 그룹화 조회용 프로젝션
+ */
+public record TodayDeliveryProjection(
+        UUID finalMileId,
+        String orderId,
+        String hubId,
+        String agentId,
+        String agentName,
+        FinalMileDeliveryStatus currentStatus,
+        String deliveryAddress,
+        String recipientName,
+        String recipientSlackId,
+        LocalDateTime expectedTime
+) {
+}
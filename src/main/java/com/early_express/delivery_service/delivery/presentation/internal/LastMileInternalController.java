@@ -1,13 +1,21 @@
 package com.early_express.delivery_service.delivery.presentation.internal;
 
+import com.early_express.delivery_service.delivery.application.service.BulkDeliveryCreationService;
+import com.early_express.delivery_service.delivery.application.service.BulkDriverAssignmentService;
 import com.early_express.delivery_service.delivery.application.service.DeliveryQueryService;
 import com.early_express.delivery_service.delivery.application.service.FinalMileDeliveryService;
+import com.early_express.delivery_service.delivery.application.service.HubAssignmentDispatcher;
 import com.early_express.delivery_service.delivery.application.service.dto.TodayDeliveryGroupResponse;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.TodayDeliveryGroupInternalResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkAssignRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkCreateRequest;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileCreateRequest;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkAssignResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkCreateResponse;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileCancelResponse;
 import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileCreateResponse;
+import com.early_express.delivery_service.global.infrastructure.idempotency.IdempotencyStore;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +25,10 @@ import org.springframework.web.bind.annotation.*;
 /**
  * 최종 배송 Internal Controller
  * 내부 서비스 간 통신용 (Order Service, Track Service)
+ *
+ * 변경 요청(생성/배정/취소)은 Idempotency-Key 헤더 지원
+ * - 같은 키의 재요청은 다시 처리하지 않고 처음 응답을 그대로 반환 (호출 측 타임아웃 후 재시도 대비)
+ * - 헤더가 없으면 기존과 동일하게 처리
  */
 @Slf4j
 @RestController
@@ -26,6 +38,10 @@ public class LastMileInternalController {
 
     private final FinalMileDeliveryService finalMileDeliveryService;
     private final DeliveryQueryService deliveryQueryService;
+    private final BulkDriverAssignmentService bulkDriverAssignmentService;
+    private final BulkDeliveryCreationService bulkDeliveryCreationService;
+    private final HubAssignmentDispatcher hubAssignmentDispatcher;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * 최종 배송 생성
@@ -36,12 +52,15 @@ public class LastMileInternalController {
      */
     @PostMapping("/deliveries")
     public ResponseEntity<LastMileCreateResponse> createDelivery(
-            @Valid @RequestBody LastMileCreateRequest request) {
+            @Valid @RequestBody LastMileCreateRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
 
         log.info("[Internal] 최종 배송 생성 요청 - orderId: {}, hubId: {}",
                 request.getOrderId(), request.getHubId());
 
-        LastMileCreateResponse response = finalMileDeliveryService.createDelivery(request);
+        LastMileCreateResponse response = idempotencyStore.execute(
+                "create", idempotencyKey, request, LastMileCreateResponse.class,
+                () -> finalMileDeliveryService.createDelivery(request));
 
         log.info("[Internal] 최종 배송 생성 완료 - finalMileId: {}, orderId: {}",
                 response.getLastMileDeliveryId(), response.getOrderId());
@@ -49,22 +68,53 @@ public class LastMileInternalController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 최종 배송 일괄 생성
+     * POST /v1/last-mile/internal/deliveries/bulk
+     *
+     * Order Service에서 대량 주문 유입 시 호출
+     * - 주문별 결과 반환 (CREATED / DUPLICATE)
+     */
+    @PostMapping("/deliveries/bulk")
+    public ResponseEntity<LastMileBulkCreateResponse> createDeliveries(
+            @Valid @RequestBody LastMileBulkCreateRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+
+        log.info("[Internal] 최종 배송 일괄 생성 요청 - 건수: {}", request.getDeliveries().size());
+
+        LastMileBulkCreateResponse response = idempotencyStore.execute(
+                "create-bulk", idempotencyKey, request, LastMileBulkCreateResponse.class,
+                () -> bulkDeliveryCreationService.createDeliveries(request));
+
+        log.info("[Internal] 최종 배송 일괄 생성 완료 - total: {}, created: {}, duplicate: {}",
+                response.getTotalCount(), response.getCreatedCount(), response.getDuplicateCount());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 담당자 배정
      * POST /v1/last-mile/internal/deliveries/{lastMileDeliveryId}/assign-driver
      *
      * Track Service에서 호출
+     * - 허브별 배정 워커(HubAssignmentDispatcher)에서 처리 (같은 허브 배정은 순차 실행)
+     * - 대기 시간 초과(409) 후에도 배정은 계속되며, 같은 Idempotency-Key 재요청은 배정이 끝나면 그 결과를 받음
      * - LastMileDriverService에 Feign 요청 → 드라이버 배정
      * - 픽업 + 출발 처리
      * - LastMileDepartedEvent 발행
      */
     @PostMapping("/deliveries/{lastMileDeliveryId}/assign-driver")
     public ResponseEntity<LastMileAssignDriverResponse> assignDriver(
-            @PathVariable String lastMileDeliveryId) {
+            @PathVariable String lastMileDeliveryId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
 
         log.info("[Internal] 담당자 배정 요청 - lastMileDeliveryId: {}", lastMileDeliveryId);
 
-        LastMileAssignDriverResponse response = finalMileDeliveryService.assignDriver(lastMileDeliveryId);
+        LastMileAssignDriverResponse response = idempotencyStore.executeAsync(
+                "assign-driver:" + lastMileDeliveryId, idempotencyKey, lastMileDeliveryId,
+                LastMileAssignDriverResponse.class,
+                () -> hubAssignmentDispatcher.submitAssignment(lastMileDeliveryId),
+                result -> hubAssignmentDispatcher.awaitAssignment(lastMileDeliveryId, result));
 
         log.info("[Internal] 담당자 배정 완료 - lastMileDeliveryId: {}, driverId: {}, driverName: {}",
                 lastMileDeliveryId, response.getDriverId(), response.getDriverName());
@@ -72,6 +122,33 @@ public class LastMileInternalController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 담당자 일괄 배정
+     * POST /v1/last-mile/internal/deliveries/assign-driver/bulk
+     *
+     * Track Service에서 허브 오전 웨이브 배정 시 호출
+     * - hubId 지정 시 해당 허브의 PENDING 배송 전체, finalMileIds 지정 시 해당 배송만 배정
+     * - 드라이버 서비스 일괄 배정 1회 호출, 출발 이벤트 일괄 발행
+     * - 배송 건별 성공/실패 결과 반환
+     */
+    @PostMapping("/deliveries/assign-driver/bulk")
+    public ResponseEntity<LastMileBulkAssignResponse> assignDrivers(
+            @Valid @RequestBody LastMileBulkAssignRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+
+        log.info("[Internal] 담당자 일괄 배정 요청 - hubId: {}, finalMileIds: {}",
+                request.getHubId(), request.hasFinalMileIds() ? request.getFinalMileIds().size() : 0);
+
+        LastMileBulkAssignResponse response = idempotencyStore.execute(
+                "assign-driver-bulk", idempotencyKey, request, LastMileBulkAssignResponse.class,
+                () -> bulkDriverAssignmentService.assignDrivers(request));
+
+        log.info("[Internal] 담당자 일괄 배정 완료 - total: {}, assigned: {}, failed: {}",
+                response.getTotalCount(), response.getAssignedCount(), response.getFailedCount());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 배송 취소
      * POST /v1/last-mile/internal/deliveries/{lastMileDeliveryId}/cancel
@@ -80,15 +157,22 @@ public class LastMileInternalController {
      */
     @PostMapping("/deliveries/{lastMileDeliveryId}/cancel")
     public ResponseEntity<LastMileCancelResponse> cancelDelivery(
-            @PathVariable String lastMileDeliveryId) {
+            @PathVariable String lastMileDeliveryId,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
 
         log.info("[Internal] 배송 취소 요청 - lastMileDeliveryId: {}", lastMileDeliveryId);
 
-        finalMileDeliveryService.cancelDelivery(lastMileDeliveryId);
+        LastMileCancelResponse response = idempotencyStore.execute(
+                "cancel:" + lastMileDeliveryId, idempotencyKey, lastMileDeliveryId,
+                LastMileCancelResponse.class,
+                () -> {
+                    finalMileDeliveryService.cancelDelivery(lastMileDeliveryId);
+                    return LastMileCancelResponse.success(lastMileDeliveryId);
+                });
 
         log.info("[Internal] 배송 취소 완료 - lastMileDeliveryId: {}", lastMileDeliveryId);
 
-        return ResponseEntity.ok(LastMileCancelResponse.success(lastMileDeliveryId));
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -0,0 +1,47 @@
+package com.early_express.delivery_service.delivery.presentation.internal.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 담당자 일괄 배정 요청 (Internal)
+ * Track Service → Delivery Service
+ *
+ * - hubId: 해당 허브의 PENDING 배송 전체 배정 (오전 웨이브)
+ * - finalMileIds: 지정한 배송 건만 배정
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastMileBulkAssignRequest {
+
+    /**
+     * 허브 ID
+     */
+    private String hubId;
+
+    /**
+     * 배정할 배송 ID 목록 (delivery.assignment.bulk-max-size 기본값과 같은 상한, 설정을 낮추면 서비스에서 다시 확인)
+     */
+    @Size(max = 2000, message = "한 번에 최대 2000건까지 배정할 수 있습니다.")
+    private List<String> finalMileIds;
+
+    /**
+     * 배송 ID 목록 지정 여부
+     */
+    public boolean hasFinalMileIds() {
+        return finalMileIds != null && !finalMileIds.isEmpty();
+    }
+
+    @AssertTrue(message = "허브 ID 또는 배송 ID 목록 중 하나는 필수입니다.")
+    private boolean isTargetSpecified() {
+        return hasFinalMileIds() || (hubId != null && !hubId.isBlank());
+    }
+}
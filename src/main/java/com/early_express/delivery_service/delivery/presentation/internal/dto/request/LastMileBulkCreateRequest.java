@@ -0,0 +1,30 @@
+package com.early_express.delivery_service.delivery.presentation.internal.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 최종 배송 일괄 생성 요청 (Internal)
+ * Order Service → Delivery Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastMileBulkCreateRequest {
+
+    /**
+     * 생성할 배송 목록
+     */
+    @Valid
+    @NotEmpty(message = "생성할 배송 목록은 필수입니다.")
+    @Size(max = 10000, message = "한 번에 최대 10000건까지 생성할 수 있습니다.")
+    private List<LastMileCreateRequest> deliveries;
+}
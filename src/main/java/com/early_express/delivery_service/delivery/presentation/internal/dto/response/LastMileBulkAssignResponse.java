@@ -0,0 +1,56 @@
+package com.early_express.delivery_service.delivery.presentation.internal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 담당자 일괄 배정 응답 (Internal)
+ * Delivery Service → Track Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastMileBulkAssignResponse {
+
+    /**
+     * 요청 허브 ID (배송 ID 목록으로 요청한 경우 null)
+     */
+    private String hubId;
+
+    /**
+     * 처리 대상 건수
+     */
+    private int totalCount;
+
+    /**
+     * 배정 성공 건수
+     */
+    private int assignedCount;
+
+    /**
+     * 배정 실패 건수
+     */
+    private int failedCount;
+
+    /**
+     * 배송 건별 결과
+     */
+    private List<LastMileAssignDriverResponse> results;
+
+    public static LastMileBulkAssignResponse of(String hubId, List<LastMileAssignDriverResponse> results) {
+        int assigned = (int) results.stream().filter(LastMileAssignDriverResponse::isSuccess).count();
+
+        return LastMileBulkAssignResponse.builder()
+                .hubId(hubId)
+                .totalCount(results.size())
+                .assignedCount(assigned)
+                .failedCount(results.size() - assigned)
+                .results(results)
+                .build();
+    }
+}
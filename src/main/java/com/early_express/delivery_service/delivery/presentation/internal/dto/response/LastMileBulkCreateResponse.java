@@ -0,0 +1,104 @@
+package com.early_express.delivery_service.delivery.presentation.internal.dto.response;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 최종 배송 일괄 생성 응답 (Internal)
+ * Delivery Service → Order Service
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastMileBulkCreateResponse {
+
+    /**
+     * 요청 건수
+     */
+    private int totalCount;
+
+    /**
+     * 생성 건수
+     */
+    private int createdCount;
+
+    /**
+     * 중복 건수 (이미 생성된 주문 또는 요청 내 중복)
+     */
+    private int duplicateCount;
+
+    /**
+     * 주문별 결과 (요청 순서)
+     */
+    private List<Item> results;
+
+    public static LastMileBulkCreateResponse of(List<Item> results) {
+        int created = (int) results.stream().filter(item -> item.getResult() == Result.CREATED).count();
+
+        return LastMileBulkCreateResponse.builder()
+                .totalCount(results.size())
+                .createdCount(created)
+                .duplicateCount(results.size() - created)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 주문별 생성 결과
+     */
+    public enum Result {
+        CREATED,
+        DUPLICATE
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /**
+         * 주문 ID
+         */
+        private String orderId;
+
+        /**
+         * 배송 ID (요청 내 중복은 먼저 나온 주문의 배송 ID)
+         */
+        private String lastMileDeliveryId;
+
+        /**
+         * 처리 결과
+         */
+        private Result result;
+
+        /**
+         * 메시지
+         */
+        private String message;
+
+        public static Item created(FinalMileDelivery delivery) {
+            return Item.builder()
+                    .orderId(delivery.getOrderId())
+                    .lastMileDeliveryId(delivery.getFinalMileId())
+                    .result(Result.CREATED)
+                    .message("최종 배송이 생성되었습니다.")
+                    .build();
+        }
+
+        public static Item duplicate(String orderId, String lastMileDeliveryId) {
+            return Item.builder()
+                    .orderId(orderId)
+                    .lastMileDeliveryId(lastMileDeliveryId)
+                    .result(Result.DUPLICATE)
+                    .message("이미 생성된 배송입니다.")
+                    .build();
+        }
+    }
+}
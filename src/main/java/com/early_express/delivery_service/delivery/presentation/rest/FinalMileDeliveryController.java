@@ -28,7 +28,16 @@ public class FinalMileDeliveryController {
     public ResponseEntity<PageResponse<DeliveryResponseForPagination>> getDeliveries(
             // 기본 페이지 설정: 0페이지, 크기 20, 시작 시간(startedAt)을 내림차순(최신순) 정렬
             @PageableDefault(page = 0, size = 20, sort = "startedAt", direction = org.springframework.data.domain.Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            // 페이지네이션 방식: OFFSET(기본) 또는 CURSOR. cursor 값이 있으면 CURSOR로 처리
+            @RequestParam(defaultValue = "OFFSET") PagingMode paging,
+            // CURSOR 방식에서 이전 응답의 pageInfo.nextCursor (첫 페이지는 생략)
+            @RequestParam(required = false) String cursor) {
+
+        // CURSOR 방식: count 없이 (startedAt, finalMileId) 기준으로 다음 페이지 조회 (정렬 고정)
+        if (paging == PagingMode.CURSOR || (cursor != null && !cursor.isBlank())) {
+            return ResponseEntity.ok(deliveryQueryService.getDeliveriesByCursor(cursor, pageable.getPageSize()));
+        }
 
         // Service는 PageResponse<DeliveryResponseForPagination>를 반환합니다.
         PageResponse<DeliveryResponseForPagination> response = deliveryQueryService.getPaginatedDeliveries(pageable);
@@ -0,0 +1,16 @@
+package com.early_express.delivery_service.delivery.presentation.rest.dto;
+
+/**
+ * 배송 목록 페이지네이션 방식
+ */
+public enum PagingMode {
+    /**
+     * page/size 기반 (전체 건수 포함, 소규모 관리 화면용)
+     */
+    OFFSET,
+
+    /**
+     * 커서(키셋) 기반 (전체 건수 없음, 대용량 스크롤용)
+     */
+    CURSOR
+}
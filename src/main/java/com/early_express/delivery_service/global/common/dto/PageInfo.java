@@ -1,17 +1,24 @@
 package com.early_express.delivery_service.global.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 페이지 정보
+ * - 오프셋 페이지: page / totalElements / totalPages 포함
+ * - 커서 페이지: 전체 건수 조회(count) 없이 nextCursor로 다음 페이지 요청 (page / total* 필드 생략)
+ */
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageInfo {
-    private final int page;
+    private final Integer page;
     private final int size;
-    private final long totalElements;
-    private final int totalPages;
+    private final Long totalElements;
+    private final Integer totalPages;
     private final int numberOfElements;
     private final boolean first;
     private final boolean last;
@@ -19,6 +26,7 @@ public class PageInfo {
     private final boolean hasPrevious;
     private final boolean empty;
     private final List<SortInfo> sort;
+    private final String nextCursor;
 
     @Builder
     private PageInfo(int page, int size, long totalElements,
@@ -36,6 +44,26 @@ public class PageInfo {
         this.hasPrevious = page > 0;
         this.empty = numberOfElements == 0;
         this.sort = sort != null ? new ArrayList<>(sort) : new ArrayList<>();
+        this.nextCursor = null;
+    }
+
+    private PageInfo(int size, int numberOfElements, boolean first, String nextCursor, List<SortInfo> sort) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 0보다 커야합니다.");
+        }
+
+        this.page = null;
+        this.size = size;
+        this.totalElements = null;
+        this.totalPages = null;
+        this.numberOfElements = numberOfElements;
+        this.first = first;
+        this.last = nextCursor == null;
+        this.hasNext = nextCursor != null;
+        this.hasPrevious = !first;
+        this.empty = numberOfElements == 0;
+        this.sort = sort != null ? new ArrayList<>(sort) : new ArrayList<>();
+        this.nextCursor = nextCursor;
     }
 
     // 정렬 정보 없이 생성 (기존 호환성 유지)
@@ -63,6 +91,17 @@ public class PageInfo {
                 .build();
     }
 
+    /**
+     * 커서 페이지 정보 생성 (전체 건수 없음)
+     *
+     * @param first      첫 페이지 여부 (요청에 커서가 없었는지)
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public static PageInfo ofCursor(int size, int numberOfElements, boolean first,
+                                    String nextCursor, List<SortInfo> sort) {
+        return new PageInfo(size, numberOfElements, first, nextCursor, sort);
+    }
+
     private void validateParameters(int page, int size, long totalElements, int totalPages) {
         if (page < 0) {
             throw new IllegalArgumentException("page는 0보다 크거나 같아야 됩니다.");
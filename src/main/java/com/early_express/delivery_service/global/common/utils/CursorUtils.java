@@ -0,0 +1,63 @@
+package com.early_express.delivery_service.global.common.utils;
+
+import com.early_express.delivery_service.global.presentation.exception.GlobalErrorCode;
+import com.early_express.delivery_service.global.presentation.exception.GlobalException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 커서(키셋) 페이지네이션용 커서 인코딩 유틸리티
+ * - 마지막 행의 정렬 키 값들을 Base64 URL-safe 문자열로 인코딩 (클라이언트에는 불투명한 값)
+ * - null 값은 빈 문자열로 저장
+ */
+public class CursorUtils {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private CursorUtils() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
+    }
+
+    public static String encode(String... values) {
+        String joined = String.join(SEPARATOR, Arrays.stream(values)
+                .map(value -> value != null ? value : "")
+                .toArray(String[]::new));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     *
+     * @param cursor        인코딩된 커서
+     * @param expectedParts 정렬 키 개수
+     * @return 정렬 키 값 (빈 값은 null)
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = joined.split(SEPARATOR, -1);
+            if (values.length != expectedParts) {
+                throw new InvalidCursorException(cursor);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].isEmpty()) {
+                    values[i] = null;
+                }
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /**
+     * 잘못된 커서 예외
+     */
+    public static class InvalidCursorException extends GlobalException {
+        public InvalidCursorException(String cursor) {
+            super(GlobalErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.early_express.delivery_service.global.common.utils;
+
+import java.util.UUID;
+
+/**
+ * 식별자 생성 전략
+ * - UuidUtils에 등록하여 엔티티 ID / 이벤트 ID 생성에 사용
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID generate();
+}
@@ -7,6 +7,7 @@ import com.early_express.delivery_service.global.presentation.exception.GlobalEr
 import com.early_express.delivery_service.global.presentation.exception.GlobalException;
 import org.springframework.data.domain.Page;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -43,6 +44,39 @@ public class PageUtils {
         return PageResponse.of(mappedContent, pageInfo);
     }
 
+    /**
+     * 커서(키셋) 조회 결과를 PageResponse로 변환 (전체 건수 없음)
+     * - rows는 size + 1건까지 조회한 결과 (초과분이 있으면 다음 페이지 존재)
+     *
+     * @param rows     조회 결과 (최대 size + 1건)
+     * @param size     페이지 크기
+     * @param first    첫 페이지 여부
+     * @param cursorOf 마지막 행 → 다음 페이지 커서
+     * @param mapper   엔티티 → DTO 변환 함수
+     * @param sort     정렬 정보
+     */
+    public static <T, R> PageResponse<R> toCursorPageResponse(List<T> rows, int size, boolean first,
+                                                              Function<T, String> cursorOf,
+                                                              Function<T, R> mapper,
+                                                              List<SortInfo> sort) {
+        if (rows == null) {
+            throw new PageUtilException(GlobalErrorCode.INVALID_INPUT_VALUE, "조회 결과는 null일 수 없습니다.");
+        }
+        validateMapper(mapper);
+        validateMapper(cursorOf);
+
+        boolean hasNext = rows.size() > size;
+        List<T> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<R> mappedContent = new ArrayList<>(pageRows.size());
+        for (T row : pageRows) {
+            mappedContent.add(mapper.apply(row));
+        }
+
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return PageResponse.of(mappedContent, PageInfo.ofCursor(size, mappedContent.size(), first, nextCursor, sort));
+    }
+
     private static <T> PageInfo createPageInfo(Page<T> page) {
         // 정렬 정보 추출
         List<SortInfo> sortInfos = page.getSort().stream()
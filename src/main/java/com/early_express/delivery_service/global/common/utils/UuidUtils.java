@@ -1,30 +1,56 @@
 package com.early_express.delivery_service.global.common.utils;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * UUID 생성 유틸리티
  * 표준 36자 UUID만 생성
+ *
+ * - 기본 생성 전략은 시간 순 UUID(v7) (TimeOrderedIdGenerator)
+ * - use()로 생성 전략 교체 가능 (IdGeneratorConfig에서 설정값에 따라 등록)
  * */
 public class UuidUtils {
-    
+
+    private static volatile IdGenerator generator = TimeOrderedIdGenerator.INSTANCE;
+
     private UuidUtils() {
         throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
     }
 
+    /**
+     * 생성 전략 교체
+     */
+    public static void use(IdGenerator idGenerator) {
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("IdGenerator는 null일 수 없습니다.");
+        }
+        generator = idGenerator;
+    }
+
+    public static UUID generateUuid() {
+        return generator.generate();
+    }
+
     public static String generate() {
-        return UUID.randomUUID().toString();
+        return generateUuid().toString();
     }
 
-    public static boolean isValid(String uuid) {
+    /**
+     * 문자열 → UUID 변환 (형식이 잘못되면 empty)
+     */
+    public static Optional<UUID> parse(String uuid) {
         if (uuid == null) {
-            return false;
+            return Optional.empty();
         }
         try {
-            UUID.fromString(uuid);
-            return true;
+            return Optional.of(UUID.fromString(uuid));
         } catch (IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
+
+    public static boolean isValid(String uuid) {
+        return parse(uuid).isPresent();
+    }
 }
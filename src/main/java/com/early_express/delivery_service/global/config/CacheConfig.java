@@ -0,0 +1,19 @@
+package com.early_express.delivery_service.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정
+ * - 캐시 구현(Caffeine), 크기/TTL은 spring.cache.* 설정으로 지정
+ * - spring.cache.cache-names로 시작 시 생성한 캐시는 Micrometer 메트릭(cache.gets, cache.evictions 등)에 자동 등록
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 배송 상세 조회 캐시 (key: finalMileId)
+     */
+    public static final String DELIVERY_DETAIL = "deliveryDetail";
+}
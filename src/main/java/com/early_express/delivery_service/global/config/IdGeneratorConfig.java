@@ -0,0 +1,33 @@
+package com.early_express.delivery_service.global.config;
+
+import com.early_express.delivery_service.global.common.utils.TimeOrderedIdGenerator;
+import com.early_express.delivery_service.global.common.utils.UuidUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * ID 생성 전략 설정
+ * - time-ordered: 시간 순 UUID(v7), 기본값
+ * - random: UUID v4 (UUID.randomUUID)
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Value("${delivery.id.generator:time-ordered}")
+    private String strategy;
+
+    @PostConstruct
+    void registerIdGenerator() {
+        switch (strategy) {
+            case "time-ordered" -> UuidUtils.use(TimeOrderedIdGenerator.INSTANCE);
+            case "random" -> UuidUtils.use(UUID::randomUUID);
+            default -> throw new IllegalStateException("지원하지 않는 ID 생성 전략입니다: " + strategy);
+        }
+        log.info("ID 생성 전략 등록 - strategy: {}", strategy);
+    }
+}
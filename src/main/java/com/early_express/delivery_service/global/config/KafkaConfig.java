@@ -1,7 +1,10 @@
 package com.early_express.delivery_service.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +13,7 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
 import org.springframework.kafka.support.converter.StringJsonMessageConverter;
@@ -18,6 +22,7 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @Configuration
 @EnableKafka
 public class KafkaConfig {
@@ -28,29 +33,104 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    // 배치/압축 프로파일 (KafkaProducerProfile), 아래 개별 값이 있으면 프로파일 값 대신 사용
+    @Value("${delivery.kafka.producer.profile:default}")
+    private String producerProfile;
+
+    @Value("${delivery.kafka.producer.linger-ms:}")
+    private Integer lingerMs;
+
+    @Value("${delivery.kafka.producer.batch-size:}")
+    private Integer batchSize;
+
+    @Value("${delivery.kafka.producer.compression-type:}")
+    private String compressionType;
+
+    @Value("${delivery.kafka.producer.buffer-memory:}")
+    private Long bufferMemory;
+
+    // 커맨드 토픽 파티션 수 (커맨드 리스너 동시성 delivery.kafka.commands.concurrency와 맞춤)
+    @Value("${delivery.kafka.commands.partitions:3}")
+    private int commandPartitions;
+
+    // Avro 이벤트 토픽 = 기존 토픽명 + avro-topic-suffix (LastMileEventFormat DUAL/AVRO에서 발행)
+    @Value("${spring.kafka.topic.last-mile-departed:last-mile-departed}")
+    private String departedTopic;
+
+    @Value("${spring.kafka.topic.last-mile-completed:last-mile-completed}")
+    private String completedTopic;
+
+    @Value("${delivery.kafka.avro-topic-suffix:.avro}")
+    private String avroTopicSuffix;
+
     @Bean
     public RecordMessageConverter converter() {
         return new StringJsonMessageConverter();
     }
 
+    /**
+     * Producer 설정
+     * - 신뢰성: acks=all + 멱등성 (프로파일과 무관)
+     * - 처리량: delivery.kafka.producer.profile 프로파일 + 개별 값 덮어쓰기
+     * - 메트릭: Producer 클라이언트 메트릭(kafka.producer.*)을 Micrometer로 노출
+     *   (batch.size.avg, record.queue.time.avg, request.latency.avg, compression.rate.avg 등)
+     */
+    @Bean
+    public ProducerFactory<String, Object> producerFactory(MeterRegistry meterRegistry) {
+        DefaultKafkaProducerFactory<String, Object> factory =
+                new DefaultKafkaProducerFactory<>(producerProps(JsonSerializer.class));
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
+    }
+
+    /**
+     * 바이너리(Avro) 이벤트용 Producer (LastMileEventAvroCodec으로 변환한 byte[] 그대로 전송)
+     * - 설정은 JSON Producer와 동일, 값 직렬화만 다름
+     */
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<String, byte[]> binaryProducerFactory(MeterRegistry meterRegistry) {
+        DefaultKafkaProducerFactory<String, byte[]> factory =
+                new DefaultKafkaProducerFactory<>(producerProps(ByteArraySerializer.class));
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
+    }
+
+    private Map<String, Object> producerProps(Class<?> valueSerializer) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
 
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        KafkaProducerProfile profile = KafkaProducerProfile.from(producerProfile);
+        configProps.putAll(profile.settings());
+        KafkaProducerProfile.putIfPresent(configProps, ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        KafkaProducerProfile.putIfPresent(configProps, ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        KafkaProducerProfile.putIfPresent(configProps, ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        KafkaProducerProfile.putIfPresent(configProps, ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+
+        log.info("Kafka Producer 프로파일 - serializer: {}, profile: {}, linger.ms: {}, batch.size: {}, compression.type: {}, buffer.memory: {}",
+                valueSerializer.getSimpleName(),
+                profile,
+                configProps.get(ProducerConfig.LINGER_MS_CONFIG),
+                configProps.get(ProducerConfig.BATCH_SIZE_CONFIG),
+                configProps.get(ProducerConfig.COMPRESSION_TYPE_CONFIG),
+                configProps.get(ProducerConfig.BUFFER_MEMORY_CONFIG));
+        return configProps;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> binaryKafkaTemplate(ProducerFactory<String, byte[]> binaryProducerFactory) {
+        return new KafkaTemplate<>(binaryProducerFactory);
     }
 
     // 기본 토픽 생성 예제
@@ -68,6 +148,25 @@ public class KafkaConfig {
     @Bean
     public NewTopic applicationCommandsTopic() {
         return TopicBuilder.name(applicationName + "-commands")
+                .partitions(commandPartitions)
+                .replicas(3)
+                .config("min.insync.replicas", "2")
+                .build();
+    }
+
+    // Avro 이벤트 토픽 - 전환 기간(DUAL) 동안 JSON 토픽과 함께 발행
+    @Bean
+    public NewTopic lastMileDepartedAvroTopic() {
+        return avroEventTopic(departedTopic);
+    }
+
+    @Bean
+    public NewTopic lastMileCompletedAvroTopic() {
+        return avroEventTopic(completedTopic);
+    }
+
+    private NewTopic avroEventTopic(String jsonTopic) {
+        return TopicBuilder.name(jsonTopic + avroTopicSuffix)
                 .partitions(3)
                 .replicas(3)
                 .config("min.insync.replicas", "2")
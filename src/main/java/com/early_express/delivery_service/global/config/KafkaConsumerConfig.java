@@ -1,46 +1,162 @@
 package com.early_express.delivery_service.global.config;
 
+import com.early_express.delivery_service.delivery.infrastructure.messaging.command.LastMileCommand;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileCompletedEvent;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import com.early_express.delivery_service.global.infrastructure.kafka.JsonReaderCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.serializer.DelegatingByTopicDeserializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Kafka Consumer 설정
  * - 이벤트 구독 설정
  * - 수동 커밋
  * - 재시도 설정
+ * - 값 역직렬화: 토픽별 DTO 타입 고정 (JsonReaderCache), 등록되지 않은 토픽은 역직렬화 실패로 처리
+ * - 커맨드 배치 수신 (<app>-commands → LastMileCommandListener, 실패 시 <app>-dlt)
+ * - Consumer 클라이언트 메트릭(kafka.consumer.*)을 Micrometer로 노출
+ *   (컨슈머 랙: kafka.consumer.fetch.manager.records.lag.max, 토픽/파티션별 records.lag)
  */
 @Configuration
 public class KafkaConsumerConfig {
 
+    @Value("${spring.application.name}")
+    private String applicationName;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id:product-service-group}")
     private String groupId;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${spring.kafka.topic.last-mile-departed:last-mile-departed}")
+    private String departedTopic;
+
+    @Value("${spring.kafka.topic.last-mile-completed:last-mile-completed}")
+    private String completedTopic;
+
+    @Value("${spring.kafka.topic.delivery-cache-invalidation:delivery-cache-invalidation}")
+    private String cacheInvalidationTopic;
+
+    // 커맨드 리스너 동시성 (커맨드 토픽 파티션 수와 같게, 많으면 남는 컨슈머는 놀게 됨)
+    @Value("${delivery.kafka.commands.concurrency:3}")
+    private int commandConcurrency;
+
+    // poll 한 번 = DB 트랜잭션 한 번에 처리할 최대 커맨드 수
+    @Value("${delivery.kafka.commands.max-poll-records:500}")
+    private int commandMaxPollRecords;
+
+    // 배치 재시도 backoff (재시도 대기는 컨슈머 스레드에서 하므로 총 대기 시간이 max.poll.interval.ms보다 짧아야 함)
+    @Value("${delivery.kafka.commands.retry.max-retries:4}")
+    private int commandMaxRetries;
+
+    @Value("${delivery.kafka.commands.retry.initial-interval-ms:1000}")
+    private long commandRetryInitialIntervalMs;
+
+    @Value("${delivery.kafka.commands.retry.multiplier:2.0}")
+    private double commandRetryMultiplier;
+
+    @Value("${delivery.kafka.commands.retry.max-interval-ms:10000}")
+    private long commandRetryMaxIntervalMs;
+
+    /**
+     * Kafka 값 역직렬화용 ObjectReader 캐시 (spring-kafka JsonDeserializer 기본 ObjectMapper와 같은 설정)
+     */
+    @Bean
+    public JsonReaderCache kafkaJsonReaderCache() {
+        return new JsonReaderCache(JacksonUtils.enhancedObjectMapper());
+    }
+
+    /**
+     * 기본 Consumer (커맨드 외 리스너)
+     * - 토픽별로 정해진 DTO로 바로 변환 (타입 헤더/신뢰 패키지 미사용)
+     * - 새 토픽을 구독하면 topicValueDeserializer에 타입을 등록해야 함
+     *   (등록하지 않은 토픽은 null 값 + 역직렬화 예외 헤더로 전달되어 리스너에서 바로 드러남)
+     */
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public ConsumerFactory<String, Object> consumerFactory(MeterRegistry meterRegistry, JsonReaderCache kafkaJsonReaderCache) {
+        DefaultKafkaConsumerFactory<String, Object> factory = new DefaultKafkaConsumerFactory<>(
+                consumerProps(),
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(topicValueDeserializer(kafkaJsonReaderCache)));
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    /**
+     * 토픽 → 값 타입
+     * - 캐시 무효화 메시지는 배송 ID 문자열 (JsonSerializer로 보낸 JSON 문자열)
+     * - 출발/완료 이벤트는 발행 DTO 그대로
+     */
+    private Deserializer<Object> topicValueDeserializer(JsonReaderCache readers) {
+        Map<Pattern, Deserializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(topic(cacheInvalidationTopic), readers.deserializer(String.class));
+        delegates.put(topic(departedTopic), readers.deserializer(LastMileDepartedEvent.class));
+        delegates.put(topic(completedTopic), readers.deserializer(LastMileCompletedEvent.class));
+        delegates.put(topic(applicationName + "-commands"), readers.deserializer(LastMileCommand.class));
+
+        Deserializer<Object> unregistered = (topic, data) -> {
+            throw new SerializationException("값 타입이 등록되지 않은 토픽: " + topic);
+        };
+        return new DelegatingByTopicDeserializer(delegates, unregistered);
+    }
+
+    private static Pattern topic(String name) {
+        return Pattern.compile(Pattern.quote(name));
+    }
+
+    /**
+     * 커맨드 Consumer
+     * - 값은 LastMileCommand로 바로 변환 (타입 헤더 미사용)
+     * - 역직렬화 실패는 ErrorHandlingDeserializer가 예외 대신 null 값 + 예외 헤더로 전달 (리스너가 DLT로 보냄)
+     */
+    @Bean
+    public ConsumerFactory<String, LastMileCommand> commandConsumerFactory(MeterRegistry meterRegistry,
+                                                                           JsonReaderCache kafkaJsonReaderCache) {
+        Map<String, Object> configProps = consumerProps();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, commandMaxPollRecords);
+
+        DefaultKafkaConsumerFactory<String, LastMileCommand> factory = new DefaultKafkaConsumerFactory<>(
+                configProps,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(kafkaJsonReaderCache.deserializer(LastMileCommand.class)));
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    private Map<String, Object> consumerProps() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-
-        // JSON Deserializer 설정
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "java.lang.Object");
 
         // 수동 커밋
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -51,16 +167,16 @@ public class KafkaConsumerConfig {
         // 세션 타임아웃
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
-
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
 
         // 수동 커밋 모드
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
@@ -69,8 +185,59 @@ public class KafkaConsumerConfig {
         factory.setConcurrency(3);
 
         // 에러 핸들러
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        factory.setCommonErrorHandler(new DefaultErrorHandler());
 
+        useVirtualThreads(factory);
         return factory;
     }
+
+    /**
+     * 커맨드 배치 리스너 컨테이너
+     * - poll 결과 전체를 List로 전달, 리스너 반환 후 배치 단위 커밋
+     * - 실패: 지수 backoff로 재시도 후 <app>-dlt로 이동 (검증 실패 IllegalArgumentException은 재시도하지 않음)
+     * - DLT 전송: 역직렬화 실패 레코드는 원본 byte[] 그대로(binaryKafkaTemplate), 나머지는 JSON(kafkaTemplate)
+     *   (실패 원인/원래 토픽·파티션·오프셋은 kafka_dlt-* 헤더로 함께 기록)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, LastMileCommand> commandBatchListenerFactory(
+            ConsumerFactory<String, LastMileCommand> commandConsumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            KafkaTemplate<String, byte[]> binaryKafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, LastMileCommand> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(commandConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setConcurrency(commandConcurrency);
+
+        // DLT 파티션은 1개이므로 원래 파티션을 따르지 않고 Producer가 정하도록 둠
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, binaryKafkaTemplate);
+        templates.put(Object.class, kafkaTemplate);
+        String deadLetterTopic = applicationName + "-dlt";
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, e) -> new TopicPartition(deadLetterTopic, -1));
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(commandMaxRetries);
+        backOff.setInitialInterval(commandRetryInitialIntervalMs);
+        backOff.setMultiplier(commandRetryMultiplier);
+        backOff.setMaxInterval(commandRetryMaxIntervalMs);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        errorHandler.addNotRetryableExceptions(IllegalArgumentException.class);
+        factory.setCommonErrorHandler(errorHandler);
+
+        useVirtualThreads(factory);
+        return factory;
+    }
+
+    // 가상 스레드 모드: 직접 정의한 팩토리는 Spring Boot 자동 설정이 적용되지 않으므로 리스너 실행기를 지정
+    private void useVirtualThreads(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+    }
 }
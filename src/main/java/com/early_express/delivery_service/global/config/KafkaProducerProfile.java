@@ -0,0 +1,68 @@
+package com.early_express.delivery_service.global.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Kafka Producer 배치/압축 프로파일
+ * - 작은 JSON 이벤트를 초당 수천 건 보내는 경우 linger + 큰 배치 + 압축으로 요청 수와 전송량을 줄임
+ * - 개별 값은 delivery.kafka.producer.* 설정으로 덮어쓸 수 있음 (KafkaConfig)
+ * - 신뢰성 설정(acks=all, 멱등성)은 프로파일과 무관하게 유지
+ */
+public enum KafkaProducerProfile {
+
+    /**
+     * Kafka 클라이언트 기본값 (비교 기준)
+     */
+    DEFAULT(null, null, null, null),
+
+    /**
+     * 처리량 우선 (지연 20ms 이내, CPU 부담이 적은 lz4)
+     */
+    THROUGHPUT(20, 128 * 1024, "lz4", 64L * 1024 * 1024),
+
+    /**
+     * 전송량 우선 (더 긴 linger + 큰 배치, 압축률이 높은 zstd)
+     */
+    THROUGHPUT_ZSTD(50, 256 * 1024, "zstd", 128L * 1024 * 1024);
+
+    private final Integer lingerMs;
+    private final Integer batchSize;
+    private final String compressionType;
+    private final Long bufferMemory;
+
+    KafkaProducerProfile(Integer lingerMs, Integer batchSize, String compressionType, Long bufferMemory) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+        this.bufferMemory = bufferMemory;
+    }
+
+    /**
+     * 설정값(throughput, throughput-zstd 등)으로 프로파일 조회
+     */
+    public static KafkaProducerProfile from(String value) {
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 프로파일 Producer 설정 (null 항목은 클라이언트 기본값 사용)
+     */
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new HashMap<>();
+        putIfPresent(settings, ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        putIfPresent(settings, ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        putIfPresent(settings, ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        putIfPresent(settings, ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        return settings;
+    }
+
+    static void putIfPresent(Map<String, Object> settings, String key, Object value) {
+        if (value != null && !"".equals(value)) {
+            settings.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.early_express.delivery_service.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - Outbox Relay 등 백그라운드 작업 실행
+ * - 스레드 풀 크기는 spring.task.scheduling.pool.size로 조정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,8 +1,10 @@
 package com.early_express.delivery_service.global.config;
 
+import com.early_express.delivery_service.global.infrastructure.routing.HubAffinityLoadBalancerConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -14,6 +16,7 @@ import reactor.core.publisher.Mono;
 
 @Slf4j
 @Configuration
+@LoadBalancerClients(defaultConfiguration = HubAffinityLoadBalancerConfig.class)
 public class WebClientConfig {
 
     @Value("${webclient.max-memory-size:10485760}") // 10MB
@@ -31,6 +34,7 @@ public class WebClientConfig {
 
     /**
      * LoadBalanced WebClient - 내부 MSA 서비스 호출용
+     * - 허브 단위 호출은 X-Hub-Id 헤더를 붙이면 대상 서비스의 허브 소유 인스턴스로 감 (HubAffinityLoadBalancer)
      */
     @Bean
     @LoadBalanced
@@ -0,0 +1,85 @@
+package com.early_express.delivery_service.global.infrastructure.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 요청 기록 (Idempotency-Key 응답 저장소)
+ * - 키는 "scope:Idempotency-Key" (엔드포인트와 대상 ID별로 분리)
+ * - 만료 시간이 지나면 없는 것으로 취급하고 IdempotencyStore가 주기적으로 삭제
+ */
+@Entity
+@Table(
+        name = "p_idempotency_record",
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+)
+@Getter
+@Access(AccessType.FIELD)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 200)
+    private String recordKey;
+
+    /**
+     * 요청 본문 해시 (같은 키로 다른 요청을 보내면 거절)
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private IdempotencyStatus status;
+
+    /**
+     * 직렬화된 응답 (JSON, 완료 후)
+     */
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private IdempotencyRecord(String recordKey, String requestHash, LocalDateTime expiresAt) {
+        this.recordKey = recordKey;
+        this.requestHash = requestHash;
+        this.status = IdempotencyStatus.IN_PROGRESS;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 처리 시작 기록
+     *
+     * @param expiresAt 처리 중 상태 유지 기한 (인스턴스 종료 등으로 완료되지 않으면 이후 재실행 허용)
+     */
+    public static IdempotencyRecord inProgress(String recordKey, String requestHash, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(recordKey, requestHash, expiresAt);
+    }
+
+    /**
+     * 처리 완료 기록
+     *
+     * @param responseBody 직렬화된 응답
+     * @param expiresAt 응답 보관 기한
+     */
+    public void complete(String responseBody, LocalDateTime expiresAt) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responseBody = responseBody;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
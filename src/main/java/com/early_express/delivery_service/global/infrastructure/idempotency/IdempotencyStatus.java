@@ -0,0 +1,17 @@
+package com.early_express.delivery_service.global.infrastructure.idempotency;
+
+/**
+ * 멱등 요청 처리 상태
+ */
+public enum IdempotencyStatus {
+
+    /**
+     * 처리 중 (같은 키의 다른 요청은 완료를 기다림)
+     */
+    IN_PROGRESS,
+
+    /**
+     * 처리 완료 (저장된 응답을 재전송)
+     */
+    COMPLETED
+}
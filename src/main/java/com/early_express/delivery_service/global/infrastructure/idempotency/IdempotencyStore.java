@@ -0,0 +1,364 @@
+package com.early_express.delivery_service.global.infrastructure.idempotency;
+
+import com.early_express.delivery_service.global.presentation.exception.IdempotencyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 응답 저장소
+ *
+ * - 키별로 한 번만 실행하고 응답을 ttl 동안 보관, 같은 키의 재요청은 저장된 응답을 재전송
+ * - 같은 인스턴스의 동시 중복 요청: 진행 중인 실행 결과를 함께 기다림 (DB 조회 없음)
+ * - 다른 인스턴스의 동시 중복 요청: p_idempotency_record INSERT 충돌로 감지, 완료될 때까지 폴링
+ *   (wait-timeout 안에 끝나지 않으면 409, 같은 키로 다시 요청하면 결과를 받음)
+ * - 실행이 예외로 끝나면 기록을 지워 재요청 시 다시 실행 (오류 응답은 저장하지 않음)
+ * - 비동기 작업(executeAsync)은 호출한 쪽 응답과 무관하게 작업이 끝날 때 응답 저장/기록 삭제
+ * - 같은 키로 본문이 다른 요청은 거절
+ * - 기록 키가 컬럼 길이(200자)를 넘으면 해시로 대체 (경로 ID 길이와 무관하게 저장 가능)
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    /**
+     * p_idempotency_record.record_key 컬럼 길이
+     */
+    private static final int MAX_RECORD_KEY_LENGTH = 200;
+
+    /**
+     * 다른 인스턴스 완료 확인 간격 상한 (poll-interval-ms부터 2배씩 증가)
+     */
+    private static final long MAX_POLL_INTERVAL_MS = 1000;
+
+    /**
+     * SQLSTATE unique_violation (PostgreSQL, H2 공통)
+     */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${delivery.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${delivery.idempotency.in-progress-timeout-seconds:120}")
+    private long inProgressTimeoutSeconds;
+
+    @Value("${delivery.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    @Value("${delivery.idempotency.poll-interval-ms:100}")
+    private long pollIntervalMs;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            EntityManager entityManager,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.entityManager = entityManager;
+        // 호출한 쪽 트랜잭션과 무관하게 기록 즉시 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 키별 1회 실행
+     *
+     * @param scope 엔드포인트/대상 구분 (예: "assign-driver:{id}")
+     * @param idempotencyKey 요청 헤더 값 (없으면 그냥 실행)
+     * @param request 요청 본문 (같은 키의 요청 동일성 확인용)
+     * @param responseType 응답 타입 (저장된 응답 역직렬화용)
+     * @param action 실제 처리
+     * @return 처리 결과 또는 저장된 응답
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        return executeKeyed(scope, idempotencyKey, request, responseType, action, recordKey -> {
+            // 3. 실행 후 응답 저장 (실패 시 기록 삭제)
+            T result;
+            try {
+                result = action.get();
+            } catch (RuntimeException e) {
+                release(recordKey);
+                throw e;
+            }
+            count("executed");
+            store(recordKey, result);
+            return result;
+        });
+    }
+
+    /**
+     * 키별 1회 실행 (호출한 쪽의 대기 시간보다 오래 걸릴 수 있는 비동기 작업)
+     * - 응답 저장/기록 삭제는 작업이 끝난 시점 (대기 시간 초과로 먼저 응답해도 기록은 처리 중으로 유지)
+     * - 그 사이 같은 키 재요청은 다시 실행하지 않고 완료를 기다림 → 작업이 끝나면 저장된 응답을 받음
+     *
+     * @param submit 작업 시작
+     * @param waitFor 작업 결과 대기 (시간 초과 등의 예외는 그대로 응답)
+     * @return 처리 결과 또는 저장된 응답
+     */
+    public <T> T executeAsync(String scope, String idempotencyKey, Object request, Class<T> responseType,
+                              Supplier<CompletableFuture<T>> submit,
+                              Function<CompletableFuture<T>, T> waitFor) {
+        return executeKeyed(scope, idempotencyKey, request, responseType,
+                () -> waitFor.apply(submit.get()),
+                recordKey -> {
+                    // 3. 작업 시작, 끝나면 응답 저장 (실패 시 기록 삭제)
+                    CompletableFuture<T> job;
+                    try {
+                        job = submit.get();
+                    } catch (RuntimeException e) {
+                        release(recordKey);
+                        throw e;
+                    }
+                    job.whenComplete((result, error) -> {
+                        if (error == null) {
+                            count("executed");
+                            store(recordKey, result);
+                        } else {
+                            release(recordKey);
+                        }
+                    });
+                    return waitFor.apply(job);
+                });
+    }
+
+    /**
+     * @param direct 키가 없을 때 처리
+     * @param run 기록을 선점한 뒤 처리 (응답 저장/기록 삭제 포함)
+     */
+    private <T> T executeKeyed(String scope, String idempotencyKey, Object request, Class<T> responseType,
+                               Supplier<T> direct, Function<String, T> run) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return direct.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw IdempotencyException.invalidKey(idempotencyKey);
+        }
+
+        String recordKey = recordKey(scope, idempotencyKey);
+        String requestHash = hash(request);
+
+        // 1. 같은 인스턴스에서 진행 중이면 그 결과를 함께 기다림
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(recordKey, mine);
+        if (running != null) {
+            if (!running.requestHash().equals(requestHash)) {
+                count("mismatch");
+                throw IdempotencyException.requestMismatch(idempotencyKey);
+            }
+            count("coalesced");
+            return responseType.cast(await(running.result(), idempotencyKey));
+        }
+
+        try {
+            T result = executeOnce(recordKey, idempotencyKey, requestHash, responseType, run);
+            mine.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(recordKey, mine);
+        }
+    }
+
+    /**
+     * 만료 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${delivery.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("만료된 멱등 기록 삭제 - count: {}", deleted);
+        }
+    }
+
+    private <T> T executeOnce(String recordKey, String idempotencyKey, String requestHash,
+                              Class<T> responseType, Function<String, T> run) {
+        // 2. 처리 시작 기록 (이미 있으면 저장된 응답 재전송 또는 완료 대기)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        long interval = pollIntervalMs;
+        while (!tryClaim(recordKey, requestHash)) {
+            IdempotencyRecord record = idempotencyRecordRepository.findById(recordKey).orElse(null);
+            LocalDateTime now = LocalDateTime.now();
+
+            // 기록이 없으면 먼저 실행한 요청이 실패해 지워진 경우 → 대기 후 다시 선점 시도
+            if (record != null) {
+                if (!record.getRequestHash().equals(requestHash)) {
+                    count("mismatch");
+                    throw IdempotencyException.requestMismatch(idempotencyKey);
+                }
+                if (record.isExpired(now)) {
+                    transactionTemplate.executeWithoutResult(status ->
+                            idempotencyRecordRepository.deleteIfExpired(recordKey, now));
+                } else if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                    count("replayed");
+                    return deserialize(record.getResponseBody(), responseType);
+                }
+            }
+            if (System.nanoTime() > deadline) {
+                count("in_progress");
+                throw IdempotencyException.inProgress(idempotencyKey);
+            }
+            pause(interval, idempotencyKey);
+            interval = Math.min(interval * 2, Math.max(pollIntervalMs, MAX_POLL_INTERVAL_MS));
+        }
+
+        return run.apply(recordKey);
+    }
+
+    private boolean tryClaim(String recordKey, String requestHash) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(IdempotencyRecord.inProgress(
+                        recordKey, requestHash, LocalDateTime.now().plusSeconds(inProgressTimeoutSeconds)));
+                entityManager.flush();
+            });
+            return true;
+        } catch (RuntimeException e) {
+            // 같은 키가 이미 있음 (PK 충돌), 그 외 저장 실패는 그대로 전파
+            if (isDuplicateKey(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDuplicateKey(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof EntityExistsException || cause instanceof DuplicateKeyException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기록 키 ("scope:Idempotency-Key", 컬럼 길이를 넘으면 SHA-256 해시)
+     */
+    static String recordKey(String scope, String idempotencyKey) {
+        String recordKey = scope + ":" + idempotencyKey;
+        if (recordKey.length() <= MAX_RECORD_KEY_LENGTH) {
+            return recordKey;
+        }
+        return "sha256:" + sha256(recordKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void store(String recordKey, Object result) {
+        try {
+            String body = objectMapper.writeValueAsString(result);
+            transactionTemplate.executeWithoutResult(status ->
+                    idempotencyRecordRepository.findById(recordKey).ifPresent(record ->
+                            record.complete(body, LocalDateTime.now().plusHours(ttlHours))));
+        } catch (Exception e) {
+            // 응답 저장 실패 시 처리 중 기록은 in-progress-timeout 이후 만료 (그 사이 재요청은 409)
+            log.error("멱등 응답 저장 실패 - key: {}, error: {}", recordKey, e.getMessage());
+        }
+    }
+
+    private void release(String recordKey) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteById(recordKey));
+        } catch (Exception e) {
+            log.warn("멱등 기록 삭제 실패 - key: {}, error: {}", recordKey, e.getMessage());
+        }
+    }
+
+    private Object await(CompletableFuture<Object> result, String idempotencyKey) {
+        try {
+            return result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw IdempotencyException.inProgress(idempotencyKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyException.inProgress(idempotencyKey);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            return sha256(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청 해시 계산 실패", e);
+        }
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void pause(long intervalMs, String idempotencyKey) {
+        try {
+            Thread.sleep(Duration.ofMillis(intervalMs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyException.inProgress(idempotencyKey);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("delivery.idempotency.requests", "outcome", outcome).increment();
+    }
+
+    /**
+     * 같은 인스턴스에서 진행 중인 실행
+     */
+    private record InFlight(String requestHash, CompletableFuture<Object> result) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.early_express.delivery_service.global.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 타입별 ObjectReader 캐시 (Kafka 값 역직렬화용)
+ * - ObjectReader는 불변·스레드 안전이므로 타입당 하나만 만들어 모든 컨슈머/토픽이 공유
+ * - 레코드마다 타입 해석(readerFor, 타입 헤더 조회) 없이 바로 대상 DTO로 변환
+ *   (Object 기본 타입 → LinkedHashMap → convertValue 두 번 변환하던 비용 제거)
+ * - ObjectMapper 설정(JavaTimeModule, 알 수 없는 필드 무시)은 생성 시 전달한 매퍼를 따름
+ */
+public class JsonReaderCache {
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonReaderCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectReader readerFor(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * 타입 고정 Deserializer (캐시된 ObjectReader 사용)
+     */
+    public <T> TypedJsonDeserializer<T> deserializer(Class<T> type) {
+        return new TypedJsonDeserializer<>(readerFor(type));
+    }
+}
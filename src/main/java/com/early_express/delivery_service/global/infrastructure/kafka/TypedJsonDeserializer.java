@@ -0,0 +1,35 @@
+package com.early_express.delivery_service.global.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * 타입 고정 JSON Deserializer
+ * - 타입 헤더/신뢰 패키지 검사 없이 생성 시 정한 DTO로만 변환 (임의 클래스 생성 불가)
+ * - 실패는 SerializationException → ErrorHandlingDeserializer로 감싸 null 값 + 예외 헤더로 전달
+ * - 생성은 JsonReaderCache.deserializer
+ */
+public class TypedJsonDeserializer<T> implements Deserializer<T> {
+
+    private final ObjectReader reader;
+
+    TypedJsonDeserializer(ObjectReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("JSON 역직렬화 실패 - topic: " + topic
+                    + ", type: " + reader.getValueType().getRawClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.early_express.delivery_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감시 (가상 스레드 모드에서만 동작)
+ *
+ * - JFR jdk.VirtualThreadPinned 이벤트를 구독하여 캐리어 스레드를 점유한 위치를 로그/메트릭으로 남김
+ * - 우리 코드의 synchronized는 VirtualThreadPinningGuardTest가 빌드 시 차단하고,
+ *   이 모니터는 의존성(JDBC 드라이버, HTTP 클라이언트, 로깅 등)에서 발생하는 pinning을 운영 중에 감지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이 시간 이상 캐리어 스레드를 점유한 경우만 기록
+     */
+    @Value("${delivery.virtual-threads.pinning-threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream recordingStream;
+    private Timer pinnedTimer;
+
+    @PostConstruct
+    void start() {
+        this.pinnedTimer = Timer.builder("delivery.virtual_thread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정(pinning)된 시간")
+                .register(meterRegistry);
+
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+
+        log.info("가상 스레드 pinning 감시 시작 - threshold: {}ms", thresholdMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        String frames = event.getStackTrace() == null ? "(stack trace 없음)"
+                : event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n\tat "));
+
+        log.warn("가상 스레드 pinning 감지 - duration: {}ms, thread: {}\n\tat {}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                frames);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
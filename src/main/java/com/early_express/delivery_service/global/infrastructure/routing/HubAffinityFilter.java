@@ -0,0 +1,44 @@
+package com.early_express.delivery_service.global.infrastructure.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 허브 지정 요청(X-Hub-Id)의 라우팅 확인
+ * - 소유 인스턴스가 아닌 곳으로 온 요청도 그대로 처리하고, 메트릭과 X-Hub-Owner 응답 헤더로만 알림
+ *   (재분배 직후 호출하는 쪽 링이 갱신되기 전까지 잠시 발생)
+ */
+@Component
+@RequiredArgsConstructor
+public class HubAffinityFilter extends OncePerRequestFilter {
+
+    static final String HUB_OWNER_HEADER = "X-Hub-Owner";
+
+    private final HubOwnership hubOwnership;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HubAffinityLoadBalancer.HUB_ID_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String hubId = request.getHeader(HubAffinityLoadBalancer.HUB_ID_HEADER);
+        boolean owner = hubOwnership.isOwner(hubId);
+        meterRegistry.counter("delivery.hub_affinity.requests", "routed", owner ? "owner" : "other").increment();
+        if (!owner) {
+            response.setHeader(HUB_OWNER_HEADER, hubOwnership.ownerOf(hubId));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,97 @@
+package com.early_express.delivery_service.global.infrastructure.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 허브 친화 로드밸런서 (@LoadBalanced WebClient / OpenFeign 공통)
+ *
+ * - 요청에 X-Hub-Id 헤더가 있으면 대상 서비스 인스턴스 목록으로 만든 HubRing의 소유 인스턴스로 보냄
+ * - 헤더가 없거나 대상 서비스가 hub-affinity 메타데이터를 게시하지 않으면 라운드 로빈 (기본 로드밸런서와 같음)
+ * - 링은 인스턴스 목록 구성이 바뀔 때만 다시 만듦 (목록 캐시 갱신 주기는 spring.cloud.loadbalancer.cache.ttl)
+ */
+@Slf4j
+public class HubAffinityLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    public static final String HUB_ID_HEADER = "X-Hub-Id";
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final AtomicInteger position = new AtomicInteger(ThreadLocalRandom.current().nextInt(1000));
+
+    private volatile RingSnapshot snapshot = new RingSnapshot(List.of(), HubRing.empty());
+
+    public HubAffinityLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        String hubId = hubIdOf(request);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = select(instances, hubId);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    Response<ServiceInstance> select(List<ServiceInstance> instances, String hubId) {
+        if (instances.isEmpty()) {
+            log.warn("사용 가능한 인스턴스 없음 - service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        if (hubId != null && !hubId.isBlank()) {
+            ServiceInstance owner = ringOf(instances).ownerOf(hubId).orElse(null);
+            if (owner != null) {
+                return new DefaultResponse(owner);
+            }
+        }
+        int pos = position.getAndIncrement() & Integer.MAX_VALUE;
+        return new DefaultResponse(instances.get(pos % instances.size()));
+    }
+
+    private HubRing ringOf(List<ServiceInstance> instances) {
+        RingSnapshot current = snapshot;
+        if (current.instances() == instances) {
+            return current.ring();
+        }
+        // 캐시가 새 목록을 주더라도 구성이 같으면 링은 그대로 사용
+        HubRing ring = current.ring().signature().equals(HubRing.signatureOf(instances))
+                ? current.ring()
+                : HubRing.of(instances);
+        snapshot = new RingSnapshot(instances, ring);
+        return ring;
+    }
+
+    private static String hubIdOf(Request<?> request) {
+        if (request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null
+                && context.getClientRequest().getHeaders() != null) {
+            return context.getClientRequest().getHeaders().getFirst(HUB_ID_HEADER);
+        }
+        return null;
+    }
+
+    private record RingSnapshot(List<ServiceInstance> instances, HubRing ring) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.early_express.delivery_service.global.infrastructure.routing;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 허브 친화 로드밸런서 설정 (WebClientConfig의 @LoadBalancerClients defaultConfiguration)
+ * - 대상 서비스별 자식 컨텍스트에서 생성되어야 하므로 @Configuration을 붙이지 않음 (컴포넌트 스캔 제외)
+ */
+public class HubAffinityLoadBalancerConfig {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> hubAffinityLoadBalancer(
+            Environment environment, LoadBalancerClientFactory loadBalancerClientFactory) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new HubAffinityLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), serviceId);
+    }
+}
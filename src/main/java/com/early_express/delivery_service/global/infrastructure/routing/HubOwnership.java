@@ -0,0 +1,100 @@
+package com.early_express.delivery_service.global.infrastructure.routing;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 이 인스턴스의 허브 소유 판단 (HubRing)
+ *
+ * - 같은 서비스 인스턴스 목록을 Eureka 레지스트리에서 받아 링을 만들고, 레지스트리 갱신(HeartbeatEvent)마다
+ *   구성이 바뀌었으면 링을 교체 (인스턴스 추가/제거 시 재분배)
+ * - 소유 규칙(hub-affinity, hub-ring-vnodes)은 application.yaml의 eureka.instance.metadata-map으로 게시하고,
+ *   이 인스턴스가 보는 링 구성 해시는 hub-ring-view로 갱신 (인스턴스 간 링이 어긋났는지 확인용)
+ * - 등록 전, 단독 실행, 기능 비활성 상태에서는 모든 허브를 소유한 것으로 봄
+ *   (라우팅이 어긋나도 처리는 하고, 중복 처리는 배정 UPDATE 조건 등 기존 DB 가드가 막음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubOwnership {
+
+    static final String VIEW_METADATA = "hub-ring-view";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.application.name}")
+    private String serviceId;
+
+    @Value("${eureka.instance.instance-id:}")
+    private String selfId;
+
+    @Value("${delivery.hub-affinity.enabled:true}")
+    private boolean enabled;
+
+    private final AtomicReference<HubRing> ring = new AtomicReference<>(HubRing.empty());
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("delivery.hub_affinity.members", ring, current -> current.get().memberCount())
+                .description("허브 링 멤버 인스턴스 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레지스트리 갱신마다 링 구성 확인 (registry-fetch-interval-seconds 주기)
+     */
+    @EventListener({ApplicationReadyEvent.class, HeartbeatEvent.class})
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        HubRing next;
+        try {
+            next = HubRing.of(discoveryClient.getInstances(serviceId));
+        } catch (RuntimeException e) {
+            log.warn("허브 링 갱신 실패, 이전 링 유지 - error: {}", e.getMessage());
+            return;
+        }
+
+        HubRing previous = ring.get();
+        if (previous.signature().equals(next.signature()) || !ring.compareAndSet(previous, next)) {
+            return;
+        }
+        meterRegistry.counter("delivery.hub_affinity.rebalance").increment();
+        log.info("허브 링 재구성 - 멤버: {} → {}, 자신 포함: {}",
+                previous.memberCount(), next.memberCount(), next.contains(selfId));
+        applicationInfoManager.ifAvailable(manager -> manager.registerAppMetadata(
+                Map.of(VIEW_METADATA, Integer.toHexString(next.signature().hashCode()))));
+    }
+
+    /**
+     * 이 인스턴스가 허브의 소유자인지
+     */
+    public boolean isOwner(String hubId) {
+        HubRing current = ring.get();
+        return !enabled || !current.contains(selfId) || selfId.equals(current.ownerKeyOf(hubId));
+    }
+
+    /**
+     * 허브 소유 인스턴스 키 (링이 비어 있으면 null)
+     */
+    public String ownerOf(String hubId) {
+        return ring.get().ownerKeyOf(hubId);
+    }
+}
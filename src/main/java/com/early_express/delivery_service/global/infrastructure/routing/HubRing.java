@@ -0,0 +1,177 @@
+package com.early_express.delivery_service.global.infrastructure.routing;
+
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 허브 → 인스턴스 일관 해시 링 (불변)
+ *
+ * - 멤버: Eureka metadata-map에 hub-affinity=true를 게시한 인스턴스 (키는 instance-id)
+ * - 인스턴스마다 가상 노드(hub-ring-vnodes개)를 murmur2(instanceId#n) 위치에 두고,
+ *   허브는 murmur2(hubId) 위치에서 시계 방향으로 처음 만나는 가상 노드의 인스턴스가 소유
+ * - 인스턴스가 추가/제거되면 그 인스턴스 구간의 허브만 소유자가 바뀜 (N대 → N+1대에서 약 1/(N+1))
+ * - 같은 인스턴스 목록이면 어느 노드(호출하는 쪽 포함)에서 만들어도 같은 링이므로 소유 정보를 따로 주고받지 않음
+ */
+public final class HubRing {
+
+    public static final String AFFINITY_METADATA = "hub-affinity";
+    public static final String VNODES_METADATA = "hub-ring-vnodes";
+
+    static final int DEFAULT_VNODES = 64;
+    private static final int MAX_VNODES = 1024;
+
+    private static final HubRing EMPTY = new HubRing(new int[0], new String[0], new ServiceInstance[0], Set.of(), "");
+
+    private final int[] tokens;
+    private final String[] ownerKeys;
+    private final ServiceInstance[] owners;
+    private final Set<String> memberKeys;
+    private final String signature;
+
+    private HubRing(int[] tokens, String[] ownerKeys, ServiceInstance[] owners, Set<String> memberKeys,
+                    String signature) {
+        this.tokens = tokens;
+        this.ownerKeys = ownerKeys;
+        this.owners = owners;
+        this.memberKeys = memberKeys;
+        this.signature = signature;
+    }
+
+    public static HubRing empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 인스턴스 목록으로 링 생성 (hub-affinity 메타데이터가 없는 인스턴스는 제외)
+     */
+    public static HubRing of(Collection<ServiceInstance> instances) {
+        Map<String, ServiceInstance> members = membersOf(instances);
+        if (members.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Token> ring = new ArrayList<>();
+        for (Map.Entry<String, ServiceInstance> member : members.entrySet()) {
+            int vnodes = vnodesOf(member.getValue());
+            for (int i = 0; i < vnodes; i++) {
+                ring.add(new Token(hash(member.getKey() + "#" + i), member.getKey(), member.getValue()));
+            }
+        }
+        // 해시가 겹쳐도 모든 노드에서 같은 순서가 되도록 키로 한 번 더 정렬
+        ring.sort(Comparator.comparingInt(Token::hash).thenComparing(Token::key));
+
+        int[] tokens = new int[ring.size()];
+        String[] ownerKeys = new String[ring.size()];
+        ServiceInstance[] owners = new ServiceInstance[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            tokens[i] = ring.get(i).hash();
+            ownerKeys[i] = ring.get(i).key();
+            owners[i] = ring.get(i).instance();
+        }
+        return new HubRing(tokens, ownerKeys, owners, Set.copyOf(members.keySet()), signatureOf(members));
+    }
+
+    /**
+     * 링을 만들지 않고 구성만 비교할 때 사용 (멤버 키/주소/가상 노드 수)
+     */
+    public static String signatureOf(Collection<ServiceInstance> instances) {
+        return signatureOf(membersOf(instances));
+    }
+
+    /**
+     * 허브 소유 인스턴스 (멤버가 없으면 empty)
+     */
+    public Optional<ServiceInstance> ownerOf(String hubId) {
+        return tokens.length == 0 ? Optional.empty() : Optional.of(owners[indexOf(hubId)]);
+    }
+
+    /**
+     * 허브 소유 인스턴스 키 (멤버가 없으면 null)
+     */
+    public String ownerKeyOf(String hubId) {
+        return tokens.length == 0 ? null : ownerKeys[indexOf(hubId)];
+    }
+
+    public boolean contains(String memberKey) {
+        return memberKey != null && memberKeys.contains(memberKey);
+    }
+
+    public boolean isEmpty() {
+        return tokens.length == 0;
+    }
+
+    public int memberCount() {
+        return memberKeys.size();
+    }
+
+    public String signature() {
+        return signature;
+    }
+
+    public static String memberKey(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+
+    private int indexOf(String hubId) {
+        int index = Arrays.binarySearch(tokens, hash(hubId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        // 같은 해시 값이 여러 개면 binarySearch가 아무 위치나 줄 수 있으므로 첫 위치로 맞춤
+        while (index > 0 && index < tokens.length && tokens[index - 1] == tokens[index]) {
+            index--;
+        }
+        return index == tokens.length ? 0 : index;
+    }
+
+    private static Map<String, ServiceInstance> membersOf(Collection<ServiceInstance> instances) {
+        Map<String, ServiceInstance> members = new TreeMap<>();
+        for (ServiceInstance instance : instances) {
+            if (instance.getMetadata() != null
+                    && Boolean.parseBoolean(instance.getMetadata().get(AFFINITY_METADATA))) {
+                members.putIfAbsent(memberKey(instance), instance);
+            }
+        }
+        return members;
+    }
+
+    private static String signatureOf(Map<String, ServiceInstance> members) {
+        StringBuilder signature = new StringBuilder();
+        members.forEach((key, instance) -> signature.append(key)
+                .append('@').append(instance.getHost()).append(':').append(instance.getPort())
+                .append('*').append(vnodesOf(instance)).append(','));
+        return signature.toString();
+    }
+
+    private static int vnodesOf(ServiceInstance instance) {
+        String value = instance.getMetadata().get(VNODES_METADATA);
+        if (value == null) {
+            return DEFAULT_VNODES;
+        }
+        try {
+            return Math.min(Math.max(Integer.parseInt(value.trim()), 1), MAX_VNODES);
+        } catch (NumberFormatException e) {
+            return DEFAULT_VNODES;
+        }
+    }
+
+    private static int hash(String value) {
+        return Utils.murmur2(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Token(int hash, String key, ServiceInstance instance) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.early_express.delivery_service.global.presentation.exception;
+
+/**
+ * Idempotency-Key 처리 예외
+ */
+public class IdempotencyException extends GlobalException {
+
+    private IdempotencyException(GlobalErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    /**
+     * 같은 키의 요청이 아직 처리 중 (잠시 후 같은 키로 재요청하면 결과를 받을 수 있음)
+     */
+    public static IdempotencyException inProgress(String idempotencyKey) {
+        return new IdempotencyException(GlobalErrorCode.CONFLICT,
+                "같은 Idempotency-Key의 요청이 처리 중입니다. key: " + idempotencyKey);
+    }
+
+    /**
+     * 같은 키로 다른 요청을 보낸 경우
+     */
+    public static IdempotencyException requestMismatch(String idempotencyKey) {
+        return new IdempotencyException(GlobalErrorCode.INVALID_INPUT_VALUE,
+                "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다. key: " + idempotencyKey);
+    }
+
+    /**
+     * 키 형식 오류
+     */
+    public static IdempotencyException invalidKey(String idempotencyKey) {
+        return new IdempotencyException(GlobalErrorCode.INVALID_INPUT_VALUE,
+                "유효하지 않은 Idempotency-Key입니다. (최대 100자) key: " + idempotencyKey);
+    }
+}
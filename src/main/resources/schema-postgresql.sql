@@ -0,0 +1,85 @@
+-- ========================================
+-- PostgreSQL 전용 스키마 보정 및 인덱스 (JPA @Index로 표현할 수 없는 부분/정렬 인덱스, 컬럼 타입 전환)
+-- spring.sql.init.platform=postgresql, Hibernate 스키마 생성 이후 실행 (defer-datasource-initialization)
+-- 모든 구문은 반복 실행 가능 (IF NOT EXISTS, 컬럼 타입 확인 후 전환)
+-- 조회 조건별 복합 인덱스는 FinalMileDelivery @Table(indexes)에 선언
+-- ========================================
+
+-- 배송 ID VARCHAR(36) → UUID 전환 (UUID 매핑 이전에 생성된 테이블 보정, 이미 UUID면 아무것도 하지 않음)
+-- DO 본문은 작은따옴표로 감싸 스크립트 구분자(;)로 나뉘지 않도록 함
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = ''p_final_mile_delivery''
+                 AND column_name = ''final_mile_id''
+                 AND data_type <> ''uuid'') THEN
+        ALTER TABLE p_final_mile_delivery ALTER COLUMN final_mile_id TYPE UUID USING final_mile_id::uuid;
+    END IF;
+END
+';
+
+-- 미삭제 배송의 주문 ID 중복 방지 (Soft Delete된 건은 같은 주문으로 재생성 허용)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_final_mile_order_id_active
+    ON p_final_mile_delivery (order_id)
+    WHERE is_deleted = false;
+
+-- 커서 페이지네이션 정렬과 동일한 NULLS LAST 인덱스 (PostgreSQL DESC 기본값은 NULLS FIRST)
+CREATE INDEX IF NOT EXISTS idx_final_mile_started_id_nulls_last
+    ON p_final_mile_delivery (started_at DESC NULLS LAST, final_mile_id DESC);
+
+-- 낙관적 잠금 버전 컬럼 (@Version 추가 이전에 생성된 테이블 보정, 기존 행은 0부터 시작)
+ALTER TABLE p_final_mile_delivery
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- ========================================
+-- Last Mile 이벤트 Outbox (LastMileOutboxEvent, LastMileOutboxRelay)
+-- ========================================
+CREATE TABLE IF NOT EXISTS p_last_mile_outbox (
+    outbox_id       UUID         NOT NULL PRIMARY KEY,
+    topic           VARCHAR(100) NOT NULL,
+    message_key     VARCHAR(100),
+    event_type      VARCHAR(50)  NOT NULL,
+    aggregate_id    VARCHAR(36)  NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempt_count   INTEGER      NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500),
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    last_attempt_at TIMESTAMP(6),
+    json_published  BOOLEAN      NOT NULL DEFAULT FALSE,
+    avro_published  BOOLEAN      NOT NULL DEFAULT FALSE
+);
+
+-- 이전 버전 테이블 보정 (outbox_id VARCHAR(36) → UUID)
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = ''p_last_mile_outbox''
+                 AND column_name = ''outbox_id''
+                 AND data_type <> ''uuid'') THEN
+        ALTER TABLE p_last_mile_outbox ALTER COLUMN outbox_id TYPE UUID USING outbox_id::uuid;
+    END IF;
+END
+';
+
+-- 이전 버전 테이블 보정 (payload VARCHAR(4000) → TEXT, 재시도 예약 컬럼 추가)
+ALTER TABLE p_last_mile_outbox
+    ALTER COLUMN payload TYPE TEXT;
+ALTER TABLE p_last_mile_outbox
+    ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- 이전 버전 테이블 보정 (DUAL 발행 포맷별 성공 기록)
+ALTER TABLE p_last_mile_outbox
+    ADD COLUMN IF NOT EXISTS json_published BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE p_last_mile_outbox
+    ADD COLUMN IF NOT EXISTS avro_published BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_last_mile_outbox_status_created
+    ON p_last_mile_outbox (status, created_at);
+
+-- 배송별 발행 순서 확인 (앞선 레코드 존재 여부)
+CREATE INDEX IF NOT EXISTS idx_last_mile_outbox_aggregate_created
+    ON p_last_mile_outbox (aggregate_id, created_at);
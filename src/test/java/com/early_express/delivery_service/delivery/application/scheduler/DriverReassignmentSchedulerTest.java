@@ -0,0 +1,82 @@
+package com.early_express.delivery_service.delivery.application.scheduler;
+
+import com.early_express.delivery_service.delivery.application.service.DriverReassignmentQueue;
+import com.early_express.delivery_service.delivery.application.service.HubAssignmentDispatcher;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.client.resilience.ResilientLastMileDriverClient;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재배정 스케줄러 테스트 (디스패처 경유, 실패 건 대기열 재등록)
+ */
+@ExtendWith(MockitoExtension.class)
+class DriverReassignmentSchedulerTest {
+
+    @Mock
+    private HubAssignmentDispatcher hubAssignmentDispatcher;
+
+    @Mock
+    private ResilientLastMileDriverClient driverClient;
+
+    private DriverReassignmentQueue driverReassignmentQueue;
+    private DriverReassignmentScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        driverReassignmentQueue = new DriverReassignmentQueue(new SimpleMeterRegistry(), 100);
+        scheduler = new DriverReassignmentScheduler(driverReassignmentQueue, hubAssignmentDispatcher, driverClient);
+        ReflectionTestUtils.setField(scheduler, "bulkMaxSize", 2000);
+        when(driverClient.isAvailable()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("요청 자체가 실패하면 꺼낸 배송 전체를 대기열에 다시 넣어야 한다.")
+    void reassign_SubmitFailure_RequeuesAll() {
+        // Given
+        driverReassignmentQueue.addAll(List.of("FM001", "FM002"));
+        when(hubAssignmentDispatcher.submitAll(anyCollection()))
+                .thenThrow(new QueryTimeoutException("허브 조회 시간 초과"));
+
+        // When
+        scheduler.reassign();
+
+        // Then
+        assertThat(driverReassignmentQueue.drain(10)).containsExactlyInAnyOrder("FM001", "FM002");
+    }
+
+    @Test
+    @DisplayName("일시적인 실패만 대기열에 다시 넣고, 배정 성공과 재시도해도 안 되는 실패는 제외해야 한다.")
+    void reassign_RequeuesOnlyRetryableFailures() {
+        // Given
+        driverReassignmentQueue.addAll(List.of("FM001", "FM002", "FM003", "FM004"));
+        when(hubAssignmentDispatcher.submitAll(anyCollection())).thenReturn(Map.of(
+                "FM001", CompletableFuture.completedFuture(LastMileAssignDriverResponse.builder().success(true).build()),
+                "FM002", CompletableFuture.failedFuture(new DeliveryException(DeliveryErrorCode.DRIVER_ASSIGN_BUSY)),
+                "FM003", CompletableFuture.failedFuture(new IllegalStateException("워커 처리 오류")),
+                "FM004", CompletableFuture.failedFuture(new DeliveryException(DeliveryErrorCode.DELIVERY_NOT_FOUND))));
+
+        // When
+        scheduler.reassign();
+
+        // Then
+        assertThat(driverReassignmentQueue.drain(10)).containsExactlyInAnyOrder("FM002", "FM003");
+    }
+}
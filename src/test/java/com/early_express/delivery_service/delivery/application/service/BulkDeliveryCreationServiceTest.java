@@ -0,0 +1,166 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkCreateRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileCreateRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkCreateResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkCreateResponse.Result;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 최종 배송 일괄 생성 테스트 (IN 조회 분할, 주문 중복 처리, 결과 순서)
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkDeliveryCreationServiceTest {
+
+    @Mock
+    private FinalMileDeliveryRepository finalMileDeliveryRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private DeliveryMetrics deliveryMetrics;
+
+    private BulkDeliveryCreationService bulkDeliveryCreationService;
+
+    @BeforeEach
+    void setUp() {
+        bulkDeliveryCreationService =
+                new BulkDeliveryCreationService(finalMileDeliveryRepository, entityManager, deliveryMetrics);
+        ReflectionTestUtils.setField(bulkDeliveryCreationService, "flushSize", 500);
+    }
+
+    private static LastMileCreateRequest item(String orderId) {
+        return LastMileCreateRequest.builder()
+                .orderId(orderId)
+                .hubId("HUB001")
+                .deliveryAddress("서울시 강남구")
+                .recipientName("김철수")
+                .expectedTime(LocalDateTime.now().plusHours(2))
+                .build();
+    }
+
+    private static FinalMileDelivery existing(String orderId, UUID finalMileId) {
+        FinalMileDelivery delivery = FinalMileDelivery.create(
+                orderId, "HUB001", "서울시 강남구", "김철수", null, LocalDateTime.now().plusHours(2));
+        ReflectionTestUtils.setField(delivery, "finalMileId", finalMileId);
+        return delivery;
+    }
+
+    private static LastMileBulkCreateRequest request(String... orderIds) {
+        return LastMileBulkCreateRequest.builder()
+                .deliveries(Arrays.stream(orderIds).map(BulkDeliveryCreationServiceTest::item).toList())
+                .build();
+    }
+
+    @Test
+    @DisplayName("기존 주문 조회는 중복을 제거한 주문 ID를 1000건 단위 IN 조회로 나눠야 한다.")
+    void createDeliveries_LooksUpExistingOrdersInChunks() {
+        // Given: 서로 다른 주문 2500건 + 요청 내 중복 1건
+        List<String> orderIds = new ArrayList<>(IntStream.rangeClosed(1, 2500).mapToObj(i -> "ORD" + i).toList());
+        orderIds.add("ORD1");
+        when(finalMileDeliveryRepository.findAllByOrderIdIn(anyList())).thenReturn(List.of());
+
+        // When
+        bulkDeliveryCreationService.createDeliveries(request(orderIds.toArray(String[]::new)));
+
+        // Then
+        ArgumentCaptor<Collection<String>> lookups = ArgumentCaptor.forClass(Collection.class);
+        verify(finalMileDeliveryRepository, times(3)).findAllByOrderIdIn(lookups.capture());
+        assertThat(lookups.getAllValues()).extracting(Collection::size).containsExactly(1000, 1000, 500);
+        assertThat(lookups.getAllValues().stream().flatMap(Collection::stream))
+                .containsExactlyElementsOf(orderIds.subList(0, 2500));
+    }
+
+    @Test
+    @DisplayName("이미 생성된 주문과 요청 내 중복 주문은 저장하지 않고 DUPLICATE로 반환해야 한다.")
+    void createDeliveries_SkipsExistingAndRepeatedOrders() {
+        // Given
+        UUID existingId = UUID.fromString("0190a6d2-3c4e-7a01-8000-000000000002");
+        when(finalMileDeliveryRepository.findAllByOrderIdIn(anyList()))
+                .thenReturn(List.of(existing("ORD002", existingId)));
+
+        // When
+        LastMileBulkCreateResponse response =
+                bulkDeliveryCreationService.createDeliveries(request("ORD001", "ORD002", "ORD001", "ORD003"));
+
+        // Then: 신규 주문만 한 번씩 저장
+        ArgumentCaptor<List<FinalMileDelivery>> saved = ArgumentCaptor.forClass(List.class);
+        verify(finalMileDeliveryRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(FinalMileDelivery::getOrderId).containsExactly("ORD001", "ORD003");
+
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getDuplicateCount()).isEqualTo(2);
+        assertThat(response.getResults().get(1).getLastMileDeliveryId()).isEqualTo(existingId.toString());
+    }
+
+    @Test
+    @DisplayName("주문별 결과는 요청 순서와 같아야 한다.")
+    void createDeliveries_ResultsFollowRequestOrder() {
+        // Given: 기존 주문이 요청 중간에 섞여 있고 IN 조회 결과 순서는 요청과 다름
+        when(finalMileDeliveryRepository.findAllByOrderIdIn(anyList())).thenReturn(List.of(
+                existing("ORD004", UUID.randomUUID()),
+                existing("ORD002", UUID.randomUUID())));
+
+        // When
+        LastMileBulkCreateResponse response =
+                bulkDeliveryCreationService.createDeliveries(request("ORD005", "ORD002", "ORD001", "ORD004", "ORD005"));
+
+        // Then
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        assertThat(response.getResults())
+                .extracting(LastMileBulkCreateResponse.Item::getOrderId, LastMileBulkCreateResponse.Item::getResult)
+                .containsExactly(
+                        tuple("ORD005", Result.CREATED),
+                        tuple("ORD002", Result.DUPLICATE),
+                        tuple("ORD001", Result.CREATED),
+                        tuple("ORD004", Result.DUPLICATE),
+                        tuple("ORD005", Result.DUPLICATE));
+    }
+
+    @Test
+    @DisplayName("중복 체크 이후 다른 요청이 먼저 생성한 주문이 포함되면 DELIVERY_ALREADY_EXISTS로 실패해야 한다.")
+    void createDeliveries_ConcurrentlyCreatedOrder_ThrowsAlreadyExists() {
+        // Given: 중복 체크 시점에는 없던 주문이 flush 시 UNIQUE 인덱스에 걸림
+        when(finalMileDeliveryRepository.findAllByOrderIdIn(anyList())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("uk_final_mile_order_id_active"))
+                .when(finalMileDeliveryRepository).flush();
+        LastMileBulkCreateRequest request = LastMileBulkCreateRequest.builder()
+                .deliveries(List.of(item("ORD001"), item("ORD002")))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> bulkDeliveryCreationService.createDeliveries(request))
+                .isInstanceOf(DeliveryException.class)
+                .satisfies(e -> assertThat(((DeliveryException) e).getErrorCode())
+                        .isEqualTo(DeliveryErrorCode.DELIVERY_ALREADY_EXISTS));
+    }
+}
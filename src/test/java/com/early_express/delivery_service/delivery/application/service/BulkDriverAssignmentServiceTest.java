@@ -0,0 +1,251 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.cache.DeliveryDetailCacheInvalidator;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverReactiveClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverBulkAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.client.notification.DriverNotificationQueue;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventPublisher;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkAssignRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkAssignResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 담당자 일괄 배정 테스트 (부분 예약, 배송 ID 정규화, 확정 실패 보상)
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkDriverAssignmentServiceTest {
+
+    private static final String HUB_ID = "HUB001";
+    private static final UUID FIRST_UUID = UUID.fromString("0190a6d2-3c4e-7a01-8000-0000000000a1");
+    private static final UUID SECOND_UUID = UUID.fromString("0190a6d2-3c4e-7a01-8000-0000000000b2");
+    private static final String FIRST_ID = FIRST_UUID.toString();
+    private static final String SECOND_ID = SECOND_UUID.toString();
+
+    @Mock
+    private FinalMileDeliveryRepository finalMileDeliveryRepository;
+
+    @Mock
+    private LastMileDriverClient lastMileDriverClient;
+
+    @Mock
+    private LastMileDriverReactiveClient lastMileDriverReactiveClient;
+
+    @Mock
+    private DriverNotificationQueue driverNotificationQueue;
+
+    @Mock
+    private DriverReassignmentQueue driverReassignmentQueue;
+
+    @Mock
+    private LastMileEventPublisher eventPublisher;
+
+    @Mock
+    private DeliveryDetailCacheInvalidator deliveryDetailCacheInvalidator;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DeliveryMetrics deliveryMetrics = new DeliveryMetrics(meterRegistry);
+
+    @InjectMocks
+    private BulkDriverAssignmentService bulkDriverAssignmentService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkDriverAssignmentService, "bulkMaxSize", 2000);
+    }
+
+    private static FinalMileDelivery pending(UUID id) {
+        FinalMileDelivery delivery = FinalMileDelivery.create(
+                "ORD-" + id, HUB_ID, "서울시 강남구", "홍길동", "slack-hgd", LocalDateTime.now().plusHours(2));
+        ReflectionTestUtils.setField(delivery, "finalMileId", id);
+        return delivery;
+    }
+
+    /**
+     * 조회된 대상 전체가 예약됨 (PENDING → ASSIGNING, 예약 해제 호출은 기본값 0건)
+     */
+    private void givenReserved(List<FinalMileDelivery> targets) {
+        when(finalMileDeliveryRepository.findByIdsForAssignment(anyCollection(), eq(FinalMileDeliveryStatus.PENDING)))
+                .thenReturn(targets);
+        lenient().when(finalMileDeliveryRepository.updateStatusIfCurrentIn(
+                anyCollection(), eq(FinalMileDeliveryStatus.PENDING), eq(FinalMileDeliveryStatus.ASSIGNING), any()))
+                .thenAnswer(invocation -> {
+                    targets.forEach(delivery ->
+                            ReflectionTestUtils.setField(delivery, "currentStatus", FinalMileDeliveryStatus.ASSIGNING));
+                    return targets.size();
+                });
+    }
+
+    private void givenDriversAssigned(String... finalMileIds) {
+        List<DriverBulkAssignResponse.Item> items = Arrays.stream(finalMileIds)
+                .map(finalMileId -> DriverBulkAssignResponse.Item.builder()
+                        .deliveryId(finalMileId)
+                        .success(true)
+                        .driverId("DRIVER-" + finalMileId)
+                        .driverName("김배송")
+                        .hubId(HUB_ID)
+                        .assignedAt(LocalDateTime.now())
+                        .build())
+                .toList();
+        when(lastMileDriverClient.assignDrivers(any())).thenReturn(new DriverBulkAssignResponse(items));
+    }
+
+    private static LastMileBulkAssignRequest request(String... finalMileIds) {
+        return LastMileBulkAssignRequest.builder().finalMileIds(List.of(finalMileIds)).build();
+    }
+
+    @Test
+    @DisplayName("조회되지 않은 배송은 실패로, 예약된 배송만 배정되고 결과는 요청 순서를 유지해야 한다.")
+    void assignDrivers_PartialReservation() {
+        // Given: 두 번째 배송은 PENDING이 아니거나 다른 요청이 잠금
+        FinalMileDelivery first = pending(FIRST_UUID);
+        givenReserved(List.of(first));
+        givenDriversAssigned(FIRST_ID);
+        when(finalMileDeliveryRepository.findAllById(List.of(FIRST_UUID))).thenReturn(List.of(first));
+
+        // When
+        LastMileBulkAssignResponse response = bulkDriverAssignmentService.assignDrivers(request(SECOND_ID, FIRST_ID));
+
+        // Then
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getAssignedCount()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(LastMileAssignDriverResponse::getLastMileDeliveryId)
+                .containsExactly(SECOND_ID, FIRST_ID);
+        assertThat(response.getResults()).extracting(LastMileAssignDriverResponse::isSuccess)
+                .containsExactly(false, true);
+        assertThat(first.getCurrentStatus()).isEqualTo(FinalMileDeliveryStatus.ON_THE_WAY);
+        verify(eventPublisher).publishDepartedEvents(List.of(first));
+    }
+
+    @Test
+    @DisplayName("표기만 다른 같은 배송 ID는 한 건으로 처리하고, UUID 형식이 아닌 ID는 실패로 기록해야 한다.")
+    void assignDrivers_NormalizesIds() {
+        // Given
+        FinalMileDelivery first = pending(FIRST_UUID);
+        givenReserved(List.of(first));
+        givenDriversAssigned(FIRST_ID);
+        when(finalMileDeliveryRepository.findAllById(List.of(FIRST_UUID))).thenReturn(List.of(first));
+
+        // When
+        LastMileBulkAssignResponse response = bulkDriverAssignmentService.assignDrivers(
+                request(FIRST_ID.toUpperCase(), "not-a-uuid", FIRST_ID));
+
+        // Then: 대문자 요청도 성공 한 건으로만 보고 (예약됐는데 "PENDING 아님"으로도 보고하지 않음)
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(LastMileAssignDriverResponse::getLastMileDeliveryId)
+                .containsExactly(FIRST_ID, "not-a-uuid");
+        assertThat(response.getResults()).extracting(LastMileAssignDriverResponse::isSuccess)
+                .containsExactly(true, false);
+        verify(finalMileDeliveryRepository).findByIdsForAssignment(List.of(FIRST_UUID), FinalMileDeliveryStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("원격 호출 동안 취소된 배송은 드라이버 배정을 취소하고, 취소 실패는 통지 큐에 등록해야 한다.")
+    void assignDrivers_CompensatesUnconfirmed() {
+        // Given
+        FinalMileDelivery first = pending(FIRST_UUID);
+        FinalMileDelivery second = pending(SECOND_UUID);
+        givenReserved(List.of(first, second));
+        givenDriversAssigned(FIRST_ID, SECOND_ID);
+        when(finalMileDeliveryRepository.findAllById(List.of(FIRST_UUID, SECOND_UUID))).thenAnswer(invocation -> {
+            // 원격 호출 동안 두 번째 배송이 취소됨
+            ReflectionTestUtils.setField(second, "currentStatus", FinalMileDeliveryStatus.CANCELED);
+            return List.of(first, second);
+        });
+        doAnswer(invocation -> {
+            Collection<String> items = invocation.getArgument(0);
+            Function<String, Mono<Object>> call = invocation.getArgument(1);
+            return Flux.fromIterable(items).flatMap(call);
+        }).when(lastMileDriverReactiveClient).fanOut(anyCollection(), any());
+        when(lastMileDriverReactiveClient.cancelDelivery("DRIVER-" + SECOND_ID))
+                .thenReturn(Mono.error(new IllegalStateException("driver service down")));
+
+        // When
+        LastMileBulkAssignResponse response = bulkDriverAssignmentService.assignDrivers(request(FIRST_ID, SECOND_ID));
+
+        // Then
+        assertThat(response.getAssignedCount()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(LastMileAssignDriverResponse::isSuccess)
+                .containsExactly(true, false);
+        verify(driverNotificationQueue).enqueueCancellation("DRIVER-" + SECOND_ID, SECOND_ID);
+        verify(finalMileDeliveryRepository).updateStatusIfCurrentIn(
+                eq(List.of(SECOND_UUID)), eq(FinalMileDeliveryStatus.ASSIGNING), eq(FinalMileDeliveryStatus.PENDING), any());
+    }
+
+    @Test
+    @DisplayName("설정한 상한보다 많은 배송 ID는 예약 없이 거절해야 한다.")
+    void assignDrivers_RejectsOversizedRequest() {
+        // Given
+        ReflectionTestUtils.setField(bulkDriverAssignmentService, "bulkMaxSize", 1);
+
+        // When & Then
+        assertThatThrownBy(() -> bulkDriverAssignmentService.assignDrivers(request(FIRST_ID, SECOND_ID)))
+                .isInstanceOf(DeliveryException.class)
+                .extracting(e -> ((DeliveryException) e).getErrorCode())
+                .isEqualTo(DeliveryErrorCode.BULK_SIZE_EXCEEDED);
+        verifyNoInteractions(finalMileDeliveryRepository, lastMileDriverClient);
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
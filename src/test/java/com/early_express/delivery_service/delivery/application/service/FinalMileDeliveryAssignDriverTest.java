@@ -0,0 +1,197 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.cache.DeliveryDetailCacheInvalidator;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignResponse;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventPublisher;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 담당자 배정 3단계(예약 → 원격 호출 → 확정) 및 보상 처리 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class FinalMileDeliveryAssignDriverTest {
+
+    private static final UUID FINAL_MILE_UUID = UUID.fromString("0190a6d2-3c4e-7a01-8000-000000000123");
+    private static final String FINAL_MILE_ID = FINAL_MILE_UUID.toString();
+    private static final String HUB_ID = "HUB001";
+    private static final String DRIVER_ID = "DRIVER001";
+
+    @Mock
+    private FinalMileDeliveryRepository finalMileDeliveryRepository;
+
+    @Mock
+    private LastMileDriverClient lastMileDriverClient;
+
+    @Mock
+    private LastMileEventPublisher eventPublisher;
+
+    @Mock
+    private DeliveryDetailCacheInvalidator deliveryDetailCacheInvalidator;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DeliveryMetrics deliveryMetrics = new DeliveryMetrics(meterRegistry);
+
+    @InjectMocks
+    private FinalMileDeliveryService finalMileDeliveryService;
+
+    private FinalMileDelivery delivery;
+
+    @BeforeEach
+    void setUp() {
+        delivery = FinalMileDelivery.create(
+                "ORD100", HUB_ID, "서울시 강남구", "홍길동", "slack-hgd", LocalDateTime.now().plusHours(2));
+        ReflectionTestUtils.setField(delivery, "finalMileId", FINAL_MILE_UUID);
+        when(finalMileDeliveryRepository.findById(FINAL_MILE_UUID)).thenReturn(Optional.of(delivery));
+    }
+
+    private void givenReserved() {
+        when(finalMileDeliveryRepository.updateStatusIfCurrent(
+                eq(FINAL_MILE_UUID), eq(FinalMileDeliveryStatus.PENDING), eq(FinalMileDeliveryStatus.ASSIGNING), any()))
+                .thenAnswer(invocation -> {
+                    ReflectionTestUtils.setField(delivery, "currentStatus", FinalMileDeliveryStatus.ASSIGNING);
+                    return 1;
+                });
+    }
+
+    private DriverAssignResponse driverResponse() {
+        return DriverAssignResponse.builder()
+                .driverId(DRIVER_ID)
+                .driverName("김배송")
+                .hubId(HUB_ID)
+                .assignedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공: 예약 후 드라이버 배정이 확정되고 출발 이벤트가 저장되어야 한다.")
+    void assignDriver_Success() {
+        // Given
+        givenReserved();
+        when(lastMileDriverClient.assignDriver(any())).thenReturn(driverResponse());
+
+        // When
+        LastMileAssignDriverResponse response = finalMileDeliveryService.assignDriver(FINAL_MILE_ID);
+
+        // Then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getDriverId()).isEqualTo(DRIVER_ID);
+        assertThat(delivery.getCurrentStatus()).isEqualTo(FinalMileDeliveryStatus.ON_THE_WAY);
+        assertThat(delivery.getAgentId()).isEqualTo(DRIVER_ID);
+        verify(eventPublisher).publishDepartedEvent(delivery);
+        assertThat(meterRegistry.find("delivery.assign.phase").timers()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("실패: 다른 요청이 먼저 예약한 경우 드라이버 서비스를 호출하지 않아야 한다.")
+    void assignDriver_AlreadyReserved() {
+        // Given: 조건부 UPDATE 결과 0건
+        when(finalMileDeliveryRepository.updateStatusIfCurrent(
+                eq(FINAL_MILE_UUID), eq(FinalMileDeliveryStatus.PENDING), eq(FinalMileDeliveryStatus.ASSIGNING), any()))
+                .thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> finalMileDeliveryService.assignDriver(FINAL_MILE_ID))
+                .isInstanceOf(DeliveryException.class)
+                .extracting(e -> ((DeliveryException) e).getErrorCode())
+                .isEqualTo(DeliveryErrorCode.DRIVER_ASSIGN_IN_PROGRESS);
+        verifyNoInteractions(lastMileDriverClient);
+    }
+
+    @Test
+    @DisplayName("실패: 드라이버 서비스 호출 실패 시 예약이 해제되어야 한다.")
+    void assignDriver_RemoteFailure_ReleasesReservation() {
+        // Given
+        givenReserved();
+        when(lastMileDriverClient.assignDriver(any()))
+                .thenThrow(new DeliveryException(DeliveryErrorCode.NO_AVAILABLE_DRIVER));
+
+        // When & Then
+        assertThatThrownBy(() -> finalMileDeliveryService.assignDriver(FINAL_MILE_ID))
+                .isInstanceOf(DeliveryException.class);
+        verify(finalMileDeliveryRepository).updateStatusIfCurrent(
+                eq(FINAL_MILE_UUID), eq(FinalMileDeliveryStatus.ASSIGNING), eq(FinalMileDeliveryStatus.PENDING), any());
+        verify(eventPublisher, never()).publishDepartedEvent(any());
+        verify(deliveryDetailCacheInvalidator, times(2)).evictAfterCommit(List.of(FINAL_MILE_ID));
+    }
+
+    @Test
+    @DisplayName("실패: 원격 호출 중 배송이 취소되면 드라이버 배정을 보상 취소해야 한다.")
+    void assignDriver_CanceledDuringRemoteCall_Compensates() {
+        // Given: 원격 호출 시점에 다른 요청이 배송을 취소
+        givenReserved();
+        when(lastMileDriverClient.assignDriver(any())).thenAnswer(invocation -> {
+            ReflectionTestUtils.setField(delivery, "currentStatus", FinalMileDeliveryStatus.CANCELED);
+            return driverResponse();
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> finalMileDeliveryService.assignDriver(FINAL_MILE_ID))
+                .isInstanceOf(DeliveryException.class)
+                .extracting(e -> ((DeliveryException) e).getErrorCode())
+                .isEqualTo(DeliveryErrorCode.INVALID_STATUS_TRANSITION);
+        verify(lastMileDriverClient).cancelDelivery(DRIVER_ID);
+        verify(eventPublisher, never()).publishDepartedEvent(any());
+    }
+
+    /**
+     * 실제 커넥션 없이 TransactionTemplate 콜백만 실행하는 트랜잭션 매니저
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryTransitionUpdater;
+import com.early_express.delivery_service.delivery.infrastructure.cache.DeliveryDetailCacheInvalidator;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.notification.DriverNotificationQueue;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventPublisher;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.presentation.rest.dto.DeliveryStatusUpdateRequest;
+import com.early_express.delivery_service.global.config.JpaConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배송 상태 변경 동시성 스트레스 테스트 (낙관적 잠금 + 충돌 재시도)
+ *
+ * - 배송 하나에 완료/실패/취소 요청을 여러 스레드에서 동시에 보내고 최종 상태가 항상 규칙에 맞는지 확인
+ * - 완료는 ON_THE_WAY/PICKED_UP에서만, 취소/실패는 완료 이후 불가 → 완료가 성공했다면 취소/실패는 하나도 성공하면 안 됨
+ *   (버전 검사가 없으면 같은 ON_THE_WAY를 읽은 요청들이 모두 성공하고 마지막 커밋이 덮어씀)
+ * - 실패 응답은 409(CONCURRENT_MODIFICATION) 또는 상태 전이 오류만 허용 (잠금 예외가 그대로 새어 나가면 안 됨)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transition-stress;MODE=PostgreSQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "delivery.state-transition.conflict-max-attempts=5"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, FinalMileDeliveryService.class, FinalMileDeliveryTransitionUpdater.class,
+        DeliveryMetrics.class, FinalMileDeliveryConcurrencyStressTest.MetricsConfig.class})
+class FinalMileDeliveryConcurrencyStressTest {
+
+    private static final int ROUNDS = 25;
+    private static final int THREADS = 12;
+
+    @MockitoBean
+    private LastMileDriverClient lastMileDriverClient;
+
+    @MockitoBean
+    private DriverNotificationQueue driverNotificationQueue;
+
+    @MockitoBean
+    private DriverReassignmentQueue driverReassignmentQueue;
+
+    @MockitoBean
+    private LastMileEventPublisher lastMileEventPublisher;
+
+    @MockitoBean
+    private DeliveryDetailCacheInvalidator deliveryDetailCacheInvalidator;
+
+    @Autowired
+    private FinalMileDeliveryService finalMileDeliveryService;
+
+    @Autowired
+    private FinalMileDeliveryRepository finalMileDeliveryRepository;
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private enum Operation { DELIVER, FAIL, CANCEL }
+
+    private enum Outcome { SUCCESS, CONFLICT, REJECTED }
+
+    @Test
+    @DisplayName("동시에 들어온 완료/실패/취소 요청이 서로 덮어쓰지 않고 최종 상태가 규칙에 맞아야 한다.")
+    void concurrentTransitions_FinalStateAlwaysLegal() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String finalMileId = createOnTheWayDelivery(round);
+                Map<Operation, List<Outcome>> outcomes = hammer(executor, finalMileId);
+
+                FinalMileDelivery result = finalMileDeliveryRepository.findById(UUID.fromString(finalMileId)).orElseThrow();
+                long delivered = successes(outcomes, Operation.DELIVER);
+                long failed = successes(outcomes, Operation.FAIL);
+                long canceled = successes(outcomes, Operation.CANCEL);
+
+                assertThat(delivered + failed + canceled)
+                        .as("round %d: 최소 한 요청은 성공", round)
+                        .isPositive();
+                assertThat(result.getCurrentStatus().isTerminal())
+                        .as("round %d: 최종 상태 %s", round, result.getCurrentStatus())
+                        .isTrue();
+                assertThat(result.getVersion()).isPositive();
+
+                if (delivered > 0) {
+                    // 완료 이후 허용되는 전이가 없으므로 완료는 단 한 번, 다른 전이는 모두 실패해야 함
+                    assertThat(delivered).as("round %d: 완료 성공 횟수", round).isEqualTo(1);
+                    assertThat(failed + canceled).as("round %d: 완료와 함께 성공한 실패/취소", round).isZero();
+                    assertThat(result.getCurrentStatus()).isEqualTo(FinalMileDeliveryStatus.DELIVERED);
+                } else {
+                    assertThat(result.getCurrentStatus())
+                            .isIn(FinalMileDeliveryStatus.FAILED, FinalMileDeliveryStatus.CANCELED);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String createOnTheWayDelivery(int round) {
+        FinalMileDelivery delivery = FinalMileDelivery.builder()
+                .orderId("ORD-STRESS-" + round)
+                .hubId("HUB001")
+                .agentId("DRIVER001")
+                .agentName("기사")
+                .currentStatus(FinalMileDeliveryStatus.ON_THE_WAY)
+                .deliveryAddress("주소")
+                .recipientName("수령인")
+                .startedAt(LocalDateTime.now().minusMinutes(30))
+                .expectedTime(LocalDateTime.now().plusHours(1))
+                .build();
+        return finalMileDeliveryRepository.saveAndFlush(delivery).getFinalMileId();
+    }
+
+    private Map<Operation, List<Outcome>> hammer(ExecutorService executor, String finalMileId) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Operation, List<Future<Outcome>>> futures = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            Operation operation = Operation.values()[i % Operation.values().length];
+            futures.computeIfAbsent(operation, op -> new ArrayList<>()).add(executor.submit(() -> {
+                start.await();
+                return run(operation, finalMileId);
+            }));
+        }
+        start.countDown();
+
+        Map<Operation, List<Outcome>> outcomes = new ConcurrentHashMap<>();
+        for (Map.Entry<Operation, List<Future<Outcome>>> entry : futures.entrySet()) {
+            List<Outcome> results = new ArrayList<>();
+            for (Future<Outcome> future : entry.getValue()) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            outcomes.put(entry.getKey(), results);
+        }
+        return outcomes;
+    }
+
+    /**
+     * 요청 실행 후 결과 분류 (허용되지 않은 예외는 그대로 던져 테스트 실패)
+     */
+    private Outcome run(Operation operation, String finalMileId) {
+        try {
+            switch (operation) {
+                case DELIVER -> finalMileDeliveryService.updateDeliveryStatus(
+                        finalMileId, new DeliveryStatusUpdateRequest(FinalMileDeliveryStatus.DELIVERED));
+                case FAIL -> finalMileDeliveryService.updateDeliveryStatus(
+                        finalMileId, new DeliveryStatusUpdateRequest(FinalMileDeliveryStatus.FAILED));
+                case CANCEL -> finalMileDeliveryService.cancelDelivery(finalMileId);
+            }
+            return Outcome.SUCCESS;
+        } catch (DeliveryException e) {
+            if (e.getErrorCode() == DeliveryErrorCode.CONCURRENT_MODIFICATION) {
+                return Outcome.CONFLICT;
+            }
+            assertThat(e.getErrorCode()).isIn(
+                    DeliveryErrorCode.DELIVERY_ALREADY_COMPLETED,
+                    DeliveryErrorCode.DELIVERY_ALREADY_CANCELED);
+            return Outcome.REJECTED;
+        } catch (IllegalStateException e) {
+            // 충돌 없이 이미 바뀐 상태를 읽은 경우의 도메인 검증 실패
+            return Outcome.REJECTED;
+        }
+    }
+
+    private static long successes(Map<Operation, List<Outcome>> outcomes, Operation operation) {
+        return outcomes.getOrDefault(operation, List.of()).stream()
+                .filter(outcome -> outcome == Outcome.SUCCESS)
+                .count();
+    }
+}
@@ -2,21 +2,41 @@ package com.early_express.delivery_service.delivery.application.service;
 
 import com.early_express.delivery_service.delivery.domain.FinalMileDelivery;
 import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
 import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryTransitionUpdater;
+import com.early_express.delivery_service.delivery.infrastructure.cache.DeliveryDetailCacheInvalidator;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.notification.DriverNotificationQueue;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventPublisher;
+import com.early_express.delivery_service.delivery.infrastructure.monitoring.DeliveryMetrics;
+import com.early_express.delivery_service.delivery.infrastructure.projection.DeliveryDetailProjection;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileCreateRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileCreateResponse;
 import com.early_express.delivery_service.delivery.presentation.rest.dto.DeliveryStatusUpdateRequest;
 import com.early_express.delivery_service.delivery.presentation.rest.dto.FinalMileDeliveryDetailResponse;
-import com.early_express.delivery_service.delivery.presentation.rest.dto.FinalMileDeliveryRequest;
 import com.early_express.delivery_service.global.presentation.exception.DeliveryNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,33 +46,57 @@ class FinalMileDeliveryServiceTest {
     @Mock
     private FinalMileDeliveryRepository finalMileDeliveryRepository;
 
+    // 조건부 UPDATE 경로 (Mock 기본값 Optional.empty → 엔티티 경로로 처리)
+    @Mock
+    private FinalMileDeliveryTransitionUpdater transitionUpdater;
+
+    @Mock
+    private LastMileDriverClient lastMileDriverClient;
+
+    @Mock
+    private DriverNotificationQueue driverNotificationQueue;
+
+    @Mock
+    private DriverReassignmentQueue driverReassignmentQueue;
+
+    @Mock
+    private LastMileEventPublisher eventPublisher;
+
+    @Mock
+    private DeliveryDetailCacheInvalidator deliveryDetailCacheInvalidator;
+
+    // 트랜잭션 경계(retryOnConflict, createDelivery)와 처리 시간 기록은 실제 객체로 실행
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private DeliveryMetrics deliveryMetrics = new DeliveryMetrics(meterRegistry);
+
     // 테스트 대상 객체 (Mock 객체가 주입됨)
     @InjectMocks
     private FinalMileDeliveryService finalMileDeliveryService;
 
     // 테스트에서 사용할 고정 시간 및 ID
     private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2025, 1, 1, 10, 0);
-    private final String AGENT_ID = "AGENT001";
-    private final String FINAL_MILE_ID = "FMID123";
+    private static final UUID FINAL_MILE_UUID = UUID.fromString("0190f3c2-7b1e-7c00-8000-000000000123");
+    private static final String FINAL_MILE_ID = FINAL_MILE_UUID.toString();
 
-    // Mockito 정적 Mock (LocalDateTime.now()를 제어하기 위함)
+    // Mockito 정적 Mock (LocalDateTime.now()를 제어하기 위함, 나머지 정적 메서드는 실제 구현 호출)
     private MockedStatic<LocalDateTime> localDateTimeMockedStatic;
 
-    // 테스트 데이터
-    private FinalMileDeliveryRequest request;
-
     @BeforeEach
     void setUp() {
-        request = new FinalMileDeliveryRequest(
-                "ORD999",
-                "서울시 강남구",
-                "김철수",
-                "slack-kcs",
-                FIXED_TIME.plusHours(2)
-        );
+        ReflectionTestUtils.setField(finalMileDeliveryService, "conflictMaxAttempts", 3);
+        ReflectionTestUtils.setField(finalMileDeliveryService, "conflictBackoffMs", 0L);
 
         // FinalMileDeliveryService 내에서 LocalDateTime.now()를 사용하는 메소드 테스트를 위해 시간을 고정
-        localDateTimeMockedStatic = mockStatic(LocalDateTime.class);
+        // (상세 조회처럼 현재 시각을 쓰지 않는 테스트도 있으므로 lenient)
+        localDateTimeMockedStatic = mockStatic(LocalDateTime.class, withSettings()
+                .defaultAnswer(CALLS_REAL_METHODS)
+                .strictness(Strictness.LENIENT));
         localDateTimeMockedStatic.when(LocalDateTime::now).thenReturn(FIXED_TIME);
     }
 
@@ -64,48 +108,61 @@ class FinalMileDeliveryServiceTest {
 
 
     // -----------------------------------------------------------
-    // 1. 배송 등록 (registerDelivery) 테스트
+    // 1. 배송 생성 (createDelivery) 테스트
+    // (담당자 직접 등록 registerDelivery는 서비스에서 제거됨, 생성은 Order Service 호출 경로만 남음)
     // -----------------------------------------------------------
     @Nested
-    @DisplayName("1. 배송 등록 (registerDelivery)")
-    class RegisterDeliveryTest {
+    @DisplayName("1. 배송 생성 (createDelivery)")
+    class CreateDeliveryTest {
+
+        private final LastMileCreateRequest request = LastMileCreateRequest.builder()
+                .orderId("ORD999")
+                .hubId("HUB001")
+                .deliveryAddress("서울시 강남구")
+                .recipientName("김철수")
+                .recipientSlackId("slack-kcs")
+                .expectedTime(FIXED_TIME.plusHours(2))
+                .build();
 
         @Test
-        @DisplayName("성공: 요청 데이터로 FinalMileDelivery가 생성 및 저장되며 ID가 반환되어야 한다.")
-        void registerDelivery_Success() {
+        @DisplayName("성공: PENDING 상태로 저장되고 생성된 ID가 반환되어야 한다.")
+        void createDelivery_Success() {
             // Given
-            // Service 구현체는 save(delivery)의 반환값(savedDelivery)에서 ID를 추출함.
-            // 따라서 save 호출 시 Mock 엔티티에 ID를 설정하고 그 엔티티를 반환하도록 Mocking 해야 함.
-            when(finalMileDeliveryRepository.save(any(FinalMileDelivery.class)))
+            // saveAndFlush 시점에 @PrePersist가 ID를 생성하므로 Mock에서 ID를 설정한 엔티티를 반환
+            when(finalMileDeliveryRepository.saveAndFlush(any(FinalMileDelivery.class)))
                     .thenAnswer(invocation -> {
                         FinalMileDelivery savedDelivery = invocation.getArgument(0);
-                        // Reflection을 사용하여 ID 필드를 임의로 설정
-                        ReflectionTestUtils.setField(savedDelivery, "finalMileId", FINAL_MILE_ID);
-                        return savedDelivery; // ID가 설정된 엔티티 반환
+                        ReflectionTestUtils.setField(savedDelivery, "finalMileId", FINAL_MILE_UUID);
+                        return savedDelivery;
                     });
 
             // When
-            String resultId = finalMileDeliveryService.registerDelivery(AGENT_ID, request);
+            LastMileCreateResponse response = finalMileDeliveryService.createDelivery(request);
 
             // Then
-            // 1. 레포지토리의 save 메소드 호출 검증
-            verify(finalMileDeliveryRepository, times(1)).save(any(FinalMileDelivery.class));
-
-            // 2. 반환 ID 검증
-            assertThat(resultId).isEqualTo(FINAL_MILE_ID);
+            assertThat(response.getLastMileDeliveryId()).isEqualTo(FINAL_MILE_ID);
+            assertThat(response.getStatus()).isEqualTo(FinalMileDeliveryStatus.PENDING.name());
 
-            // 3. 저장된 엔티티의 필드 검증 (save 호출 시 인수로 전달된 객체 확인)
             ArgumentCaptor<FinalMileDelivery> deliveryCaptor = ArgumentCaptor.forClass(FinalMileDelivery.class);
-            verify(finalMileDeliveryRepository).save(deliveryCaptor.capture());
+            verify(finalMileDeliveryRepository).saveAndFlush(deliveryCaptor.capture());
             FinalMileDelivery capturedDelivery = deliveryCaptor.getValue();
+            assertThat(capturedDelivery.getOrderId()).isEqualTo("ORD999");
+            assertThat(capturedDelivery.getHubId()).isEqualTo("HUB001");
+            assertThat(capturedDelivery.hasAgent()).isFalse();
+        }
 
-            // .pickedUp(now) 호출로 인해 상태와 시작 시간이 설정되었는지 확인
-            assertThat(capturedDelivery.getCurrentStatus()).isEqualTo(FinalMileDeliveryStatus.PICKED_UP);
-            assertThat(capturedDelivery.getStartedAt()).isEqualTo(FIXED_TIME); // Mocking된 LocalDateTime.now()
+        @Test
+        @DisplayName("실패: 동시 요청으로 UNIQUE 인덱스에 막히면 DELIVERY_ALREADY_EXISTS 예외가 발생해야 한다.")
+        void createDelivery_Duplicate() {
+            // Given
+            when(finalMileDeliveryRepository.saveAndFlush(any(FinalMileDelivery.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_final_mile_order_id_active"));
 
-            // 기타 필드 검증
-            assertThat(capturedDelivery.getAgentId()).isEqualTo(AGENT_ID);
-            assertThat(capturedDelivery.getOrderId()).isEqualTo(request.orderId());
+            // When & Then
+            assertThatThrownBy(() -> finalMileDeliveryService.createDelivery(request))
+                    .isInstanceOf(DeliveryException.class)
+                    .extracting(e -> ((DeliveryException) e).getErrorCode())
+                    .isEqualTo(DeliveryErrorCode.DELIVERY_ALREADY_EXISTS);
         }
     }
 
@@ -116,28 +173,30 @@ class FinalMileDeliveryServiceTest {
     @DisplayName("2. 배송 상세 조회 (getDeliveryDetail)")
     class GetDeliveryDetailTest {
 
-        private FinalMileDelivery mockDelivery;
+        private DeliveryDetailProjection detail;
 
         @BeforeEach
         void setup() {
-            // 테스트용 Mock 엔티티 생성
-            mockDelivery = FinalMileDelivery.builder()
-                    .orderId("ORD100")
-                    .agentId("AGENT002")
-                    .currentStatus(FinalMileDeliveryStatus.ON_THE_WAY)
-                    .startedAt(FIXED_TIME.minusHours(1))
-                    .build();
-
-            // ✅ 수정된 핵심 부분: Mock 엔티티에 finalMileId를 설정하여 DTO 변환 시 ID가 null이 되는 것을 방지
-            // 이 수정으로 이전에 발생했던 "expected: "FMID123" but was: null" 에러를 해결
-            ReflectionTestUtils.setField(mockDelivery, "finalMileId", FINAL_MILE_ID);
+            // 상세 조회는 엔티티 대신 프로젝션으로 조회
+            detail = new DeliveryDetailProjection(
+                    FINAL_MILE_UUID,
+                    "ORD100",
+                    "AGENT002",
+                    FinalMileDeliveryStatus.ON_THE_WAY,
+                    "서울시 강남구",
+                    "김철수",
+                    "slack-kcs",
+                    FIXED_TIME.minusHours(1),
+                    FIXED_TIME.plusHours(1),
+                    null
+            );
         }
 
         @Test
         @DisplayName("성공: ID에 해당하는 배송 상세 정보를 FinalMileDeliveryDetailResponse로 반환해야 한다.")
         void getDeliveryDetail_Success() {
             // Given
-            when(finalMileDeliveryRepository.findById(FINAL_MILE_ID)).thenReturn(Optional.of(mockDelivery));
+            when(finalMileDeliveryRepository.findDetailById(FINAL_MILE_UUID)).thenReturn(Optional.of(detail));
 
             // When
             FinalMileDeliveryDetailResponse response = finalMileDeliveryService.getDeliveryDetail(FINAL_MILE_ID);
@@ -147,14 +206,27 @@ class FinalMileDeliveryServiceTest {
             assertThat(response.currentStatus()).isEqualTo(FinalMileDeliveryStatus.ON_THE_WAY);
             assertThat(response.agentId()).isEqualTo("AGENT002");
             assertThat(response.orderId()).isEqualTo("ORD100");
-            verify(finalMileDeliveryRepository, times(1)).findById(FINAL_MILE_ID);
+            verify(finalMileDeliveryRepository, times(1)).findDetailById(FINAL_MILE_UUID);
+        }
+
+        @Test
+        @DisplayName("성공: 대문자로 요청한 ID도 같은 배송으로 조회되어야 한다.")
+        void getDeliveryDetail_UpperCaseId() {
+            // Given
+            when(finalMileDeliveryRepository.findDetailById(FINAL_MILE_UUID)).thenReturn(Optional.of(detail));
+
+            // When
+            FinalMileDeliveryDetailResponse response = finalMileDeliveryService.getDeliveryDetail(FINAL_MILE_ID.toUpperCase());
+
+            // Then
+            assertThat(response.finalMileId()).isEqualTo(FINAL_MILE_ID);
         }
 
         @Test
         @DisplayName("실패: ID에 해당하는 배송 정보가 없을 경우 DeliveryNotFoundException 예외를 발생시켜야 한다.")
         void getDeliveryDetail_NotFound() {
             // Given
-            when(finalMileDeliveryRepository.findById(FINAL_MILE_ID)).thenReturn(Optional.empty());
+            when(finalMileDeliveryRepository.findDetailById(FINAL_MILE_UUID)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> finalMileDeliveryService.getDeliveryDetail(FINAL_MILE_ID))
@@ -180,7 +252,7 @@ class FinalMileDeliveryServiceTest {
                     .build();
 
             // 모든 상태 업데이트 테스트에서 엔티티 조회를 Mocking
-            when(finalMileDeliveryRepository.findById(FINAL_MILE_ID)).thenReturn(Optional.of(mockDelivery));
+            when(finalMileDeliveryRepository.findById(FINAL_MILE_UUID)).thenReturn(Optional.of(mockDelivery));
         }
 
         @Test
@@ -195,7 +267,7 @@ class FinalMileDeliveryServiceTest {
             // Then
             // delivery.onDelivery() 호출 후 상태 확인
             assertThat(mockDelivery.getCurrentStatus()).isEqualTo(FinalMileDeliveryStatus.ON_THE_WAY);
-            verify(finalMileDeliveryRepository, times(1)).findById(FINAL_MILE_ID);
+            verify(finalMileDeliveryRepository, times(1)).findById(FINAL_MILE_UUID);
             verify(finalMileDeliveryRepository, never()).save(any());
         }
 
@@ -258,7 +330,7 @@ class FinalMileDeliveryServiceTest {
         @DisplayName("실패: 잘못된 ID로 조회 시 DeliveryNotFoundException 예외가 발생해야 한다.")
         void updateStatus_NotFound() {
             // Given
-            when(finalMileDeliveryRepository.findById(FINAL_MILE_ID)).thenReturn(Optional.empty());
+            when(finalMileDeliveryRepository.findById(FINAL_MILE_UUID)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> finalMileDeliveryService.updateDeliveryStatus(FINAL_MILE_ID, new DeliveryStatusUpdateRequest(FinalMileDeliveryStatus.DELIVERED)))
@@ -296,7 +368,7 @@ class FinalMileDeliveryServiceTest {
                     .currentStatus(FinalMileDeliveryStatus.FAILED)
                     .build();
 
-            when(finalMileDeliveryRepository.findById(FINAL_MILE_ID)).thenReturn(Optional.of(mockDelivery));
+            when(finalMileDeliveryRepository.findById(FINAL_MILE_UUID)).thenReturn(Optional.of(mockDelivery));
         }
 
         @Test
@@ -310,7 +382,7 @@ class FinalMileDeliveryServiceTest {
             assertThat(ReflectionTestUtils.getField(mockDelivery, "isDeleted")).isEqualTo(true);
             assertThat(ReflectionTestUtils.getField(mockDelivery, "deletedBy")).isEqualTo(DELETER_ID);
 
-            verify(finalMileDeliveryRepository, times(1)).findById(FINAL_MILE_ID);
+            verify(finalMileDeliveryRepository, times(1)).findById(FINAL_MILE_UUID);
         }
 
         @Test
@@ -329,11 +401,34 @@ class FinalMileDeliveryServiceTest {
         @DisplayName("실패: 잘못된 ID로 조회 시 DeliveryNotFoundException 예외가 발생해야 한다.")
         void softDeleteDelivery_NotFound() {
             // Given
-            when(finalMileDeliveryRepository.findById(FINAL_MILE_ID)).thenReturn(Optional.empty());
+            when(finalMileDeliveryRepository.findById(FINAL_MILE_UUID)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> finalMileDeliveryService.softDeleteDelivery(FINAL_MILE_ID, DELETER_ID))
                     .isInstanceOf(DeliveryNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 콜백만 실행하는 트랜잭션 매니저 (트랜잭션 동기화는 활성화)
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.request.LastMileBulkAssignRequest;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileAssignDriverResponse;
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileBulkAssignResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.internals.BuiltInPartitioner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 허브별 배정 디스패처 테스트 (파티션 매핑, 쌓인 요청 일괄 처리)
+ */
+@ExtendWith(MockitoExtension.class)
+class HubAssignmentDispatcherTest {
+
+    private static final String HUB_ID = "HUB001";
+
+    @Mock
+    private FinalMileDeliveryService finalMileDeliveryService;
+
+    @Mock
+    private BulkDriverAssignmentService bulkDriverAssignmentService;
+
+    @Mock
+    private FinalMileDeliveryRepository finalMileDeliveryRepository;
+
+    private HubAssignmentDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new HubAssignmentDispatcher(finalMileDeliveryService, bulkDriverAssignmentService,
+                finalMileDeliveryRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "workerCount", 1);
+        ReflectionTestUtils.setField(dispatcher, "commandPartitions", 3);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 200);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+        ReflectionTestUtils.setField(dispatcher, "waitTimeoutMs", 5000L);
+        dispatcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("허브 → 파티션 매핑은 Kafka 기본 파티셔너의 키 해시와 같음")
+    void partitionMatchesKafkaDefaultPartitioner() {
+        for (String hubId : List.of("HUB001", "HUB002", "HUB-SEOUL-GANGNAM", "허브-부산")) {
+            for (int partitions : new int[]{1, 3, 12}) {
+                assertThat(HubAssignmentDispatcher.partitionOf(hubId, partitions))
+                        .isEqualTo(BuiltInPartitioner.partitionForKey(hubId.getBytes(StandardCharsets.UTF_8), partitions));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중에 쌓인 같은 허브 요청은 다음 차례에 일괄 배정 한 번으로 처리")
+    void queuedRequestsAreAssignedInOneBulkCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(finalMileDeliveryService.assignDriver("FM-1")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return success("FM-1");
+        });
+        when(bulkDriverAssignmentService.assignDrivers(any()))
+                .thenReturn(LastMileBulkAssignResponse.of(null, List.of(success("FM-2"), success("FM-3"))));
+
+        CompletableFuture<LastMileAssignDriverResponse> first = dispatcher.submit(HUB_ID, "FM-1");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<LastMileAssignDriverResponse> second = dispatcher.submit(HUB_ID, "FM-2");
+        CompletableFuture<LastMileAssignDriverResponse> third = dispatcher.submit(HUB_ID, "FM-3");
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getLastMileDeliveryId()).isEqualTo("FM-1");
+        assertThat(second.get(5, TimeUnit.SECONDS).getLastMileDeliveryId()).isEqualTo("FM-2");
+        assertThat(third.get(5, TimeUnit.SECONDS).getLastMileDeliveryId()).isEqualTo("FM-3");
+
+        ArgumentCaptor<LastMileBulkAssignRequest> captor = ArgumentCaptor.forClass(LastMileBulkAssignRequest.class);
+        verify(bulkDriverAssignmentService, times(1)).assignDrivers(captor.capture());
+        assertThat(captor.getValue().getFinalMileIds()).containsExactly("FM-2", "FM-3");
+        verify(finalMileDeliveryService, never()).assignDriver("FM-2");
+    }
+
+    @Test
+    @DisplayName("대문자가 섞인 배송 ID도 일괄 배정 결과(표준 소문자 ID)와 매칭")
+    void mixedCaseIdsMatchBulkResults() throws Exception {
+        String blocking = UUID.randomUUID().toString();
+        String upper = UUID.randomUUID().toString();
+        String lower = UUID.randomUUID().toString();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(finalMileDeliveryService.assignDriver(blocking)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return success(blocking);
+        });
+        when(bulkDriverAssignmentService.assignDrivers(any()))
+                .thenReturn(LastMileBulkAssignResponse.of(null, List.of(success(upper), success(lower))));
+
+        dispatcher.submit(HUB_ID, blocking);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<LastMileAssignDriverResponse> second = dispatcher.submit(HUB_ID, upper.toUpperCase());
+        CompletableFuture<LastMileAssignDriverResponse> third = dispatcher.submit(HUB_ID, lower);
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS).getLastMileDeliveryId()).isEqualTo(upper);
+        assertThat(third.get(5, TimeUnit.SECONDS).getLastMileDeliveryId()).isEqualTo(lower);
+
+        ArgumentCaptor<LastMileBulkAssignRequest> captor = ArgumentCaptor.forClass(LastMileBulkAssignRequest.class);
+        verify(bulkDriverAssignmentService).assignDrivers(captor.capture());
+        assertThat(captor.getValue().getFinalMileIds()).containsExactly(upper, lower);
+    }
+
+    private static LastMileAssignDriverResponse success(String finalMileId) {
+        return LastMileAssignDriverResponse.builder()
+                .lastMileDeliveryId(finalMileId)
+                .driverId("DRIVER001")
+                .success(true)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.early_express.delivery_service.delivery.application.service;
+
+import com.early_express.delivery_service.delivery.application.service.dto.AgentDeliveryGroupDto;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryChangedEvent;
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryRepository;
+import com.early_express.delivery_service.delivery.infrastructure.projection.TodayDeliveryProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 당일 배송 인메모리 뷰 증분 갱신/정합성 검사 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TodayDeliveryViewTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 20);
+    private static final String HUB_ID = "HUB001";
+
+    @Mock
+    private FinalMileDeliveryRepository finalMileDeliveryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TodayDeliveryView view;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        view = new TodayDeliveryView(finalMileDeliveryRepository, meterRegistry);
+    }
+
+    private TodayDeliveryProjection delivery(UUID id, String hubId, String agentId, int hour) {
+        return new TodayDeliveryProjection(id, "ORD-" + id, hubId, agentId, "name-" + agentId,
+                FinalMileDeliveryStatus.ASSIGNED, "주소", "수령인", "slack", TODAY.atTime(hour, 0));
+    }
+
+    private FinalMileDeliveryChangedEvent changed(TodayDeliveryProjection delivery, FinalMileDeliveryStatus status) {
+        return new FinalMileDeliveryChangedEvent(delivery.finalMileId(), delivery.orderId(), delivery.hubId(),
+                delivery.agentId(), delivery.agentName(), status, delivery.deliveryAddress(),
+                delivery.recipientName(), delivery.recipientSlackId(), delivery.expectedTime(), false);
+    }
+
+    @Test
+    @DisplayName("처음 조회 시 한 번만 적재하고 담당자별로 그룹화해야 한다.")
+    void getAgentGroups_LoadsOnce() {
+        // Given
+        TodayDeliveryProjection first = delivery(UUID.randomUUID(), HUB_ID, "AGENT1", 15);
+        TodayDeliveryProjection second = delivery(UUID.randomUUID(), HUB_ID, "AGENT1", 10);
+        TodayDeliveryProjection other = delivery(UUID.randomUUID(), "HUB002", "AGENT2", 11);
+        when(finalMileDeliveryRepository.findTodayAssignedDeliveries(any(), any()))
+                .thenReturn(List.of(first, second, other));
+
+        // When
+        List<AgentDeliveryGroupDto> hubGroups = view.getAgentGroups(TODAY, HUB_ID);
+        List<AgentDeliveryGroupDto> allGroups = view.getAgentGroups(TODAY, null);
+
+        // Then
+        assertThat(hubGroups).extracting(AgentDeliveryGroupDto::getAgentId).containsExactly("AGENT1");
+        assertThat(hubGroups.get(0).getDeliveries())
+                .extracting(AgentDeliveryGroupDto.DeliveryItemDto::getFinalMileId)
+                .containsExactly(second.finalMileId().toString(), first.finalMileId().toString());
+        assertThat(allGroups).extracting(AgentDeliveryGroupDto::getAgentId).containsExactly("AGENT1", "AGENT2");
+        verify(finalMileDeliveryRepository, times(1)).findTodayAssignedDeliveries(any(), any());
+    }
+
+    @Test
+    @DisplayName("상태 전이 이벤트로 배송이 추가/제거되어야 한다.")
+    void onDeliveryChanged_AppliesTransitions() {
+        // Given
+        TodayDeliveryProjection existing = delivery(UUID.randomUUID(), HUB_ID, "AGENT1", 9);
+        when(finalMileDeliveryRepository.findTodayAssignedDeliveries(any(), any())).thenReturn(List.of(existing));
+        view.getAgentGroups(TODAY, HUB_ID);
+
+        TodayDeliveryProjection assigned = delivery(UUID.randomUUID(), HUB_ID, "AGENT2", 12);
+
+        // When: 신규 배정, 기존 배송 출발
+        view.onDeliveryChanged(changed(assigned, FinalMileDeliveryStatus.ASSIGNED));
+        view.onDeliveryChanged(changed(existing, FinalMileDeliveryStatus.ON_THE_WAY));
+
+        // Then
+        List<AgentDeliveryGroupDto> groups = view.getAgentGroups(TODAY, HUB_ID);
+        assertThat(groups).extracting(AgentDeliveryGroupDto::getAgentId).containsExactly("AGENT2");
+        assertThat(groups.get(0).getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 날짜의 이벤트는 무시해야 한다.")
+    void onDeliveryChanged_NotLoaded_Ignored() {
+        // When
+        view.onDeliveryChanged(changed(delivery(UUID.randomUUID(), HUB_ID, "AGENT1", 9), FinalMileDeliveryStatus.ASSIGNED));
+
+        // Then
+        verifyNoInteractions(finalMileDeliveryRepository);
+        assertThat(view.reconcile(TODAY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB와 다르면 정합성 검사에서 재구성해야 한다.")
+    void reconcile_Drift_Rebuilds() {
+        // Given: 다른 인스턴스에서 배정된 배송이 DB에만 존재
+        TodayDeliveryProjection existing = delivery(UUID.randomUUID(), HUB_ID, "AGENT1", 9);
+        TodayDeliveryProjection remote = delivery(UUID.randomUUID(), HUB_ID, "AGENT3", 13);
+        when(finalMileDeliveryRepository.findTodayAssignedDeliveries(any(), any()))
+                .thenReturn(List.of(existing))
+                .thenReturn(List.of(existing, remote));
+        view.getAgentGroups(TODAY, HUB_ID);
+
+        // When
+        boolean rebuilt = view.reconcile(TODAY);
+
+        // Then
+        assertThat(rebuilt).isTrue();
+        assertThat(view.getAgentGroups(TODAY, HUB_ID))
+                .extracting(AgentDeliveryGroupDto::getAgentId)
+                .containsExactly("AGENT1", "AGENT3");
+        assertThat(meterRegistry.counter("delivery.today_view.rebuild").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 지난 날짜 뷰를 제거해야 한다.")
+    void evictBefore_RemovesPastDays() {
+        // Given
+        when(finalMileDeliveryRepository.findTodayAssignedDeliveries(any(), any())).thenReturn(List.of());
+        view.getAgentGroups(TODAY, HUB_ID);
+
+        // When & Then
+        assertThat(view.evictBefore(TODAY.plusDays(1))).isEqualTo(1);
+        assertThat(view.reconcile(TODAY)).isFalse();
+    }
+}
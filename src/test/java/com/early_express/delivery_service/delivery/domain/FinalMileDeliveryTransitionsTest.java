@@ -0,0 +1,160 @@
+package com.early_express.delivery_service.delivery.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@DisplayName("FinalMileDeliveryTransitions 상태 전이 행렬 테스트")
+class FinalMileDeliveryTransitionsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    /**
+     * 모든 (현재 상태, 요청 상태) 쌍
+     */
+    static Stream<Arguments> allPairs() {
+        return Stream.of(FinalMileDeliveryStatus.values())
+                .flatMap(from -> Stream.of(FinalMileDeliveryStatus.values())
+                        .map(to -> Arguments.of(from, to)));
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @MethodSource("allPairs")
+    @DisplayName("모든 상태 쌍: 엔티티 전이 결과가 행렬과 일치")
+    void transitionTo_MatchesMatrix(FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        FinalMileDelivery delivery = deliveryIn(from);
+
+        if (FinalMileDeliveryTransitions.isAllowed(from, to)) {
+            assertThat(delivery.transitionTo(to, NOW)).isTrue();
+            assertThat(delivery.getCurrentStatus()).isEqualTo(to);
+        } else if (FinalMileDeliveryTransitions.isNoOp(from, to)) {
+            assertThat(delivery.transitionTo(to, NOW)).isFalse();
+            assertThat(delivery.getCurrentStatus()).isEqualTo(from);
+        } else {
+            assertThatIllegalStateException().isThrownBy(() -> delivery.transitionTo(to, NOW));
+            assertThat(delivery.getCurrentStatus()).isEqualTo(from);
+        }
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @MethodSource("allPairs")
+    @DisplayName("모든 상태 쌍: 허용/멱등/거절 중 정확히 하나, 허용 상태 목록과 일치")
+    void matrix_IsConsistent(FinalMileDeliveryStatus from, FinalMileDeliveryStatus to) {
+        boolean allowed = FinalMileDeliveryTransitions.isAllowed(from, to);
+        boolean noOp = FinalMileDeliveryTransitions.isNoOp(from, to);
+
+        assertThat(allowed && noOp).isFalse();
+        assertThat(FinalMileDeliveryTransitions.sourcesOf(to).contains(from)).isEqualTo(allowed);
+        assertThat(FinalMileDeliveryTransitions.sourceNamesOf(to).contains(from.name())).isEqualTo(allowed);
+        if (from == to) {
+            assertThat(allowed).as("자기 자신으로의 전이는 허용 목록에 없음").isFalse();
+        }
+        if (from == FinalMileDeliveryStatus.DELIVERED || from == FinalMileDeliveryStatus.CANCELED) {
+            assertThat(allowed).as("완료/취소 이후 전이 없음").isFalse();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("statuses")
+    @DisplayName("모든 상태: can* 규칙이 행렬과 일치")
+    void canMethods_DelegateToMatrix(FinalMileDeliveryStatus status) {
+        assertThat(status.canAssignDriver())
+                .isEqualTo(FinalMileDeliveryTransitions.isAllowed(status, FinalMileDeliveryStatus.ASSIGNING));
+        assertThat(status.canConfirmAssignment())
+                .isEqualTo(FinalMileDeliveryTransitions.isAllowed(status, FinalMileDeliveryStatus.ASSIGNED));
+        assertThat(status.canPickUp())
+                .isEqualTo(FinalMileDeliveryTransitions.isAllowed(status, FinalMileDeliveryStatus.PICKED_UP));
+        assertThat(status.canDepart())
+                .isEqualTo(FinalMileDeliveryTransitions.isAllowed(status, FinalMileDeliveryStatus.ON_THE_WAY));
+        assertThat(status.canComplete())
+                .isEqualTo(FinalMileDeliveryTransitions.isAllowed(status, FinalMileDeliveryStatus.DELIVERED));
+        assertThat(status.canCancel())
+                .isEqualTo(FinalMileDeliveryTransitions.isAllowed(status, FinalMileDeliveryStatus.CANCELED));
+    }
+
+    static Stream<FinalMileDeliveryStatus> statuses() {
+        return Stream.of(FinalMileDeliveryStatus.values());
+    }
+
+    @Test
+    @DisplayName("모든 상태는 PENDING에서 도달 가능")
+    void allStatuses_ReachableFromPending() {
+        Set<FinalMileDeliveryStatus> reached = EnumSet.of(FinalMileDeliveryStatus.PENDING);
+        Deque<FinalMileDeliveryStatus> queue = new ArrayDeque<>(reached);
+        while (!queue.isEmpty()) {
+            FinalMileDeliveryStatus from = queue.poll();
+            for (FinalMileDeliveryStatus to : FinalMileDeliveryStatus.values()) {
+                if (FinalMileDeliveryTransitions.isAllowed(from, to) && reached.add(to)) {
+                    queue.add(to);
+                }
+            }
+        }
+
+        assertThat(reached).containsExactlyInAnyOrder(FinalMileDeliveryStatus.values());
+    }
+
+    @Test
+    @DisplayName("무작위 전이 요청 시퀀스: 상태는 행렬대로만 바뀌고 시각 기록이 유지됨")
+    void randomWalk_PreservesInvariants() {
+        FinalMileDeliveryStatus[] statuses = FinalMileDeliveryStatus.values();
+        Random random = new Random(18L);  // 재현 가능하도록 고정 시드
+
+        for (int walk = 0; walk < 500; walk++) {
+            FinalMileDelivery delivery = deliveryIn(FinalMileDeliveryStatus.PENDING);
+            LocalDateTime now = NOW;
+
+            for (int step = 0; step < 20; step++) {
+                FinalMileDeliveryStatus from = delivery.getCurrentStatus();
+                FinalMileDeliveryStatus to = statuses[random.nextInt(statuses.length)];
+                LocalDateTime startedAt = delivery.getStartedAt();
+                LocalDateTime departedAt = delivery.getDepartedAt();
+                now = now.plusMinutes(1);
+
+                try {
+                    boolean changed = delivery.transitionTo(to, now);
+                    assertThat(changed).isEqualTo(FinalMileDeliveryTransitions.isAllowed(from, to));
+                } catch (IllegalStateException e) {
+                    assertThat(FinalMileDeliveryTransitions.isAllowed(from, to)).isFalse();
+                    assertThat(FinalMileDeliveryTransitions.isNoOp(from, to)).isFalse();
+                }
+
+                // 인수/출발 시각은 처음 기록된 값 유지
+                if (startedAt != null) {
+                    assertThat(delivery.getStartedAt()).isEqualTo(startedAt);
+                }
+                if (departedAt != null) {
+                    assertThat(delivery.getDepartedAt()).isEqualTo(departedAt);
+                }
+                FinalMileDeliveryStatus current = delivery.getCurrentStatus();
+                if (current == FinalMileDeliveryStatus.ON_THE_WAY) {
+                    assertThat(delivery.getStartedAt()).isNotNull();
+                    assertThat(delivery.getDepartedAt()).isNotNull();
+                }
+                if (current == FinalMileDeliveryStatus.DELIVERED || current == FinalMileDeliveryStatus.FAILED) {
+                    assertThat(delivery.getDeliveredAt()).isNotNull();
+                }
+            }
+        }
+    }
+
+    private static FinalMileDelivery deliveryIn(FinalMileDeliveryStatus status) {
+        FinalMileDelivery delivery = FinalMileDelivery.create(
+                "ORD-TRANSITION", "HUB-1", "서울시 강남구", "수령인", "slack", NOW.plusHours(2));
+        ReflectionTestUtils.setField(delivery, "currentStatus", status);
+        return delivery;
+    }
+}
@@ -0,0 +1,223 @@
+package com.early_express.delivery_service.delivery.infrastructure;
+
+import com.early_express.delivery_service.delivery.domain.FinalMileDeliveryStatus;
+import com.early_express.delivery_service.global.config.JpaConfig;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배송 조회 쿼리 실행 계획 회귀 테스트 (PostgreSQL)
+ *
+ * - Repository 메서드를 실제로 호출해 Hibernate가 만든 SQL을 기록하고, 같은 파라미터로 EXPLAIN 실행
+ * - 인덱스 선언이 빠지거나 쿼리가 바뀌어 p_final_mile_delivery 순차 스캔(Seq Scan)으로 떨어지면 실패
+ * - Docker가 없는 환경에서는 생략
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.early_express.delivery_service.delivery.infrastructure.FinalMileDeliveryQueryPlanTest$SqlRecorder",
+        "spring.jpa.defer-datasource-initialization=true",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.platform=postgresql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(JpaConfig.class)
+class FinalMileDeliveryQueryPlanTest {
+
+    private static final String TABLE = "p_final_mile_delivery";
+    private static final int ROWS = 200_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private FinalMileDeliveryRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime startOfDay;
+    private LocalDateTime endOfDay;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+        startOfDay = today.atStartOfDay();
+        endOfDay = today.atTime(LocalTime.MAX);
+
+        // 50개 허브, 2000명 담당자, 상태 골고루, 예정 시간은 최근 60일에 분산, 1%는 Soft Delete
+        jdbcTemplate.update("""
+                INSERT INTO p_final_mile_delivery (
+                    final_mile_id, order_id, agent_id, agent_name, current_status, hub_id,
+                    delivery_address, recipient_name, expected_time, started_at,
+                    created_at, is_deleted)
+                SELECT gen_random_uuid(),
+                       'ORD-' || i,
+                       CASE WHEN i % 7 = 0 THEN NULL ELSE 'AGENT' || (i % 2000) END,
+                       'agent',
+                       (ARRAY['PENDING','ASSIGNING','ASSIGNED','PICKED_UP','ON_THE_WAY','DELIVERED','CANCELED'])[i % 7 + 1],
+                       'HUB' || (i % 50),
+                       'address', 'recipient',
+                       ?::timestamp - (i % 86400) * INTERVAL '1 minute',
+                       CASE WHEN i % 7 = 0 THEN NULL ELSE ?::timestamp - (i % 86400) * INTERVAL '1 minute' END,
+                       now(),
+                       i % 100 = 0
+                FROM generate_series(1, ?) AS i
+                """, endOfDay.minusMinutes(1), endOfDay.minusMinutes(1), ROWS);
+        jdbcTemplate.execute("ANALYZE " + TABLE);
+
+        SqlRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("허브별 당일 배정 배송 조회는 인덱스를 사용해야 한다.")
+    void findTodayAssignedDeliveriesByHub_UsesIndex() {
+        repository.findTodayAssignedDeliveriesByHub("HUB7", startOfDay, endOfDay);
+
+        assertNoSeqScan(explainLast("HUB7", startOfDay, endOfDay));
+    }
+
+    @Test
+    @DisplayName("전체 허브 당일 배정 배송 조회는 인덱스를 사용해야 한다.")
+    void findTodayAssignedDeliveries_UsesIndex() {
+        repository.findTodayAssignedDeliveries(startOfDay, endOfDay);
+
+        assertNoSeqScan(explainLast(startOfDay, endOfDay));
+    }
+
+    @Test
+    @DisplayName("담당자별 당일 배송 조회는 인덱스를 사용해야 한다.")
+    void findTodayDeliveriesByAgent_UsesIndex() {
+        repository.findTodayDeliveriesByAgent("AGENT42", startOfDay, endOfDay);
+
+        assertNoSeqScan(explainLast("AGENT42", startOfDay, endOfDay));
+    }
+
+    @Test
+    @DisplayName("주문 ID 조회는 인덱스를 사용해야 한다.")
+    void findByOrderId_UsesIndex() {
+        repository.findByOrderId("ORD-12345");
+
+        assertNoSeqScan(explainLast("ORD-12345"));
+    }
+
+    @Test
+    @DisplayName("허브 일괄 배정 대상 조회는 인덱스를 사용해야 한다.")
+    void findByHubForAssignment_UsesIndex() {
+        repository.findByHubForAssignment("HUB7", FinalMileDeliveryStatus.PENDING, Limit.of(100));
+
+        assertNoSeqScan(explainLast("HUB7", FinalMileDeliveryStatus.PENDING.name(), 100));
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션 첫 페이지는 정렬 인덱스를 사용해야 한다.")
+    void findFirstKeysetPage_UsesIndex() {
+        repository.findFirstKeysetPage(Limit.of(21));
+
+        assertNoSeqScan(explainLast(21));
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션 다음 페이지는 정렬 인덱스 범위 조회여야 한다.")
+    void findKeysetPageAfter_UsesIndexRange() {
+        // 깊은 페이지 (앞쪽 절반을 지난 커서)
+        Map<String, Object> cursor = jdbcTemplate.queryForMap("""
+                SELECT final_mile_id, started_at FROM p_final_mile_delivery
+                WHERE started_at IS NOT NULL
+                ORDER BY started_at DESC, final_mile_id DESC
+                OFFSET ? LIMIT 1
+                """, ROWS / 2);
+        LocalDateTime startedAt = ((Timestamp) cursor.get("started_at")).toLocalDateTime();
+        UUID finalMileId = (UUID) cursor.get("final_mile_id");
+
+        repository.findKeysetPageAfter(startedAt, finalMileId, Limit.of(21));
+
+        String plan = explainLast(startedAt, finalMileId, 21);
+        assertNoSeqScan(plan);
+        // 커서 조건이 필터가 아닌 인덱스 범위 조건으로 쓰이고, 별도 정렬 없음
+        assertThat(plan).as("실행 계획:%n%s", plan)
+                .contains("idx_final_mile_started_id_nulls_last")
+                .contains("Index Cond")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션 startedAt 없는 행 조회는 인덱스를 사용해야 한다.")
+    void findFirstUnstartedKeysetPage_UsesIndex() {
+        repository.findFirstUnstartedKeysetPage(Limit.of(21));
+
+        assertNoSeqScan(explainLast(21));
+    }
+
+    @Test
+    @DisplayName("미삭제 배송의 주문 ID는 중복될 수 없다.")
+    void activeOrderId_IsUnique() {
+        Integer uniqueIndexes = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = ? AND indexname = 'uk_final_mile_order_id_active'",
+                Integer.class, TABLE);
+
+        assertThat(uniqueIndexes).isEqualTo(1);
+    }
+
+    private String explainLast(Object... params) {
+        String sql = SqlRecorder.last();
+        assertThat(sql).as("기록된 SQL").isNotNull();
+
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params);
+        return String.join("\n", plan);
+    }
+
+    private void assertNoSeqScan(String plan) {
+        assertThat(plan)
+                .as("실행 계획:%n%s", plan)
+                .doesNotContain("Seq Scan on " + TABLE);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 기록
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String last() {
+            return STATEMENTS.isEmpty() ? null : STATEMENTS.get(STATEMENTS.size() - 1);
+        }
+    }
+}
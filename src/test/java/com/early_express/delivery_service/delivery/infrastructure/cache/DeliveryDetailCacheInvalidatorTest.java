@@ -0,0 +1,111 @@
+package com.early_express.delivery_service.delivery.infrastructure.cache;
+
+import com.early_express.delivery_service.global.config.CacheConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 배송 상세 캐시 커밋 이후 무효화 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DeliveryDetailCacheInvalidatorTest {
+
+    private static final String FINAL_MILE_ID = "0190a6d2-3c4e-7a01-8000-000000000123";
+    private static final String TOPIC = "delivery-cache-invalidation";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private Cache cache;
+    private DeliveryDetailCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.DELIVERY_DETAIL);
+        cache = cacheManager.getCache(CacheConfig.DELIVERY_DETAIL);
+        cache.put(FINAL_MILE_ID, "cached");
+
+        invalidator = new DeliveryDetailCacheInvalidator(cacheManager, kafkaTemplate);
+        ReflectionTestUtils.setField(invalidator, "invalidationTopic", TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 제거하고 다른 인스턴스로 전파해야 한다.")
+    void evictAfterCommit_DefersUntilCommit() {
+        // Given
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(new CompletableFuture<>());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        invalidator.evictAfterCommit(List.of(FINAL_MILE_ID));
+
+        // Then: 커밋 전에는 유지
+        assertThat(cache.get(FINAL_MILE_ID)).isNotNull();
+        verifyNoInteractions(kafkaTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get(FINAL_MILE_ID)).isNull();
+        verify(kafkaTemplate).send(TOPIC, FINAL_MILE_ID, FINAL_MILE_ID);
+    }
+
+    @Test
+    @DisplayName("표기가 다른 ID도 UUID 표준 문자열 키로 제거하고, UUID가 아닌 ID는 제거/전파하지 않아야 한다.")
+    void evictAfterCommit_UsesCanonicalKey() {
+        // Given
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        // When
+        invalidator.evictAfterCommit(List.of(FINAL_MILE_ID.toUpperCase(), "not-a-uuid"));
+
+        // Then
+        assertThat(cache.get(FINAL_MILE_ID)).isNull();
+        verify(kafkaTemplate).send(TOPIC, FINAL_MILE_ID, FINAL_MILE_ID);
+        verifyNoMoreInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지는 로컬에서만 제거해야 한다.")
+    void onInvalidation_EvictsLocalOnly() {
+        // Given
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(TOPIC, 0, 0L, FINAL_MILE_ID, FINAL_MILE_ID);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // When
+        invalidator.onInvalidation(record, acknowledgment);
+
+        // Then
+        assertThat(cache.get(FINAL_MILE_ID)).isNull();
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
@@ -0,0 +1,101 @@
+package com.early_express.delivery_service.delivery.infrastructure.client;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverOperationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 드라이버 서비스 논블로킹 클라이언트 테스트 (ExchangeFunction 스텁)
+ */
+class LastMileDriverReactiveClientTest {
+
+    private static final long CALL_TIMEOUT_MS = 200;
+    private static final int MAX_CONCURRENCY = 4;
+
+    private LastMileDriverReactiveClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    private LastMileDriverReactiveClient clientWith(ExchangeFunction exchange) {
+        client = new LastMileDriverReactiveClient(
+                WebClient.builder().exchangeFunction(exchange), new SimpleMeterRegistry(),
+                10, 100, 1000, 1000, CALL_TIMEOUT_MS, MAX_CONCURRENCY);
+        return client;
+    }
+
+    private static Mono<ClientResponse> ok(String driverId) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"driverId\":\"" + driverId + "\",\"status\":\"AVAILABLE\"}")
+                .build());
+    }
+
+    @Test
+    @DisplayName("오류 응답은 Feign 에러 디코더와 같은 DeliveryException으로 변환되어야 한다.")
+    void errorStatus_MappedLikeFeign() {
+        LastMileDriverReactiveClient client = clientWith(request ->
+                Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+
+        assertThatThrownBy(() -> client.cancelDelivery("DRIVER001").block())
+                .isInstanceOf(DeliveryException.class)
+                .extracting(e -> ((DeliveryException) e).getErrorCode())
+                .isEqualTo(DeliveryErrorCode.DRIVER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("호출별 타임아웃을 넘기면 EXTERNAL_SERVICE_UNAVAILABLE로 실패해야 한다.")
+    void slowResponse_TimesOut() {
+        LastMileDriverReactiveClient client = clientWith(request ->
+                ok("DRIVER001").delayElement(Duration.ofMillis(CALL_TIMEOUT_MS * 5)));
+
+        assertThatThrownBy(() -> client.cancelDelivery("DRIVER001").block())
+                .isInstanceOf(DeliveryException.class)
+                .extracting(e -> ((DeliveryException) e).getErrorCode())
+                .isEqualTo(DeliveryErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("일괄 호출은 max-concurrency를 넘지 않고 모든 응답을 모아야 한다.")
+    void fanOut_BoundsConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        LastMileDriverReactiveClient client = clientWith(request -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return ok("DRIVER").delayElement(Duration.ofMillis(20));
+                })
+                .doFinally(signal -> inFlight.decrementAndGet()));
+
+        List<String> driverIds = IntStream.range(0, 40).mapToObj(i -> "DRIVER" + i).toList();
+
+        List<DriverOperationResponse> responses = client.fanOut(driverIds, client::cancelDelivery)
+                .collectList()
+                .block();
+
+        assertThat(responses).hasSize(driverIds.size());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+}
@@ -0,0 +1,144 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.notification;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverReactiveClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverOperationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 드라이버 통지 Dispatcher 테스트 (중복 통합, 재시도 예약)
+ */
+@ExtendWith(MockitoExtension.class)
+class DriverNotificationDispatcherTest {
+
+    @Mock
+    private DriverNotificationRepository driverNotificationRepository;
+
+    @Mock
+    private LastMileDriverReactiveClient lastMileDriverReactiveClient;
+
+    private DriverNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new DriverNotificationDispatcher(
+                driverNotificationRepository,
+                lastMileDriverReactiveClient,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 200);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "backoffInitialMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 8000L);
+        dispatcher.init();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenFanOutRunsCalls() {
+        when(lastMileDriverReactiveClient.fanOut(anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<Object> items = invocation.getArgument(0);
+            Function<Object, Mono<Object>> call = invocation.getArgument(1);
+            return Flux.fromIterable(items).flatMap(call);
+        });
+    }
+
+    private static DriverNotificationTask cancel(String driverId, String finalMileId) {
+        return DriverNotificationTask.builder()
+                .driverId(driverId)
+                .type(DriverNotificationType.CANCEL)
+                .finalMileId(finalMileId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 드라이버의 중복 통지는 한 번만 전송하고 성공한 작업은 삭제해야 한다.")
+    void dispatch_CollapsesDuplicatesAndDeletesSent() {
+        // Given
+        DriverNotificationTask first = cancel("DRIVER001", "FM001");
+        DriverNotificationTask duplicate = cancel("DRIVER001", "FM001");
+        when(driverNotificationRepository.findDueForDispatch(eq(DriverNotificationStatus.PENDING), any(), any()))
+                .thenReturn(List.of(first, duplicate));
+        givenFanOutRunsCalls();
+        when(lastMileDriverReactiveClient.cancelDelivery("DRIVER001"))
+                .thenReturn(Mono.just(DriverOperationResponse.builder().driverId("DRIVER001").build()));
+
+        // When
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(dispatched).isEqualTo(2);
+        verify(lastMileDriverReactiveClient, times(1)).cancelDelivery("DRIVER001");
+        verify(driverNotificationRepository).deleteAllByIdInBatch(List.of(first.getTaskId(), duplicate.getTaskId()));
+    }
+
+    @Test
+    @DisplayName("전송 실패 작업은 삭제하지 않고 백오프 이후로 재시도 예약해야 한다.")
+    void dispatch_FailureSchedulesRetry() {
+        // Given
+        DriverNotificationTask failing = cancel("DRIVER001", "FM001");
+        DriverNotificationTask sent = cancel("DRIVER002", "FM002");
+        when(driverNotificationRepository.findDueForDispatch(eq(DriverNotificationStatus.PENDING), any(), any()))
+                .thenReturn(List.of(failing, sent));
+        givenFanOutRunsCalls();
+        when(lastMileDriverReactiveClient.cancelDelivery("DRIVER001"))
+                .thenReturn(Mono.error(new DeliveryException(DeliveryErrorCode.EXTERNAL_SERVICE_UNAVAILABLE)));
+        when(lastMileDriverReactiveClient.cancelDelivery("DRIVER002"))
+                .thenReturn(Mono.just(DriverOperationResponse.builder().driverId("DRIVER002").build()));
+        when(driverNotificationRepository.findAllById(any())).thenReturn(List.of(failing));
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(driverNotificationRepository).deleteAllByIdInBatch(List.of(sent.getTaskId()));
+        assertThat(failing.getStatus()).isEqualTo(DriverNotificationStatus.PENDING);
+        assertThat(failing.getAttemptCount()).isEqualTo(1);
+        assertThat(failing.getNextAttemptAt()).isAfter(before);
+        assertThat(failing.getNextAttemptAt()).isBefore(before.plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 FAILED로 전환해야 한다.")
+    void recordFailedAttempt_ExceedsMaxAttempts() {
+        DriverNotificationTask task = cancel("DRIVER001", "FM001");
+
+        task.recordFailedAttempt("timeout", 2, Duration.ofSeconds(1));
+        task.recordFailedAttempt("timeout", 2, Duration.ofSeconds(1));
+
+        assertThat(task.getStatus()).isEqualTo(DriverNotificationStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 늘어나고 상한을 넘지 않아야 한다.")
+    void backoff_GrowsAndIsCapped() {
+        assertThat(dispatcher.backoff(1)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1000));
+        assertThat(dispatcher.backoff(3)).isBetween(Duration.ofMillis(2000), Duration.ofMillis(4000));
+        assertThat(dispatcher.backoff(40)).isBetween(Duration.ofMillis(4000), Duration.ofMillis(8000));
+    }
+}
@@ -0,0 +1,126 @@
+package com.early_express.delivery_service.delivery.infrastructure.client.resilience;
+
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryErrorCode;
+import com.early_express.delivery_service.delivery.domain.exception.DeliveryException;
+import com.early_express.delivery_service.delivery.infrastructure.client.LastMileDriverClient;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverAssignRequest;
+import com.early_express.delivery_service.delivery.infrastructure.client.dto.DriverOperationResponse;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 드라이버 서비스 장애 격리 테스트 (서킷 브레이커, 재시도 예산)
+ */
+@ExtendWith(MockitoExtension.class)
+class ResilientLastMileDriverClientTest {
+
+    private static final String DRIVER_ID = "DRIVER001";
+
+    @Mock
+    private LastMileDriverClient delegate;
+
+    private ResilientLastMileDriverClient client;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(new DriverServiceFailurePredicate())
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(10)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        client = new ResilientLastMileDriverClient(
+                delegate, circuitBreakerRegistry, bulkheadRegistry, new SimpleMeterRegistry(),
+                2, 0, 10, 0.1);
+    }
+
+    private static DeliveryException unavailable() {
+        return new DeliveryException(DeliveryErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("멱등 호출(취소)은 503 응답 시 한 번 재시도해야 한다.")
+    void cancelDelivery_RetriesOnUnavailable() {
+        DriverOperationResponse ok = DriverOperationResponse.builder().driverId(DRIVER_ID).build();
+        when(delegate.cancelDelivery(DRIVER_ID)).thenThrow(unavailable()).thenReturn(ok);
+
+        assertThat(client.cancelDelivery(DRIVER_ID)).isSameAs(ok);
+        verify(delegate, times(2)).cancelDelivery(DRIVER_ID);
+    }
+
+    @Test
+    @DisplayName("배정 POST는 실패해도 재시도하지 않아야 한다.")
+    void assignDriver_NotRetried() {
+        when(delegate.assignDriver(any())).thenThrow(unavailable());
+
+        assertThatThrownBy(() -> client.assignDriver(DriverAssignRequest.of("HUB001", "FM001")))
+                .isInstanceOf(DeliveryException.class);
+        verify(delegate, times(1)).assignDriver(any());
+    }
+
+    @Test
+    @DisplayName("서비스 장애가 임계치를 넘으면 호출하지 않고 EXTERNAL_SERVICE_REJECTED로 즉시 실패해야 한다.")
+    void circuitOpen_FailsFast() {
+        when(delegate.assignDriver(any())).thenThrow(unavailable());
+        DriverAssignRequest request = DriverAssignRequest.of("HUB001", "FM001");
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.assignDriver(request)).isInstanceOf(DeliveryException.class);
+        }
+
+        assertThatThrownBy(() -> client.assignDriver(request))
+                .isInstanceOf(DeliveryException.class)
+                .extracting(e -> ((DeliveryException) e).getErrorCode())
+                .isEqualTo(DeliveryErrorCode.EXTERNAL_SERVICE_REJECTED);
+        verify(delegate, times(4)).assignDriver(any());
+        assertThat(client.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("담당자 없음 같은 업무 오류는 서킷 실패로 집계하지 않아야 한다.")
+    void businessErrors_DoNotOpenCircuit() {
+        when(delegate.assignDriver(any())).thenThrow(new DeliveryException(DeliveryErrorCode.DRIVER_NOT_FOUND));
+        DriverAssignRequest request = DriverAssignRequest.of("HUB001", "FM001");
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> client.assignDriver(request))
+                    .extracting(e -> ((DeliveryException) e).getErrorCode())
+                    .isEqualTo(DeliveryErrorCode.DRIVER_NOT_FOUND);
+        }
+
+        assertThat(client.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 쓰면 더 이상 재시도하지 않아야 한다.")
+    void retryBudget_Exhausted() {
+        RetryBudget budget = new RetryBudget(1, 0.5);
+
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+
+        budget.onCall();
+        budget.onCall();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+    }
+}
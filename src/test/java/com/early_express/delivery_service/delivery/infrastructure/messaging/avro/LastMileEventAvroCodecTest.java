@@ -0,0 +1,87 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.avro;
+
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileCompletedEvent;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.event.LastMileDepartedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("LastMileEventAvroCodec 단위 테스트")
+class LastMileEventAvroCodecTest {
+
+    private final LocalSchemaRegistry registry = new LocalSchemaRegistry();
+    private final LastMileEventAvroCodec codec = new LastMileEventAvroCodec(registry);
+
+    private static final LocalDateTime DEPARTED_AT = LocalDateTime.of(2025, 1, 1, 10, 30, 15);
+
+    @Test
+    @DisplayName("출발 이벤트: 스키마 ID 헤더 + 왕복 변환 시 모든 필드 유지")
+    void departed_RoundTrip() {
+        LastMileDepartedEvent event = departedEvent();
+
+        byte[] bytes = codec.encode(event);
+        LastMileDepartedEvent decoded = codec.decodeDeparted(bytes);
+
+        assertThat(bytes[0]).isEqualTo(LastMileEventAvroCodec.MAGIC_BYTE);
+        assertThat(ByteBuffer.wrap(bytes, 1, 4).getInt())
+                .isEqualTo(registry.latest(LocalSchemaRegistry.DEPARTED_SUBJECT).id());
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("완료 이벤트: null 필드(담당자 미배정, 완료 시각 없음)도 왕복 변환")
+    void completed_RoundTrip_WithNulls() {
+        LastMileCompletedEvent event = LastMileCompletedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("LastMileCompletedEvent")
+                .eventTime(DEPARTED_AT)
+                .orderId("ORD-2")
+                .lastMileDeliveryId(null)
+                .hubId("HUB-1")
+                .build();
+
+        LastMileCompletedEvent decoded = codec.decodeCompleted(codec.encode(event));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("JSON보다 작은 크기로 직렬화")
+    void avro_SmallerThanJson() throws Exception {
+        LastMileDepartedEvent event = departedEvent();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        assertThat(codec.encode(event).length).isLessThan(objectMapper.writeValueAsBytes(event).length);
+    }
+
+    @Test
+    @DisplayName("다른 이벤트의 메시지는 거부")
+    void decode_RejectsOtherSubject() {
+        byte[] departed = codec.encode(departedEvent());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> codec.decodeCompleted(departed));
+        assertThatIllegalArgumentException().isThrownBy(() -> codec.decodeDeparted("{}".getBytes()));
+    }
+
+    private static LastMileDepartedEvent departedEvent() {
+        return LastMileDepartedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("LastMileDepartedEvent")
+                .eventTime(DEPARTED_AT)
+                .orderId("ORD-1")
+                .lastMileDeliveryId(UUID.randomUUID().toString())
+                .hubId("HUB-1")
+                .driverId("DRIVER-1")
+                .driverName("홍길동")
+                .departedAt(DEPARTED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.command;
+
+import com.early_express.delivery_service.delivery.application.service.LastMileCommandService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 커맨드 배치 리스너 검증/실패 위치 보고 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LastMileCommandListenerTest {
+
+    private static final String TOPIC = "delivery-service-commands";
+
+    @Mock
+    private LastMileCommandService commandService;
+
+    @InjectMocks
+    private LastMileCommandListener listener;
+
+    @Test
+    @DisplayName("정상 배치는 한 번에 처리")
+    void processesWholeBatch() {
+        List<ConsumerRecord<String, LastMileCommand>> records = List.of(
+                record(0, create("ORD-1")),
+                record(1, cancel("ORD-2")),
+                record(2, LastMileCommand.builder().type(LastMileCommandType.ASSIGN).hubId("HUB001").build())
+        );
+
+        listener.onCommands(records);
+
+        verify(commandService).process(List.of(records.get(0).value(), records.get(1).value(), records.get(2).value()));
+    }
+
+    @Test
+    @DisplayName("필수 항목이 없는 커맨드 앞까지만 처리하고 실패 위치를 알림")
+    void reportsFirstInvalidIndex() {
+        LastMileCommand valid = create("ORD-1");
+        LastMileCommand invalid = LastMileCommand.builder().type(LastMileCommandType.CREATE).orderId("ORD-2").build();
+        List<ConsumerRecord<String, LastMileCommand>> records = List.of(
+                record(0, valid),
+                record(1, invalid),
+                record(2, create("ORD-3"))
+        );
+
+        assertThatThrownBy(() -> listener.onCommands(records))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+                    assertThat(e.getIndex()).isEqualTo(1);
+                    assertThat(e.getCause()).isInstanceOf(IllegalArgumentException.class);
+                });
+        verify(commandService).process(List.of(valid));
+    }
+
+    @Test
+    @DisplayName("첫 레코드를 읽을 수 없으면 처리 없이 실패 위치 0을 알림")
+    void reportsDeserializationFailure() {
+        List<ConsumerRecord<String, LastMileCommand>> records = List.of(
+                record(0, null),
+                record(1, create("ORD-1"))
+        );
+
+        assertThatThrownBy(() -> listener.onCommands(records))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isZero());
+        verify(commandService, never()).process(anyList());
+    }
+
+    private static ConsumerRecord<String, LastMileCommand> record(long offset, LastMileCommand command) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "key-" + offset, command);
+    }
+
+    private static LastMileCommand create(String orderId) {
+        return LastMileCommand.builder()
+                .type(LastMileCommandType.CREATE)
+                .orderId(orderId)
+                .hubId("HUB001")
+                .deliveryAddress("서울시 강남구 테헤란로 123")
+                .recipientName("김철수")
+                .build();
+    }
+
+    private static LastMileCommand cancel(String orderId) {
+        return LastMileCommand.builder()
+                .type(LastMileCommandType.CANCEL)
+                .orderId(orderId)
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.early_express.delivery_service.delivery.infrastructure.messaging.outbox;
+
+import com.early_express.delivery_service.delivery.infrastructure.messaging.LastMileEventFormat;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.avro.LastMileEventAvroCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Outbox Relay 테스트 (배송별 발행 순서, 재시도 예약, DUAL 포맷별 재발행)
+ */
+@ExtendWith(MockitoExtension.class)
+class LastMileOutboxRelayTest {
+
+    private static final String TOPIC = "last-mile-completed";
+
+    @Mock
+    private LastMileOutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> binaryKafkaTemplate;
+
+    @Mock
+    private LastMileEventAvroCodec avroCodec;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private LastMileOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        relay = new LastMileOutboxRelay(
+                outboxRepository,
+                kafkaTemplate,
+                binaryKafkaTemplate,
+                avroCodec,
+                objectMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "parallelism", 1);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 10);
+        ReflectionTestUtils.setField(relay, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(relay, "backoffInitialMs", 1000L);
+        ReflectionTestUtils.setField(relay, "backoffMaxMs", 8000L);
+        ReflectionTestUtils.setField(relay, "eventFormat", LastMileEventFormat.JSON);
+        relay.init();
+
+        doReturn(new Object()).when(objectMapper).readValue(anyString(), any(Class.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    private static LastMileOutboxEvent completed(String finalMileId, String messageKey) {
+        return LastMileOutboxEvent.builder()
+                .outboxId(UUID.randomUUID())
+                .topic(TOPIC)
+                .messageKey(messageKey)
+                .eventType("LastMileCompletedEvent")
+                .aggregateId(finalMileId)
+                .payload("{}")
+                .build();
+    }
+
+    @Test
+    @DisplayName("앞선 이벤트가 실패하면 같은 배송의 뒤 이벤트는 전송하지 않고, 발행 건수에는 발행된 이벤트만 포함해야 한다.")
+    void relayBatch_FailedHeadHoldsBackSameAggregate() {
+        // Given
+        LastMileOutboxEvent head = completed("FM001", "KEY-1");
+        LastMileOutboxEvent next = completed("FM001", "KEY-2");
+        LastMileOutboxEvent other = completed("FM002", "KEY-3");
+        when(outboxRepository.findDueForRelay(eq(LastMileOutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of(head, next, other));
+        doReturn(CompletableFuture.failedFuture(new TimeoutException("broker unavailable")))
+                .when(kafkaTemplate).send(eq(TOPIC), eq("KEY-1"), any());
+        doReturn(CompletableFuture.completedFuture(null))
+                .when(kafkaTemplate).send(eq(TOPIC), eq("KEY-3"), any());
+        when(outboxRepository.findAllById(any())).thenReturn(List.of(head, next));
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        int published = relay.relayBatch();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        verify(kafkaTemplate, never()).send(eq(TOPIC), eq("KEY-2"), any());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(other.getOutboxId()));
+
+        assertThat(head.getAttemptCount()).isEqualTo(1);
+        assertThat(head.getStatus()).isEqualTo(LastMileOutboxStatus.PENDING);
+        assertThat(head.getNextAttemptAt()).isAfter(before);
+        assertThat(head.getNextAttemptAt()).isBefore(before.plusSeconds(60));
+
+        // 뒤 이벤트는 시도 횟수 없이 임대만 반납 (앞선 이벤트가 재시도 대기 중인 동안 조회 조건에서 제외)
+        assertThat(next.getAttemptCount()).isZero();
+        assertThat(next.getNextAttemptAt()).isBefore(head.getNextAttemptAt());
+    }
+
+    @Test
+    @DisplayName("DUAL 발행에서 한쪽 포맷만 성공하면 재시도 때 실패한 포맷만 다시 발행해야 한다.")
+    void relayBatch_DualPartialFailure_RetriesOnlyFailedFormat() {
+        // Given: JSON 성공, Avro 실패
+        ReflectionTestUtils.setField(relay, "eventFormat", LastMileEventFormat.DUAL);
+        ReflectionTestUtils.setField(relay, "avroTopicSuffix", ".avro");
+        LastMileOutboxEvent outbox = completed("FM001", "KEY-1");
+        when(outboxRepository.findDueForRelay(eq(LastMileOutboxStatus.PENDING), any(), any()))
+                .thenReturn(List.of(outbox));
+        doReturn(CompletableFuture.completedFuture(null))
+                .when(kafkaTemplate).send(eq(TOPIC), eq("KEY-1"), any());
+        doReturn(CompletableFuture.failedFuture(new TimeoutException("broker unavailable")),
+                CompletableFuture.completedFuture(null))
+                .when(binaryKafkaTemplate).send(eq(TOPIC + ".avro"), eq("KEY-1"), any());
+        when(outboxRepository.findAllById(any())).thenReturn(List.of(outbox));
+
+        // When
+        int firstPublished = relay.relayBatch();
+
+        // Then: 성공한 JSON 포맷만 기록하고 재시도 예약
+        assertThat(firstPublished).isZero();
+        assertThat(outbox.isJsonPublished()).isTrue();
+        assertThat(outbox.isAvroPublished()).isFalse();
+        assertThat(outbox.getAttemptCount()).isEqualTo(1);
+
+        // When: 재시도
+        int retriedPublished = relay.relayBatch();
+
+        // Then: JSON 토픽에는 다시 보내지 않음
+        assertThat(retriedPublished).isEqualTo(1);
+        verify(kafkaTemplate, times(1)).send(eq(TOPIC), eq("KEY-1"), any());
+        verify(binaryKafkaTemplate, times(2)).send(eq(TOPIC + ".avro"), eq("KEY-1"), any());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(outbox.getOutboxId()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.early_express.delivery_service.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    private final TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.INSTANCE;
+
+    @Test
+    @DisplayName("버전 7, RFC 9562 variant로 생성되어야 한다.")
+    void generate_VersionAndVariant() {
+        UUID id = generator.generate();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("앞 48비트는 생성 시점의 Unix 밀리초여야 한다.")
+    void generate_EmbedsTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = generator.generate();
+
+        long timestamp = id.getMostSignificantBits() >>> 16;
+
+        // 같은 밀리초 카운터 초과 시 최대 몇 ms 앞설 수 있음
+        assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 10);
+    }
+
+    @Test
+    @DisplayName("연속 생성한 ID는 문자열 기준으로 단조 증가해야 한다. (DB uuid 정렬과 동일)")
+    void generate_MonotonicInSingleThread() {
+        String previous = generator.generate().toString();
+        for (int i = 0; i < 100_000; i++) {
+            String current = generator.generate().toString();
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복이 없어야 한다.")
+    void generate_UniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.generate());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                all.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(all).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
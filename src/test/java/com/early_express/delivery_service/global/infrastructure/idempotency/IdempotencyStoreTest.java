@@ -0,0 +1,277 @@
+package com.early_express.delivery_service.global.infrastructure.idempotency;
+
+import com.early_express.delivery_service.delivery.presentation.internal.dto.response.LastMileCancelResponse;
+import com.early_express.delivery_service.global.presentation.exception.IdempotencyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Idempotency-Key 응답 저장소 테스트 (재전송, 동시 중복 요청 통합)
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private IdempotencyStore idempotencyStore;
+
+    private final AtomicReference<IdempotencyRecord> stored = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(
+                idempotencyRecordRepository,
+                entityManager,
+                mock(PlatformTransactionManager.class),
+                new ObjectMapper(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyStore, "ttlHours", 24L);
+        ReflectionTestUtils.setField(idempotencyStore, "inProgressTimeoutSeconds", 120L);
+        ReflectionTestUtils.setField(idempotencyStore, "waitTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(idempotencyStore, "pollIntervalMs", 10L);
+    }
+
+    /**
+     * persist 한 기록을 저장해 두고, 같은 키를 다시 persist 하면 PK 충돌
+     */
+    private void givenRecordTable() {
+        doAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            if (!stored.compareAndSet(null, record)) {
+                throw new EntityExistsException("duplicate key");
+            }
+            return null;
+        }).when(entityManager).persist(any(IdempotencyRecord.class));
+        lenient().when(idempotencyRecordRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 다시 실행하지 않고 저장된 응답을 반환해야 한다.")
+    void execute_ReplaysCompletedResponse() {
+        // Given
+        givenRecordTable();
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        LastMileCancelResponse first = idempotencyStore.execute("cancel:FM001", "key-1", "FM001",
+                LastMileCancelResponse.class, () -> {
+                    executions.incrementAndGet();
+                    return LastMileCancelResponse.success("FM001");
+                });
+        LastMileCancelResponse replayed = idempotencyStore.execute("cancel:FM001", "key-1", "FM001",
+                LastMileCancelResponse.class, () -> {
+                    executions.incrementAndGet();
+                    return LastMileCancelResponse.failure("FM001", "다시 실행됨");
+                });
+
+        // Then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(stored.get().getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+        assertThat(replayed.isSuccess()).isTrue();
+        assertThat(replayed.getLastMileDeliveryId()).isEqualTo(first.getLastMileDeliveryId());
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청은 거절해야 한다.")
+    void execute_RejectsDifferentRequest() {
+        // Given
+        givenRecordTable();
+        idempotencyStore.execute("create", "key-1", "order-1",
+                String.class, () -> "created");
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyStore.execute("create", "key-1", "order-2",
+                String.class, () -> "created"))
+                .isInstanceOf(IdempotencyException.class);
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 키의 동시 요청은 한 번만 실행하고 같은 결과를 받아야 한다.")
+    void execute_CoalescesConcurrentDuplicates() throws Exception {
+        // Given
+        givenRecordTable();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            // When
+            Future<String> owner = executor.submit(() -> idempotencyStore.execute(
+                    "assign-driver:FM001", "key-1", "FM001", String.class, () -> {
+                        executions.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return "DRIVER001";
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<?>[] duplicates = new CompletableFuture<?>[callers - 1];
+            for (int i = 0; i < duplicates.length; i++) {
+                duplicates[i] = CompletableFuture.supplyAsync(() -> idempotencyStore.execute(
+                        "assign-driver:FM001", "key-1", "FM001", String.class, () -> {
+                            executions.incrementAndGet();
+                            return "DRIVER999";
+                        }), executor);
+            }
+            release.countDown();
+
+            // Then
+            assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo("DRIVER001");
+            for (CompletableFuture<?> duplicate : duplicates) {
+                assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("DRIVER001");
+            }
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 기록을 지워 같은 키로 다시 실행할 수 있어야 한다.")
+    void execute_FailureReleasesKey() {
+        // Given
+        givenRecordTable();
+        doAnswer(invocation -> {
+            stored.set(null);
+            return null;
+        }).when(idempotencyRecordRepository).deleteById("create:key-1");
+
+        // When
+        assertThatThrownBy(() -> idempotencyStore.execute("create", "key-1", "order-1",
+                String.class, () -> {
+                    throw new IllegalStateException("실패");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        String retried = idempotencyStore.execute("create", "key-1", "order-1",
+                String.class, () -> "created");
+
+        // Then
+        assertThat(retried).isEqualTo("created");
+        assertThat(stored.get().getExpiresAt()).isAfter(LocalDateTime.now().plusHours(23));
+    }
+
+    @Test
+    @DisplayName("비동기 작업을 기다리다 시간 초과로 응답해도 기록을 유지하고, 작업이 끝나면 같은 키 재요청에 그 결과를 돌려줘야 한다.")
+    void executeAsync_KeepsRecordUntilJobCompletes() {
+        // Given
+        givenRecordTable();
+        CompletableFuture<String> job = new CompletableFuture<>();
+        AtomicInteger submissions = new AtomicInteger();
+
+        // When: 대기 시간 초과
+        assertThatThrownBy(() -> idempotencyStore.executeAsync("assign-driver:FM001", "key-1", "FM001",
+                String.class, () -> {
+                    submissions.incrementAndGet();
+                    return job;
+                }, result -> {
+                    throw new IllegalStateException("배정 대기 시간 초과");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then: 작업이 끝나기 전에는 처리 중 기록 유지
+        verify(idempotencyRecordRepository, never()).deleteById(any());
+        assertThat(stored.get().getStatus()).isEqualTo(IdempotencyStatus.IN_PROGRESS);
+
+        // When: 작업 완료 후 같은 키 재요청
+        job.complete("DRIVER001");
+        String replayed = idempotencyStore.executeAsync("assign-driver:FM001", "key-1", "FM001",
+                String.class, () -> {
+                    submissions.incrementAndGet();
+                    return CompletableFuture.completedFuture("DRIVER999");
+                }, CompletableFuture::join);
+
+        // Then
+        assertThat(replayed).isEqualTo("DRIVER001");
+        assertThat(submissions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중복 키가 아닌 저장 실패는 이미 선점된 것으로 취급하지 않고 그대로 전파해야 한다.")
+    void execute_PropagatesNonDuplicateFailure() {
+        // Given
+        doThrow(new PersistenceException("value too long for type character varying(200)"))
+                .when(entityManager).persist(any(IdempotencyRecord.class));
+        AtomicInteger executions = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyStore.execute("cancel:FM001", "key-1", "FM001",
+                String.class, () -> {
+                    executions.incrementAndGet();
+                    return "cancelled";
+                }))
+                .isInstanceOf(PersistenceException.class);
+        assertThat(executions.get()).isZero();
+        verify(idempotencyRecordRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("scope와 키가 컬럼 길이를 넘으면 해시 키로 저장해야 한다.")
+    void execute_HashesLongRecordKey() {
+        // Given
+        givenRecordTable();
+        String scope = "assign-driver:" + "X".repeat(300);
+
+        // When
+        String result = idempotencyStore.execute(scope, "k".repeat(100), "FM001",
+                String.class, () -> "DRIVER001");
+
+        // Then
+        assertThat(result).isEqualTo("DRIVER001");
+        assertThat(stored.get().getRecordKey()).hasSizeLessThanOrEqualTo(200).startsWith("sha256:");
+        assertThat(IdempotencyStore.recordKey(scope, "k".repeat(100))).isEqualTo(stored.get().getRecordKey());
+    }
+
+    @Test
+    @DisplayName("선점에 실패했는데 기록이 조회되지 않아도 대기 시간이 지나면 409로 끝내야 한다.")
+    void execute_MissingRecordHonorsWaitDeadline() {
+        // Given
+        ReflectionTestUtils.setField(idempotencyStore, "waitTimeoutMs", 100L);
+        doThrow(new EntityExistsException("duplicate key"))
+                .when(entityManager).persist(any(IdempotencyRecord.class));
+        when(idempotencyRecordRepository.findById(any())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyStore.execute("cancel:FM001", "key-1", "FM001",
+                String.class, () -> "cancelled"))
+                .isInstanceOf(IdempotencyException.class);
+        // 10ms부터 2배씩 대기하므로 100ms 동안 조회는 몇 번에 그침
+        verify(idempotencyRecordRepository, atMost(10)).findById(any());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
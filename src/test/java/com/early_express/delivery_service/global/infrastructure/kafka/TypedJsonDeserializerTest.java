@@ -0,0 +1,57 @@
+package com.early_express.delivery_service.global.infrastructure.kafka;
+
+import com.early_express.delivery_service.delivery.infrastructure.messaging.command.LastMileCommand;
+import com.early_express.delivery_service.delivery.infrastructure.messaging.command.LastMileCommandType;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 타입 고정 JSON Deserializer / ObjectReader 캐시 테스트
+ */
+class TypedJsonDeserializerTest {
+
+    private static final String TOPIC = "delivery-service-commands";
+
+    private final JsonReaderCache readers = new JsonReaderCache(JacksonUtils.enhancedObjectMapper());
+
+    @Test
+    @DisplayName("등록한 DTO로 바로 변환 (알 수 없는 필드 무시)")
+    void deserializesToTargetType() {
+        String json = """
+                {"commandId":"CMD-1","type":"CREATE","orderId":"ORD-1","hubId":"HUB001",
+                 "deliveryAddress":"서울시 강남구","recipientName":"김철수",
+                 "expectedTime":"2025-01-01T10:30:00","unknownField":1}
+                """;
+
+        LastMileCommand command = readers.deserializer(LastMileCommand.class)
+                .deserialize(TOPIC, json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(command.getType()).isEqualTo(LastMileCommandType.CREATE);
+        assertThat(command.getOrderId()).isEqualTo("ORD-1");
+        assertThat(command.getExpectedTime()).isEqualTo(LocalDateTime.of(2025, 1, 1, 10, 30));
+    }
+
+    @Test
+    @DisplayName("같은 타입의 ObjectReader는 한 번만 생성")
+    void reusesReaderPerType() {
+        assertThat(readers.readerFor(LastMileCommand.class)).isSameAs(readers.readerFor(LastMileCommand.class));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않으면 SerializationException")
+    void failsWithSerializationException() {
+        byte[] invalid = "{\"type\":".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> readers.deserializer(LastMileCommand.class).deserialize(TOPIC, invalid))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("LastMileCommand");
+    }
+}
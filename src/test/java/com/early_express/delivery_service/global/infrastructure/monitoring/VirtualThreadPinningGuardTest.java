@@ -0,0 +1,109 @@
+package com.early_express.delivery_service.global.infrastructure.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 가상 스레드 pinning 방지 규칙 테스트
+ *
+ * - JDK 21에서 synchronized 안에서 블로킹(JDBC, HTTP 등)하면 가상 스레드가 캐리어 스레드를 점유함
+ * - 컴파일된 운영 클래스의 바이트코드를 검사하여 synchronized 메서드(ACC_SYNCHRONIZED)와
+ *   synchronized 블록(MONITORENTER)을 차단 (Lombok @Synchronized 포함)
+ * - 검사 대상은 build.gradle이 넘기는 main 소스셋 출력 디렉터리(pinning.guard.classes-dirs)만
+ *   (지정되지 않은 실행 환경에서는 생략)
+ * - 잠금이 필요하면 ReentrantLock 사용
+ * - 의존성에서 발생하는 pinning은 운영 중 VirtualThreadPinningMonitor(JFR)로 감지
+ */
+class VirtualThreadPinningGuardTest {
+
+    private static final String CLASSES_DIRS_PROPERTY = "pinning.guard.classes-dirs";
+
+    @Test
+    @DisplayName("운영 코드에는 synchronized 메서드/블록이 없어야 한다.")
+    void mainClasses_HaveNoSynchronized() throws IOException {
+        String classesDirs = System.getProperty(CLASSES_DIRS_PROPERTY);
+        assumeTrue(classesDirs != null && !classesDirs.isBlank(),
+                CLASSES_DIRS_PROPERTY + " 미지정 (Gradle test 태스크에서 설정)");
+
+        List<Path> classFiles = new ArrayList<>();
+        for (String dir : classesDirs.split(File.pathSeparator)) {
+            Path root = Path.of(dir);
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.filter(path -> path.toString().endsWith(".class")).forEach(classFiles::add);
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (Path classFile : classFiles) {
+            try (InputStream in = Files.newInputStream(classFile)) {
+                new ClassReader(in).accept(new SynchronizedFinder(violations), ClassReader.SKIP_FRAMES);
+            }
+        }
+
+        assertThat(classFiles).as("검사한 운영 클래스").isNotEmpty();
+        assertThat(violations)
+                .as("synchronized 대신 java.util.concurrent.locks.ReentrantLock을 사용하세요")
+                .isEmpty();
+    }
+
+    private static final class SynchronizedFinder extends ClassVisitor {
+
+        private final List<String> violations;
+        private String className;
+
+        private SynchronizedFinder(List<String> violations) {
+            super(SpringAsmInfo.ASM_VERSION);
+            this.violations = violations;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.className = name.replace('/', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            String method = className + "#" + name;
+            if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                violations.add(method + " (synchronized 메서드)");
+            }
+
+            return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                private int line;
+
+                @Override
+                public void visitLineNumber(int line, Label start) {
+                    this.line = line;
+                }
+
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode == Opcodes.MONITORENTER) {
+                        violations.add(method + ":" + line + " (synchronized 블록)");
+                    }
+                }
+            };
+        }
+    }
+}
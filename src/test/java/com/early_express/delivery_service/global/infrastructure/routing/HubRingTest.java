@@ -0,0 +1,62 @@
+package com.early_express.delivery_service.global.infrastructure.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 허브 일관 해시 링 테스트 (결정성, 재분배 범위, 멤버 필터)
+ */
+class HubRingTest {
+
+    private static final List<String> HUB_IDS = IntStream.range(0, 2000).mapToObj(i -> "HUB" + i).toList();
+
+    @Test
+    @DisplayName("인스턴스 목록 순서와 무관하게 같은 소유자")
+    void ownershipIsIndependentOfInstanceOrder() {
+        List<ServiceInstance> instances = List.of(member("a"), member("b"), member("c"));
+        HubRing ring = HubRing.of(instances);
+        HubRing reversed = HubRing.of(instances.reversed());
+
+        assertThat(reversed.signature()).isEqualTo(ring.signature());
+        HUB_IDS.forEach(hubId -> assertThat(reversed.ownerKeyOf(hubId)).isEqualTo(ring.ownerKeyOf(hubId)));
+    }
+
+    @Test
+    @DisplayName("인스턴스가 추가되면 새 인스턴스로 가는 허브만 소유자가 바뀜")
+    void joiningInstanceTakesOnlyItsShare() {
+        List<ServiceInstance> instances = new ArrayList<>(List.of(member("a"), member("b"), member("c")));
+        HubRing before = HubRing.of(instances);
+        instances.add(member("d"));
+        HubRing after = HubRing.of(instances);
+
+        long moved = HUB_IDS.stream()
+                .filter(hubId -> !before.ownerKeyOf(hubId).equals(after.ownerKeyOf(hubId)))
+                .peek(hubId -> assertThat(after.ownerKeyOf(hubId)).isEqualTo("d:4000"))
+                .count();
+        // 기대값 1/4 (500건), 가상 노드 편차 감안
+        assertThat(moved).isBetween(250L, 750L);
+    }
+
+    @Test
+    @DisplayName("hub-affinity 메타데이터가 없는 인스턴스는 링에서 제외")
+    void ignoresInstancesWithoutAffinityMetadata() {
+        ServiceInstance legacy = new DefaultServiceInstance("legacy:4000", "delivery-service", "legacy", 4000, false);
+
+        assertThat(HubRing.of(List.of(legacy)).isEmpty()).isTrue();
+        assertThat(HubRing.of(List.of(legacy, member("a"))).ownerKeyOf("HUB001")).isEqualTo("a:4000");
+    }
+
+    private static ServiceInstance member(String host) {
+        return new DefaultServiceInstance(host + ":4000", "delivery-service", host, 4000, false,
+                Map.of(HubRing.AFFINITY_METADATA, "true", HubRing.VNODES_METADATA, "64"));
+    }
+}